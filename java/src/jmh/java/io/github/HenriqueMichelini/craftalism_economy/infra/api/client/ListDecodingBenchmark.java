@@ -0,0 +1,132 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import com.google.gson.Gson;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.JsonDtoAdapters;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Decoding a gzip leaderboard of {@code size} entries as it comes off the
+ * wire in 16 KiB chunks. {@code buffered} is how every list was read before:
+ * {@link DecompressingBodyHandler} inflates into one {@code String} and Gson
+ * parses that. {@code streamed} feeds the same chunks through
+ * {@link JsonArrayBodyHandler}, which parses while inflating. Run with
+ * {@code ./gradlew jmh} and {@code -prof gc}; the gap in bytes allocated per
+ * operation grows with {@code size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListDecodingBenchmark {
+
+    private static final int CHUNK = 16 * 1024;
+    private static final HttpResponse.ResponseInfo INFO = new HttpResponse.ResponseInfo() {
+        private final HttpHeaders headers = HttpHeaders.of(Map.of(
+                "Content-Type", List.of("application/json"),
+                "Content-Encoding", List.of("gzip")), (k, v) -> true);
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return headers;
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_2;
+        }
+    };
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private final Gson gson = GsonFactory.getInstance();
+    private final JsonArrayBodyHandler.Elements<BalanceResponseDTO> elements = new JsonArrayBodyHandler.Elements<>(
+            "BalanceResponseDTO", gson.getAdapter(BalanceResponseDTO.class), BinaryDtoCodec::decodeBalances);
+    private final DecompressingBodyHandler.Sink sink = (wireBytes, decodedBytes) -> {};
+
+    private List<ByteBuffer> chunks;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<BalanceResponseDTO> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            top.add(new BalanceResponseDTO(UUID.randomUUID(), 1_000_000L * (size - i)));
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(gson.toJson(top, JsonDtoAdapters.BALANCE_LIST).getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] body = compressed.toByteArray();
+
+        chunks = new ArrayList<>();
+        for (int i = 0; i < body.length; i += CHUNK) {
+            chunks.add(ByteBuffer.wrap(body, i, Math.min(CHUNK, body.length - i)).slice());
+        }
+    }
+
+    @Benchmark
+    public List<BalanceResponseDTO> buffered() {
+        String body = feed(new DecompressingBodyHandler(sink).apply(INFO));
+        return gson.fromJson(body, JsonDtoAdapters.BALANCE_LIST);
+    }
+
+    @Benchmark
+    public List<BalanceResponseDTO> streamed() {
+        return feed(new JsonArrayBodyHandler<>(elements, sink).apply(INFO)).elements();
+    }
+
+    // hands out one chunk per request, the way the HTTP client paces a subscriber
+    private <T> T feed(HttpResponse.BodySubscriber<T> subscriber) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private int next;
+            private boolean done;
+
+            @Override
+            public synchronized void request(long n) {
+                for (long i = 0; i < n && !done; i++) {
+                    if (next < chunks.size()) {
+                        subscriber.onNext(List.of(chunks.get(next++).duplicate()));
+                    } else {
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+        return subscriber.getBody().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request CPU and garbage of turning a balance deposit into an
+ * {@link HttpRequest} plus the endpoint key the client's breakers, hedger,
+ * compression stats and request log look up.
+ * <p>
+ * {@code concatenated*} is what the client did before path templates: string
+ * concatenation with {@link UUID#toString()}, three header calls and a regex
+ * pass through {@link Endpoints} for each of the four lookups.
+ * {@code templated*} expands a {@link PathTemplate} and hands over a prebuilt
+ * header array. Run with {@code ./gradlew jmh} and {@code -prof gc} to compare
+ * allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestBuildingBenchmark {
+
+    private static final String BASE_URL = "http://localhost:8080";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final PathTemplate DEPOSIT = PathTemplate.of("/api/balances/{uuid}/deposit?amount={amount}");
+    private static final String[] HEADERS = {
+            "Content-Type", "application/json",
+            "Accept", "application/json",
+            "Accept-Encoding", DecompressingBodyHandler.ACCEPT_ENCODING
+    };
+
+    private UUID uuid;
+    private long amount;
+
+    @Setup
+    public void setUp() {
+        uuid = UUID.randomUUID();
+        amount = 1_234_500L;
+    }
+
+    @Benchmark
+    public String concatenatedPath() {
+        return "/api/balances/" + uuid + "/deposit?amount=" + amount;
+    }
+
+    @Benchmark
+    public ApiPath templatedPath() {
+        return DEPOSIT.expand(uuid, amount);
+    }
+
+    @Benchmark
+    public void concatenatedRequest(Blackhole bh) {
+        String path = "/api/balances/" + uuid + "/deposit?amount=" + amount;
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", DecompressingBodyHandler.ACCEPT_ENCODING)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        bh.consume(request);
+        for (int lookup = 0; lookup < 4; lookup++) {
+            bh.consume(Endpoints.template(request.method(), path));
+        }
+    }
+
+    @Benchmark
+    public void templatedRequest(Blackhole bh) {
+        ApiPath path = DEPOSIT.expand(uuid, amount);
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL.concat(path.path())))
+                .timeout(TIMEOUT)
+                .headers(HEADERS)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        bh.consume(request);
+        String endpoint = path.endpoint(request.method());
+        for (int lookup = 0; lookup < 4; lookup++) {
+            bh.consume(endpoint);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.InstantTypeAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON DTO mapping through the streaming adapters in {@link JsonDtoAdapters}
+ * ({@code streaming*}) against Gson's reflective adapters, the path every DTO
+ * took before ({@code reflective*}). Both parse the same body strings.
+ * <p>
+ * Run with {@code ./gradlew jmh}; add {@code -prof gc} for allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonDtoBenchmark {
+
+    private final Gson streaming = GsonFactory.getInstance();
+    private final Gson reflective = new GsonBuilder()
+            .registerTypeAdapter(Instant.class, new InstantTypeAdapter())
+            .create();
+
+    private String balanceJson;
+    private String playerJson;
+    private String transactionJson;
+    private String topJson;
+    private List<BalanceResponseDTO> top;
+
+    @Setup
+    public void setUp() {
+        Instant createdAt = Instant.ofEpochMilli(1_760_000_000_123L);
+        top = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            top.add(new BalanceResponseDTO(UUID.randomUUID(), 1_000_000L * (100 - i)));
+        }
+
+        balanceJson = reflective.toJson(new BalanceResponseDTO(UUID.randomUUID(), 123_456_789L));
+        playerJson = reflective.toJson(new PlayerResponseDTO(UUID.randomUUID(), "Steve", createdAt));
+        transactionJson = reflective.toJson(
+                new TransactionResponseDTO(42L, UUID.randomUUID(), UUID.randomUUID(), 500L, createdAt));
+        topJson = reflective.toJson(top);
+    }
+
+    @Benchmark
+    public BalanceResponseDTO reflectiveBalance() {
+        return reflective.fromJson(balanceJson, BalanceResponseDTO.class);
+    }
+
+    @Benchmark
+    public BalanceResponseDTO streamingBalance() {
+        return streaming.fromJson(balanceJson, BalanceResponseDTO.class);
+    }
+
+    @Benchmark
+    public PlayerResponseDTO reflectivePlayer() {
+        return reflective.fromJson(playerJson, PlayerResponseDTO.class);
+    }
+
+    @Benchmark
+    public PlayerResponseDTO streamingPlayer() {
+        return streaming.fromJson(playerJson, PlayerResponseDTO.class);
+    }
+
+    @Benchmark
+    public TransactionResponseDTO reflectiveTransaction() {
+        return reflective.fromJson(transactionJson, TransactionResponseDTO.class);
+    }
+
+    @Benchmark
+    public TransactionResponseDTO streamingTransaction() {
+        return streaming.fromJson(transactionJson, TransactionResponseDTO.class);
+    }
+
+    @Benchmark
+    public List<BalanceResponseDTO> reflectiveTop100() {
+        return reflective.fromJson(topJson, JsonDtoAdapters.BALANCE_LIST);
+    }
+
+    @Benchmark
+    public List<BalanceResponseDTO> streamingTop100() {
+        return streaming.fromJson(topJson, JsonDtoAdapters.BALANCE_LIST);
+    }
+
+    @Benchmark
+    public String reflectiveWriteTop100() {
+        return reflective.toJson(top, JsonDtoAdapters.BALANCE_LIST);
+    }
+
+    @Benchmark
+    public String streamingWriteTop100() {
+        return streaming.toJson(top, JsonDtoAdapters.BALANCE_LIST);
+    }
+}
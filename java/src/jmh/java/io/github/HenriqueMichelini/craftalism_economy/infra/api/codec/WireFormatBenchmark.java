@@ -0,0 +1,97 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.codec;
+
+import com.google.gson.Gson;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding cost of the two wire formats, measured from the bytes the body
+ * handler receives to the DTO the service returns. Binary bodies reach the
+ * codec as those bytes; {@code latin1Top100} adds the text round trip they
+ * used to take, for comparison.
+ * <p>
+ * Run with {@code ./gradlew jmh}; compare {@code gson*} against {@code binary*}
+ * with {@code -prof gc} for allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WireFormatBenchmark {
+
+    private final Gson gson = GsonFactory.getInstance();
+
+    private byte[] balanceJson;
+    private byte[] balanceBinary;
+    private byte[] playerJson;
+    private byte[] playerBinary;
+    private byte[] topJson;
+    private byte[] topBinary;
+
+    @Setup
+    public void setUp() {
+        BalanceResponseDTO balance = new BalanceResponseDTO(UUID.randomUUID(), 123_456_789L);
+        PlayerResponseDTO player = new PlayerResponseDTO(UUID.randomUUID(), "Steve", Instant.ofEpochMilli(1_760_000_000_123L));
+        List<BalanceResponseDTO> top = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            top.add(new BalanceResponseDTO(UUID.randomUUID(), 1_000_000L * (100 - i)));
+        }
+
+        balanceJson = gson.toJson(balance).getBytes(StandardCharsets.UTF_8);
+        balanceBinary = BinaryDtoCodec.encodeBalance(balance);
+        playerJson = gson.toJson(player).getBytes(StandardCharsets.UTF_8);
+        playerBinary = BinaryDtoCodec.encodePlayer(player);
+        topJson = gson.toJson(top).getBytes(StandardCharsets.UTF_8);
+        topBinary = BinaryDtoCodec.encodeBalances(top);
+    }
+
+    @Benchmark
+    public BalanceResponseDTO gsonBalance() {
+        return gson.fromJson(new String(balanceJson, StandardCharsets.UTF_8), BalanceResponseDTO.class);
+    }
+
+    @Benchmark
+    public BalanceResponseDTO binaryBalance() {
+        return BinaryDtoCodec.decodeBalance(balanceBinary);
+    }
+
+    @Benchmark
+    public PlayerResponseDTO gsonPlayer() {
+        return gson.fromJson(new String(playerJson, StandardCharsets.UTF_8), PlayerResponseDTO.class);
+    }
+
+    @Benchmark
+    public PlayerResponseDTO binaryPlayer() {
+        return BinaryDtoCodec.decodePlayer(playerBinary);
+    }
+
+    @Benchmark
+    public List<BalanceResponseDTO> gsonTop100() {
+        return gson.fromJson(new String(topJson, StandardCharsets.UTF_8), JsonDtoAdapters.BALANCE_LIST);
+    }
+
+    @Benchmark
+    public List<BalanceResponseDTO> binaryTop100() {
+        return BinaryDtoCodec.decodeBalances(topBinary);
+    }
+
+    @Benchmark
+    public List<BalanceResponseDTO> latin1Top100() {
+        byte[] viaText = new String(topBinary, StandardCharsets.ISO_8859_1).getBytes(StandardCharsets.ISO_8859_1);
+        return BinaryDtoCodec.decodeBalances(viaText);
+    }
+}
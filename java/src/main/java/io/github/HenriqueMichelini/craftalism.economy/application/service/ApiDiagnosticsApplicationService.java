@@ -0,0 +1,85 @@
+package io.github.HenriqueMichelini.craftalism_economy.application.service;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.AdaptiveConcurrencyLimiter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.CircuitBreaker;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.CompressionStats;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ConnectionWarmer;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.EndpointMetrics;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.FaultInjector;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestHedger;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.TokenBucket;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.ApiServiceFactory;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+public class ApiDiagnosticsApplicationService {
+    private final ConnectionWarmer warmer;
+    private final ApiServiceFactory apis;
+
+    /**
+     * Everything client-side is read across all shards; see {@link ApiServiceFactory} for how each
+     * kind of entry is merged or labelled.
+     */
+    public ApiDiagnosticsApplicationService(ConnectionWarmer warmer, ApiServiceFactory apis) {
+        this.warmer = warmer;
+        this.apis = apis;
+    }
+
+    public List<CircuitBreaker.Snapshot> getCircuitBreakers() {
+        return apis.getCircuitBreakers();
+    }
+
+    public AdaptiveConcurrencyLimiter.Snapshot getConcurrencyLimiter() {
+        return apis.getConcurrencyLimiter();
+    }
+
+    public List<TokenBucket.Snapshot> getRateLimits() {
+        return apis.getRateLimits();
+    }
+
+    public RequestHedger.Snapshot getHedging() {
+        return apis.getHedging();
+    }
+
+    public List<CompressionStats.Snapshot> getCompression() {
+        return apis.getCompression();
+    }
+
+    public List<EndpointMetrics.Snapshot> getEndpointMetrics() {
+        return apis.getEndpointMetrics();
+    }
+
+    public ConnectionWarmer.Snapshot getConnection() {
+        return warmer.snapshot();
+    }
+
+    public List<ShardRouter.Snapshot> getShards() {
+        return apis.getShardRouter().snapshots();
+    }
+
+    public ShardRouter.Rebalance reloadShards() {
+        return apis.reloadShards();
+    }
+
+    public FaultInjector.Snapshot getFaults() {
+        return apis.getFaultInjector().snapshot();
+    }
+
+    public void setFaultsEnabled(boolean enabled) {
+        apis.getFaultInjector().setEnabled(enabled);
+    }
+
+    /**
+     * Changes the fault rule for one endpoint, route or {@code *}, starting from whatever it is now.
+     */
+    public void updateFaultRule(String key, UnaryOperator<FaultInjector.Rule> change) {
+        FaultInjector faults = apis.getFaultInjector();
+        faults.setRule(key, change.apply(faults.ruleFor(key)));
+    }
+
+    public FaultInjector.Snapshot reloadFaults() {
+        return apis.reloadFaults();
+    }
+}
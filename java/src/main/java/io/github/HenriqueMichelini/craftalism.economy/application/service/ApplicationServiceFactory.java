@@ -3,6 +3,7 @@ package io.github.HenriqueMichelini.craftalism_economy.application.service;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.repository.BalanceCacheRepository;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.repository.PlayerCacheRepository;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.ApiServiceFactory;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.ConfigLoader;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public final class ApplicationServiceFactory {
@@ -15,8 +16,9 @@ public final class ApplicationServiceFactory {
     private final BalanceCommandApplicationService balanceCmdApp;
     private final BaltopCommandApplicationService baltopCmdApp;
     private final SetBalanceCommandApplicationService setBalanceCmdApp;
+    private final ApiDiagnosticsApplicationService apiDiagnosticsApp;
 
-    public ApplicationServiceFactory(JavaPlugin plugin, ApiServiceFactory apis) {
+    public ApplicationServiceFactory(JavaPlugin plugin, ApiServiceFactory apis, ConfigLoader config) {
 
         PlayerCacheRepository playerCache = new PlayerCacheRepository();
 
@@ -39,7 +41,8 @@ public final class ApplicationServiceFactory {
                 apis.getPlayerApi(),
                 apis.getBalanceApi(),
                 apis.getTransactionApi(),
-                plugin
+                plugin,
+                config.commandTimeout("pay", PayCommandApplicationService.DEFAULT_TIMEOUT)
         );
 
         this.balanceCmdApp = new BalanceCommandApplicationService(
@@ -49,12 +52,19 @@ public final class ApplicationServiceFactory {
 
         this.baltopCmdApp = new BaltopCommandApplicationService(
                 apis.getBalanceApi(),
-                apis.getPlayerApi()
+                apis.getPlayerApi(),
+                config.commandTimeout("baltop", BaltopCommandApplicationService.DEFAULT_TIMEOUT)
         );
 
         this.setBalanceCmdApp = new SetBalanceCommandApplicationService(
                 apis.getBalanceApi(),
-                playerApp
+                playerApp,
+                config.commandTimeout("setbalance", SetBalanceCommandApplicationService.DEFAULT_TIMEOUT)
+        );
+
+        this.apiDiagnosticsApp = new ApiDiagnosticsApplicationService(
+                apis.getConnectionWarmer(),
+                apis
         );
     }
 
@@ -65,6 +75,7 @@ public final class ApplicationServiceFactory {
     public BalanceCommandApplicationService getBalanceCommandApplication() { return balanceCmdApp; }
     public BaltopCommandApplicationService getBaltopCommandApplication() { return baltopCmdApp; }
     public SetBalanceCommandApplicationService setBalanceCommandApplication() { return setBalanceCmdApp; }
+    public ApiDiagnosticsApplicationService getApiDiagnosticsApplication() { return apiDiagnosticsApp; }
 
     public void shutdown() {
         // persist caches, shutdown http client, etc.
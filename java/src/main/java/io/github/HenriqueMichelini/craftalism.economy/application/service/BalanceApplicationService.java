@@ -1,6 +1,7 @@
 package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Balance;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiServerException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
@@ -11,6 +12,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 public class BalanceApplicationService {
 
@@ -33,7 +35,16 @@ public class BalanceApplicationService {
     }
 
     public CompletableFuture<Balance> getOrCreateBalance(UUID uuid) {
-        return api.getBalance(uuid)
+        return orCreate(api.getBalance(uuid), () -> api.createBalance(uuid));
+    }
+
+    public CompletableFuture<Balance> getOrCreateBalance(UUID uuid, RequestPriority priority) {
+        return orCreate(api.getBalance(uuid, priority), () -> api.createBalance(uuid, priority));
+    }
+
+    private CompletableFuture<Balance> orCreate(CompletableFuture<BalanceResponseDTO> lookup,
+                                                Supplier<CompletableFuture<BalanceResponseDTO>> create) {
+        return lookup
                 .exceptionallyCompose(ex -> {
 
                     Throwable cause = ex;
@@ -43,7 +54,7 @@ public class BalanceApplicationService {
                     }
 
                     if (cause instanceof NotFoundException) {
-                        return api.createBalance(uuid);
+                        return create.get();
                     }
 
                     return CompletableFuture.failedFuture(ex);
@@ -52,11 +63,8 @@ public class BalanceApplicationService {
     }
 
     public CompletableFuture<Balance> loadBalanceOnJoin(UUID uuid) {
-        return getOrCreateBalance(uuid)
-                .thenApply(balance -> {
-                    cache.save(balance);
-                    return balance;
-                });
+        // nobody is waiting on the join preload, so it yields to interactive commands
+        return cacheLoaded(getOrCreateBalance(uuid, RequestPriority.BACKGROUND));
     }
 
     public CompletableFuture<Balance> syncBalance(UUID uuid) {
@@ -71,7 +79,14 @@ public class BalanceApplicationService {
     public CompletableFuture<Balance> getCachedOrFetch(UUID uuid) {
         return cache.find(uuid)
                 .map(CompletableFuture::completedFuture)
-                .orElseGet(() -> loadBalanceOnJoin(uuid));
+                .orElseGet(() -> cacheLoaded(getOrCreateBalance(uuid)));
+    }
+
+    private CompletableFuture<Balance> cacheLoaded(CompletableFuture<Balance> load) {
+        return load.thenApply(balance -> {
+            cache.save(balance);
+            return balance;
+        });
     }
 
     public CompletableFuture<Balance> updateBalance(UUID uuid, Long amount) {
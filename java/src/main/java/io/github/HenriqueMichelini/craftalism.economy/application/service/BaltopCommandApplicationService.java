@@ -1,20 +1,31 @@
 package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.PlayerApiService;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public class BaltopCommandApplicationService {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
     private final BalanceApiService balanceApi;
     private final PlayerApiService playerApi;
+    private final Duration timeout;
 
     public BaltopCommandApplicationService(BalanceApiService balanceApi, PlayerApiService playerApi) {
+        this(balanceApi, playerApi, DEFAULT_TIMEOUT);
+    }
+
+    public BaltopCommandApplicationService(BalanceApiService balanceApi, PlayerApiService playerApi, Duration timeout) {
         this.balanceApi = balanceApi;
         this.playerApi = playerApi;
+        this.timeout = timeout;
     }
 
     public CompletableFuture<List<BaltopEntry>> getTop10() {
@@ -22,15 +33,18 @@ public class BaltopCommandApplicationService {
     }
 
     public CompletableFuture<List<BaltopEntry>> getTopPlayers(int limit) {
-        return balanceApi.getTopBalances(limit)
-                .thenCompose(this::enrichWithPlayerData);
+        Deadline deadline = Deadline.after(timeout);
+        return balanceApi.getTopBalances(limit, deadline)
+                .thenCompose(balances -> enrichWithPlayerData(balances, deadline));
     }
 
-    private CompletableFuture<List<BaltopEntry>> enrichWithPlayerData(List<BalanceResponseDTO> balances) {
+    private CompletableFuture<List<BaltopEntry>> enrichWithPlayerData(List<BalanceResponseDTO> balances, Deadline deadline) {
         List<CompletableFuture<BaltopEntry>> futures = new ArrayList<>();
 
+        // name lookups fan out per entry and fall back to "Unknown", so they go in the bulk lane;
+        // one that misses the deadline shows up as "Unknown" instead of holding back the whole list
         for (BalanceResponseDTO balance : balances) {
-            CompletableFuture<BaltopEntry> entryFuture = playerApi.getPlayerByUuid(balance.uuid())
+            CompletableFuture<BaltopEntry> entryFuture = playerApi.getPlayerByUuid(balance.uuid(), RequestPriority.BULK, deadline)
                     .thenApply(player -> new BaltopEntry(
                             player.name(),
                             balance.amount(),
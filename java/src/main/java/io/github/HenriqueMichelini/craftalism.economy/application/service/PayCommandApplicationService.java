@@ -3,22 +3,31 @@ package io.github.HenriqueMichelini.craftalism_economy.application.service;
 import io.github.HenriqueMichelini.craftalism_economy.application.dto.PayExecutionResult;
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Player;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.enums.PayStatus;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiTimeoutException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.PlayerApiService;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.TransactionApiService;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public class PayCommandApplicationService {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(8);
+    /** Least budget that must be left for the payer's withdrawal to be sent at all. */
+    public static final Duration MIN_WITHDRAW_BUDGET = Duration.ofSeconds(1);
+
     private final PlayerApplicationService playerService;
     private final PlayerApiService playerApi;
     private final BalanceApiService balanceApi;
     private final TransactionApiService transactionApi;
     private final JavaPlugin plugin;
+    private final Duration timeout;
 
     public PayCommandApplicationService(
             PlayerApplicationService playerService,
@@ -26,12 +35,29 @@ public class PayCommandApplicationService {
             BalanceApiService balanceApi,
             TransactionApiService transactionApi,
             JavaPlugin plugin
+    ) {
+        this(playerService, playerApi, balanceApi, transactionApi, plugin, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param timeout end-to-end budget for one payment, shared by every API call before the
+     *                payer's withdrawal; the withdrawal is only sent while at least
+     *                {@link #MIN_WITHDRAW_BUDGET} of it is left
+     */
+    public PayCommandApplicationService(
+            PlayerApplicationService playerService,
+            PlayerApiService playerApi,
+            BalanceApiService balanceApi,
+            TransactionApiService transactionApi,
+            JavaPlugin plugin,
+            Duration timeout
     ) {
         this.playerService = playerService;
         this.playerApi = playerApi;
         this.balanceApi = balanceApi;
         this.transactionApi = transactionApi;
         this.plugin = plugin;
+        this.timeout = timeout;
     }
 
     public CompletableFuture<PayExecutionResult> execute(
@@ -40,25 +66,28 @@ public class PayCommandApplicationService {
             String receiverName,
             long amount
     ) {
-        return playerService.getCachedOrFetch(payerUuid, payerName)
-                .thenCompose(payer -> processPayment(payer, receiverName, amount))
+        Deadline deadline = Deadline.after(timeout);
+        return playerService.getCachedOrFetch(payerUuid, payerName, deadline)
+                .thenCompose(payer -> processPayment(payer, receiverName, amount, deadline))
                 .exceptionally(this::handleTopLevelException);
     }
 
     private CompletableFuture<PayExecutionResult> processPayment(
             Player payer,
             String receiverName,
-            long amount
+            long amount,
+            Deadline deadline
     ) {
-        return playerApi.getPlayerByName(receiverName)
-                .thenCompose(receiver -> validateAndExecutePayment(payer, receiver, amount))
+        return playerApi.getPlayerByName(receiverName, deadline)
+                .thenCompose(receiver -> validateAndExecutePayment(payer, receiver, amount, deadline))
                 .exceptionally(this::handleReceiverLookupException);
     }
 
     private CompletableFuture<PayExecutionResult> validateAndExecutePayment(
             Player payer,
             PlayerResponseDTO receiver,
-            long amount
+            long amount,
+            Deadline deadline
     ) {
         PayStatus validationResult = validatePayment(payer, receiver, amount);
         if (validationResult != PayStatus.SUCCESS) {
@@ -67,7 +96,7 @@ public class PayCommandApplicationService {
             );
         }
 
-        return executeTransfer(payer.getUuid(), receiver.uuid(), amount);
+        return executeTransfer(payer.getUuid(), receiver.uuid(), amount, deadline);
     }
 
     private PayStatus validatePayment(Player payer, PlayerResponseDTO receiver, long amount) {
@@ -85,10 +114,11 @@ public class PayCommandApplicationService {
     private CompletableFuture<PayExecutionResult> executeTransfer(
             UUID payerUuid,
             UUID receiverUuid,
-            long amount
+            long amount,
+            Deadline deadline
     ) {
-        return balanceApi.getBalance(payerUuid)
-                .thenCompose(balance -> checkBalanceAndTransfer(payerUuid, receiverUuid, amount, balance.amount()))
+        return balanceApi.getBalance(payerUuid, RequestPriority.INTERACTIVE, deadline)
+                .thenCompose(balance -> checkBalanceAndTransfer(payerUuid, receiverUuid, amount, balance.amount(), deadline))
                 .exceptionally(ex -> handleTransferException(ex, "balance check"));
     }
 
@@ -96,29 +126,41 @@ public class PayCommandApplicationService {
             UUID payerUuid,
             UUID receiverUuid,
             long amount,
-            long currentBalance
+            long currentBalance,
+            Deadline deadline
     ) {
         if (currentBalance < amount) {
             return CompletableFuture.completedFuture(PayExecutionResult.notEnoughFunds());
         }
 
-        return performTransfer(payerUuid, receiverUuid, amount);
+        return performTransfer(payerUuid, receiverUuid, amount, deadline);
     }
 
-    private CompletableFuture<PayExecutionResult> performTransfer(UUID payerUuid, UUID receiverUuid, long amount) {
-        return withdrawFromPayer(payerUuid, amount)
+    private CompletableFuture<PayExecutionResult> performTransfer(UUID payerUuid, UUID receiverUuid, long amount,
+                                                                  Deadline deadline) {
+        // two separate legs, so it also works when payer and receiver live on different shards:
+        // each call goes to its own player's partition and a failed deposit is refunded on the payer's
+        return withdrawFromPayer(payerUuid, amount, deadline)
                 .thenCompose(v -> depositToReceiver(payerUuid, receiverUuid, amount))
                 .thenCompose(v -> logTransaction(payerUuid, receiverUuid, amount))
                 .thenApply(v -> PayExecutionResult.success(receiverUuid))
                 .exceptionally(ex -> handleTransferException(ex, "transfer"));
     }
 
-    private CompletableFuture<Void> withdrawFromPayer(UUID payerUuid, long amount) {
-        return balanceApi.withdraw(payerUuid, amount);
+    private CompletableFuture<Void> withdrawFromPayer(UUID payerUuid, long amount, Deadline deadline) {
+        if (deadline.remaining().compareTo(MIN_WITHDRAW_BUDGET) < 0) {
+            return CompletableFuture.failedFuture(
+                    new ApiTimeoutException("Deadline too close to withdraw from " + payerUuid));
+        }
+        // once sent the withdrawal only gets the per-hop timeout: timing it out on the payment's budget
+        // would report a failure while the server may still charge the payer
+        return balanceApi.withdraw(payerUuid, amount, Deadline.none());
     }
 
     private CompletableFuture<Void> depositToReceiver(UUID payerUuid, UUID receiverUuid, long amount) {
-        return balanceApi.deposit(receiverUuid, amount)
+        // once the payer has been charged the deposit only gets the per-hop timeout: cutting it short
+        // on the payment's deadline would refund the payer while the server may still apply the deposit
+        return balanceApi.deposit(receiverUuid, amount, Deadline.none())
                 .exceptionallyCompose(depositEx ->
                         handleDepositFailure(payerUuid, receiverUuid, amount, depositEx)
                 );
@@ -145,6 +187,7 @@ public class PayCommandApplicationService {
     }
 
     private CompletableFuture<Void> rollbackWithdrawal(UUID payerUuid, long amount) {
+        // not bound by the payment's deadline: a spent budget must not leave the payer short
         return balanceApi.deposit(payerUuid, amount)
                 .thenApply(v -> {
                     logInfo("Successfully rolled back withdrawal for " + payerUuid);
@@ -190,6 +233,7 @@ public class PayCommandApplicationService {
     }
 
     private CompletableFuture<Void> logTransaction(UUID payerUuid, UUID receiverUuid, long amount) {
+        // the money already moved, so the record gets its own timeout rather than what is left of the budget
         return transactionApi.register(payerUuid, receiverUuid, amount)
                 .thenApply(transaction -> (Void) null)  // Convert to Void
                 .exceptionally(ex -> {
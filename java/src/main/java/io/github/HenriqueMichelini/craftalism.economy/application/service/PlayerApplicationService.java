@@ -1,6 +1,8 @@
 package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Player;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiServerException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
@@ -21,7 +23,7 @@ public class PlayerApplicationService {
     }
 
     public CompletableFuture<Player> loadPlayerOnJoin(UUID uuid, String name) {
-        return api.getOrCreatePlayer(uuid, name)
+        return api.getOrCreatePlayer(uuid, name, RequestPriority.BACKGROUND)
                 .thenApply(dto -> {
                     Player player = new Player(
                             dto.uuid(),
@@ -85,7 +87,24 @@ public class PlayerApplicationService {
             return CompletableFuture.completedFuture(cached.get());
         }
 
-        return api.getOrCreatePlayer(uuid, name)
+        return cacheFetched(api.getOrCreatePlayer(uuid, name));
+    }
+
+    public CompletableFuture<Player> getCachedOrFetch(UUID uuid, String name, Deadline deadline) {
+        Optional<Player> cached = cache.find(uuid);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return cacheFetched(api.getOrCreatePlayer(uuid, name, RequestPriority.INTERACTIVE, deadline));
+    }
+
+    public CompletableFuture<Player> getPlayerByName(String name, Deadline deadline) {
+        return cacheFetched(api.getPlayerByName(name, deadline));
+    }
+
+    private CompletableFuture<Player> cacheFetched(CompletableFuture<PlayerResponseDTO> fetch) {
+        return fetch
                 .thenApply(dto -> {
                     Player player = new Player(dto.uuid(), dto.name(), dto.createdAt());
                     cache.save(player);
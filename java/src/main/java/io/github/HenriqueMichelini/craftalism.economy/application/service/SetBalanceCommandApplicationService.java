@@ -2,22 +2,36 @@ package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.application.dto.SetBalanceExecutionResult;
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Player;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
 
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public class SetBalanceCommandApplicationService {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
     private final BalanceApiService balanceApi;
     private final PlayerApplicationService playerApplicationService;
+    private final Duration timeout;
 
     public SetBalanceCommandApplicationService(
             BalanceApiService balanceApi,
             PlayerApplicationService playerApplicationService
+    ) {
+        this(balanceApi, playerApplicationService, DEFAULT_TIMEOUT);
+    }
+
+    public SetBalanceCommandApplicationService(
+            BalanceApiService balanceApi,
+            PlayerApplicationService playerApplicationService,
+            Duration timeout
     ) {
         this.balanceApi = balanceApi;
         this.playerApplicationService = playerApplicationService;
+        this.timeout = timeout;
     }
 
     public CompletableFuture<SetBalanceExecutionResult> execute(
@@ -28,18 +42,19 @@ public class SetBalanceCommandApplicationService {
             return CompletableFuture.completedFuture(SetBalanceExecutionResult.invalidAmount());
         }
 
-        return getPlayerUuid(targetName)
-                .thenCompose(uuid -> setBalanceForPlayer(uuid, amount))
+        Deadline deadline = Deadline.after(timeout);
+        return getPlayerUuid(targetName, deadline)
+                .thenCompose(uuid -> setBalanceForPlayer(uuid, amount, deadline))
                 .exceptionally(this::handleException);
     }
 
-    private CompletableFuture<UUID> getPlayerUuid(String targetName) {
-        return playerApplicationService.getPlayerByName(targetName)
+    private CompletableFuture<UUID> getPlayerUuid(String targetName, Deadline deadline) {
+        return playerApplicationService.getPlayerByName(targetName, deadline)
                 .thenApply(Player::getUuid);
     }
 
-    private CompletableFuture<SetBalanceExecutionResult> setBalanceForPlayer(UUID uuid, long amount) {
-        return balanceApi.updateBalance(uuid, amount)
+    private CompletableFuture<SetBalanceExecutionResult> setBalanceForPlayer(UUID uuid, long amount, Deadline deadline) {
+        return balanceApi.updateBalance(uuid, amount, deadline)
                 .thenApply(v -> SetBalanceExecutionResult.success(amount, uuid))
                 .exceptionally(ex -> SetBalanceExecutionResult.updateFailed());
     }
@@ -1,12 +1,14 @@
 package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Transaction;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RetryPolicy;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.RateLimitException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.TransactionApiService;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.BadRequestException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -15,9 +17,15 @@ import java.util.concurrent.CompletionException;
 public class TransactionApplicationService {
 
     private final TransactionApiService api;
+    private final RetryPolicy retryPolicy;
 
     public TransactionApplicationService(TransactionApiService api) {
+        this(api, new RetryPolicy());
+    }
+
+    public TransactionApplicationService(TransactionApiService api, RetryPolicy retryPolicy) {
         this.api = api;
+        this.retryPolicy = retryPolicy;
     }
 
     public CompletableFuture<Transaction> registerTransaction(UUID from, UUID to, long amount) {
@@ -36,21 +44,22 @@ public class TransactionApplicationService {
                 });
     }
 
+    /**
+     * Registers a transaction, retrying only when the backend rejected it with 429.
+     * A rate-limited request was never applied, so replaying it cannot duplicate the record.
+     */
     public CompletableFuture<Transaction> registerTransactionWithRetry(UUID from, UUID to, long amount) {
-        return api.register(from, to, amount)
-                .exceptionallyCompose(ex -> {
-                    Throwable cause = unwrapException(ex);
-
-                    if (cause instanceof RateLimitException) {
-                        // Could implement retry logic here if needed
-                        return CompletableFuture.failedFuture(ex);
-                    }
-
-                    return CompletableFuture.failedFuture(ex);
-                })
+        return retryPolicy.execute(() -> api.register(from, to, amount), this::rateLimitDelay)
                 .thenApply(this::toTransaction);
     }
 
+    private Duration rateLimitDelay(TransactionResponseDTO dto, Throwable ex) {
+        if (ex != null && unwrapException(ex) instanceof RateLimitException rateLimit) {
+            return rateLimit.getRetryAfter().orElse(Duration.ZERO);
+        }
+        return null;
+    }
+
     private Transaction toTransaction(TransactionResponseDTO dto) {
         return new Transaction(dto.id(), dto.fromPlayerUuid(), dto.toPlayerUuid(), dto.amount(), dto.createdAt());
     }
@@ -0,0 +1,212 @@
+package io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.messages;
+
+import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.LogManager;
+import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.PluginLogger;
+import org.bukkit.command.CommandSender;
+
+public class AdminMessages {
+    private final PluginLogger pluginLogger;
+
+    public AdminMessages(PluginLogger pluginLogger) {
+        this.pluginLogger = pluginLogger;
+    }
+
+    public void sendAdminNoPermission(CommandSender messageReceiver) {
+        pluginLogger.send(messageReceiver, "admin.no_permission");
+    }
+
+    public void sendAdminUsage(CommandSender messageReceiver) {
+        pluginLogger.send(messageReceiver, "admin.usage");
+    }
+
+    public void sendBreakersHeader(CommandSender messageReceiver, String count) {
+        LogManager.Placeholder countPlaceholder = new LogManager.Placeholder("count", count);
+
+        pluginLogger.send(messageReceiver, "admin.breakers.header", countPlaceholder);
+    }
+
+    public void sendBreakerEntry(CommandSender messageReceiver, String endpoint, String state, String failures, String rejected, String retryIn) {
+        LogManager.Placeholder endpointPlaceholder = new LogManager.Placeholder("endpoint", endpoint);
+        LogManager.Placeholder statePlaceholder = new LogManager.Placeholder("state", state);
+        LogManager.Placeholder failuresPlaceholder = new LogManager.Placeholder("failures", failures);
+        LogManager.Placeholder rejectedPlaceholder = new LogManager.Placeholder("rejected", rejected);
+        LogManager.Placeholder retryInPlaceholder = new LogManager.Placeholder("retry_in", retryIn);
+
+        pluginLogger.send(messageReceiver, "admin.breakers.entry",
+                endpointPlaceholder, statePlaceholder, failuresPlaceholder, rejectedPlaceholder, retryInPlaceholder);
+    }
+
+    public void sendBreakersEmpty(CommandSender messageReceiver) {
+        pluginLogger.send(messageReceiver, "admin.breakers.empty");
+    }
+
+    public void sendLimiter(CommandSender messageReceiver, String limit, String inFlight, String queued, String shed, String minRtt) {
+        LogManager.Placeholder limitPlaceholder = new LogManager.Placeholder("limit", limit);
+        LogManager.Placeholder inFlightPlaceholder = new LogManager.Placeholder("in_flight", inFlight);
+        LogManager.Placeholder queuedPlaceholder = new LogManager.Placeholder("queued", queued);
+        LogManager.Placeholder shedPlaceholder = new LogManager.Placeholder("shed", shed);
+        LogManager.Placeholder minRttPlaceholder = new LogManager.Placeholder("min_rtt", minRtt);
+
+        pluginLogger.send(messageReceiver, "admin.limiter",
+                limitPlaceholder, inFlightPlaceholder, queuedPlaceholder, shedPlaceholder, minRttPlaceholder);
+    }
+
+    public void sendRateLimitsHeader(CommandSender messageReceiver, String count) {
+        LogManager.Placeholder countPlaceholder = new LogManager.Placeholder("count", count);
+
+        pluginLogger.send(messageReceiver, "admin.ratelimits.header", countPlaceholder);
+    }
+
+    public void sendRateLimitEntry(CommandSender messageReceiver, String family, String rate, String configured, String waited, String shed, String throttled) {
+        LogManager.Placeholder familyPlaceholder = new LogManager.Placeholder("family", family);
+        LogManager.Placeholder ratePlaceholder = new LogManager.Placeholder("rate", rate);
+        LogManager.Placeholder configuredPlaceholder = new LogManager.Placeholder("configured", configured);
+        LogManager.Placeholder waitedPlaceholder = new LogManager.Placeholder("waited", waited);
+        LogManager.Placeholder shedPlaceholder = new LogManager.Placeholder("shed", shed);
+        LogManager.Placeholder throttledPlaceholder = new LogManager.Placeholder("throttled", throttled);
+
+        pluginLogger.send(messageReceiver, "admin.ratelimits.entry",
+                familyPlaceholder, ratePlaceholder, configuredPlaceholder, waitedPlaceholder, shedPlaceholder, throttledPlaceholder);
+    }
+
+    public void sendRateLimitsEmpty(CommandSender messageReceiver) {
+        pluginLogger.send(messageReceiver, "admin.ratelimits.empty");
+    }
+
+    public void sendHedging(CommandSender messageReceiver, String requests, String sent, String won, String denied) {
+        LogManager.Placeholder requestsPlaceholder = new LogManager.Placeholder("requests", requests);
+        LogManager.Placeholder sentPlaceholder = new LogManager.Placeholder("sent", sent);
+        LogManager.Placeholder wonPlaceholder = new LogManager.Placeholder("won", won);
+        LogManager.Placeholder deniedPlaceholder = new LogManager.Placeholder("denied", denied);
+
+        pluginLogger.send(messageReceiver, "admin.hedging",
+                requestsPlaceholder, sentPlaceholder, wonPlaceholder, deniedPlaceholder);
+    }
+
+    public void sendCompressionHeader(CommandSender messageReceiver, String count) {
+        LogManager.Placeholder countPlaceholder = new LogManager.Placeholder("count", count);
+
+        pluginLogger.send(messageReceiver, "admin.compression.header", countPlaceholder);
+    }
+
+    public void sendCompressionEntry(CommandSender messageReceiver, String endpoint, String responses, String wire, String decoded, String ratio) {
+        LogManager.Placeholder endpointPlaceholder = new LogManager.Placeholder("endpoint", endpoint);
+        LogManager.Placeholder responsesPlaceholder = new LogManager.Placeholder("responses", responses);
+        LogManager.Placeholder wirePlaceholder = new LogManager.Placeholder("wire", wire);
+        LogManager.Placeholder decodedPlaceholder = new LogManager.Placeholder("decoded", decoded);
+        LogManager.Placeholder ratioPlaceholder = new LogManager.Placeholder("ratio", ratio);
+
+        pluginLogger.send(messageReceiver, "admin.compression.entry",
+                endpointPlaceholder, responsesPlaceholder, wirePlaceholder, decodedPlaceholder, ratioPlaceholder);
+    }
+
+    public void sendCompressionEmpty(CommandSender messageReceiver) {
+        pluginLogger.send(messageReceiver, "admin.compression.empty");
+    }
+
+    public void sendMetricsHeader(CommandSender messageReceiver, String count) {
+        LogManager.Placeholder countPlaceholder = new LogManager.Placeholder("count", count);
+
+        pluginLogger.send(messageReceiver, "admin.metrics.header", countPlaceholder);
+    }
+
+    public void sendMetricsEntry(CommandSender messageReceiver, String endpoint, String requests, String inFlight, String p50, String p90, String p99, String max, String statuses, String errors, String bytesOut, String bytesIn) {
+        LogManager.Placeholder endpointPlaceholder = new LogManager.Placeholder("endpoint", endpoint);
+        LogManager.Placeholder requestsPlaceholder = new LogManager.Placeholder("requests", requests);
+        LogManager.Placeholder inFlightPlaceholder = new LogManager.Placeholder("in_flight", inFlight);
+        LogManager.Placeholder p50Placeholder = new LogManager.Placeholder("p50", p50);
+        LogManager.Placeholder p90Placeholder = new LogManager.Placeholder("p90", p90);
+        LogManager.Placeholder p99Placeholder = new LogManager.Placeholder("p99", p99);
+        LogManager.Placeholder maxPlaceholder = new LogManager.Placeholder("max", max);
+        LogManager.Placeholder statusesPlaceholder = new LogManager.Placeholder("statuses", statuses);
+        LogManager.Placeholder errorsPlaceholder = new LogManager.Placeholder("errors", errors);
+        LogManager.Placeholder bytesOutPlaceholder = new LogManager.Placeholder("bytes_out", bytesOut);
+        LogManager.Placeholder bytesInPlaceholder = new LogManager.Placeholder("bytes_in", bytesIn);
+
+        pluginLogger.send(messageReceiver, "admin.metrics.entry",
+                endpointPlaceholder, requestsPlaceholder, inFlightPlaceholder, p50Placeholder, p90Placeholder,
+                p99Placeholder, maxPlaceholder, statusesPlaceholder, errorsPlaceholder, bytesOutPlaceholder,
+                bytesInPlaceholder);
+    }
+
+    public void sendMetricsEmpty(CommandSender messageReceiver) {
+        pluginLogger.send(messageReceiver, "admin.metrics.empty");
+    }
+
+    public void sendChaosStatus(CommandSender messageReceiver, String state, String delayed, String errors, String dropped, String timedOut) {
+        LogManager.Placeholder statePlaceholder = new LogManager.Placeholder("state", state);
+        LogManager.Placeholder delayedPlaceholder = new LogManager.Placeholder("delayed", delayed);
+        LogManager.Placeholder errorsPlaceholder = new LogManager.Placeholder("errors", errors);
+        LogManager.Placeholder droppedPlaceholder = new LogManager.Placeholder("dropped", dropped);
+        LogManager.Placeholder timedOutPlaceholder = new LogManager.Placeholder("timed_out", timedOut);
+
+        pluginLogger.send(messageReceiver, "admin.chaos.status",
+                statePlaceholder, delayedPlaceholder, errorsPlaceholder, droppedPlaceholder, timedOutPlaceholder);
+    }
+
+    public void sendChaosEntry(CommandSender messageReceiver, String endpoint, String latency, String errorRate, String statuses, String dropRate, String timeoutRate) {
+        LogManager.Placeholder endpointPlaceholder = new LogManager.Placeholder("endpoint", endpoint);
+        LogManager.Placeholder latencyPlaceholder = new LogManager.Placeholder("latency", latency);
+        LogManager.Placeholder errorRatePlaceholder = new LogManager.Placeholder("error_rate", errorRate);
+        LogManager.Placeholder statusesPlaceholder = new LogManager.Placeholder("statuses", statuses);
+        LogManager.Placeholder dropRatePlaceholder = new LogManager.Placeholder("drop_rate", dropRate);
+        LogManager.Placeholder timeoutRatePlaceholder = new LogManager.Placeholder("timeout_rate", timeoutRate);
+
+        pluginLogger.send(messageReceiver, "admin.chaos.entry",
+                endpointPlaceholder, latencyPlaceholder, errorRatePlaceholder, statusesPlaceholder,
+                dropRatePlaceholder, timeoutRatePlaceholder);
+    }
+
+    public void sendChaosUpdated(CommandSender messageReceiver, String endpoint) {
+        LogManager.Placeholder endpointPlaceholder = new LogManager.Placeholder("endpoint", endpoint);
+
+        pluginLogger.send(messageReceiver, "admin.chaos.updated", endpointPlaceholder);
+    }
+
+    public void sendChaosUsage(CommandSender messageReceiver) {
+        pluginLogger.send(messageReceiver, "admin.chaos.usage");
+    }
+
+    public void sendConnection(CommandSender messageReceiver, String handshake, String rtt, String pings, String failures, String keepAlive) {
+        LogManager.Placeholder handshakePlaceholder = new LogManager.Placeholder("handshake", handshake);
+        LogManager.Placeholder rttPlaceholder = new LogManager.Placeholder("rtt", rtt);
+        LogManager.Placeholder pingsPlaceholder = new LogManager.Placeholder("pings", pings);
+        LogManager.Placeholder failuresPlaceholder = new LogManager.Placeholder("failures", failures);
+        LogManager.Placeholder keepAlivePlaceholder = new LogManager.Placeholder("keep_alive", keepAlive);
+
+        pluginLogger.send(messageReceiver, "admin.connection",
+                handshakePlaceholder, rttPlaceholder, pingsPlaceholder, failuresPlaceholder, keepAlivePlaceholder);
+    }
+
+    public void sendShardsHeader(CommandSender messageReceiver, String count) {
+        LogManager.Placeholder countPlaceholder = new LogManager.Placeholder("count", count);
+
+        pluginLogger.send(messageReceiver, "admin.shards.header", countPlaceholder);
+    }
+
+    public void sendShardEntry(CommandSender messageReceiver, String shard, String share, String inFlight, String openBreakers) {
+        LogManager.Placeholder shardPlaceholder = new LogManager.Placeholder("shard", shard);
+        LogManager.Placeholder sharePlaceholder = new LogManager.Placeholder("share", share);
+        LogManager.Placeholder inFlightPlaceholder = new LogManager.Placeholder("in_flight", inFlight);
+        LogManager.Placeholder openBreakersPlaceholder = new LogManager.Placeholder("open_breakers", openBreakers);
+
+        pluginLogger.send(messageReceiver, "admin.shards.entry",
+                shardPlaceholder, sharePlaceholder, inFlightPlaceholder, openBreakersPlaceholder);
+    }
+
+    public void sendReloaded(CommandSender messageReceiver, String shards, String added, String removed, String moved) {
+        LogManager.Placeholder shardsPlaceholder = new LogManager.Placeholder("shards", shards);
+        LogManager.Placeholder addedPlaceholder = new LogManager.Placeholder("added", added);
+        LogManager.Placeholder removedPlaceholder = new LogManager.Placeholder("removed", removed);
+        LogManager.Placeholder movedPlaceholder = new LogManager.Placeholder("moved", moved);
+
+        pluginLogger.send(messageReceiver, "admin.reload.success",
+                shardsPlaceholder, addedPlaceholder, removedPlaceholder, movedPlaceholder);
+    }
+
+    public void sendReloadFailed(CommandSender messageReceiver, String error) {
+        LogManager.Placeholder errorPlaceholder = new LogManager.Placeholder("error", error);
+
+        pluginLogger.send(messageReceiver, "admin.reload.error", errorPlaceholder);
+    }
+}
@@ -0,0 +1,323 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.LoadSheddingException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps in-flight API calls with a limit that adapts to observed latency (AIMD).
+ * <p>
+ * Every completed call feeds its round-trip time back. Each endpoint template
+ * is judged against its own best RTT seen recently, so a leaderboard query
+ * that is always slower than a single balance lookup is not mistaken for
+ * congestion. While latency stays close to that baseline and the limit is
+ * actually being used,
+ * the limit grows by roughly one per window; when latency inflates past the
+ * tolerance, or the call timed out / was throttled, it shrinks multiplicatively.
+ * Calls over the limit wait in a bounded queue with one FIFO lane per
+ * {@link RequestPriority}; freed slots go to the highest non-empty lane. When
+ * the queue is full, an incoming call evicts the newest waiter of a lower
+ * lane, or is shed itself if there is none. Bulk calls additionally only get
+ * a slot while the client is below {@value #BULK_SHARE} of the limit, so they
+ * never take the last slots from interactive traffic.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public record Snapshot(int limit, int inFlight, int queued, long shed, long minRttMillis) {}
+
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 4;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+    private static final int DEFAULT_MAX_QUEUE = 256;
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double DROP_BACKOFF_RATIO = 0.75;
+    private static final int MIN_RTT_RESET_SAMPLES = 1_000;
+    private static final double BULK_SHARE = 0.75;
+
+    private static final RequestPriority[] LANES = RequestPriority.values();
+    // key for samples released without an endpoint
+    private static final String ANY_ENDPOINT = "";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final LongSupplier nanoClock;
+
+    private final Object lock = new Object();
+    private final Map<RequestPriority, ArrayDeque<CompletableFuture<Permit>>> waiters = new EnumMap<>(RequestPriority.class);
+    private final long[] shedByPriority = new long[LANES.length];
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    // per endpoint template; the set of templates is small and fixed
+    private final Map<String, Baseline> baselines = new HashMap<>();
+
+    public AdaptiveConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_MAX_QUEUE);
+    }
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue) {
+        this(initialLimit, minLimit, maxLimit, maxQueue, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limits: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = Math.max(0, maxQueue);
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.nanoClock = nanoClock;
+        for (RequestPriority lane : LANES) {
+            waiters.put(lane, new ArrayDeque<>());
+        }
+    }
+
+    public CompletableFuture<Permit> acquire() {
+        return acquire(RequestPriority.INTERACTIVE);
+    }
+
+    /**
+     * @return a future completed with a permit once a slot is free, or failed
+     * with {@link LoadSheddingException} when the wait queue is full
+     */
+    public CompletableFuture<Permit> acquire(RequestPriority priority) {
+        CompletableFuture<Permit> evicted = null;
+        CompletableFuture<Permit> waiter;
+
+        synchronized (lock) {
+            if (inFlight < capacityFor(priority) && !hasWaitersAtOrAbove(priority)) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit(nanoClock.getAsLong()));
+            }
+
+            if (queued >= maxQueue) {
+                evicted = evictBelow(priority);
+                if (evicted == null) {
+                    shedByPriority[priority.ordinal()]++;
+                    return CompletableFuture.failedFuture(shedException(priority));
+                }
+            }
+
+            waiter = new CompletableFuture<>();
+            waiters.get(priority).addLast(waiter);
+            queued++;
+        }
+
+        if (evicted != null) {
+            evicted.completeExceptionally(shedException(null));
+        }
+        return waiter;
+    }
+
+    private int capacityFor(RequestPriority priority) {
+        if (priority == RequestPriority.BULK) {
+            return Math.max(1, (int) (limit * BULK_SHARE));
+        }
+        return (int) limit;
+    }
+
+    // keeps FIFO fairness inside a lane and stops lower lanes from jumping the queue
+    private boolean hasWaitersAtOrAbove(RequestPriority priority) {
+        for (int i = 0; i <= priority.ordinal(); i++) {
+            if (!waiters.get(LANES[i]).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CompletableFuture<Permit> evictBelow(RequestPriority priority) {
+        for (int i = LANES.length - 1; i > priority.ordinal(); i--) {
+            CompletableFuture<Permit> victim = waiters.get(LANES[i]).pollLast();
+            if (victim != null) {
+                queued--;
+                shedByPriority[i]++;
+                return victim;
+            }
+        }
+        return null;
+    }
+
+    private LoadSheddingException shedException(RequestPriority priority) {
+        String reason = priority == null ? "evicted by higher-priority request" : "queue full";
+        return new LoadSheddingException(
+                "API client saturated, " + reason + " (limit=" + (int) limit + ", queued=" + queued + ")");
+    }
+
+    private void release(String endpoint, long startNanos, boolean dropped) {
+        freeSlot(endpoint, nanoClock.getAsLong() - startNanos, dropped);
+    }
+
+    /**
+     * @param rttNanos {@code -1} when the slot was never used and should not be sampled
+     */
+    private void freeSlot(String endpoint, long rttNanos, boolean dropped) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+
+        synchronized (lock) {
+            inFlight--;
+            if (rttNanos >= 0) {
+                adjustLimit(endpoint, rttNanos, dropped);
+            }
+
+            for (RequestPriority lane : LANES) {
+                ArrayDeque<CompletableFuture<Permit>> laneWaiters = waiters.get(lane);
+                while (inFlight < capacityFor(lane) && !laneWaiters.isEmpty()) {
+                    CompletableFuture<Permit> waiter = laneWaiters.pollFirst();
+                    queued--;
+                    if (!waiter.isDone()) {
+                        inFlight++;
+                        granted.add(waiter);
+                    }
+                }
+                if (!laneWaiters.isEmpty()) {
+                    // a higher lane is still waiting, lower lanes must not overtake it
+                    break;
+                }
+            }
+        }
+
+        // complete outside the lock, continuations run inline
+        for (CompletableFuture<Permit> waiter : granted) {
+            if (!waiter.complete(new Permit(nanoClock.getAsLong()))) {
+                // waiter was cancelled in the meantime, hand the slot on
+                freeSlot(ANY_ENDPOINT, -1, false);
+            }
+        }
+    }
+
+    private void adjustLimit(String endpoint, long rttNanos, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * DROP_BACKOFF_RATIO);
+            return;
+        }
+
+        Baseline baseline = baselines.computeIfAbsent(endpoint, k -> new Baseline());
+        if (++baseline.samplesSinceReset >= MIN_RTT_RESET_SAMPLES) {
+            // let the baseline follow the backend if it got permanently slower
+            baseline.samplesSinceReset = 0;
+            baseline.minRttNanos = rttNanos;
+        } else {
+            baseline.minRttNanos = Math.min(baseline.minRttNanos, rttNanos);
+        }
+
+        if (rttNanos > baseline.minRttNanos * LATENCY_TOLERANCE) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (inFlight + 1 >= limit / 2) {
+            // only grow while the current limit is actually being used
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public int currentLimit() {
+        synchronized (lock) {
+            return (int) limit;
+        }
+    }
+
+    public Snapshot snapshot() {
+        synchronized (lock) {
+            // the fastest endpoint's baseline, i.e. roughly the network round trip
+            long minRttNanos = Long.MAX_VALUE;
+            for (Baseline baseline : baselines.values()) {
+                minRttNanos = Math.min(minRttNanos, baseline.minRttNanos);
+            }
+            long minRttMillis = minRttNanos == Long.MAX_VALUE ? 0L : minRttNanos / 1_000_000L;
+            long shed = 0;
+            for (long count : shedByPriority) {
+                shed += count;
+            }
+            return new Snapshot((int) limit, inFlight, queued, shed, minRttMillis);
+        }
+    }
+
+    /**
+     * @return one view over several limiters, e.g. every shard's: limits and counts summed, the lowest round trip kept
+     */
+    public static Snapshot merge(List<Snapshot> all) {
+        if (all.size() == 1) {
+            return all.getFirst();
+        }
+        int limit = 0;
+        int inFlight = 0;
+        int queued = 0;
+        long shed = 0;
+        long minRttMillis = 0;
+        for (Snapshot snapshot : all) {
+            limit += snapshot.limit();
+            inFlight += snapshot.inFlight();
+            queued += snapshot.queued();
+            shed += snapshot.shed();
+            // 0 means no baseline yet
+            if (snapshot.minRttMillis() > 0 && (minRttMillis == 0 || snapshot.minRttMillis() < minRttMillis)) {
+                minRttMillis = snapshot.minRttMillis();
+            }
+        }
+        return new Snapshot(limit, inFlight, queued, shed, minRttMillis);
+    }
+
+    public long shedCount(RequestPriority priority) {
+        synchronized (lock) {
+            return shedByPriority[priority.ordinal()];
+        }
+    }
+
+    /**
+     * A granted slot. Must be released exactly once.
+     */
+    public final class Permit {
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * @param dropped {@code true} if the call timed out or the backend pushed back (429/503)
+         */
+        public void release(boolean dropped) {
+            release(ANY_ENDPOINT, dropped);
+        }
+
+        /**
+         * @param endpoint template whose own RTT baseline the sample is judged against
+         * @param dropped  {@code true} if the call timed out or the backend pushed back (429/503)
+         */
+        public void release(String endpoint, boolean dropped) {
+            synchronized (this) {
+                if (released) return;
+                released = true;
+            }
+            AdaptiveConcurrencyLimiter.this.release(endpoint, startNanos, dropped);
+        }
+
+        /**
+         * Returns the slot without feeding a latency sample, for calls that never went out.
+         */
+        public void abandon() {
+            synchronized (this) {
+                if (released) return;
+                released = true;
+            }
+            freeSlot(ANY_ENDPOINT, -1, false);
+        }
+    }
+
+    private static final class Baseline {
+        private long minRttNanos = Long.MAX_VALUE;
+        private int samplesSinceReset;
+    }
+}
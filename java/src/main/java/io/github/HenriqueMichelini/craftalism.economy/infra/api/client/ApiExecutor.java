@@ -0,0 +1,45 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Where API work and its continuations run: one virtual thread per task.
+ * <p>
+ * Without an explicit executor, {@link java.net.http.HttpClient} callbacks,
+ * delayed retries and {@code *Async} stages land on the common ForkJoin pool,
+ * which every plugin on the server shares; a burst of slow calls there starves
+ * them all. Virtual threads cost next to nothing to start and may block, so
+ * the client and every continuation hanging off it get their own.
+ */
+public final class ApiExecutor {
+
+    private static final ExecutorService VIRTUAL = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("craftalism-api-", 0).factory());
+
+    private ApiExecutor() {
+    }
+
+    public static Executor virtual() {
+        return VIRTUAL;
+    }
+
+    /**
+     * Replacement for {@link CompletableFuture#delayedExecutor(long, TimeUnit)}
+     * that runs the task on a virtual thread rather than the common pool.
+     */
+    public static Executor delayed(long delay, TimeUnit unit) {
+        return CompletableFuture.delayedExecutor(delay, unit, VIRTUAL);
+    }
+
+    /**
+     * Runs blocking code on a virtual thread, e.g. a sequence of {@code BlockingEconomyApi} calls.
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, VIRTUAL);
+    }
+}
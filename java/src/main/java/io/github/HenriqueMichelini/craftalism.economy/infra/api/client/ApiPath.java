@@ -0,0 +1,28 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+/**
+ * A concrete request path together with its route, the template per-endpoint
+ * state is keyed by ({@code /api/balances/{uuid}/deposit}).
+ * <p>
+ * Paths expanded from a {@link PathTemplate} carry the route they came from;
+ * {@link #of(String)} derives it from an arbitrary path instead, which costs
+ * a couple of regex passes.
+ */
+public record ApiPath(String path, String route) {
+
+    public static ApiPath of(String path) {
+        return new ApiPath(path, Endpoints.template(path));
+    }
+
+    /**
+     * @return the endpoint key for a call, e.g. {@code GET /api/balances/{uuid}}
+     */
+    public String endpoint(String method) {
+        return method + " " + route;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
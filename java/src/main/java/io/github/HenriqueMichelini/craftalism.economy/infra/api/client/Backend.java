@@ -0,0 +1,130 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health and latency bookkeeping for one backend replica.
+ * <p>
+ * Latency is a peak-sensitive EWMA: a slower sample replaces the average at
+ * once, faster ones pull it down gradually, so a node that starts to stall
+ * loses traffic on its first slow answer. The average also fades while a
+ * replica gets no traffic, so a node that was slow a while ago is tried again
+ * instead of being starved forever.
+ */
+public class Backend {
+
+    public record Snapshot(String baseUrl, long latencyMillis, double errorRate, int inFlight,
+                           boolean ejected, long ejections) {}
+
+    private static final double ALPHA = 0.3;
+    private static final long IDLE_DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final double LATENCY_FLOOR_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double MIN_SUCCESS_RATIO = 0.05;
+
+    private final String baseUrl;
+
+    private double latencyNanos;
+    private double errorRate;
+    private long lastSample;
+    private int inFlight;
+    private int consecutiveFailures;
+
+    private boolean ejected;
+    private boolean probing;
+    private long probeAt;
+    // ejections since the last real success, drives the ejection backoff
+    private int recentEjections;
+    private long ejections;
+
+    Backend(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Expected cost of sending one more request here; lower is better.
+     */
+    synchronized double score(long now) {
+        double latency = latencyNanos;
+        long idle = now - lastSample;
+        if (idle > 0 && latency > 0) {
+            latency *= Math.exp(-(double) idle / IDLE_DECAY_NANOS);
+        }
+        return (latency + LATENCY_FLOOR_NANOS) * (inFlight + 1) / Math.max(MIN_SUCCESS_RATIO, 1 - errorRate);
+    }
+
+    synchronized void begin() {
+        inFlight++;
+    }
+
+    synchronized void onSuccess(long now, long latency) {
+        inFlight = Math.max(0, inFlight - 1);
+        sample(now, latency, 0);
+        consecutiveFailures = 0;
+        recentEjections = 0;
+    }
+
+    /**
+     * @return consecutive failures so far, including this one
+     */
+    synchronized int onFailure(long now, long latency) {
+        inFlight = Math.max(0, inFlight - 1);
+        sample(now, latency, 1);
+        return ++consecutiveFailures;
+    }
+
+    synchronized void onCancelled() {
+        inFlight = Math.max(0, inFlight - 1);
+    }
+
+    private void sample(long now, long latency, double error) {
+        latencyNanos = latency > latencyNanos ? latency : latencyNanos + ALPHA * (latency - latencyNanos);
+        errorRate += ALPHA * (error - errorRate);
+        lastSample = now;
+    }
+
+    synchronized boolean isEjected() {
+        return ejected;
+    }
+
+    synchronized long probeAt() {
+        return probeAt;
+    }
+
+    synchronized void eject(long now, long baseNanos, long maxNanos) {
+        ejected = true;
+        probing = false;
+        ejections++;
+        long backoff = baseNanos << Math.min(recentEjections, 10);
+        recentEjections++;
+        probeAt = now + Math.min(maxNanos, backoff);
+    }
+
+    /**
+     * @return {@code true} if the caller should send the re-admission probe now
+     */
+    synchronized boolean claimProbe(long now) {
+        if (!ejected || probing || now - probeAt < 0) {
+            return false;
+        }
+        probing = true;
+        return true;
+    }
+
+    synchronized void readmit() {
+        ejected = false;
+        probing = false;
+        consecutiveFailures = 0;
+        // start over so the recovered node gets traffic and earns its place back
+        latencyNanos = 0;
+        errorRate = 0;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(baseUrl, TimeUnit.NANOSECONDS.toMillis((long) latencyNanos), errorRate, inFlight,
+                ejected, ejections);
+    }
+}
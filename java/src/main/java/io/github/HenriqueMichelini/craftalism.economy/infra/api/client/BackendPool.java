@@ -0,0 +1,182 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The backend replicas a client can talk to. Each request goes to the replica
+ * with the lowest expected cost: EWMA latency, scaled up by the requests it is
+ * already serving and by its recent error rate.
+ * <p>
+ * A replica that fails {@code ejectAfter} times in a row is ejected. It leaves
+ * the rotation until its ejection window has passed and a probe request has
+ * come back healthy; every ejection before the next real success doubles the
+ * window. The last replica standing is never ejected, and if every one is out
+ * anyway, requests go to the one due to be probed first rather than nowhere.
+ */
+public class BackendPool {
+
+    private static final int DEFAULT_EJECT_AFTER = 3;
+    private static final Duration DEFAULT_EJECTION = Duration.ofSeconds(5);
+    private static final Duration MAX_EJECTION = Duration.ofSeconds(60);
+
+    private final List<Backend> backends;
+    private final int ejectAfter;
+    private final long ejectionNanos;
+    private final long maxEjectionNanos;
+    private final LongSupplier nanoClock;
+
+    private ScheduledExecutorService prober;
+
+    public BackendPool(List<String> baseUrls) {
+        this(baseUrls, DEFAULT_EJECT_AFTER, DEFAULT_EJECTION);
+    }
+
+    public BackendPool(List<String> baseUrls, int ejectAfter, Duration ejection) {
+        this(baseUrls, ejectAfter, ejection, System::nanoTime);
+    }
+
+    BackendPool(List<String> baseUrls, int ejectAfter, Duration ejection, LongSupplier nanoClock) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one backend URL is required");
+        }
+        this.backends = baseUrls.stream().map(Backend::new).toList();
+        this.ejectAfter = Math.max(1, ejectAfter);
+        this.ejectionNanos = Math.max(1L, ejection.toNanos());
+        this.maxEjectionNanos = Math.max(ejectionNanos, MAX_EJECTION.toNanos());
+        this.nanoClock = nanoClock;
+    }
+
+    public static BackendPool single(String baseUrl) {
+        return new BackendPool(List.of(baseUrl));
+    }
+
+    /**
+     * The first configured replica; identifies the API regardless of which node answers.
+     */
+    public String primary() {
+        return backends.getFirst().baseUrl();
+    }
+
+    public int size() {
+        return backends.size();
+    }
+
+    /**
+     * Picks the replica for the next request and counts it as in flight there.
+     * The caller must report the outcome with {@link #onSuccess}, {@link #onFailure}
+     * or {@link #onCancelled}.
+     */
+    public Backend choose() {
+        Backend chosen = backends.getFirst();
+        if (backends.size() > 1) {
+            long now = nanoClock.getAsLong();
+            Backend best = null;
+            double bestScore = Double.MAX_VALUE;
+            Backend soonest = null;
+
+            for (Backend backend : backends) {
+                if (backend.isEjected()) {
+                    if (soonest == null || backend.probeAt() - soonest.probeAt() < 0) {
+                        soonest = backend;
+                    }
+                    continue;
+                }
+                double score = backend.score(now);
+                if (score < bestScore) {
+                    best = backend;
+                    bestScore = score;
+                }
+            }
+            chosen = best != null ? best : soonest;
+        }
+        chosen.begin();
+        return chosen;
+    }
+
+    public void onSuccess(Backend backend, long latencyNanos) {
+        backend.onSuccess(nanoClock.getAsLong(), latencyNanos);
+    }
+
+    public void onFailure(Backend backend, long latencyNanos) {
+        long now = nanoClock.getAsLong();
+        if (backend.onFailure(now, latencyNanos) < ejectAfter) {
+            return;
+        }
+        synchronized (this) {
+            if (!backend.isEjected() && available() > 1) {
+                backend.eject(now, ejectionNanos, maxEjectionNanos);
+            }
+        }
+    }
+
+    public void onCancelled(Backend backend) {
+        backend.onCancelled();
+    }
+
+    private int available() {
+        int available = 0;
+        for (Backend backend : backends) {
+            if (!backend.isEjected()) available++;
+        }
+        return available;
+    }
+
+    /**
+     * Sends a probe to every ejected replica whose window has passed. Any answer
+     * below 500 brings it back; anything else ejects it again for longer.
+     *
+     * @param probe sends a lightweight request to a base URL and yields the status
+     */
+    void probeEjected(Function<String, CompletableFuture<Integer>> probe) {
+        long now = nanoClock.getAsLong();
+        for (Backend backend : backends) {
+            if (!backend.claimProbe(now)) continue;
+
+            CompletableFuture<Integer> result;
+            try {
+                result = probe.apply(backend.baseUrl());
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            result.whenComplete((status, err) -> {
+                if (err == null && status < 500) {
+                    backend.readmit();
+                } else {
+                    synchronized (this) {
+                        backend.eject(nanoClock.getAsLong(), ejectionNanos, maxEjectionNanos);
+                    }
+                }
+            });
+        }
+    }
+
+    public synchronized void startProbing(Function<String, CompletableFuture<Integer>> probe, Duration interval) {
+        if (prober != null || backends.size() < 2) return;
+
+        prober = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "craftalism-api-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(100L, interval.toMillis());
+        prober.scheduleWithFixedDelay(() -> probeEjected(probe), millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (prober != null) {
+            prober.shutdownNow();
+            prober = null;
+        }
+    }
+
+    public List<Backend.Snapshot> snapshots() {
+        return backends.stream().map(Backend::snapshot).toList();
+    }
+}
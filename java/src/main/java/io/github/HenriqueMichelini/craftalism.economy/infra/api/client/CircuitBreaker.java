@@ -0,0 +1,133 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker for a single endpoint.
+ * <p>
+ * CLOSED lets everything through and counts consecutive failures. Once the
+ * threshold is hit the breaker goes OPEN and rejects calls until the open
+ * window has elapsed, then moves to HALF_OPEN and admits a limited number of
+ * probe calls: a successful probe closes the breaker, a failed one re-opens it.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public record Snapshot(String endpoint, State state, int consecutiveFailures, long rejected, long retryInMillis) {}
+
+    private final String endpoint;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int probesInFlight;
+    private long openedAt;
+    private long rejected;
+
+    public CircuitBreaker(String endpoint, int failureThreshold, Duration openDuration, int halfOpenProbes) {
+        this(endpoint, failureThreshold, openDuration, halfOpenProbes, System::nanoTime);
+    }
+
+    CircuitBreaker(String endpoint, int failureThreshold, Duration openDuration, int halfOpenProbes, LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be >= 1");
+        }
+        if (halfOpenProbes < 1) {
+            throw new IllegalArgumentException("halfOpenProbes must be >= 1");
+        }
+        this.endpoint = endpoint;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return {@code true} if the call may proceed; callers that get {@code true}
+     * must report the outcome through {@link #onSuccess()}, {@link #onFailure()}
+     * or {@link #onCancelled()}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                rejected++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+
+        if (probesInFlight < halfOpenProbes) {
+            probesInFlight++;
+            return true;
+        }
+
+        rejected++;
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            probesInFlight = 0;
+        }
+    }
+
+    public synchronized void onFailure() {
+        switch (state) {
+            case HALF_OPEN -> open();
+            case CLOSED -> {
+                if (++consecutiveFailures >= failureThreshold) {
+                    open();
+                }
+            }
+            // calls admitted before the breaker opened may still be landing; ignore them
+            case OPEN -> { }
+        }
+    }
+
+    /**
+     * Reports an admitted call that was abandoned before it produced an outcome,
+     * returning its half-open probe slot without moving the breaker.
+     */
+    public synchronized void onCancelled() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized long retryInMillis() {
+        if (state != State.OPEN) return 0L;
+        long remaining = openNanos - (nanoClock.getAsLong() - openedAt);
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(endpoint, state, consecutiveFailures, rejected, retryInMillis());
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        probesInFlight = 0;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lazily creates one {@link CircuitBreaker} per endpoint template, so an outage
+ * on one route (e.g. transactions) does not fast-fail unrelated reads.
+ */
+public class CircuitBreakerRegistry {
+
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(15);
+    private static final int DEFAULT_HALF_OPEN_PROBES = 1;
+
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+
+    public CircuitBreakerRegistry() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION, DEFAULT_HALF_OPEN_PROBES);
+    }
+
+    public CircuitBreakerRegistry(int failureThreshold, Duration openDuration, int halfOpenProbes) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public CircuitBreaker forEndpoint(String endpoint) {
+        return breakers.computeIfAbsent(endpoint,
+                e -> new CircuitBreaker(e, failureThreshold, openDuration, halfOpenProbes));
+    }
+
+    public List<CircuitBreaker.Snapshot> snapshots() {
+        return breakers.values().stream()
+                .map(CircuitBreaker::snapshot)
+                .sorted(Comparator.comparing(CircuitBreaker.Snapshot::endpoint))
+                .toList();
+    }
+}
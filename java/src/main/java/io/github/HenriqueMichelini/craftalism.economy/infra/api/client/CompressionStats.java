@@ -0,0 +1,73 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint response byte counters: what crossed the wire versus what it
+ * decoded to, so the effect of content encoding can be read per route.
+ */
+public class CompressionStats {
+
+    public record Snapshot(String endpoint, long responses, long wireBytes, long decodedBytes) {
+        /**
+         * @return decoded bytes per wire byte, {@code 1.0} when nothing was compressed
+         */
+        public double ratio() {
+            return wireBytes == 0 ? 1.0 : (double) decodedBytes / wireBytes;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Counters> byEndpoint = new ConcurrentHashMap<>();
+
+    public DecompressingBodyHandler.Sink sinkFor(String endpoint) {
+        Counters counters = byEndpoint.computeIfAbsent(endpoint, e -> new Counters());
+        return counters::record;
+    }
+
+    public List<Snapshot> snapshots() {
+        return byEndpoint.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(Comparator.comparing(Snapshot::endpoint))
+                .toList();
+    }
+
+    /**
+     * @return one view over several clients, e.g. every shard, with each endpoint's bytes summed
+     */
+    public static List<Snapshot> merge(List<CompressionStats> all) {
+        if (all.size() == 1) {
+            return all.getFirst().snapshots();
+        }
+        CompressionStats merged = new CompressionStats();
+        for (CompressionStats stats : all) {
+            stats.byEndpoint.forEach((endpoint, counters) -> counters.addTo(merged.byEndpoint
+                    .computeIfAbsent(endpoint, e -> new Counters())));
+        }
+        return merged.snapshots();
+    }
+
+    private static final class Counters {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder wire = new LongAdder();
+        private final LongAdder decoded = new LongAdder();
+
+        void record(long wireBytes, long decodedBytes) {
+            responses.increment();
+            wire.add(wireBytes);
+            decoded.add(decodedBytes);
+        }
+
+        void addTo(Counters into) {
+            into.responses.add(responses.sum());
+            into.wire.add(wire.sum());
+            into.decoded.add(decoded.sum());
+        }
+
+        Snapshot snapshot(String endpoint) {
+            return new Snapshot(endpoint, responses.sum(), wire.sum(), decoded.sum());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opens backend connections before the first player needs them and keeps them
+ * hot with a periodic lightweight {@code HEAD} ping.
+ * <p>
+ * Any HTTP status counts as a live connection; only transport errors are
+ * failures. Pings go straight to the HTTP client and bypass the limiter,
+ * breakers and retries, so they never compete with player traffic.
+ */
+public class ConnectionWarmer {
+
+    public record Snapshot(long handshakeMillis, long lastRttMillis, long pings, long failures, boolean keepAlive) {}
+
+    private final HttpClientService http;
+    private final String pingPath;
+
+    private final AtomicLong handshakeMillis = new AtomicLong(-1);
+    private final AtomicLong lastRttMillis = new AtomicLong(-1);
+    private final LongAdder pings = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> keepAlive;
+
+    public ConnectionWarmer(HttpClientService http, String pingPath) {
+        this.http = http;
+        this.pingPath = pingPath;
+    }
+
+    /**
+     * Sends {@code connections} concurrent pings. Every one of them waits for the
+     * TCP/TLS/HTTP2 setup, so the latency of the first to answer is recorded as
+     * the handshake time. Zero connections skips the warm-up.
+     *
+     * @return completes once every ping has answered or failed; never fails itself
+     */
+    public CompletableFuture<Void> warmUp(int connections) {
+        List<CompletableFuture<Long>> warmups = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            warmups.add(ping());
+        }
+
+        return CompletableFuture.allOf(warmups.toArray(new CompletableFuture[0]))
+                .handle((v, err) -> {
+                    warmups.stream()
+                            .filter(f -> !f.isCompletedExceptionally())
+                            .mapToLong(CompletableFuture::join)
+                            .min()
+                            .ifPresent(handshakeMillis::set);
+                    return null;
+                });
+    }
+
+    public synchronized void startKeepAlive(Duration interval) {
+        if (keepAlive != null) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "craftalism-api-keepalive");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(1_000L, interval.toMillis());
+        keepAlive = scheduler.scheduleAtFixedRate(this::ping, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (keepAlive != null) {
+            keepAlive.cancel(false);
+            keepAlive = null;
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * @return the round-trip time in milliseconds, or a failed future on transport errors
+     */
+    public CompletableFuture<Long> ping() {
+        long start = System.nanoTime();
+        pings.increment();
+
+        return http.ping(pingPath)
+                .handle((status, err) -> {
+                    if (err != null) {
+                        failures.increment();
+                        throw err instanceof RuntimeException re ? re : new IllegalStateException(err);
+                    }
+                    long rtt = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    lastRttMillis.set(rtt);
+                    return rtt;
+                });
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(handshakeMillis.get(), lastRttMillis.get(), pings.sum(), failures.sum(), keepAlive != null);
+    }
+}
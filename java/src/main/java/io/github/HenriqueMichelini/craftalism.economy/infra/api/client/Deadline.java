@@ -0,0 +1,87 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * End-to-end time budget for one operation, handed down every call it makes.
+ * Each hop gets the smaller of its own timeout and what is left of the budget,
+ * so a chain of sequential calls is bounded by the operation's deadline rather
+ * than by the sum of per-request timeouts.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE, System::nanoTime);
+    private static final Duration MIN_HOP = Duration.ofMillis(1);
+    private static final Duration UNBOUNDED = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+
+    private final long deadlineNanos;
+    private final LongSupplier nanoClock;
+
+    Deadline(long deadlineNanos, LongSupplier nanoClock) {
+        this.deadlineNanos = deadlineNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public static Deadline after(Duration budget) {
+        return after(budget, System::nanoTime);
+    }
+
+    static Deadline after(Duration budget, LongSupplier nanoClock) {
+        long now = nanoClock.getAsLong();
+        long end = now + Math.max(0L, budget.toNanos());
+        // saturate instead of wrapping around for very long budgets
+        return new Deadline(end < now ? Long.MAX_VALUE : end, nanoClock);
+    }
+
+    /**
+     * @return a deadline that never expires; every hop keeps its own timeout
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public boolean isBounded() {
+        return deadlineNanos != Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return isBounded() && deadlineNanos - nanoClock.getAsLong() <= 0;
+    }
+
+    public Duration remaining() {
+        if (!isBounded()) {
+            return UNBOUNDED;
+        }
+        return Duration.ofNanos(Math.max(0L, deadlineNanos - nanoClock.getAsLong()));
+    }
+
+    /**
+     * @return whichever of the two runs out first, e.g. for one bulk request carrying several operations
+     */
+    public Deadline earlierOf(Deadline other) {
+        if (!isBounded()) return other;
+        if (!other.isBounded()) return this;
+        return deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+
+    /**
+     * @return the timeout for the next hop: {@code perHop}, or less if the budget is nearly spent.
+     * Never below a millisecond, since HTTP timeouts must be positive.
+     */
+    public Duration cap(Duration perHop) {
+        if (!isBounded()) {
+            return perHop;
+        }
+        Duration left = remaining();
+        if (left.compareTo(MIN_HOP) < 0) {
+            return MIN_HOP;
+        }
+        return left.compareTo(perHop) < 0 ? left : perHop;
+    }
+
+    @Override
+    public String toString() {
+        return isBounded() ? "Deadline[" + remaining().toMillis() + "ms left]" : "Deadline[none]";
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * The text view of a response read with {@link DecompressingBodyHandler#decoded}.
+ * Binary bodies stay bytes for {@link WireFormat#binaryBody(HttpResponse)}; they
+ * only become text if something asks for {@link #body()}, such as an error
+ * message preview.
+ */
+final class DecodedResponse implements HttpResponse<String>, WireFormat.RawBody {
+
+    private final HttpResponse<DecompressingBodyHandler.Decoded> delegate;
+    private volatile String text;
+
+    DecodedResponse(HttpResponse<DecompressingBodyHandler.Decoded> delegate) {
+        this.delegate = delegate;
+        this.text = delegate.body().text();
+    }
+
+    @Override
+    public String body() {
+        String body = text;
+        if (body == null) {
+            body = new String(delegate.body().binary(), StandardCharsets.ISO_8859_1);
+            text = body;
+        }
+        return body;
+    }
+
+    @Override
+    public byte[] binaryBody() {
+        return delegate.body().binary();
+    }
+
+    @Override
+    public int statusCode() {
+        return delegate.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+        return delegate.request();
+    }
+
+    @Override
+    public Optional<HttpResponse<String>> previousResponse() {
+        return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return delegate.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+        return delegate.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+        return delegate.version();
+    }
+}
@@ -0,0 +1,376 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * String body handler that understands {@code gzip} and {@code deflate}
+ * content encodings. Chunks are inflated as they arrive from the wire, so the
+ * compressed body is never buffered as a whole.
+ * <p>
+ * {@link #decoded(Sink)} does the same but keeps bodies in the compact binary
+ * format as the bytes they arrived as, for {@link BinaryDtoCodec} to read.
+ * <p>
+ * Every completed body reports its wire (compressed) and decoded byte counts to
+ * the given {@link Sink}. A body that decodes to more than
+ * {@link #MAX_DECODED_BYTES} fails, so a few KiB of gzip cannot expand into
+ * gigabytes on the heap.
+ */
+public final class DecompressingBodyHandler implements HttpResponse.BodyHandler<String> {
+
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+    public static final long MAX_DECODED_BYTES = 64L * 1024 * 1024;
+
+    @FunctionalInterface
+    public interface Sink {
+        void record(long wireBytes, long decodedBytes);
+    }
+
+    /**
+     * A body as {@link #decoded(Sink)} hands it over: exactly one of
+     * {@code text} and {@code binary} is set.
+     */
+    public record Decoded(String text, byte[] binary) {
+        @Override
+        public String toString() {
+            return text != null ? text : "<" + binary.length + " bytes of binary>";
+        }
+    }
+
+    private final Sink sink;
+    private final long maxDecodedBytes;
+
+    public DecompressingBodyHandler(Sink sink) {
+        this(sink, MAX_DECODED_BYTES);
+    }
+
+    DecompressingBodyHandler(Sink sink, long maxDecodedBytes) {
+        this.sink = sink;
+        this.maxDecodedBytes = maxDecodedBytes;
+    }
+
+    /**
+     * Like {@code new DecompressingBodyHandler(sink)}, but a body in the binary
+     * wire format is handed over as bytes instead of being turned into text.
+     */
+    public static HttpResponse.BodyHandler<Decoded> decoded(Sink sink) {
+        return info -> {
+            String contentType = info.headers().firstValue("Content-Type").orElse("");
+            if (BinaryDtoCodec.isBinary(contentType)) {
+                return subscriber(info, sink, MAX_DECODED_BYTES, out -> new Decoded(null, out.toByteArray()));
+            }
+            Charset charset = charsetOf(contentType);
+            return subscriber(info, sink, MAX_DECODED_BYTES, out -> new Decoded(out.toString(charset), null));
+        };
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<String> apply(HttpResponse.ResponseInfo info) {
+        String contentType = info.headers().firstValue("Content-Type").orElse("");
+        // binary bodies map byte-for-byte onto Latin-1 chars; decoded(Sink) keeps them as bytes instead
+        Charset charset = BinaryDtoCodec.isBinary(contentType) ? StandardCharsets.ISO_8859_1 : charsetOf(contentType);
+        return subscriber(info, sink, maxDecodedBytes, out -> out.toString(charset));
+    }
+
+    private static <T> HttpResponse.BodySubscriber<T> subscriber(HttpResponse.ResponseInfo info, Sink sink,
+                                                                 long maxDecodedBytes,
+                                                                 Function<ByteArrayOutputStream, T> finish) {
+        String encoding = info.headers().firstValue("Content-Encoding")
+                .orElse("identity")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new InflatingSubscriber<>(Format.GZIP, finish, sink, maxDecodedBytes);
+            case "deflate" -> new InflatingSubscriber<>(Format.DEFLATE, finish, sink, maxDecodedBytes);
+            case "identity", "" -> new InflatingSubscriber<>(Format.IDENTITY, finish, sink, maxDecodedBytes);
+            default -> new FailingSubscriber<>(new IOException("Unsupported Content-Encoding: " + encoding));
+        };
+    }
+
+    static Charset charsetOf(String contentType) {
+        for (String param : contentType.split(";")) {
+            String trimmed = param.trim();
+            if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(trimmed.substring(8).replace("\"", "").trim());
+                } catch (IllegalArgumentException ignored) {
+                    // fall through to the JSON default
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private enum Format { IDENTITY, GZIP, DEFLATE }
+
+    private static final class InflatingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private static final int GZIP_MAGIC = 0x8b1f;
+        private static final int FHCRC = 2;
+        private static final int FEXTRA = 4;
+        private static final int FNAME = 8;
+        private static final int FCOMMENT = 16;
+
+        private final Format format;
+        private final Function<ByteArrayOutputStream, T> finish;
+        private final Sink sink;
+        private final long maxDecodedBytes;
+        private final CompletableFuture<T> body = new CompletableFuture<>();
+        private final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        private final byte[] chunk = new byte[8 * 1024];
+        private final CRC32 crc = new CRC32();
+
+        private Inflater inflater;
+        // gzip header/trailer bytes are parsed from this small carry-over buffer
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private boolean headerDone;
+        private long wireBytes;
+        private Flow.Subscription subscription;
+
+        private InflatingSubscriber(Format format, Function<ByteArrayOutputStream, T> finish, Sink sink,
+                                    long maxDecodedBytes) {
+            this.format = format;
+            this.finish = finish;
+            this.sink = sink;
+            this.maxDecodedBytes = maxDecodedBytes;
+            this.headerDone = format != Format.GZIP;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            // a chunk already in flight when the body failed must not touch the ended inflater
+            if (body.isDone()) return;
+            try {
+                for (ByteBuffer item : items) {
+                    wireBytes += item.remaining();
+                    accept(item);
+                }
+            } catch (IOException | DataFormatException e) {
+                subscription.cancel();
+                fail(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (body.isDone()) return;
+            try {
+                // 204/304 and HEAD answers may carry Content-Encoding without any body
+                boolean empty = wireBytes == 0;
+                if (format != Format.IDENTITY && !empty && (inflater == null || !inflater.finished())) {
+                    throw new IOException("Truncated " + format.name().toLowerCase(Locale.ROOT) + " body");
+                }
+                if (format == Format.GZIP && !empty) {
+                    verifyTrailer();
+                }
+                sink.record(wireBytes, decoded.size());
+                body.complete(finish.apply(decoded));
+            } catch (IOException e) {
+                fail(e);
+            } finally {
+                end();
+            }
+        }
+
+        private void accept(ByteBuffer item) throws IOException, DataFormatException {
+            if (format == Format.IDENTITY) {
+                writeTo(decoded, item);
+                checkDecodedSize();
+                return;
+            }
+
+            if (!headerDone) {
+                writeTo(pending, item);
+                if (!tryParseGzipHeader()) return;
+                item = ByteBuffer.wrap(drainPending());
+            }
+
+            if (inflater != null && inflater.finished()) {
+                writeTo(pending, item);
+                return;
+            }
+
+            if (inflater == null) {
+                if (format == Format.DEFLATE && !item.hasRemaining()) return;
+                inflater = new Inflater(format == Format.GZIP || !looksLikeZlib(item));
+            }
+
+            inflater.setInput(item);
+            while (!inflater.finished() && !inflater.needsInput()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && inflater.needsDictionary()) {
+                    throw new IOException("Deflate stream requires a preset dictionary");
+                }
+                decoded.write(chunk, 0, n);
+                checkDecodedSize();
+                if (format == Format.GZIP) {
+                    crc.update(chunk, 0, n);
+                }
+            }
+            if (inflater.finished() && item.hasRemaining()) {
+                // anything after the deflate stream is the gzip trailer
+                writeTo(pending, item);
+            }
+        }
+
+        private void checkDecodedSize() throws IOException {
+            if (decoded.size() > maxDecodedBytes) {
+                throw new IOException("Decoded body exceeds " + maxDecodedBytes + " bytes");
+            }
+        }
+
+        // returns false until the whole variable-length header has arrived
+        private boolean tryParseGzipHeader() throws IOException {
+            byte[] buf = pending.toByteArray();
+            if (buf.length < 10) return false;
+
+            if ((readShort(buf, 0)) != GZIP_MAGIC) throw new IOException("Not in gzip format");
+            if (buf[2] != 8) throw new IOException("Unsupported gzip compression method " + buf[2]);
+
+            int flags = buf[3] & 0xff;
+            int pos = 10;
+            if ((flags & FEXTRA) != 0) {
+                if (buf.length < pos + 2) return false;
+                pos += 2 + readShort(buf, pos);
+            }
+            if ((flags & FNAME) != 0) {
+                pos = skipZeroTerminated(buf, pos);
+            }
+            if ((flags & FCOMMENT) != 0) {
+                pos = skipZeroTerminated(buf, pos);
+            }
+            if ((flags & FHCRC) != 0) {
+                pos += 2;
+            }
+            if (pos < 0 || buf.length < pos) return false;
+
+            pending.reset();
+            pending.write(buf, pos, buf.length - pos);
+            headerDone = true;
+            return true;
+        }
+
+        private void verifyTrailer() throws IOException {
+            byte[] trailer = pending.toByteArray();
+            if (trailer.length < 8) throw new IOException("Truncated gzip trailer");
+
+            long expectedCrc = readInt(trailer, 0);
+            long expectedSize = readInt(trailer, 4);
+            if (expectedCrc != crc.getValue()) throw new IOException("Corrupt gzip body (CRC mismatch)");
+            if (expectedSize != (decoded.size() & 0xffffffffL)) throw new IOException("Corrupt gzip body (size mismatch)");
+        }
+
+        private byte[] drainPending() {
+            byte[] bytes = pending.toByteArray();
+            pending.reset();
+            return bytes;
+        }
+
+        private void fail(Throwable error) {
+            end();
+            body.completeExceptionally(error);
+        }
+
+        private void end() {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+
+        private static boolean looksLikeZlib(ByteBuffer item) {
+            if (item.remaining() < 2) return true;
+            int cmf = item.get(item.position()) & 0xff;
+            int flg = item.get(item.position() + 1) & 0xff;
+            // servers disagree on whether "deflate" means zlib-wrapped or raw; sniff the header
+            return (cmf & 0x0f) == 8 && ((cmf << 8) | flg) % 31 == 0;
+        }
+
+        private static void writeTo(ByteArrayOutputStream out, ByteBuffer item) {
+            if (item.hasArray()) {
+                out.write(item.array(), item.arrayOffset() + item.position(), item.remaining());
+                item.position(item.limit());
+            } else {
+                byte[] copy = new byte[item.remaining()];
+                item.get(copy);
+                out.write(copy, 0, copy.length);
+            }
+        }
+
+        private static int skipZeroTerminated(byte[] buf, int pos) {
+            if (pos < 0) return pos;
+            for (int i = pos; i < buf.length; i++) {
+                if (buf[i] == 0) return i + 1;
+            }
+            return -1;
+        }
+
+        private static int readShort(byte[] buf, int pos) {
+            return (buf[pos] & 0xff) | ((buf[pos + 1] & 0xff) << 8);
+        }
+
+        private static long readInt(byte[] buf, int pos) {
+            return ((long) readShort(buf, pos) | ((long) readShort(buf, pos + 2) << 16)) & 0xffffffffL;
+        }
+    }
+
+    private static final class FailingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private final CompletableFuture<T> body;
+
+        private FailingSubscriber(IOException error) {
+            this.body = CompletableFuture.failedFuture(error);
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint traffic figures: a latency histogram, responses by status
+ * code, transport failures, requests on the wire right now and bytes sent and
+ * received. Latency is measured from handing the request to the transport to
+ * the body being fully read, so it is the backend plus the network, not time
+ * spent queued in the limiter or rate limits.
+ */
+public class EndpointMetrics {
+
+    public record Snapshot(String endpoint, LatencyHistogram.Snapshot latency, Map<Integer, Long> statuses,
+                           long errors, int inFlight, long bytesOut, long bytesIn) {
+
+        public long requests() {
+            return latency.count();
+        }
+    }
+
+    private final ConcurrentHashMap<String, Endpoint> byEndpoint = new ConcurrentHashMap<>();
+
+    public Endpoint forEndpoint(String endpoint) {
+        return byEndpoint.computeIfAbsent(endpoint, e -> new Endpoint());
+    }
+
+    public List<Snapshot> snapshots() {
+        return byEndpoint.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(Comparator.comparing(Snapshot::endpoint))
+                .toList();
+    }
+
+    /**
+     * @return one view over several clients, e.g. every shard, with histograms merged bucket by bucket
+     */
+    public static List<Snapshot> merge(List<EndpointMetrics> all) {
+        if (all.size() == 1) {
+            return all.getFirst().snapshots();
+        }
+        EndpointMetrics merged = new EndpointMetrics();
+        for (EndpointMetrics metrics : all) {
+            metrics.byEndpoint.forEach((endpoint, counters) -> counters.addTo(merged.forEndpoint(endpoint)));
+        }
+        return merged.snapshots();
+    }
+
+    public static final class Endpoint {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final ConcurrentHashMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+
+        void started(long requestBytes) {
+            inFlight.incrementAndGet();
+            bytesOut.add(Math.max(0, requestBytes));
+        }
+
+        void received(long wireBytes) {
+            bytesIn.add(wireBytes);
+        }
+
+        /**
+         * @param cancelled the losing leg of a hedge; it leaves the gauge but is not a sample
+         */
+        void finished(HttpResponse<?> resp, Throwable err, long latencyNanos, boolean cancelled) {
+            inFlight.decrementAndGet();
+            if (cancelled) return;
+
+            latency.record(latencyNanos);
+            if (resp != null) {
+                statuses.computeIfAbsent(resp.statusCode(), s -> new LongAdder()).increment();
+            } else if (err != null) {
+                errors.increment();
+            }
+        }
+
+        private void addTo(Endpoint target) {
+            latency.addTo(target.latency);
+            statuses.forEach((status, count) ->
+                    target.statuses.computeIfAbsent(status, s -> new LongAdder()).add(count.sum()));
+            target.errors.add(errors.sum());
+            target.inFlight.addAndGet(inFlight.get());
+            target.bytesOut.add(bytesOut.sum());
+            target.bytesIn.add(bytesIn.sum());
+        }
+
+        Snapshot snapshot(String endpoint) {
+            Map<Integer, Long> byStatus = new TreeMap<>();
+            statuses.forEach((status, count) -> byStatus.put(status, count.sum()));
+            return new Snapshot(endpoint, latency.snapshot(), Collections.unmodifiableMap(byStatus), errors.sum(),
+                    inFlight.get(), bytesOut.sum(), bytesIn.sum());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.util.regex.Pattern;
+
+/**
+ * Collapses concrete request paths into endpoint templates, so per-endpoint
+ * state (breakers, stats) is keyed by route instead of by player.
+ * <p>
+ * {@code GET /api/balances/6f1c...e2/withdraw?amount=5} becomes
+ * {@code GET /api/balances/{uuid}/withdraw}.
+ */
+public final class Endpoints {
+
+    private static final Pattern UUID_SEGMENT = Pattern.compile(
+            "/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+    private static final Pattern NAME_SEGMENT = Pattern.compile("/name/[^/]+");
+
+    private Endpoints() {}
+
+    public static String template(String method, String path) {
+        return method + " " + template(path);
+    }
+
+    public static String template(String path) {
+        int query = path.indexOf('?');
+        String route = query >= 0 ? path.substring(0, query) : path;
+
+        route = UUID_SEGMENT.matcher(route).replaceAll("/{uuid}");
+        route = NAME_SEGMENT.matcher(route).replaceAll("/name/{name}");
+        return route;
+    }
+}
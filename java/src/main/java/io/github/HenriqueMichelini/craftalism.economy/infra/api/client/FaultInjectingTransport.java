@@ -0,0 +1,86 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps another transport and injects the faults a {@link FaultInjector}
+ * prescribes: added latency, synthetic error statuses, answers that are lost
+ * after the backend acted on the request, and requests that never get out.
+ * <p>
+ * It sits below the whole client, so timeouts, retries, breakers, hedging and
+ * the callers' rollback paths see exactly what a failing backend would give
+ * them. Lost and stuck calls never get an answer; like the real transports,
+ * the request's own timeout is what ends them.
+ */
+public final class FaultInjectingTransport implements Transport {
+
+    private static final byte[] ERROR_BODY = "{\"error\":\"injected fault\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Transport delegate;
+    private final FaultInjector faults;
+
+    public FaultInjectingTransport(Transport delegate, FaultInjector faults) {
+        this.delegate = delegate;
+        this.faults = faults;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        if (!faults.isEnabled()) {
+            return delegate.send(request, handler);
+        }
+
+        FaultInjector.Decision decision = faults.decide(request.method(), Endpoints.template(request.uri().getRawPath()));
+        if (decision == FaultInjector.Decision.PASS) {
+            return delegate.send(request, handler);
+        }
+
+        CompletableFuture<Void> delay = decision.delayMillis() > 0
+                ? CompletableFuture.runAsync(() -> {}, ApiExecutor.delayed(decision.delayMillis(), TimeUnit.MILLISECONDS))
+                : CompletableFuture.completedFuture(null);
+
+        if (decision.timeout()) {
+            return stuck(request);
+        }
+        if (decision.status() != 0) {
+            return delay.thenCompose(ignored -> TransportSupport.respond(request, handler, decision.status(),
+                    errorHeaders(decision.status()), ERROR_BODY));
+        }
+        CompletableFuture<HttpResponse<T>> sent = delay.thenCompose(ignored -> delegate.send(request, handler));
+        if (decision.drop()) {
+            // the backend still gets and applies the request; only its answer goes missing
+            return stuck(request);
+        }
+        return sent;
+    }
+
+    private static <T> CompletableFuture<T> stuck(HttpRequest request) {
+        CompletableFuture<T> never = new CompletableFuture<>();
+        request.timeout().ifPresent(t -> never.orTimeout(t.toMillis(), TimeUnit.MILLISECONDS));
+        return never;
+    }
+
+    private static HttpHeaders errorHeaders(int status) {
+        Map<String, List<String>> headers = status == 429
+                ? Map.of("Content-Type", List.of("application/json"), "Retry-After", List.of("1"))
+                : Map.of("Content-Type", List.of("application/json"));
+        return HttpHeaders.of(headers, (name, value) -> true);
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
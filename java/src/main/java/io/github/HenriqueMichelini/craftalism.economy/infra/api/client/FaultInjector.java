@@ -0,0 +1,154 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chaos settings shared by every {@link FaultInjectingTransport} of the plugin,
+ * so one config change or admin command reaches every shard at once.
+ * <p>
+ * A {@link Rule} is looked up by endpoint ({@code POST /api/balances/{uuid}/deposit}),
+ * then by route for any method ({@code /api/balances/{uuid}/deposit}), then
+ * under {@code *}. While disabled, which is the default, the transports pass
+ * every call straight through.
+ */
+public final class FaultInjector {
+
+    public static final String ANY = "*";
+
+    /**
+     * What to do to the calls one rule matches. Rates are independent
+     * probabilities per call, checked in order: timeout, error, drop.
+     *
+     * @param latencyMedianMs median of the added latency; {@code 0} adds none
+     * @param latencyP99Ms    99th percentile of the added latency; the spread is log-normal
+     * @param errorRate       share of calls answered with one of {@code errorStatuses} without reaching the backend
+     * @param dropRate        share of calls that reach the backend but whose answer never arrives
+     * @param timeoutRate     share of calls that never reach the backend and never answer
+     */
+    public record Rule(double latencyMedianMs, double latencyP99Ms, double errorRate, List<Integer> errorStatuses,
+                       double dropRate, double timeoutRate) {
+
+        public static final Rule NONE = new Rule(0, 0, 0, List.of(503), 0, 0);
+
+        public Rule {
+            latencyMedianMs = Math.max(0, latencyMedianMs);
+            latencyP99Ms = Math.max(latencyMedianMs, latencyP99Ms);
+            errorRate = clamp(errorRate);
+            errorStatuses = errorStatuses.isEmpty() ? List.of(503) : List.copyOf(errorStatuses);
+            dropRate = clamp(dropRate);
+            timeoutRate = clamp(timeoutRate);
+        }
+
+        public Rule withLatency(double medianMs, double p99Ms) {
+            return new Rule(medianMs, p99Ms, errorRate, errorStatuses, dropRate, timeoutRate);
+        }
+
+        public Rule withErrors(double rate, List<Integer> statuses) {
+            return new Rule(latencyMedianMs, latencyP99Ms, rate, statuses, dropRate, timeoutRate);
+        }
+
+        public Rule withDrops(double rate) {
+            return new Rule(latencyMedianMs, latencyP99Ms, errorRate, errorStatuses, rate, timeoutRate);
+        }
+
+        public Rule withTimeouts(double rate) {
+            return new Rule(latencyMedianMs, latencyP99Ms, errorRate, errorStatuses, dropRate, rate);
+        }
+    }
+
+    /**
+     * The fault picked for one call.
+     *
+     * @param delayMillis latency to add before sending, or before answering with {@code status}
+     * @param status      synthetic status to answer with instead of sending, or {@code 0}
+     */
+    record Decision(long delayMillis, int status, boolean drop, boolean timeout) {
+        static final Decision PASS = new Decision(0, 0, false, false);
+    }
+
+    public record Snapshot(boolean enabled, Map<String, Rule> rules, long delayed, long errors, long dropped,
+                           long timedOut) {}
+
+    // z-score of the 99th percentile of a standard normal
+    private static final double Z_99 = 2.326;
+
+    private volatile boolean enabled;
+    private volatile Map<String, Rule> rules = Map.of();
+
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public void configure(boolean enabled, Map<String, Rule> rules) {
+        this.rules = Map.copyOf(rules);
+        this.enabled = enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Adds or replaces the rule for one endpoint, route or {@link #ANY}.
+     */
+    public synchronized void setRule(String key, Rule rule) {
+        Map<String, Rule> next = new LinkedHashMap<>(rules);
+        next.put(key, rule);
+        rules = Map.copyOf(next);
+    }
+
+    public Rule ruleFor(String key) {
+        return rules.getOrDefault(key, Rule.NONE);
+    }
+
+    Decision decide(String method, String route) {
+        Map<String, Rule> current = rules;
+        Rule rule = current.get(method + " " + route);
+        if (rule == null) rule = current.get(route);
+        if (rule == null) rule = current.get(ANY);
+        if (rule == null) return Decision.PASS;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latency(rule, random);
+        if (delay > 0) delayed.increment();
+
+        if (random.nextDouble() < rule.timeoutRate()) {
+            timedOut.increment();
+            return new Decision(delay, 0, false, true);
+        }
+        if (random.nextDouble() < rule.errorRate()) {
+            errors.increment();
+            List<Integer> statuses = rule.errorStatuses();
+            return new Decision(delay, statuses.get(random.nextInt(statuses.size())), false, false);
+        }
+        if (random.nextDouble() < rule.dropRate()) {
+            dropped.increment();
+            return new Decision(delay, 0, true, false);
+        }
+        return delay > 0 ? new Decision(delay, 0, false, false) : Decision.PASS;
+    }
+
+    private static long latency(Rule rule, ThreadLocalRandom random) {
+        if (rule.latencyMedianMs() <= 0) return 0;
+        // log-normal through the configured median and p99: a few slow outliers, like real backends
+        double sigma = Math.log(rule.latencyP99Ms() / rule.latencyMedianMs()) / Z_99;
+        return Math.round(rule.latencyMedianMs() * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(enabled, rules, delayed.sum(), errors.sum(), dropped.sum(), timedOut.sum());
+    }
+
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+}
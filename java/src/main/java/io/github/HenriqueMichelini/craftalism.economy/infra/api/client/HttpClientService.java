@@ -1,78 +1,466 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
 
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiTimeoutException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.CircuitOpenException;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.*;
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class HttpClientService {
 
-    private final HttpClient http;
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Transport transport;
+    private final BackendPool backends;
     private final String baseUrl;
+    private final RequestCoalescer<HttpResponse<String>> getCoalescer = new RequestCoalescer<>();
+    private final CircuitBreakerRegistry breakers = new CircuitBreakerRegistry();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter();
+    private final RateLimiterRegistry rateLimits = new RateLimiterRegistry();
+    private final ValidatorCache validators = new ValidatorCache();
+    private final CompressionStats compression = new CompressionStats();
+    private final EndpointMetrics metrics = new EndpointMetrics();
+    private final RequestLog requestLog = RequestLog.shared();
+    private final RetryPolicy retryPolicy;
+    private final RequestHedger hedger;
+    private final WireFormat wireFormat;
+    // identical on every request, so built once and handed to the builder in one call
+    private final String[] headers;
 
     public HttpClientService(String baseUrl) {
-        this.http = HttpClient.newBuilder()
-                .version(HttpClient.Version.HTTP_2)
-                .connectTimeout(Duration.ofSeconds(5))
-                .build();
-        this.baseUrl = baseUrl;
+        this(baseUrl, new RetryPolicy());
+    }
+
+    public HttpClientService(String baseUrl, RetryPolicy retryPolicy) {
+        this(baseUrl, retryPolicy, RequestHedger.disabled());
     }
 
-    private HttpRequest.Builder request(String path) {
+    public HttpClientService(String baseUrl, RetryPolicy retryPolicy, RequestHedger hedger) {
+        this(baseUrl, retryPolicy, hedger, new HttpTransport());
+    }
+
+    public HttpClientService(String baseUrl, RetryPolicy retryPolicy, RequestHedger hedger, Transport transport) {
+        this(baseUrl, retryPolicy, hedger, transport, WireFormat.JSON);
+    }
+
+    public HttpClientService(String baseUrl, RetryPolicy retryPolicy, RequestHedger hedger, Transport transport,
+                             WireFormat wireFormat) {
+        this(BackendPool.single(baseUrl), retryPolicy, hedger, transport, wireFormat);
+    }
+
+    public HttpClientService(BackendPool backends, RetryPolicy retryPolicy, RequestHedger hedger, Transport transport,
+                             WireFormat wireFormat) {
+        this.transport = transport;
+        this.backends = backends;
+        // requests are built against the primary and re-targeted per attempt, so caches key on one URL
+        this.baseUrl = backends.primary();
+        this.retryPolicy = retryPolicy;
+        this.hedger = hedger;
+        this.wireFormat = wireFormat;
+        this.headers = new String[] {
+                "Content-Type", "application/json",
+                "Accept", wireFormat.accept(),
+                "Accept-Encoding", DecompressingBodyHandler.ACCEPT_ENCODING
+        };
+    }
+
+    private HttpRequest.Builder request(ApiPath path, Deadline deadline) {
         return HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl + path))
-                .timeout(Duration.ofSeconds(10))
-                .header("Content-Type", "application/json");
+                .uri(URI.create(baseUrl.concat(path.path())))
+                .timeout(deadline.cap(REQUEST_TIMEOUT))
+                .headers(headers);
     }
 
     public CompletableFuture<HttpResponse<String>> get(String path) {
-        return send(request(path).GET().build(), path);
+        return get(path, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<HttpResponse<String>> get(String path, RequestPriority priority) {
+        return get(path, priority, Deadline.none());
+    }
+
+    /**
+     * @param deadline budget left for the whole operation this call belongs to
+     */
+    public CompletableFuture<HttpResponse<String>> get(String path, RequestPriority priority, Deadline deadline) {
+        return get(ApiPath.of(path), priority, deadline);
+    }
+
+    /**
+     * Same as {@link #get(String, RequestPriority, Deadline)} for a path expanded from a {@link PathTemplate}.
+     */
+    public CompletableFuture<HttpResponse<String>> get(ApiPath path, RequestPriority priority, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.failedFuture(deadlineExceeded(path));
+        }
+        // identical GETs already on the wire share the same response; keyed per lane so
+        // an interactive call never ends up waiting behind a queued bulk one
+        CompletableFuture<HttpResponse<String>> shared = getCoalescer.coalesce(priority.name() + " " + path.path(),
+                () -> conditionalGet(path, priority));
+        // the shared request only gets the per-hop timeout, so whoever started it cannot cut
+        // short a caller with more budget; each caller's own deadline applies to its copy alone
+        return deadline.isBounded() ? withTimeoutHandling(path, deadline, shared) : shared;
+    }
+
+    private CompletableFuture<HttpResponse<String>> conditionalGet(ApiPath path, RequestPriority priority) {
+        String uri = baseUrl.concat(path.path());
+        ValidatorCache.Entry cached = validators.lookup(uri).orElse(null);
+
+        HttpRequest.Builder builder = request(path, Deadline.none()).GET();
+        if (cached != null) {
+            cached.applyTo(builder);
+        }
+
+        return send(builder.build(), path, priority, Deadline.none())
+                .thenApply(resp -> validators.update(uri, cached, resp));
+    }
+
+    /**
+     * GETs a listing and decodes its elements as the body streams in, see
+     * {@link JsonArrayBodyHandler}. Meant for listings that can grow large, so
+     * the text is never held: unchanged listings are still revalidated, with
+     * the validator cache keeping the decoded body instead. Concurrent calls
+     * are not coalesced; limits, breakers, retries and hedging apply as for
+     * {@link #get}.
+     */
+    public <E> CompletableFuture<HttpResponse<JsonArrayBodyHandler.Body<E>>> getArray(
+            ApiPath path, JsonArrayBodyHandler.Elements<E> elements, RequestPriority priority, Deadline deadline) {
+        // kept apart from plain GETs of the same URI, whose entries hold the text
+        String key = "[] ".concat(baseUrl).concat(path.path());
+        ValidatorCache.Entry cached = validators.lookup(key).orElse(null);
+
+        HttpRequest.Builder builder = request(path, deadline).GET();
+        if (cached != null) {
+            cached.applyTo(builder);
+        }
+
+        return send(builder.build(), path, priority, deadline, sink -> new JsonArrayBodyHandler<>(elements, sink))
+                .thenApply(resp -> validators.update(key, cached, resp, JsonArrayBodyHandler.Body::bytes));
     }
 
     public CompletableFuture<HttpResponse<String>> post(String path, String body) {
-        return send(request(path).POST(HttpRequest.BodyPublishers.ofString(body)).build(), path);
+        return post(path, body, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<HttpResponse<String>> post(String path, String body, RequestPriority priority) {
+        return post(path, body, priority, Deadline.none());
+    }
+
+    public CompletableFuture<HttpResponse<String>> post(String path, String body, RequestPriority priority,
+                                                        Deadline deadline) {
+        return post(ApiPath.of(path), body, priority, deadline);
+    }
+
+    public CompletableFuture<HttpResponse<String>> post(ApiPath path, String body, RequestPriority priority,
+                                                        Deadline deadline) {
+        return send(request(path, deadline).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                path, priority, deadline);
     }
 
     public CompletableFuture<HttpResponse<String>> put(String path, String body) {
-        return send(request(path).PUT(HttpRequest.BodyPublishers.ofString(body)).build(), path);
+        return put(path, body, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<HttpResponse<String>> put(String path, String body, RequestPriority priority) {
+        return put(path, body, priority, Deadline.none());
+    }
+
+    public CompletableFuture<HttpResponse<String>> put(String path, String body, RequestPriority priority,
+                                                       Deadline deadline) {
+        return put(ApiPath.of(path), body, priority, deadline);
+    }
+
+    public CompletableFuture<HttpResponse<String>> put(ApiPath path, String body, RequestPriority priority,
+                                                       Deadline deadline) {
+        return send(request(path, deadline).PUT(HttpRequest.BodyPublishers.ofString(body)).build(),
+                path, priority, deadline);
+    }
+
+    /**
+     * Bare {@code HEAD} used to open and keep connections alive; it skips the
+     * limiter, breakers and retries on purpose. Goes to every replica.
+     *
+     * @return the status code of the first replica that answers, whatever it is
+     */
+    CompletableFuture<Integer> ping(String path) {
+        if (backends.size() == 1) {
+            return ping(baseUrl, path);
+        }
+
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        List<CompletableFuture<Integer>> pings = backends.snapshots().stream()
+                .map(backend -> ping(backend.baseUrl(), path).whenComplete((status, err) -> {
+                    if (err == null) first.complete(status);
+                }))
+                .toList();
+        CompletableFuture.allOf(pings.toArray(new CompletableFuture[0]))
+                .whenComplete((v, err) -> {
+                    if (err != null) first.completeExceptionally(err);
+                });
+        return first;
+    }
+
+    /**
+     * Same as {@link #ping(String)} against one replica; used to probe ejected ones.
+     */
+    public CompletableFuture<Integer> ping(String backendUrl, String path) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(backendUrl + path))
+                .timeout(Duration.ofSeconds(5))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .build();
+        return transport.send(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    public RequestCoalescer<HttpResponse<String>> getCoalescer() {
+        return getCoalescer;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
     }
 
-    private CompletableFuture<HttpResponse<String>> send(HttpRequest request, String path) {
-        System.out.println("[HttpClient] -> " + request.uri());
-        return withTimeoutHandling(path,
-                http.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                        .whenComplete((resp, err) -> {
-                            if (resp != null) {
-                                System.out.println("[HttpClient] <- " + resp.statusCode()
-                                        + " : " + safePreview(resp.body()));
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public BackendPool getBackends() {
+        return backends;
+    }
+
+    public void close() {
+        backends.stop();
+        transport.close();
+    }
+
+    public ValidatorCache getValidatorCache() {
+        return validators;
+    }
+
+    public CompressionStats getCompressionStats() {
+        return compression;
+    }
+
+    public EndpointMetrics getEndpointMetrics() {
+        return metrics;
+    }
+
+    public RequestLog getRequestLog() {
+        return requestLog;
+    }
+
+    public CircuitBreakerRegistry getCircuitBreakers() {
+        return breakers;
+    }
+
+    public RateLimiterRegistry getRateLimits() {
+        return rateLimits;
+    }
+
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return limiter;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public RequestHedger getHedger() {
+        return hedger;
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request, ApiPath path, RequestPriority priority,
+                                                         Deadline deadline) {
+        // binary bodies stay bytes underneath the text view, see WireFormat#binaryBody
+        return send(request, path, priority, deadline, DecompressingBodyHandler::decoded)
+                .thenApply(DecodedResponse::new);
+    }
+
+    /**
+     * @param bodies builds each attempt's body handler around the sink that feeds compression stats and metrics
+     */
+    private <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, ApiPath path, RequestPriority priority,
+                                                        Deadline deadline,
+                                                        Function<DecompressingBodyHandler.Sink, HttpResponse.BodyHandler<T>> bodies) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.failedFuture(deadlineExceeded(path));
+        }
+        // keys breakers, hedging, compression stats and the request log for every attempt
+        String endpoint = path.endpoint(request.method());
+        // only idempotent calls are replayed; a POST may have been applied before it failed
+        if (IDEMPOTENT_METHODS.contains(request.method())) {
+            return retryPolicy.execute(hedgedAttempt(request, path, endpoint, priority, deadline, bodies),
+                    (resp, err) -> retryDelay(resp, err, deadline));
+        }
+        return attempt(request, path, endpoint, priority, deadline, null, bodies);
+    }
+
+    private <T> Supplier<CompletableFuture<HttpResponse<T>>> hedgedAttempt(
+            HttpRequest request, ApiPath path, String endpoint, RequestPriority priority, Deadline deadline,
+            Function<DecompressingBodyHandler.Sink, HttpResponse.BodyHandler<T>> bodies) {
+        if (!"GET".equals(request.method()) || !hedger.isEnabled()) {
+            return () -> attempt(request, path, endpoint, priority, deadline, null, bodies);
+        }
+        return () -> hedger.hedge(endpoint,
+                cancel -> attempt(request, path, endpoint, priority, deadline, cancel, bodies));
+    }
+
+    private Duration retryDelay(HttpResponse<?> resp, Throwable err, Deadline deadline) {
+        Duration delay = retryDelay(resp, err);
+        // no point waiting for a retry that could not finish inside the budget
+        return delay != null && delay.compareTo(deadline.remaining()) < 0 ? delay : null;
+    }
+
+    private Duration retryDelay(HttpResponse<?> resp, Throwable err) {
+        if (err != null) {
+            Throwable cause = err instanceof CompletionException && err.getCause() != null ? err.getCause() : err;
+            // timeouts already burned the full budget and open breakers should stay fast; the
+            // client's own request timeout is an IOException too, so it is ruled out first
+            return cause instanceof IOException && !(cause instanceof HttpTimeoutException) ? Duration.ZERO : null;
+        }
+
+        return switch (resp.statusCode()) {
+            case 429, 502, 503, 504 -> RetryPolicy.retryAfter(resp).orElse(Duration.ZERO);
+            default -> null;
+        };
+    }
+
+    /**
+     * @param cancel completes when a hedged twin already answered; {@code null} for plain calls
+     */
+    private <T> CompletableFuture<HttpResponse<T>> attempt(
+            HttpRequest request, ApiPath path, String endpoint, RequestPriority priority, Deadline deadline,
+            CompletableFuture<Void> cancel, Function<DecompressingBodyHandler.Sink, HttpResponse.BodyHandler<T>> bodies) {
+        // the quota is checked first so a call waiting for a token does not hold a concurrency slot
+        TokenBucket bucket = rateLimits.forPath(path.path());
+        CompletableFuture<Void> admitted = bucket == null ? CompletableFuture.completedFuture(null) : bucket.acquire();
+
+        return admitted.thenCompose(ignored -> limiter.acquire(priority)).thenCompose(permit -> {
+            if (cancel != null && cancel.isDone()) {
+                permit.abandon();
+                return CompletableFuture.failedFuture(new CancellationException("Hedged request already answered"));
+            }
+            if (deadline.isExpired()) {
+                // the budget ran out while queued for a token or a slot
+                permit.abandon();
+                return CompletableFuture.failedFuture(deadlineExceeded(path));
+            }
+
+            CircuitBreaker breaker = breakers.forEndpoint(endpoint);
+            if (!breaker.tryAcquire()) {
+                permit.abandon();
+                return CompletableFuture.failedFuture(new CircuitOpenException(
+                        "Circuit open for " + breaker.endpoint() + ", retry in " + breaker.retryInMillis() + "ms"));
+            }
+
+            Backend backend = backends.choose();
+            long start = System.nanoTime();
+            return dispatch(retarget(request, path, backend), path, endpoint, deadline, cancel, bodies)
+                    .whenComplete((resp, err) -> {
+                        if (isCancellation(err)) {
+                            // the losing leg of a hedge says nothing about endpoint health
+                            breaker.onCancelled();
+                            backends.onCancelled(backend);
+                            permit.abandon();
+                            return;
+                        }
+                        if (err != null || resp.statusCode() >= 500) {
+                            breaker.onFailure();
+                            backends.onFailure(backend, System.nanoTime() - start);
+                        } else {
+                            breaker.onSuccess();
+                            backends.onSuccess(backend, System.nanoTime() - start);
+                        }
+                        if (bucket != null && resp != null) {
+                            if (resp.statusCode() == 429) {
+                                bucket.onThrottled(RetryPolicy.retryAfter(resp));
                             } else {
-                                System.out.println("[HttpClient] <- ERROR : " + err);
+                                bucket.onSuccess();
                             }
-                        })
-        );
+                        }
+                        permit.release(endpoint, err != null || resp.statusCode() == 429 || resp.statusCode() == 503);
+                    });
+        });
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> dispatch(
+            HttpRequest request, ApiPath path, String endpoint, Deadline deadline, CompletableFuture<Void> cancel,
+            Function<DecompressingBodyHandler.Sink, HttpResponse.BodyHandler<T>> bodies) {
+        EndpointMetrics.Endpoint stats = metrics.forEndpoint(endpoint);
+        DecompressingBodyHandler.Sink compressionSink = compression.sinkFor(endpoint);
+        // bodies are inflated chunk by chunk as they stream in, never buffered compressed
+        HttpResponse.BodyHandler<T> bodyHandler = bodies.apply((wireBytes, decodedBytes) -> {
+            compressionSink.record(wireBytes, decodedBytes);
+            stats.received(wireBytes);
+        });
+        stats.started(request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L));
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> exchange = transport.send(request, bodyHandler);
+        if (cancel != null) {
+            // cancelling the sendAsync future aborts the underlying exchange
+            cancel.thenRun(() -> exchange.cancel(true));
+        }
+        return withTimeoutHandling(path, deadline, exchange)
+                .whenComplete((resp, err) -> {
+                    long elapsed = System.nanoTime() - start;
+                    stats.finished(resp, err, elapsed, isCancellation(err));
+                    requestLog.exchange(request.method(), endpoint, request.uri().toString(), resp, err, elapsed);
+                });
     }
 
-    private String safePreview(String body) {
-        if (body == null) return "<null>";
-        return body.length() > 300 ? body.substring(0, 300) + "..." : body;
+    private HttpRequest retarget(HttpRequest request, ApiPath path, Backend backend) {
+        if (backend.baseUrl().equals(baseUrl)) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .uri(URI.create(backend.baseUrl().concat(path.path())))
+                .build();
+    }
+
+    static boolean isCancellation(Throwable err) {
+        Throwable cause = err instanceof CompletionException && err.getCause() != null ? err.getCause() : err;
+        return cause instanceof CancellationException;
     }
 
-    private <T> CompletableFuture<T> withTimeoutHandling(String path, CompletableFuture<T> future) {
+    private static ApiTimeoutException deadlineExceeded(ApiPath path) {
+        return new ApiTimeoutException("Deadline exceeded before request: " + path);
+    }
+
+    private <T> CompletableFuture<T> withTimeoutHandling(ApiPath path, Deadline deadline, CompletableFuture<T> future) {
+        // the hop gets its usual timeout, or whatever is left of the operation's budget if that is less
+        Duration hop = deadline.cap(REQUEST_TIMEOUT);
+        boolean budgetBound = hop.compareTo(REQUEST_TIMEOUT) < 0;
+        // the timeout fires on the JDK's delay thread; hop off it before anything else runs
         return future
-                .orTimeout(10, TimeUnit.SECONDS)
-                .exceptionally(ex -> {
+                .orTimeout(hop.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyAsync(ex -> {
                     Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
 
                     if (cause instanceof TimeoutException) {
-                        throw new ApiTimeoutException("Request timed out: " + path, cause);
+                        // the timer is millisecond-grained and may fire a hair before the deadline itself
+                        throw new ApiTimeoutException(budgetBound || deadline.isExpired()
+                                ? "Deadline exceeded: " + path
+                                : "Request timed out: " + path, cause);
                     }
 
                     throw new CompletionException(cause);
-                });
+                }, ApiExecutor.virtual());
     }
 }
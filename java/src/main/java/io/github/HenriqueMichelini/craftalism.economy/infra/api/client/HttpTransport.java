@@ -0,0 +1,57 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The default transport: {@link HttpClient} over TCP, negotiating HTTP/2.
+ *
+ * @see PooledHttpTransport
+ */
+public final class HttpTransport implements Transport {
+
+    private final HttpClient http;
+
+    public HttpTransport() {
+        this(HttpClient.Version.HTTP_2);
+    }
+
+    /**
+     * @param version {@code HTTP_1_1} for backends whose HTTP/2 support is poor; the client then
+     *                keeps a connection per concurrent request instead of multiplexing one
+     */
+    public HttpTransport(HttpClient.Version version) {
+        this(newClient(version));
+    }
+
+    public HttpTransport(HttpClient http) {
+        this.http = http;
+    }
+
+    static HttpClient newClient(HttpClient.Version version) {
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(ApiExecutor.virtual())
+                .build();
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        return http.sendAsync(request, handler);
+    }
+
+    @Override
+    public String name() {
+        return http.version() == HttpClient.Version.HTTP_1_1 ? "http/1.1" : "http";
+    }
+
+    @Override
+    public void close() {
+        // lets in-flight exchanges finish, then releases the connections
+        http.shutdown();
+    }
+}
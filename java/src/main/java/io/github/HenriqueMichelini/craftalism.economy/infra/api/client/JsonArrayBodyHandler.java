@@ -0,0 +1,274 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Body handler for endpoints answering with a JSON array. Elements are decoded
+ * with a {@link JsonReader} straight from the response stream while it is
+ * still arriving, so a large listing never exists as one {@code String} (or
+ * one inflated byte array) next to the objects parsed from it.
+ * <p>
+ * The JDK's {@code ofInputStream} subscriber provides the back-pressure: it
+ * only asks the connection for more once the reader has consumed what it has,
+ * and the reader runs on a virtual thread so blocking on the next chunk costs
+ * nothing. Content encodings are the same ones {@link DecompressingBodyHandler}
+ * accepts.
+ * <p>
+ * Binary ({@link BinaryDtoCodec}) listings are already compact and are read
+ * whole before decoding; error statuses are kept as text for the message.
+ * Both are held in full, so they share the decoded size cap of
+ * {@link DecompressingBodyHandler}.
+ */
+public final class JsonArrayBodyHandler<E> implements HttpResponse.BodyHandler<JsonArrayBodyHandler.Body<E>> {
+
+    /**
+     * How to decode one listing.
+     *
+     * @param typeName element type named in parse errors
+     * @param binary   decoder for a whole {@link BinaryDtoCodec} body
+     */
+    public record Elements<E>(String typeName, TypeAdapter<E> json, Function<byte[], List<E>> binary) {}
+
+    /**
+     * Either the decoded elements of a 2xx response, or the whole body as text
+     * for anything else; exactly one of the two is set.
+     *
+     * @param bytes decoded size of the body
+     */
+    public record Body<E>(List<E> elements, String text, long bytes) {
+
+        @Override
+        public String toString() {
+            // what the request log previews; a listing is summarized rather than dumped
+            return text != null ? text : "[" + elements.size() + " elements]";
+        }
+    }
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Elements<E> elements;
+    private final DecompressingBodyHandler.Sink sink;
+    private final long maxDecodedBytes;
+
+    public JsonArrayBodyHandler(Elements<E> elements, DecompressingBodyHandler.Sink sink) {
+        this(elements, sink, DecompressingBodyHandler.MAX_DECODED_BYTES);
+    }
+
+    JsonArrayBodyHandler(Elements<E> elements, DecompressingBodyHandler.Sink sink, long maxDecodedBytes) {
+        this.elements = elements;
+        this.sink = sink;
+        this.maxDecodedBytes = maxDecodedBytes;
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<Body<E>> apply(HttpResponse.ResponseInfo info) {
+        String encoding = info.headers().firstValue("Content-Encoding")
+                .orElse("identity")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+        String contentType = info.headers().firstValue("Content-Type").orElse("");
+        boolean binary = BinaryDtoCodec.isBinary(contentType);
+        boolean success = info.statusCode() / 100 == 2;
+        Charset charset = DecompressingBodyHandler.charsetOf(contentType);
+
+        HttpResponse.BodySubscriber<InputStream> stream = HttpResponse.BodySubscribers.ofInputStream();
+        return new Decoding(stream, wire -> {
+            try (Counting counted = new Counting(wire);
+                 Counting decoded = new Counting(decode(counted, encoding))) {
+                List<E> list = null;
+                String text = null;
+                if (!success) {
+                    text = new String(readWhole(decoded), charset);
+                } else if (binary) {
+                    list = readBinary(readWhole(decoded));
+                } else {
+                    list = readArray(decoded, charset);
+                }
+                sink.record(counted.count, decoded.count);
+                return new Body<>(list, text, decoded.count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private List<E> readArray(InputStream in, Charset charset) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(in, charset));
+        try {
+            List<E> list = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                E next = elements.json().read(reader);
+                if (next == null) {
+                    throw new ApiException("Parsed JSON was null for an element of List<" + elements.typeName() + ">");
+                }
+                list.add(next);
+            }
+            reader.endArray();
+            // reads through to the end, so trailing garbage is caught and a gzip trailer gets verified
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new MalformedJsonException("Unexpected content after the array");
+            }
+            return Collections.unmodifiableList(list);
+        } catch (MalformedJsonException | IllegalStateException | JsonParseException e) {
+            // a bad document is the backend's answer, not a transport failure worth retrying
+            throw new ApiException("Failed to parse JSON for List<" + elements.typeName() + ">: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] readWhole(InputStream decoded) throws IOException {
+        // one byte past the cap is enough to tell, and a small gzip body cannot inflate any further
+        byte[] body = decoded.readNBytes((int) Math.min(maxDecodedBytes + 1, Integer.MAX_VALUE - 8));
+        if (body.length > maxDecodedBytes) {
+            throw new IOException("Decoded body exceeds " + maxDecodedBytes + " bytes");
+        }
+        return body;
+    }
+
+    private List<E> readBinary(byte[] body) {
+        try {
+            return List.copyOf(elements.binary().apply(body));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Failed to decode binary List<" + elements.typeName() + ">: " + e.getMessage(), e);
+        }
+    }
+
+    private static InputStream decode(InputStream wire, String encoding) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(wire, 2);
+        int first = in.read();
+        if (first < 0) {
+            // 204s and error answers may carry Content-Encoding without any body
+            return in;
+        }
+        int second = in.read();
+        if (second >= 0) in.unread(second);
+        in.unread(first);
+
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(in, BUFFER_SIZE);
+            // servers disagree on whether "deflate" means zlib-wrapped or raw; sniff the header
+            case "deflate" -> {
+                Inflater inflater = new Inflater(!looksLikeZlib(first, second));
+                yield new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        // a caller-supplied inflater is not ended by the stream itself
+                        try {
+                            super.close();
+                        } finally {
+                            inflater.end();
+                        }
+                    }
+                };
+            }
+            case "identity", "" -> in;
+            default -> throw new IOException("Unsupported Content-Encoding: " + encoding);
+        };
+    }
+
+    private static boolean looksLikeZlib(int cmf, int flg) {
+        if (flg < 0) return true;
+        return (cmf & 0x0f) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    /**
+     * Feeds the wire into the JDK's stream subscriber and reads it on a
+     * virtual thread once the stream is handed over.
+     */
+    private final class Decoding implements HttpResponse.BodySubscriber<Body<E>> {
+        private final HttpResponse.BodySubscriber<InputStream> stream;
+        private final Function<InputStream, Body<E>> reader;
+
+        private Decoding(HttpResponse.BodySubscriber<InputStream> stream, Function<InputStream, Body<E>> reader) {
+            this.stream = stream;
+            this.reader = reader;
+        }
+
+        @Override
+        public CompletionStage<Body<E>> getBody() {
+            return stream.getBody().thenApplyAsync(wire -> {
+                try {
+                    return reader.apply(wire);
+                } catch (UncheckedIOException e) {
+                    throw new CompletionException(e.getCause());
+                }
+            }, ApiExecutor.virtual());
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            stream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            stream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            stream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            stream.onComplete();
+        }
+    }
+
+    private static final class Counting extends FilterInputStream {
+        private long count;
+
+        private Counting(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
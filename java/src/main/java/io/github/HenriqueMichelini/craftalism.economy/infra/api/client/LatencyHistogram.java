@@ -0,0 +1,101 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of
+ * HdrHistogram: every power of two is split into 32 linear sub-buckets, so a
+ * reported percentile is within about 3% of the true value from 1µs up to
+ * {@link #MAX_MICROS}. Larger values are counted in the top bucket; the exact
+ * maximum is kept separately.
+ * <p>
+ * Recording is one array increment; percentiles are computed on read.
+ */
+public final class LatencyHistogram {
+
+    public record Snapshot(long count, long p50Micros, long p90Micros, long p99Micros, long maxMicros) {}
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** About 67 seconds, well past any request timeout. */
+    static final long MAX_MICROS = (1L << 26) - 1;
+    private static final int BUCKETS = index(MAX_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(index(Math.min(micros, MAX_MICROS)));
+        total.increment();
+        max.accumulate(micros);
+    }
+
+    /**
+     * Adds everything recorded here to {@code target}; used to fold per-shard
+     * histograms into one view.
+     */
+    void addTo(LatencyHistogram target) {
+        long added = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                target.counts.addAndGet(i, count);
+                added += count;
+            }
+        }
+        target.total.add(added);
+        target.max.accumulate(max.get());
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long maxMicros = max.get();
+        return new Snapshot(count,
+                percentile(copy, count, 0.50, maxMicros),
+                percentile(copy, count, 0.90, maxMicros),
+                percentile(copy, count, 0.99, maxMicros),
+                maxMicros);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long maxMicros) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // the bucket's upper edge, so a percentile never understates
+                return Math.min(upperBound(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    // values below 32 get a bucket each; above, 32 per power of two
+    static int index(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BITS;
+        int mantissa = (int) (micros >>> shift) - SUB_BUCKETS;
+        return ((shift + 1) << SUB_BITS) + mantissa;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BITS) - 1;
+        long mantissa = (index & (SUB_BUCKETS - 1)) + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-process transport that hands requests straight to a {@link Handler}
+ * instead of the network. Used by benchmarks to measure the plugin without
+ * network noise, and by backends embedded in the same JVM.
+ * <p>
+ * Responses still go through the caller's body handler, so the rest of the
+ * client cannot tell the difference.
+ */
+public final class LoopbackTransport implements Transport {
+
+    /**
+     * The in-process backend. Embedded backends can ship an implementation as a
+     * {@link ServiceLoader} provider to be picked up by {@link #discover()}.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        CompletableFuture<Response> handle(Request request);
+    }
+
+    /**
+     * @param body the request body exactly as the client encoded it; empty when there is none
+     */
+    public record Request(String method, String pathAndQuery, HttpHeaders headers, byte[] body) {
+        public String bodyText() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * @param body sent to the caller's body handler unchanged, so binary and
+     *             pre-compressed bodies survive; {@code null} for none
+     */
+    public record Response(int status, Map<String, List<String>> headers, byte[] body) {
+        public static Response json(int status, String body) {
+            return new Response(status, Map.of("Content-Type", List.of("application/json")),
+                    body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private final Handler handler;
+
+    public LoopbackTransport(Handler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * @throws IllegalStateException when no {@link Handler} provider is on the classpath
+     */
+    public static LoopbackTransport discover() {
+        Handler handler = ServiceLoader.load(Handler.class, LoopbackTransport.class.getClassLoader())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No loopback API handler is registered"));
+        return new LoopbackTransport(handler);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        String pathAndQuery = request.uri().getRawPath()
+                + (request.uri().getRawQuery() == null ? "" : "?" + request.uri().getRawQuery());
+
+        return TransportSupport.requestBody(request)
+                .thenCompose(body -> handler.handle(new Request(
+                        request.method(),
+                        pathAndQuery,
+                        request.headers(),
+                        body)))
+                .thenCompose(resp -> TransportSupport.respond(
+                        request,
+                        bodyHandler,
+                        resp.status(),
+                        HttpHeaders.of(resp.headers(), (k, v) -> true),
+                        resp.body() == null ? new byte[0] : resp.body()));
+    }
+
+    @Override
+    public String name() {
+        return "loopback";
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Appends the endpoint metrics to a file at a fixed interval, one timestamped
+ * block per dump and one line per endpoint:
+ * <pre>
+ * # 2026-10-17T12:00:00Z
+ * endpoint="GET /api/balances/{uuid}" requests=120 in_flight=0 p50_ms=3.1 p90_ms=7.9 p99_ms=21.0 max_ms=40.2 statuses=200:118,404:2 errors=0 bytes_out=0 bytes_in=9600
+ * </pre>
+ * Figures are cumulative since startup; successive dumps can be diffed for
+ * rates. Writing happens on its own thread and a failed write is logged and
+ * skipped.
+ * <p>
+ * A dump that would take the file past its size cap first moves it aside to
+ * {@code <file>.1}, replacing the previous one, so the two never hold more
+ * than about twice the cap between them.
+ */
+public class MetricsDumper {
+
+    public static final long DEFAULT_MAX_FILE_BYTES = 1024 * 1024;
+
+    private final Supplier<List<EndpointMetrics.Snapshot>> source;
+    private final Path file;
+    private final long maxFileBytes;
+    private final Logger logger;
+
+    private ScheduledExecutorService scheduler;
+
+    public MetricsDumper(Supplier<List<EndpointMetrics.Snapshot>> source, Path file, Logger logger) {
+        this(source, file, DEFAULT_MAX_FILE_BYTES, logger);
+    }
+
+    /**
+     * @param maxFileBytes size the file is rotated at
+     */
+    public MetricsDumper(Supplier<List<EndpointMetrics.Snapshot>> source, Path file, long maxFileBytes,
+                         Logger logger) {
+        this.source = source;
+        this.file = file;
+        this.maxFileBytes = Math.max(1L, maxFileBytes);
+        this.logger = logger;
+    }
+
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "craftalism-api-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(1_000L, interval.toMillis());
+        scheduler.scheduleAtFixedRate(this::dump, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the schedule and writes one last dump, so the figures up to shutdown are kept.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) return;
+        scheduler.shutdownNow();
+        scheduler = null;
+        dump();
+    }
+
+    void dump() {
+        List<EndpointMetrics.Snapshot> endpoints = source.get();
+        if (endpoints.isEmpty()) return;
+
+        StringBuilder out = new StringBuilder("# ").append(Instant.now()).append('\n');
+        for (EndpointMetrics.Snapshot endpoint : endpoints) {
+            out.append(format(endpoint)).append('\n');
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            rotateIfFull(out.length());
+            Files.writeString(file, out, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warning("Could not write API metrics to " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void rotateIfFull(long incoming) throws IOException {
+        if (Files.exists(file) && Files.size(file) + incoming > maxFileBytes) {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static String format(EndpointMetrics.Snapshot endpoint) {
+        LatencyHistogram.Snapshot latency = endpoint.latency();
+        return String.format(Locale.ROOT,
+                "endpoint=\"%s\" requests=%d in_flight=%d p50_ms=%.1f p90_ms=%.1f p99_ms=%.1f max_ms=%.1f"
+                        + " statuses=%s errors=%d bytes_out=%d bytes_in=%d",
+                endpoint.endpoint(), endpoint.requests(), endpoint.inFlight(),
+                latency.p50Micros() / 1000.0, latency.p90Micros() / 1000.0, latency.p99Micros() / 1000.0,
+                latency.maxMicros() / 1000.0, statuses(endpoint.statuses()), endpoint.errors(),
+                endpoint.bytesOut(), endpoint.bytesIn());
+    }
+
+    /**
+     * @return {@code 200:118,404:2}, or {@code -} when nothing was answered
+     */
+    public static String statuses(Map<Integer, Long> statuses) {
+        if (statuses.isEmpty()) return "-";
+        StringJoiner joined = new StringJoiner(",");
+        statuses.forEach((status, count) -> joined.add(status + ":" + count));
+        return joined.toString();
+    }
+}
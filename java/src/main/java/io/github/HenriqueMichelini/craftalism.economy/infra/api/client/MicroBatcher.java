@@ -0,0 +1,288 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects single write operations for a few milliseconds and sends them as
+ * one bulk request, so a burst of tiny deposits costs one round trip instead
+ * of hundreds. Every caller still gets its own future, completed or failed
+ * from its slot in the bulk response; a bulk request that fails as a whole
+ * fails every operation in it.
+ * <p>
+ * Operations are grouped by key, e.g. the shard they are routed to. A group
+ * is sent once it holds a full batch or its oldest operation has lingered
+ * long enough. Both adapt to the bulk round-trip time: the linger is a
+ * quarter of the recent average RTT, capped by the configured maximum, so
+ * waiting never costs more than a fraction of the trip it saves. The batch
+ * size grows while full batches come back about as fast as the best RTT seen
+ * and shrinks multiplicatively when they slow down or fail, the same way
+ * {@link AdaptiveConcurrencyLimiter} sizes its limit.
+ * <p>
+ * Deadlines stay per operation. One whose deadline has passed by the time its
+ * batch leaves is failed on its own instead of being sent, and operations
+ * without a deadline, such as refunds, never share a batch with bounded ones.
+ * The bulk request itself is only bound by the client's per-hop timeout, so
+ * no caller's budget cuts short a request carrying someone else's write.
+ */
+public class MicroBatcher<K, I, R> {
+
+    /**
+     * One operation's result in a bulk response: a value, or the error its caller should see.
+     */
+    public record Outcome<R>(R value, Throwable error) {
+
+        public static <R> Outcome<R> ok(R value) {
+            return new Outcome<>(value, null);
+        }
+
+        public static <R> Outcome<R> failed(Throwable error) {
+            return new Outcome<>(null, error);
+        }
+    }
+
+    @FunctionalInterface
+    public interface BulkSender<K, I, R> {
+
+        /**
+         * @return one outcome per item, in the order the items were given
+         */
+        CompletableFuture<List<Outcome<R>>> send(K key, List<I> items);
+    }
+
+    /**
+     * @param maxSize   most operations in one bulk request
+     * @param maxLinger longest an operation waits for others to join it
+     */
+    public record Settings(boolean enabled, int maxSize, Duration maxLinger) {
+
+        public static final Settings DISABLED = new Settings(false, 1, Duration.ZERO);
+    }
+
+    public record Snapshot(long batches, long items, int batchSize, long lingerMicros, long averageRttMicros) {
+
+        public double averageItems() {
+            return batches == 0 ? 0 : (double) items / batches;
+        }
+    }
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double GROWTH_RATIO = 1.25;
+    private static final double BACKOFF_RATIO = 0.5;
+    private static final double RTT_WEIGHT = 0.2;
+    private static final int LINGER_SHARE = 4;
+    private static final int MIN_RTT_RESET_SAMPLES = 1_000;
+
+    private final BulkSender<K, I, R> sender;
+    private final Function<? super I, Deadline> deadlines;
+    private final int maxSize;
+    private final long maxLingerNanos;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<GroupKey<K>, Group> groups = new ConcurrentHashMap<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder items = new LongAdder();
+
+    private final Object tuning = new Object();
+    private double size;
+    private double averageRttNanos;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samplesSinceReset;
+    private volatile int batchSize;
+    private volatile long lingerNanos;
+
+    public MicroBatcher(BulkSender<K, I, R> sender, Settings settings) {
+        this(sender, settings, item -> Deadline.none());
+    }
+
+    /**
+     * @param deadlines the deadline of each operation's caller
+     */
+    public MicroBatcher(BulkSender<K, I, R> sender, Settings settings, Function<? super I, Deadline> deadlines) {
+        this(sender, deadlines, settings.maxSize(), settings.maxLinger(), System::nanoTime);
+    }
+
+    MicroBatcher(BulkSender<K, I, R> sender, int maxSize, Duration maxLinger, LongSupplier nanoClock) {
+        this(sender, item -> Deadline.none(), maxSize, maxLinger, nanoClock);
+    }
+
+    MicroBatcher(BulkSender<K, I, R> sender, Function<? super I, Deadline> deadlines, int maxSize,
+                 Duration maxLinger, LongSupplier nanoClock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be >= 1");
+        }
+        this.sender = sender;
+        this.deadlines = deadlines;
+        this.maxSize = maxSize;
+        this.maxLingerNanos = Math.max(0L, maxLinger.toNanos());
+        this.nanoClock = nanoClock;
+        // start well below the cap and let healthy full batches earn the rest
+        this.size = Math.max(1, maxSize / 4);
+        this.batchSize = (int) size;
+        this.lingerNanos = maxLingerNanos;
+    }
+
+    public CompletableFuture<R> submit(K key, I item) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Group group = groups.computeIfAbsent(new GroupKey<>(key, deadlines.apply(item).isBounded()), Group::new);
+
+        List<Pending<I, R>> full = null;
+        long timer = -1;
+        synchronized (group) {
+            group.pending.add(new Pending<>(item, future));
+            if (group.pending.size() >= batchSize) {
+                full = group.take();
+            } else if (group.pending.size() == 1) {
+                timer = group.generation;
+            }
+        }
+
+        if (full != null) {
+            send(key, full, true);
+        } else if (timer >= 0) {
+            long generation = timer;
+            CompletableFuture.runAsync(() -> flush(group, generation),
+                    ApiExecutor.delayed(lingerNanos, TimeUnit.NANOSECONDS));
+        }
+        return future;
+    }
+
+    /**
+     * Sends everything still waiting right away, e.g. on shutdown.
+     */
+    public void flush() {
+        for (Group group : groups.values()) {
+            List<Pending<I, R>> batch;
+            synchronized (group) {
+                batch = group.pending.isEmpty() ? null : group.take();
+            }
+            if (batch != null) send(group.key.key(), batch, false);
+        }
+    }
+
+    private void flush(Group group, long generation) {
+        List<Pending<I, R>> batch;
+        synchronized (group) {
+            // the batch this timer was started for may already have gone out full
+            if (group.generation != generation || group.pending.isEmpty()) return;
+            batch = group.take();
+        }
+        send(group.key.key(), batch, false);
+    }
+
+    private void send(K key, List<Pending<I, R>> waiting, boolean full) {
+        List<Pending<I, R>> batch = new ArrayList<>(waiting.size());
+        for (Pending<I, R> pending : waiting) {
+            if (deadlines.apply(pending.item()).isExpired()) {
+                pending.future().completeExceptionally(
+                        new ApiTimeoutException("Deadline exceeded before the batch was sent"));
+            } else {
+                batch.add(pending);
+            }
+        }
+        if (batch.isEmpty()) return;
+        // a batch thinned out by expired operations says nothing about whether full ones are healthy
+        boolean sentFull = full && batch.size() == waiting.size();
+
+        batches.increment();
+        items.add(batch.size());
+
+        List<I> payload = new ArrayList<>(batch.size());
+        for (Pending<I, R> pending : batch) {
+            payload.add(pending.item());
+        }
+
+        long start = nanoClock.getAsLong();
+        CompletableFuture<List<Outcome<R>>> sent;
+        try {
+            sent = sender.send(key, payload);
+        } catch (Throwable t) {
+            sent = CompletableFuture.failedFuture(t);
+        }
+
+        sent.whenComplete((outcomes, error) -> {
+            observe(nanoClock.getAsLong() - start, sentFull, error == null);
+            if (error == null && outcomes.size() != batch.size()) {
+                error = new ApiException("Bulk response has " + outcomes.size() + " results for "
+                        + batch.size() + " operations");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<R> future = batch.get(i).future();
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else if (outcomes.get(i).error() != null) {
+                    future.completeExceptionally(outcomes.get(i).error());
+                } else {
+                    future.complete(outcomes.get(i).value());
+                }
+            }
+        });
+    }
+
+    private void observe(long rttNanos, boolean full, boolean succeeded) {
+        synchronized (tuning) {
+            if (!succeeded) {
+                size = Math.max(1, size * BACKOFF_RATIO);
+            } else {
+                if (++samplesSinceReset >= MIN_RTT_RESET_SAMPLES) {
+                    // forget an old best so a permanently slower backend is not punished forever
+                    minRttNanos = rttNanos;
+                    samplesSinceReset = 0;
+                } else {
+                    minRttNanos = Math.min(minRttNanos, rttNanos);
+                }
+                averageRttNanos = averageRttNanos == 0
+                        ? rttNanos
+                        : averageRttNanos + (rttNanos - averageRttNanos) * RTT_WEIGHT;
+
+                if (rttNanos > minRttNanos * LATENCY_TOLERANCE) {
+                    size = Math.max(1, size * BACKOFF_RATIO);
+                } else if (full) {
+                    size = Math.min(maxSize, size * GROWTH_RATIO);
+                }
+                lingerNanos = Math.min(maxLingerNanos, (long) averageRttNanos / LINGER_SHARE);
+            }
+            batchSize = (int) size;
+        }
+    }
+
+    public Snapshot snapshot() {
+        long averageRtt;
+        synchronized (tuning) {
+            averageRtt = (long) averageRttNanos;
+        }
+        return new Snapshot(batches.sum(), items.sum(), batchSize,
+                TimeUnit.NANOSECONDS.toMicros(lingerNanos), TimeUnit.NANOSECONDS.toMicros(averageRtt));
+    }
+
+    private record Pending<I, R>(I item, CompletableFuture<R> future) {}
+
+    private record GroupKey<K>(K key, boolean bounded) {}
+
+    private final class Group {
+        private final GroupKey<K> key;
+        private List<Pending<I, R>> pending = new ArrayList<>();
+        private long generation;
+
+        private Group(GroupKey<K> key) {
+            this.key = key;
+        }
+
+        private List<Pending<I, R>> take() {
+            List<Pending<I, R>> batch = pending;
+            pending = new ArrayList<>();
+            generation++;
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request path with positional placeholders, parsed once and expanded per
+ * call into an {@link ApiPath}:
+ * <pre>
+ * PathTemplate DEPOSIT = PathTemplate.of("/api/balances/{uuid}/deposit?amount={amount}");
+ * DEPOSIT.expand(uuid, 500)   // "/api/balances/6f1c…/deposit?amount=500"
+ * </pre>
+ * The route is computed at parse time rather than by regex on every call.
+ * Expansion itself is plain string concatenation: the JDK's concatenation
+ * sizes the result exactly and encodes UUIDs and numbers in place, which
+ * measured faster than filling a {@link StringBuilder} by hand.
+ */
+public final class PathTemplate {
+
+    private final String template;
+    // text around the placeholders; always one more than there are placeholders
+    private final String[] literals;
+    private final String route;
+
+    private PathTemplate(String template, String[] literals, String route) {
+        this.template = template;
+        this.literals = literals;
+        this.route = route;
+    }
+
+    public static PathTemplate of(String template) {
+        List<String> literals = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int open = template.indexOf('{', from);
+            if (open < 0) break;
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in " + template);
+            }
+            literals.add(template.substring(from, open));
+            from = close + 1;
+        }
+        literals.add(template.substring(from));
+
+        int query = template.indexOf('?');
+        String route = query >= 0 ? template.substring(0, query) : template;
+        return new PathTemplate(template, literals.toArray(new String[0]), route);
+    }
+
+    public String route() {
+        return route;
+    }
+
+    /**
+     * @return the path itself; only valid for templates without placeholders
+     */
+    public ApiPath expand() {
+        arity(0);
+        return new ApiPath(literals[0], route);
+    }
+
+    public ApiPath expand(UUID uuid) {
+        arity(1);
+        return new ApiPath(literals[0] + uuid + literals[1], route);
+    }
+
+    public ApiPath expand(UUID uuid, long value) {
+        arity(2);
+        return new ApiPath(literals[0] + uuid + literals[1] + value + literals[2], route);
+    }
+
+    public ApiPath expand(long value) {
+        arity(1);
+        return new ApiPath(literals[0] + value + literals[1], route);
+    }
+
+    /**
+     * @param value free text, URL-encoded into the path
+     */
+    public ApiPath expand(String value) {
+        arity(1);
+        return new ApiPath(literals[0] + URLEncoder.encode(value, StandardCharsets.UTF_8) + literals[1], route);
+    }
+
+    private void arity(int placeholders) {
+        if (literals.length != placeholders + 1) {
+            throw new IllegalStateException(template + " takes " + (literals.length - 1) + " values, got "
+                    + placeholders);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
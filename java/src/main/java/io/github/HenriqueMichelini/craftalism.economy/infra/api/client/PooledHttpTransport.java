@@ -0,0 +1,128 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Spreads requests over several {@link HttpClient}s. Over HTTP/2 each client
+ * multiplexes everything on one TCP connection, so a single client means one
+ * lost packet stalls every call (head-of-line blocking) and the server's
+ * concurrent-stream cap becomes the plugin's concurrency cap.
+ * <p>
+ * Each request goes to the client with the fewest exchanges in flight, ties
+ * rotating. The pool starts with {@code minClients} and opens another client
+ * whenever even the least busy one already carries {@code streamsPerClient}
+ * exchanges, up to {@code maxClients}; clients stay open until the transport
+ * is closed.
+ */
+public final class PooledHttpTransport implements Transport {
+
+    public record Snapshot(int clients, int maxClients, List<Integer> inFlight) {}
+
+    private final Supplier<HttpClient> factory;
+    private final int maxClients;
+    private final int streamsPerClient;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile Slot[] slots;
+
+    public PooledHttpTransport(int minClients, int maxClients, int streamsPerClient) {
+        this(() -> HttpTransport.newClient(HttpClient.Version.HTTP_2), minClients, maxClients, streamsPerClient);
+    }
+
+    PooledHttpTransport(Supplier<HttpClient> factory, int minClients, int maxClients, int streamsPerClient) {
+        if (minClients < 1 || maxClients < minClients || streamsPerClient < 1) {
+            throw new IllegalArgumentException("Invalid pool: min=" + minClients + ", max=" + maxClients
+                    + ", streams=" + streamsPerClient);
+        }
+        this.factory = factory;
+        this.maxClients = maxClients;
+        this.streamsPerClient = streamsPerClient;
+        Slot[] initial = new Slot[minClients];
+        for (int i = 0; i < minClients; i++) {
+            initial[i] = new Slot(factory.get());
+        }
+        this.slots = initial;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        Slot slot = pick();
+        slot.inFlight.incrementAndGet();
+        CompletableFuture<HttpResponse<T>> exchange;
+        try {
+            exchange = slot.http.sendAsync(request, handler);
+        } catch (RuntimeException e) {
+            slot.inFlight.decrementAndGet();
+            throw e;
+        }
+        exchange.whenComplete((resp, err) -> slot.inFlight.decrementAndGet());
+        return exchange;
+    }
+
+    private Slot pick() {
+        Slot[] current = slots;
+        int start = Math.floorMod(next.getAndIncrement(), current.length);
+        Slot best = current[start];
+        int bestLoad = best.inFlight.get();
+        for (int i = 1; i < current.length && bestLoad > 0; i++) {
+            Slot candidate = current[(start + i) % current.length];
+            int load = candidate.inFlight.get();
+            if (load < bestLoad) {
+                best = candidate;
+                bestLoad = load;
+            }
+        }
+
+        if (bestLoad >= streamsPerClient && current.length < maxClients) {
+            return grow(current);
+        }
+        return best;
+    }
+
+    private synchronized Slot grow(Slot[] seen) {
+        Slot[] current = slots;
+        if (current != seen || current.length >= maxClients) {
+            // another caller grew the pool first; its new client is the idle one
+            return current[current.length - 1];
+        }
+        Slot added = new Slot(factory.get());
+        Slot[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = added;
+        slots = grown;
+        return added;
+    }
+
+    public Snapshot snapshot() {
+        Slot[] current = slots;
+        return new Snapshot(current.length, maxClients,
+                Arrays.stream(current).map(slot -> slot.inFlight.get()).toList());
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public void close() {
+        for (Slot slot : slots) {
+            slot.http.shutdown();
+        }
+    }
+
+    private static final class Slot {
+        private final HttpClient http;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Slot(HttpClient http) {
+            this.http = http;
+        }
+    }
+}
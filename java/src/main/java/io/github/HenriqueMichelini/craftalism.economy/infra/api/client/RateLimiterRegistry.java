@@ -0,0 +1,53 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link TokenBucket} per endpoint family, the first path segment after
+ * {@code /api/} ({@code balances}, {@code players}, {@code transactions}).
+ * Families without a configured bucket are not limited.
+ */
+public class RateLimiterRegistry {
+
+    public static final List<String> FAMILIES = List.of("balances", "players", "transactions");
+
+    private static final String API_PREFIX = "/api/";
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public void configure(String family, double ratePerSecond, int burst, Duration maxWait) {
+        buckets.put(family, new TokenBucket(family, ratePerSecond, burst, maxWait));
+    }
+
+    void register(TokenBucket bucket) {
+        buckets.put(bucket.family(), bucket);
+    }
+
+    /**
+     * @return the bucket guarding a request path, or {@code null} when its family is unlimited
+     */
+    public TokenBucket forPath(String path) {
+        if (buckets.isEmpty()) return null;
+        String family = family(path);
+        return family == null ? null : buckets.get(family);
+    }
+
+    static String family(String path) {
+        if (!path.startsWith(API_PREFIX)) return null;
+        int end = API_PREFIX.length();
+        while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '?') {
+            end++;
+        }
+        return end == API_PREFIX.length() ? null : path.substring(API_PREFIX.length(), end);
+    }
+
+    public List<TokenBucket.Snapshot> snapshots() {
+        return buckets.values().stream()
+                .map(TokenBucket::snapshot)
+                .sorted(Comparator.comparing(TokenBucket.Snapshot::family))
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer: concurrent callers asking for the same key share one
+ * in-flight future instead of each starting their own request.
+ * <p>
+ * The entry is removed as soon as the shared future completes, so this is not a
+ * cache — a call made after completion always starts a fresh request.
+ */
+public class RequestCoalescer<T> {
+
+    private final ConcurrentHashMap<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CompletableFuture<T> coalesce(String key, Supplier<CompletableFuture<T>> loader) {
+        CompletableFuture<T> existing = inFlight.get(key);
+        if (existing != null) {
+            hits.increment();
+            return existing.copy();
+        }
+
+        CompletableFuture<T> shared = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            hits.increment();
+            return existing.copy();
+        }
+
+        misses.increment();
+        try {
+            loader.get().whenComplete((result, error) -> {
+                inFlight.remove(key, shared);
+                if (error != null) {
+                    shared.completeExceptionally(error);
+                } else {
+                    shared.complete(result);
+                }
+            });
+        } catch (Throwable t) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(t);
+        }
+
+        // callers get a copy so one of them cancelling cannot fail the others
+        return shared.copy();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public String getStatsFormatted() {
+        long h = hits.sum();
+        long m = misses.sum();
+        long requests = h + m;
+        double hitRate = requests > 0 ? (double) h / requests * 100 : 0.0;
+
+        return String.format(
+                "Coalescer Stats - In-flight: %d | Requests: %d | Hits: %d (%.2f%%) | Misses: %d",
+                inFlight.size(),
+                requests,
+                h,
+                hitRate,
+                m
+        );
+    }
+}
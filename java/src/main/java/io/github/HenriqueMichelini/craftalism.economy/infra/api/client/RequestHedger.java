@@ -0,0 +1,221 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Tail-latency hedging for idempotent reads: when a call has not answered by
+ * the p95 latency observed for its endpoint, one duplicate is sent and the
+ * first response wins; the loser is cancelled through its cancel token.
+ * <p>
+ * Hedges are capped by a budget relative to the total number of hedgeable
+ * calls, so a slow backend never sees more than {@code budget} extra load.
+ * No hedge is sent for an endpoint until it has enough latency samples.
+ */
+public class RequestHedger {
+
+    public record Snapshot(long requests, long hedgesSent, long hedgesWon, long budgetDenied) {}
+
+    private static final double DEFAULT_BUDGET = 0.05;
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(50);
+    private static final int MIN_SAMPLES = 20;
+    private static final int WINDOW_SIZE = 128;
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final double budget;
+    private final long minDelayMillis;
+    private final LongFunction<Executor> delayedExecutor;
+    private final ConcurrentHashMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedgesSent = new AtomicLong();
+    private final LongAdder hedgesWon = new LongAdder();
+    private final LongAdder budgetDenied = new LongAdder();
+
+    public RequestHedger() {
+        this(DEFAULT_BUDGET, DEFAULT_MIN_DELAY);
+    }
+
+    /**
+     * @param budget maximum ratio of hedges to hedgeable calls; {@code 0} disables hedging
+     */
+    public RequestHedger(double budget, Duration minDelay) {
+        this(budget, minDelay, millis -> ApiExecutor.delayed(millis, TimeUnit.MILLISECONDS));
+    }
+
+    RequestHedger(double budget, Duration minDelay, LongFunction<Executor> delayedExecutor) {
+        this.budget = Math.max(0.0, budget);
+        this.minDelayMillis = Math.max(1L, minDelay.toMillis());
+        this.delayedExecutor = delayedExecutor;
+    }
+
+    public static RequestHedger disabled() {
+        return new RequestHedger(0.0, DEFAULT_MIN_DELAY);
+    }
+
+    public boolean isEnabled() {
+        return budget > 0.0;
+    }
+
+    /**
+     * @param call starts one leg of the request; the future it is given completes
+     *             when that leg lost the race and should abort
+     */
+    public <T> CompletableFuture<T> hedge(String endpoint, Function<CompletableFuture<Void>, CompletableFuture<T>> call) {
+        LatencyWindow window = windows.computeIfAbsent(endpoint, e -> new LatencyWindow());
+        requests.incrementAndGet();
+
+        Race<T> race = new Race<>(window, call);
+        race.launch(false);
+
+        long delay = window.p95Millis();
+        if (isEnabled() && delay >= 0) {
+            delayedExecutor.apply(Math.max(minDelayMillis, delay)).execute(() -> {
+                if (race.result.isDone()) return;
+                if (!tryReserveHedge()) {
+                    budgetDenied.increment();
+                    return;
+                }
+                race.launch(true);
+            });
+        }
+
+        return race.result;
+    }
+
+    private boolean tryReserveHedge() {
+        while (true) {
+            long sent = hedgesSent.get();
+            if (sent + 1 > budget * requests.get()) {
+                return false;
+            }
+            if (hedgesSent.compareAndSet(sent, sent + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return the current hedge delay for an endpoint, or {@code -1} while it is still warming up
+     */
+    public long hedgeDelayMillis(String endpoint) {
+        LatencyWindow window = windows.get(endpoint);
+        long p95 = window == null ? -1 : window.p95Millis();
+        return p95 < 0 ? -1 : Math.max(minDelayMillis, p95);
+    }
+
+    public long hedgesSent() {
+        return hedgesSent.get();
+    }
+
+    public long hedgesWon() {
+        return hedgesWon.sum();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(requests.get(), hedgesSent.get(), hedgesWon.sum(), budgetDenied.sum());
+    }
+
+    /**
+     * @return one view over several hedgers, e.g. every shard's, with the counts summed
+     */
+    public static Snapshot merge(List<Snapshot> all) {
+        return new Snapshot(
+                all.stream().mapToLong(Snapshot::requests).sum(),
+                all.stream().mapToLong(Snapshot::hedgesSent).sum(),
+                all.stream().mapToLong(Snapshot::hedgesWon).sum(),
+                all.stream().mapToLong(Snapshot::budgetDenied).sum());
+    }
+
+    private final class Race<T> {
+        private final LatencyWindow window;
+        private final Function<CompletableFuture<Void>, CompletableFuture<T>> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final CompletableFuture<Void> primaryCancel = new CompletableFuture<>();
+        private final CompletableFuture<Void> hedgeCancel = new CompletableFuture<>();
+        private final AtomicBoolean won = new AtomicBoolean();
+        private int pending;
+        private Throwable lastError;
+
+        private Race(LatencyWindow window, Function<CompletableFuture<Void>, CompletableFuture<T>> call) {
+            this.window = window;
+            this.call = call;
+        }
+
+        private void launch(boolean hedge) {
+            synchronized (this) {
+                pending++;
+            }
+
+            long start = System.nanoTime();
+            CompletableFuture<T> leg;
+            try {
+                leg = call.apply(hedge ? hedgeCancel : primaryCancel);
+            } catch (Throwable t) {
+                leg = CompletableFuture.failedFuture(t);
+            }
+
+            leg.whenComplete((value, error) -> {
+                if (error == null) {
+                    window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    // settle the stats before completing, callers may read them as soon as the result is done
+                    if (won.compareAndSet(false, true)) {
+                        if (hedge) {
+                            hedgesWon.increment();
+                        }
+                        (hedge ? primaryCancel : hedgeCancel).complete(null);
+                        result.complete(value);
+                    }
+                    return;
+                }
+
+                // a failed leg only fails the call once no other leg can still answer
+                boolean last;
+                synchronized (this) {
+                    lastError = hedge && lastError != null ? lastError : error;
+                    last = --pending == 0;
+                }
+                if (last) {
+                    result.completeExceptionally(lastError);
+                }
+            });
+        }
+    }
+
+    /**
+     * Fixed ring of the most recent successful latencies. The percentile is
+     * recomputed every few samples rather than on every read.
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private int next;
+        private volatile long p95 = -1;
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % WINDOW_SIZE;
+            if (count < WINDOW_SIZE) count++;
+
+            if (count >= MIN_SAMPLES && (count < WINDOW_SIZE || next % RECOMPUTE_EVERY == 0)) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                p95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+            }
+        }
+
+        long p95Millis() {
+            return p95;
+        }
+    }
+}
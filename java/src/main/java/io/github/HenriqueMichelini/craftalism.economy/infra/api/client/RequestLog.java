@@ -0,0 +1,233 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Structured log of completed API exchanges, one line per exchange:
+ * <pre>
+ * level=ERROR method=POST endpoint="POST /api/balances/{uuid}/deposit" status=503 ms=41.2 uri=… body="…"
+ * </pre>
+ * The calling thread only decides whether an exchange is logged and, if so,
+ * drops one entry into a lock-free ring buffer; a background writer drains it
+ * to the sink. Nothing blocks on console output, and a full buffer drops new
+ * entries rather than slowing requests down.
+ * <p>
+ * Failures, 5xx and 4xx other than 404 are logged whenever the level allows.
+ * Everything else is sampled per endpoint template, and body previews are
+ * only cut for entries that are actually kept.
+ */
+public final class RequestLog {
+
+    public enum Level { OFF, ERROR, WARN, INFO, DEBUG }
+
+    public record Snapshot(Level level, double defaultSampleRate, long written, long sampledOut, long dropped) {}
+
+    private static final RequestLog SHARED = new RequestLog(4096,
+            line -> Logger.getLogger("CraftalismEconomy.http").info(line));
+
+    private static final int PREVIEW_CHARS = 300;
+    private static final long DRAIN_INTERVAL_MILLIS = 200;
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    // next slot to claim; only producers advance it
+    private final AtomicLong head = new AtomicLong();
+    // next slot to drain; only the writer advances it
+    private volatile long tail;
+    private final Consumer<String> sink;
+
+    private volatile Level level = Level.WARN;
+    private volatile double defaultSampleRate = 1.0;
+    private volatile Map<String, Double> sampleRates = Map.of();
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // read without the lock on every kept entry, so it must be volatile for the double-checked start
+    private volatile ScheduledExecutorService writer;
+    private volatile boolean stopped;
+
+    /**
+     * @param capacity entries the buffer holds before dropping, rounded up to a power of two
+     * @param sink     receives formatted lines on the writer thread
+     */
+    public RequestLog(int capacity, Consumer<String> sink) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.sink = sink;
+    }
+
+    /**
+     * @return the log every client writes to unless given its own
+     */
+    public static RequestLog shared() {
+        return SHARED;
+    }
+
+    /**
+     * Also reopens a log that was {@link #stop() stopped}, for a client set up again after a reload.
+     *
+     * @param endpointRates sample rate by endpoint template, e.g. {@code "GET /api/balances/{uuid}" -> 0.01}
+     */
+    public void configure(Level level, double defaultSampleRate, Map<String, Double> endpointRates) {
+        this.level = Objects.requireNonNullElse(level, Level.WARN);
+        this.defaultSampleRate = clamp(defaultSampleRate);
+        Map<String, Double> rates = new HashMap<>();
+        endpointRates.forEach((endpoint, rate) -> rates.put(endpoint, clamp(rate)));
+        this.sampleRates = Map.copyOf(rates);
+        this.stopped = false;
+    }
+
+    public boolean isEnabled(Level candidate) {
+        return candidate != Level.OFF && candidate.ordinal() <= level.ordinal();
+    }
+
+    /**
+     * Records one finished exchange. Cheap when the entry is filtered out: no
+     * strings are built unless it is kept.
+     */
+    void exchange(String method, String endpoint, String uri, HttpResponse<?> resp, Throwable err,
+                  long latencyNanos) {
+        Level entryLevel = levelOf(resp, err);
+        if (!isEnabled(entryLevel)) {
+            return;
+        }
+        if (entryLevel.ordinal() >= Level.INFO.ordinal() && !sampled(endpoint)) {
+            sampledOut.increment();
+            return;
+        }
+
+        StringBuilder line = new StringBuilder(128)
+                .append("level=").append(entryLevel)
+                .append(" method=").append(method)
+                .append(" endpoint=\"").append(endpoint).append('"')
+                .append(" status=").append(resp != null ? String.valueOf(resp.statusCode()) : "-")
+                .append(" ms=").append(String.format(Locale.ROOT, "%.1f", latencyNanos / 1_000_000.0))
+                .append(" uri=").append(uri);
+        if (err != null) {
+            line.append(" error=\"").append(err).append('"');
+        }
+        // previews go with problems, or with everything at debug
+        if (resp != null && (entryLevel.ordinal() <= Level.WARN.ordinal() || level == Level.DEBUG)) {
+            line.append(" body=\"").append(preview(String.valueOf(resp.body()))).append('"');
+        }
+        offer(line.toString());
+    }
+
+    private static Level levelOf(HttpResponse<?> resp, Throwable err) {
+        if (err != null) {
+            return HttpClientService.isCancellation(err) ? Level.DEBUG : Level.ERROR;
+        }
+        int status = resp.statusCode();
+        if (status >= 500) return Level.ERROR;
+        // 404 is how a missing player or balance is reported, not a problem in itself
+        if (status >= 400 && status != 404) return Level.WARN;
+        return Level.INFO;
+    }
+
+    private boolean sampled(String endpoint) {
+        double rate = sampleRates.getOrDefault(endpoint, defaultSampleRate);
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void offer(String line) {
+        if (stopped) {
+            dropped.increment();
+            return;
+        }
+        long claimed;
+        do {
+            claimed = head.get();
+            if (claimed - tail > mask) {
+                dropped.increment();
+                return;
+            }
+        } while (!head.compareAndSet(claimed, claimed + 1));
+
+        slots.set((int) (claimed & mask), line);
+        ensureWriter();
+    }
+
+    /**
+     * Writes out whatever is buffered; runs on the writer thread, or on the
+     * caller when flushing at shutdown.
+     */
+    synchronized void drain() {
+        long next = tail;
+        while (next != head.get()) {
+            int index = (int) (next & mask);
+            String line = slots.get(index);
+            if (line == null) {
+                // claimed but not published yet; picked up on the next pass
+                break;
+            }
+            slots.set(index, null);
+            next++;
+            tail = next;
+            try {
+                sink.accept(line);
+                written.increment();
+            } catch (RuntimeException e) {
+                // a broken sink must not kill the writer
+                dropped.increment();
+            }
+        }
+    }
+
+    private void ensureWriter() {
+        if (writer != null) return;
+        synchronized (this) {
+            if (writer != null || stopped) return;
+            ScheduledExecutorService started = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "craftalism-api-log");
+                thread.setDaemon(true);
+                return thread;
+            });
+            started.scheduleWithFixedDelay(this::drain, DRAIN_INTERVAL_MILLIS, DRAIN_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+            writer = started;
+        }
+    }
+
+    /**
+     * Stops the writer after draining what is left. Entries after this are
+     * dropped until the log is configured again.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        if (writer != null) {
+            writer.shutdownNow();
+            writer = null;
+        }
+        drain();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(level, defaultSampleRate, written.sum(), sampledOut.sum(), dropped.sum());
+    }
+
+    private static String preview(String body) {
+        if (body == null) return "<null>";
+        String cut = body.length() > PREVIEW_CHARS ? body.substring(0, PREVIEW_CHARS) + "..." : body;
+        return cut.replace("\n", "\\n").replace("\"", "'");
+    }
+
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+}
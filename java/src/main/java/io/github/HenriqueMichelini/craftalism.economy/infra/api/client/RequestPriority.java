@@ -0,0 +1,14 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+/**
+ * Scheduling class of an API call. When the client is saturated, queued calls
+ * are released in declaration order and shed in reverse order.
+ */
+public enum RequestPriority {
+    /** A player is waiting on the result (/pay, /balance). */
+    INTERACTIVE,
+    /** Work the player does not wait on directly, e.g. join preloading. */
+    BACKGROUND,
+    /** Fan-out work with a graceful fallback, e.g. baltop name enrichment. */
+    BULK
+}
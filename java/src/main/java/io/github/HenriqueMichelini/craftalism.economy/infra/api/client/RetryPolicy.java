@@ -0,0 +1,165 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous retry with bounded attempts and decorrelated jitter.
+ * <p>
+ * Waits are scheduled on the JDK delayed executor, so no thread sleeps between
+ * attempts. What is retryable is decided per call by a {@link Classifier}, which
+ * keeps the decision about idempotency with the caller that knows the operation.
+ */
+public class RetryPolicy {
+
+    /**
+     * Decides whether an attempt outcome should be retried.
+     */
+    @FunctionalInterface
+    public interface Classifier<T> {
+        /**
+         * @return {@code null} if the outcome is final, otherwise the minimum
+         * delay before the next attempt ({@link Duration#ZERO} if the server gave no hint)
+         */
+        Duration retryDelay(T result, Throwable error);
+    }
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(100);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(2);
+    private static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Duration maxRetryAfter;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public RetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY, DEFAULT_MAX_RETRY_AFTER);
+    }
+
+    /**
+     * @param maxRetryAfter a server asking us to wait longer than this is not retried;
+     *                      the original outcome is returned instead
+     */
+    public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Duration maxRetryAfter) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be >= 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = Math.max(1L, baseDelay.toMillis());
+        this.maxDelayMillis = Math.max(baseDelayMillis, maxDelay.toMillis());
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call, Classifier<T> classifier) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(call, classifier, 1, baseDelayMillis, result);
+        return result;
+    }
+
+    private <T> void attempt(
+            Supplier<CompletableFuture<T>> call,
+            Classifier<T> classifier,
+            int attempt,
+            long previousDelayMillis,
+            CompletableFuture<T> result
+    ) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+
+        future.whenComplete((value, error) -> {
+            Duration hint = result.isDone() ? null : classify(classifier, value, error);
+            boolean retry = hint != null
+                    && attempt < maxAttempts
+                    && hint.compareTo(maxRetryAfter) <= 0;
+
+            if (!retry) {
+                if (hint != null) {
+                    exhausted.increment();
+                }
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+                return;
+            }
+
+            long delay = Math.max(hint.toMillis(), nextDelayMillis(previousDelayMillis));
+            retries.increment();
+            ApiExecutor.delayed(delay, TimeUnit.MILLISECONDS)
+                    .execute(() -> attempt(call, classifier, attempt + 1, delay, result));
+        });
+    }
+
+    private <T> Duration classify(Classifier<T> classifier, T value, Throwable error) {
+        try {
+            return classifier.retryDelay(value, error);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Decorrelated jitter: a random delay between the base and three times the
+     * previous one, capped. Spreads out clients that failed at the same moment.
+     */
+    long nextDelayMillis(long previousDelayMillis) {
+        long upper = Math.min(maxDelayMillis, Math.max(baseDelayMillis + 1, previousDelayMillis * 3));
+        return Math.min(maxDelayMillis, ThreadLocalRandom.current().nextLong(baseDelayMillis, upper + 1));
+    }
+
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    public long exhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * Reads a {@code Retry-After} header in either delta-seconds or HTTP-date form.
+     */
+    public static Optional<Duration> retryAfter(HttpResponse<?> response) {
+        if (response == null || response.headers() == null) {
+            return Optional.empty();
+        }
+        return response.headers().firstValue("Retry-After").flatMap(RetryPolicy::parseRetryAfter);
+    }
+
+    static Optional<Duration> parseRetryAfter(String value) {
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return Optional.of(Duration.ofSeconds(Math.max(0L, seconds)));
+        } catch (NumberFormatException ignored) {
+            // not delta-seconds, try HTTP-date
+        }
+
+        try {
+            Instant at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration wait = Duration.between(Instant.now(), at);
+            return Optional.of(wait.isNegative() ? Duration.ZERO : wait);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Consistent-hash ring mapping player UUIDs to shard base URLs.
+ * <p>
+ * Every shard is placed on a 64-bit ring at {@code virtualNodes} points and a
+ * player belongs to the first point at or after the hash of their UUID, so
+ * adding or removing one of N shards moves only about 1/N of the players.
+ * The placement is part of the contract with the backend, which must agree on
+ * where a player lives:
+ * <pre>
+ * point(shard, i) = fmix64(fnv1a64(utf8(shard)) + i * 0x9E3779B97F4A7C15)
+ * key(uuid)       = fmix64(msb ^ fmix64(lsb))
+ * </pre>
+ * Instances are immutable; a config change builds a new ring.
+ */
+public final class ShardRing {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double RING_SIZE = 0x1p64;
+
+    private final List<String> shards;
+    private final int virtualNodes;
+    // sorted ring positions and the shard index owning each
+    private final long[] points;
+    private final int[] owners;
+
+    public ShardRing(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.virtualNodes = Math.max(1, virtualNodes);
+
+        int size = this.shards.size() * this.virtualNodes;
+        long[] raw = new long[size];
+        for (int s = 0; s < this.shards.size(); s++) {
+            long base = fnv1a(this.shards.get(s));
+            for (int v = 0; v < this.virtualNodes; v++) {
+                raw[s * this.virtualNodes + v] = fmix64(base + v * GOLDEN_GAMMA);
+            }
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare(raw[a], raw[b]));
+
+        this.points = new long[size];
+        this.owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = raw[order[i]];
+            owners[i] = order[i] / this.virtualNodes;
+        }
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    public int virtualNodes() {
+        return virtualNodes;
+    }
+
+    public String shardFor(UUID uuid) {
+        return shards.get(owners[successor(key(uuid))]);
+    }
+
+    /**
+     * @return the share of the key space each shard owns, in configuration order
+     */
+    public Map<String, Double> ownership() {
+        double[] share = new double[shards.size()];
+        if (points.length == 1) {
+            share[0] = 1.0;
+        }
+        for (int i = 0; i < points.length; i++) {
+            long from = points[i == 0 ? points.length - 1 : i - 1];
+            share[owners[i]] += arc(from, points[i]);
+        }
+
+        Map<String, Double> ownership = new LinkedHashMap<>();
+        for (int s = 0; s < shards.size(); s++) {
+            ownership.put(shards.get(s), share[s]);
+        }
+        return ownership;
+    }
+
+    /**
+     * @return the share of the key space whose shard differs between the two rings,
+     * i.e. how many players a switch from {@code before} to this ring relocates
+     */
+    public double movedFrom(ShardRing before) {
+        long[] merged = new long[points.length + before.points.length];
+        System.arraycopy(points, 0, merged, 0, points.length);
+        System.arraycopy(before.points, 0, merged, points.length, before.points.length);
+        Arrays.sort(merged);
+
+        // no point of either ring falls strictly inside an arc, so its end decides both owners
+        double moved = 0;
+        for (int i = 0; i < merged.length; i++) {
+            long from = merged[i == 0 ? merged.length - 1 : i - 1];
+            long to = merged[i];
+            if (!shardAt(to).equals(before.shardAt(to))) {
+                moved += arc(from, to);
+            }
+        }
+        return moved;
+    }
+
+    private String shardAt(long position) {
+        return shards.get(owners[successor(position)]);
+    }
+
+    private int successor(long position) {
+        int index = Arrays.binarySearch(points, position);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index == points.length ? 0 : index;
+    }
+
+    private static double arc(long from, long to) {
+        long length = to - from;
+        // unsigned distance around the ring
+        return ((length >>> 1) * 2.0 + (length & 1)) / RING_SIZE;
+    }
+
+    static long key(UUID uuid) {
+        return fmix64(uuid.getMostSignificantBits() ^ fmix64(uuid.getLeastSignificantBits()));
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 finalizer
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
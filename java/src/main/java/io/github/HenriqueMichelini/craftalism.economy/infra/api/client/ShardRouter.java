@@ -0,0 +1,134 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Sends each player's calls to the backend partition that owns them. Every
+ * shard has its own {@link HttpClientService}, so breakers, limits and
+ * connections stay per partition; calls that are not about one player, like
+ * name lookups or the leaderboard, go to {@link #all()} and are merged by the
+ * caller.
+ * <p>
+ * {@link #rebalance} swaps in a new {@link ShardRing} atomically. Clients of
+ * shards that are still configured are kept; clients of removed shards are
+ * closed once the calls already sent to them have had time to finish.
+ */
+public final class ShardRouter {
+
+    public record Snapshot(String baseUrl, double ownership, int inFlight, int openBreakers) {}
+
+    public record Rebalance(int shards, List<String> added, List<String> removed, double moved) {}
+
+    private static final long RETIRE_DELAY_SECONDS = 30;
+
+    private final Function<String, HttpClientService> clientFactory;
+    private final Consumer<HttpClientService> clientCloser;
+
+    private volatile State state;
+
+    private record State(ShardRing ring, Map<String, HttpClientService> clients) {}
+
+    /**
+     * @param clientFactory opens the client for a shard base URL
+     * @param clientCloser  releases a client the router no longer needs
+     */
+    public ShardRouter(Function<String, HttpClientService> clientFactory, Consumer<HttpClientService> clientCloser,
+                       List<String> shards, int virtualNodes) {
+        this.clientFactory = clientFactory;
+        this.clientCloser = clientCloser;
+        this.state = build(new ShardRing(shards, virtualNodes), Map.of());
+    }
+
+    /**
+     * @return a router that sends every call to {@code http}; used when sharding is off
+     */
+    public static ShardRouter single(HttpClientService http) {
+        return new ShardRouter(url -> http, client -> {}, List.of(Objects.requireNonNullElse(http.getBaseUrl(), "default")), 1);
+    }
+
+    private State build(ShardRing ring, Map<String, HttpClientService> reuse) {
+        Map<String, HttpClientService> clients = new HashMap<>();
+        for (String shard : ring.shards()) {
+            HttpClientService existing = reuse.get(shard);
+            clients.put(shard, existing != null ? existing : clientFactory.apply(shard));
+        }
+        return new State(ring, Map.copyOf(clients));
+    }
+
+    public HttpClientService forPlayer(UUID uuid) {
+        State current = state;
+        if (current.clients.size() == 1) {
+            return current.clients.values().iterator().next();
+        }
+        return current.clients.get(current.ring.shardFor(uuid));
+    }
+
+    /**
+     * @return one client per shard, in configuration order
+     */
+    public List<HttpClientService> all() {
+        State current = state;
+        return current.ring.shards().stream().map(current.clients::get).toList();
+    }
+
+    public int size() {
+        return state.clients.size();
+    }
+
+    /**
+     * Moves to a new shard list. Players whose shard changes are routed to the
+     * new one from the next call on; moving their data is up to the backend.
+     */
+    public synchronized Rebalance rebalance(List<String> shards, int virtualNodes) {
+        State before = state;
+        ShardRing ring = new ShardRing(shards, virtualNodes);
+        State after = build(ring, before.clients);
+        state = after;
+
+        List<String> added = new ArrayList<>();
+        for (String shard : ring.shards()) {
+            if (!before.clients.containsKey(shard)) added.add(shard);
+        }
+        List<String> removed = new ArrayList<>();
+        List<HttpClientService> retired = new ArrayList<>();
+        for (String shard : before.ring.shards()) {
+            if (!after.clients.containsKey(shard)) {
+                removed.add(shard);
+                retired.add(before.clients.get(shard));
+            }
+        }
+        if (!retired.isEmpty()) {
+            ApiExecutor.delayed(RETIRE_DELAY_SECONDS, TimeUnit.SECONDS)
+                    .execute(() -> retired.forEach(clientCloser));
+        }
+
+        return new Rebalance(ring.shards().size(), added, removed, ring.movedFrom(before.ring));
+    }
+
+    public List<Snapshot> snapshots() {
+        State current = state;
+        Map<String, Double> ownership = current.ring.ownership();
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (String shard : current.ring.shards()) {
+            HttpClientService http = current.clients.get(shard);
+            int open = (int) http.getCircuitBreakers().snapshots().stream()
+                    .filter(breaker -> breaker.state() != CircuitBreaker.State.CLOSED)
+                    .count();
+            snapshots.add(new Snapshot(shard, ownership.get(shard), http.getConcurrencyLimiter().snapshot().inFlight(),
+                    open));
+        }
+        return snapshots;
+    }
+
+    public void close() {
+        state.clients.values().forEach(clientCloser);
+    }
+}
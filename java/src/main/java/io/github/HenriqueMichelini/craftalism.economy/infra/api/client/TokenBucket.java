@@ -0,0 +1,144 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.RateLimitException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side quota for one endpoint family, kept just under the backend's
+ * so calls wait here instead of bouncing off a 429.
+ * <p>
+ * A call takes a token, or reserves the next one and waits asynchronously for
+ * it to refill; calls that would wait longer than {@code maxWait} are shed with
+ * a {@link RateLimitException} right away. The refill rate is learned from the
+ * backend: a 429 halves it (at most once per second) and, when it carries
+ * {@code Retry-After}, also pauses the bucket for that long; every successful
+ * call wins back a little of the configured rate.
+ */
+public class TokenBucket {
+
+    public record Snapshot(String family, double ratePerSecond, double configuredRate, int burst,
+                           long waited, long shed, long throttled) {}
+
+    private static final double DECREASE_RATIO = 0.5;
+    private static final double MIN_RATE_RATIO = 0.05;
+    private static final int RECOVERY_SUCCESSES = 100;
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String family;
+    private final double configuredRate;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoClock;
+    private final LongFunction<Executor> delayedExecutor;
+
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    private double rate;
+    // negative while calls are waiting on reserved tokens
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+    private long lastDecrease;
+
+    public TokenBucket(String family, double ratePerSecond, int burst, Duration maxWait) {
+        this(family, ratePerSecond, burst, maxWait, System::nanoTime,
+                millis -> ApiExecutor.delayed(millis, TimeUnit.MILLISECONDS));
+    }
+
+    TokenBucket(String family, double ratePerSecond, int burst, Duration maxWait,
+                LongSupplier nanoClock, LongFunction<Executor> delayedExecutor) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Invalid bucket for " + family + ": rate=" + ratePerSecond + ", burst=" + burst);
+        }
+        this.family = family;
+        this.configuredRate = ratePerSecond;
+        this.burst = burst;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.nanoClock = nanoClock;
+        this.delayedExecutor = delayedExecutor;
+        this.rate = ratePerSecond;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+        this.lastDecrease = lastRefill - DECREASE_COOLDOWN_NANOS;
+        this.blockedUntil = lastRefill;
+    }
+
+    /**
+     * @return completes once the call may be sent; fails with {@link RateLimitException} when shed
+     */
+    public CompletableFuture<Void> acquire() {
+        long waitNanos;
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            refill(now);
+
+            waitNanos = Math.max(0, blockedUntil - now);
+            if (tokens < 1) {
+                waitNanos += (long) ((1 - tokens) / rate * 1e9);
+            }
+            if (waitNanos > maxWaitNanos) {
+                shed.increment();
+                return CompletableFuture.failedFuture(new RateLimitException(
+                        "Client-side rate limit for " + family + ", retry in " + TimeUnit.NANOSECONDS.toMillis(waitNanos) + "ms",
+                        Duration.ofNanos(waitNanos)));
+            }
+            tokens -= 1;
+        }
+
+        if (waitNanos == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        waited.increment();
+        CompletableFuture<Void> admitted = new CompletableFuture<>();
+        delayedExecutor.apply(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)))
+                .execute(() -> admitted.complete(null));
+        return admitted;
+    }
+
+    public synchronized void onThrottled(Optional<Duration> retryAfter) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        throttled.increment();
+
+        // a burst of 429s from calls already on the wire is one signal, not many
+        if (now - lastDecrease >= DECREASE_COOLDOWN_NANOS) {
+            rate = Math.max(configuredRate * MIN_RATE_RATIO, rate * DECREASE_RATIO);
+            lastDecrease = now;
+        }
+        tokens = Math.min(tokens, 0);
+        retryAfter.ifPresent(delay -> blockedUntil = Math.max(blockedUntil, now + delay.toNanos()));
+    }
+
+    public synchronized void onSuccess() {
+        if (rate < configuredRate) {
+            rate = Math.min(configuredRate, rate + configuredRate / RECOVERY_SUCCESSES);
+        }
+    }
+
+    // caller holds the monitor
+    private void refill(long now) {
+        long from = Math.max(lastRefill, blockedUntil);
+        if (now > from) {
+            tokens = Math.min(burst, tokens + (now - from) * rate / 1e9);
+        }
+        lastRefill = Math.max(lastRefill, now);
+    }
+
+    public String family() {
+        return family;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(family, rate, configuredRate, burst, waited.sum(), shed.sum(), throttled.sum());
+    }
+}
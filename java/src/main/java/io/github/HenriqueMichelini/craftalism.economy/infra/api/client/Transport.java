@@ -0,0 +1,29 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Moves one HTTP exchange between the plugin and the backend. Everything above
+ * it (coalescing, breakers, limiter, retries, hedging, validators) is shared,
+ * so implementations only deal with getting bytes there and back.
+ *
+ * @see HttpTransport
+ * @see LoopbackTransport
+ * @see UnixSocketTransport
+ * @see WebSocketTransport
+ */
+public interface Transport extends AutoCloseable {
+
+    <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler);
+
+    /**
+     * @return a short name for diagnostics, e.g. {@code http}
+     */
+    String name();
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import javax.net.ssl.SSLSession;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Plumbing shared by the non-{@link java.net.http.HttpClient} transports: reading
+ * a request body out of its publisher and running a response body through the
+ * caller's {@link HttpResponse.BodyHandler}, so decompression and byte
+ * accounting behave the same on every transport.
+ */
+final class TransportSupport {
+
+    private TransportSupport() {
+    }
+
+    static CompletableFuture<byte[]> requestBody(HttpRequest request) {
+        Optional<HttpRequest.BodyPublisher> publisher = request.bodyPublisher();
+        if (publisher.isEmpty()) {
+            return CompletableFuture.completedFuture(new byte[0]);
+        }
+
+        CompletableFuture<byte[]> body = new CompletableFuture<>();
+        publisher.get().subscribe(new Flow.Subscriber<>() {
+            private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                out.write(bytes, 0, bytes.length);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                body.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                body.complete(out.toByteArray());
+            }
+        });
+        return body;
+    }
+
+    static <T> CompletableFuture<HttpResponse<T>> respond(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                          int status, HttpHeaders headers, byte[] body) {
+        HttpResponse.ResponseInfo info = new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return status;
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+
+        HttpResponse.BodySubscriber<T> subscriber = handler.apply(info);
+        subscriber.onSubscribe(new SingleBufferSubscription(subscriber, body));
+
+        return subscriber.getBody().toCompletableFuture()
+                .thenApply(value -> new Response<>(request, status, headers, value));
+    }
+
+    /**
+     * Hands the whole body to the subscriber as one buffer, but only once it
+     * asks for it, and completes after that; streaming handlers that pull
+     * chunk by chunk see the same back-pressure as on the network.
+     */
+    private static final class SingleBufferSubscription implements Flow.Subscription {
+        private final HttpResponse.BodySubscriber<?> subscriber;
+        private final ByteBuffer body;
+
+        private long demand;
+        private boolean bodySent;
+        private boolean done;
+        // set while a request() call is delivering, so re-entrant calls only add demand
+        private boolean emitting;
+
+        private SingleBufferSubscription(HttpResponse.BodySubscriber<?> subscriber, byte[] body) {
+            this.subscriber = subscriber;
+            this.body = body.length > 0 ? ByteBuffer.wrap(body) : null;
+            this.bodySent = body.length == 0;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (done) return;
+                if (n <= 0) {
+                    done = true;
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    if (emitting) return;
+                    emitting = true;
+                }
+            }
+            if (n <= 0) {
+                subscriber.onError(new IllegalArgumentException("non-positive request: " + n));
+                return;
+            }
+
+            while (true) {
+                boolean sendBody;
+                synchronized (this) {
+                    if (done) {
+                        emitting = false;
+                        return;
+                    }
+                    if (bodySent) {
+                        done = true;
+                        sendBody = false;
+                    } else if (demand > 0) {
+                        demand--;
+                        bodySent = true;
+                        sendBody = true;
+                    } else {
+                        emitting = false;
+                        return;
+                    }
+                }
+                if (sendBody) {
+                    subscriber.onNext(List.of(body));
+                } else {
+                    subscriber.onComplete();
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public synchronized void cancel() {
+            done = true;
+        }
+    }
+
+    private record Response<T>(HttpRequest request, int statusCode, HttpHeaders headers, T body)
+            implements HttpResponse<T> {
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP/1.1 over a Unix domain socket, for backends running on the same host.
+ * Skips the TCP stack entirely; each exchange uses its own connection because
+ * connecting to a local socket costs about as much as a pooled lookup.
+ * <p>
+ * Each exchange runs blocking on its own virtual thread. A timed-out or
+ * cancelled exchange closes its socket, which unblocks the worker.
+ */
+public final class UnixSocketTransport implements Transport {
+
+    private static final int MAX_HEADER_LINE = 8 * 1024;
+
+    private final Path socketPath;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("craftalism-api-uds-", 0).factory());
+
+    public UnixSocketTransport(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        return TransportSupport.requestBody(request)
+                .thenCompose(body -> exchange(request, body))
+                .thenCompose(raw -> TransportSupport.respond(request, handler, raw.status, raw.headers, raw.body));
+    }
+
+    private CompletableFuture<RawResponse> exchange(HttpRequest request, byte[] body) {
+        CompletableFuture<RawResponse> result = new CompletableFuture<>();
+        SocketChannel channel;
+        try {
+            channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        request.timeout().ifPresent(t -> result.orTimeout(t.toMillis(), TimeUnit.MILLISECONDS));
+        result.whenComplete((r, e) -> closeQuietly(channel));
+
+        executor.execute(() -> {
+            try {
+                channel.connect(UnixDomainSocketAddress.of(socketPath));
+                OutputStream out = Channels.newOutputStream(channel);
+                out.write(head(request, body.length));
+                out.write(body);
+                out.flush();
+
+                result.complete(read(new BufferedInputStream(Channels.newInputStream(channel)), request.method()));
+            } catch (IOException | RuntimeException e) {
+                // anything left uncaught here would leave the caller waiting for the timeout
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private static byte[] head(HttpRequest request, int contentLength) {
+        String pathAndQuery = request.uri().getRawPath()
+                + (request.uri().getRawQuery() == null ? "" : "?" + request.uri().getRawQuery());
+
+        StringBuilder head = new StringBuilder(256)
+                .append(request.method()).append(' ').append(pathAndQuery).append(" HTTP/1.1\r\n")
+                .append("Host: ").append(request.uri().getHost() == null ? "localhost" : request.uri().getHost()).append("\r\n")
+                .append("Connection: close\r\n");
+        request.headers().map().forEach((name, values) ->
+                values.forEach(value -> head.append(name).append(": ").append(value).append("\r\n")));
+        if (contentLength > 0 || "POST".equals(request.method()) || "PUT".equals(request.method())) {
+            head.append("Content-Length: ").append(contentLength).append("\r\n");
+        }
+        return head.append("\r\n").toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    static RawResponse read(InputStream in, String method) throws IOException {
+        String statusLine = readLine(in);
+        String[] parts = statusLine.split(" ", 3);
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/1.")) {
+            throw new IOException("Malformed status line: " + statusLine);
+        }
+        int status = parseInt(parts[1], 10, "Malformed status line: " + statusLine);
+
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+            int colon = line.indexOf(':');
+            if (colon <= 0) throw new IOException("Malformed header: " + line);
+            headers.computeIfAbsent(line.substring(0, colon).trim(), k -> new ArrayList<>())
+                    .add(line.substring(colon + 1).trim());
+        }
+        HttpHeaders httpHeaders = HttpHeaders.of(headers, (k, v) -> true);
+
+        byte[] body;
+        if ("HEAD".equals(method) || status == 204 || status == 304 || status / 100 == 1) {
+            body = new byte[0];
+        } else if (httpHeaders.firstValue("Transfer-Encoding").map(v -> v.toLowerCase(Locale.ROOT).contains("chunked")).orElse(false)) {
+            body = readChunked(in);
+        } else if (httpHeaders.firstValueAsLong("Content-Length").isPresent()) {
+            int length = (int) httpHeaders.firstValueAsLong("Content-Length").getAsLong();
+            body = in.readNBytes(length);
+            if (body.length < length) throw new EOFException("Truncated body");
+        } else {
+            body = in.readAllBytes();
+        }
+
+        return new RawResponse(status, httpHeaders, body);
+    }
+
+    private static byte[] readChunked(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        while (true) {
+            String sizeLine = readLine(in);
+            int semicolon = sizeLine.indexOf(';');
+            int size = parseInt((semicolon < 0 ? sizeLine : sizeLine.substring(0, semicolon)).trim(), 16,
+                    "Malformed chunk size: " + sizeLine);
+            if (size == 0) {
+                // skip trailers
+                while (!readLine(in).isEmpty()) { }
+                return body.toByteArray();
+            }
+            byte[] chunk = in.readNBytes(size);
+            if (chunk.length < size) throw new EOFException("Truncated chunk");
+            body.write(chunk, 0, chunk.length);
+            readLine(in);
+        }
+    }
+
+    private static int parseInt(String value, int radix, String malformed) throws IOException {
+        try {
+            int parsed = Integer.parseInt(value, radix);
+            if (parsed < 0) throw new IOException(malformed);
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IOException(malformed, e);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                int end = line.length();
+                if (end > 0 && line.charAt(end - 1) == '\r') line.setLength(end - 1);
+                return line.toString();
+            }
+            if (line.length() >= MAX_HEADER_LINE) throw new IOException("Header line too long");
+            line.append((char) b);
+        }
+        throw new EOFException("Connection closed mid-response");
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // nothing left to release
+        }
+    }
+
+    @Override
+    public String name() {
+        return "unix:" + socketPath;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    record RawResponse(int status, HttpHeaders headers, byte[] body) {}
+}
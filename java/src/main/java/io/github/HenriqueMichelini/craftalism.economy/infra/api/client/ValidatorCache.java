@@ -0,0 +1,255 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * HTTP validator cache for GETs. Responses carrying an {@code ETag} or
+ * {@code Last-Modified} are remembered per URI; the next GET for that URI is
+ * sent as a conditional request and a {@code 304 Not Modified} is answered from
+ * the stored body.
+ * <p>
+ * Responses backed by an entry also carry its parsed value, so callers that
+ * decode through {@link #decode(HttpResponse, Function)} only pay for Gson once
+ * per representation instead of once per request. Binary bodies are stored as
+ * their bytes, see {@link WireFormat#binaryBody(HttpResponse)}.
+ */
+public class ValidatorCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1_024;
+    private static final long DEFAULT_TTL_MINUTES = 10;
+
+    private final Cache<String, Entry> entries;
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public ValidatorCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL_MINUTES);
+    }
+
+    public ValidatorCache(int maxEntries, long ttlMinutes) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(ttlMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * @return the stored entry for a URI, whose validators should be sent with the next request
+     */
+    public Optional<Entry> lookup(String uri) {
+        return Optional.ofNullable(entries.getIfPresent(uri));
+    }
+
+    /**
+     * Folds a response into the cache.
+     *
+     * @param previous the entry whose validators were sent, if any
+     * @return the response to hand to callers; a 304 answering {@code previous} becomes a 200 with its body
+     */
+    public HttpResponse<String> update(String uri, Entry previous, HttpResponse<String> resp) {
+        return store(uri, previous, resp, r -> {
+            byte[] binary = r instanceof WireFormat.RawBody raw ? raw.binaryBody() : null;
+            return binary != null
+                    ? new Stored(null, binary, binary.length)
+                    : new Stored(r.body(), null, r.body().length());
+        });
+    }
+
+    /**
+     * Same as {@link #update(String, Entry, HttpResponse)} for bodies that are
+     * already decoded, e.g. by {@link JsonArrayBodyHandler}; the entry keeps the
+     * decoded value itself. Such entries must not share a key with text ones.
+     *
+     * @param size how many bytes a body stands for, counted in {@link #bytesSaved()} on each 304
+     */
+    public <T> HttpResponse<T> update(String uri, Entry previous, HttpResponse<T> resp, ToLongFunction<T> size) {
+        return store(uri, previous, resp, r -> new Stored(r.body(), null, size.applyAsLong(r.body())));
+    }
+
+    private <T> HttpResponse<T> store(String uri, Entry previous, HttpResponse<T> resp,
+                                      Function<HttpResponse<T>, Stored> store) {
+        int status = resp.statusCode();
+
+        if (status == 304 && previous != null) {
+            revalidated.increment();
+            bytesSaved.add(previous.size);
+            return new ValidatedResponse<>(resp, previous);
+        }
+
+        if (status == 200) {
+            Optional<String> etag = resp.headers().firstValue("ETag");
+            Optional<String> lastModified = resp.headers().firstValue("Last-Modified");
+            if (etag.isEmpty() && lastModified.isEmpty()) {
+                entries.invalidate(uri);
+                return resp;
+            }
+
+            Entry entry = new Entry(etag.orElse(null), lastModified.orElse(null), resp.headers(), store.apply(resp));
+            entries.put(uri, entry);
+            stored.increment();
+            return new ValidatedResponse<>(resp, entry);
+        }
+
+        if (status == 404 || status == 410) {
+            entries.invalidate(uri);
+        }
+        return resp;
+    }
+
+    /**
+     * Parses a response, reusing the value already parsed for the same cached
+     * representation when there is one.
+     */
+    public static <T> T decode(HttpResponse<String> resp, Function<HttpResponse<String>, T> parser) {
+        if (resp instanceof ValidatedResponse<?> validated) {
+            return validated.entry.parsed(() -> parser.apply(resp));
+        }
+        return parser.apply(resp);
+    }
+
+    public long revalidatedCount() {
+        return revalidated.sum();
+    }
+
+    public long storedCount() {
+        return stored.sum();
+    }
+
+    public long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    public static final class Entry {
+        private final String etag;
+        private final String lastModified;
+        // the 200's headers; a 304 may omit Content-Type, which decides how the body is read
+        private final HttpHeaders headers;
+        // the raw text, or the decoded value for entries stored through the sized update;
+        // null for binary bodies until something asks for their text
+        private Object body;
+        private final byte[] binary;
+        private final long size;
+        private Object parsed;
+
+        private Entry(String etag, String lastModified, HttpHeaders headers, Stored stored) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.headers = headers;
+            this.body = stored.body();
+            this.binary = stored.binary();
+            this.size = stored.size();
+        }
+
+        public void applyTo(HttpRequest.Builder request) {
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                request.header("If-Modified-Since", lastModified);
+            }
+        }
+
+        // a URI always decodes to the same type, so one memoized value per entry is enough
+        @SuppressWarnings("unchecked")
+        private synchronized <T> T parsed(Supplier<T> parser) {
+            if (parsed == null) {
+                parsed = parser.get();
+            }
+            return (T) parsed;
+        }
+
+        private synchronized Object body() {
+            if (body == null && binary != null) {
+                body = new String(binary, StandardCharsets.ISO_8859_1);
+            }
+            return body;
+        }
+    }
+
+    private record Stored(Object body, byte[] binary, long size) {}
+
+    /**
+     * A response whose body is owned by a cache entry. Revalidated 304s are
+     * reported as 200 so callers never see the conditional exchange.
+     */
+    private static final class ValidatedResponse<T> implements HttpResponse<T>, WireFormat.RawBody {
+        private final HttpResponse<T> delegate;
+        private final Entry entry;
+
+        private ValidatedResponse(HttpResponse<T> delegate, Entry entry) {
+            this.delegate = delegate;
+            this.entry = entry;
+        }
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpRequest request() {
+            return delegate.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return delegate.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return entry.headers;
+        }
+
+        // an entry only ever answers the kind of request that stored it
+        @Override
+        @SuppressWarnings("unchecked")
+        public T body() {
+            return (T) entry.body();
+        }
+
+        @Override
+        public byte[] binaryBody() {
+            return entry.binary;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return delegate.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return delegate.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return delegate.version();
+        }
+    }
+}
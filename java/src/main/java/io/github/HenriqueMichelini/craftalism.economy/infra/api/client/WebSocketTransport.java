@@ -0,0 +1,367 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Multiplexes every API call over one long-lived WebSocket. Each request is a
+ * text frame tagged with an id and answered by a frame carrying the same id,
+ * so calls complete out of order and skip per-request HTTP framing:
+ * <pre>
+ * -> {"id":7,"method":"GET","path":"/api/balances/…","headers":{"If-None-Match":["\"a1\""]},"body":""}
+ * <- {"id":7,"status":200,"headers":{"ETag":["\"a2\""]},"body":"{…}"}
+ * </pre>
+ * A dropped connection is re-established with exponential backoff and the
+ * calls still waiting for an answer are replayed on it. Non-idempotent calls
+ * that had already been written are failed instead, since the backend may have
+ * applied them; that matches what a broken HTTP exchange does today.
+ */
+public final class WebSocketTransport implements Transport {
+
+    private static final Set<String> REPLAYABLE_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+    // bodies travel inside text frames, so neither content coding nor the binary wire format applies
+    private static final Set<String> DROPPED_HEADERS = Set.of("accept", "accept-encoding");
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final long MIN_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final int FRAME_PREVIEW_CHARS = 200;
+    private static final Logger LOGGER = Logger.getLogger("CraftalismEconomy.websocket");
+
+    private final URI endpoint;
+    private final HttpClient http;
+    private final AtomicLong ids = new AtomicLong();
+    private final ConcurrentHashMap<Long, Call> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder reconnects = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    private final Object lock = new Object();
+    private CompletableFuture<WebSocket> connection;
+    // a WebSocket accepts one outstanding send at a time, so writes are chained per connection
+    private CompletableFuture<?> sendTail = CompletableFuture.completedFuture(null);
+    private long backoffMillis = MIN_BACKOFF_MILLIS;
+    private boolean everConnected;
+    private boolean closed;
+
+    public WebSocketTransport(URI endpoint) {
+        this.endpoint = endpoint;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(ApiExecutor.virtual())
+                .build();
+    }
+
+    /**
+     * @return the WebSocket endpoint served next to an HTTP base URL, e.g. {@code http://api:8080} + {@code /ws}
+     */
+    public static URI endpointFor(String baseUrl, String path) {
+        return URI.create(baseUrl.replaceFirst("^http", "ws") + path);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        Call call = new Call(ids.incrementAndGet(), request.method());
+        request.timeout().ifPresent(t -> call.reply.orTimeout(t.toMillis(), TimeUnit.MILLISECONDS));
+
+        CompletableFuture<HttpResponse<T>> result = TransportSupport.requestBody(request)
+                .thenCompose(body -> {
+                    call.frame = encode(call.id, request, body);
+                    inFlight.put(call.id, call);
+                    write(call);
+                    return call.reply;
+                })
+                .thenCompose(reply -> TransportSupport.respond(request, handler, reply.status(),
+                        HttpHeaders.of(reply.headers(), (k, v) -> true),
+                        reply.body().getBytes(StandardCharsets.UTF_8)));
+
+        // a cancelled or timed-out call is forgotten so it is never replayed
+        result.whenComplete((resp, err) -> {
+            inFlight.remove(call.id);
+            call.reply.cancel(false);
+        });
+        return result;
+    }
+
+    private void write(Call call) {
+        synchronized (lock) {
+            if (closed) {
+                call.reply.completeExceptionally(new IOException("WebSocket transport is closed"));
+                return;
+            }
+            enqueue(call, connect());
+        }
+    }
+
+    // caller holds lock
+    private void enqueue(Call call, CompletableFuture<WebSocket> via) {
+        call.via = via;
+        sendTail = sendTail
+                .handle((v, err) -> null)
+                .thenCompose(v -> via)
+                .thenCompose(ws -> {
+                    if (call.reply.isDone() || call.via != via) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    call.written = true;
+                    return ws.sendText(call.frame, true);
+                });
+    }
+
+    // caller holds lock
+    private CompletableFuture<WebSocket> connect() {
+        if (connection != null) return connection;
+
+        CompletableFuture<WebSocket> attempt = http.newWebSocketBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .buildAsync(endpoint, new Listener());
+        connection = attempt;
+        sendTail = CompletableFuture.completedFuture(null);
+        attempt.whenComplete((ws, err) -> {
+            if (err != null) {
+                lost(attempt);
+            } else {
+                connected(attempt);
+            }
+        });
+        return attempt;
+    }
+
+    private void connected(CompletableFuture<WebSocket> current) {
+        synchronized (lock) {
+            if (connection != current) return;
+            backoffMillis = MIN_BACKOFF_MILLIS;
+            if (everConnected) {
+                reconnects.increment();
+            }
+            everConnected = true;
+
+            for (Call call : inFlight.values()) {
+                if (call.via != current && !call.reply.isDone()) {
+                    replayed.increment();
+                    enqueue(call, current);
+                }
+            }
+        }
+    }
+
+    private void dropped(WebSocket ws) {
+        synchronized (lock) {
+            if (connection != null && !connection.isCompletedExceptionally() && connection.getNow(null) == ws) {
+                lost(connection);
+            }
+        }
+    }
+
+    private void lost(CompletableFuture<WebSocket> dropped) {
+        synchronized (lock) {
+            if (connection != dropped) return;
+            connection = null;
+
+            for (Call call : inFlight.values()) {
+                if (call.via == dropped && call.written && !REPLAYABLE_METHODS.contains(call.method)) {
+                    call.reply.completeExceptionally(new IOException(
+                            "Connection lost before " + call.method + " #" + call.id + " was answered"));
+                }
+            }
+            if (closed || inFlight.isEmpty()) return;
+
+            long delay = backoffMillis;
+            backoffMillis = Math.min(MAX_BACKOFF_MILLIS, backoffMillis * 2);
+            ApiExecutor.delayed(delay, TimeUnit.MILLISECONDS).execute(this::reconnect);
+        }
+    }
+
+    private void reconnect() {
+        synchronized (lock) {
+            if (!closed && connection == null && !inFlight.isEmpty()) {
+                connect();
+            }
+        }
+    }
+
+    private void onFrame(String text) {
+        JsonElement parsed;
+        try {
+            parsed = JsonParser.parseString(text);
+        } catch (JsonParseException e) {
+            dropFrame("it is not valid JSON", text);
+            return;
+        }
+        JsonObject frame = parsed.isJsonObject() ? parsed.getAsJsonObject() : null;
+        if (frame == null || !isNumber(frame.get("id"))) {
+            // a frame we cannot correlate can only be dropped; its caller times out
+            dropFrame("it has no numeric id", text);
+            return;
+        }
+
+        Call call = inFlight.remove(frame.get("id").getAsLong());
+        if (call == null) return;
+
+        JsonElement headers = frame.get("headers");
+        JsonElement body = frame.get("body");
+        if (!isNumber(frame.get("status"))
+                || (headers != null && !headers.isJsonNull() && !headers.isJsonObject())
+                || (body != null && !body.isJsonNull() && !body.isJsonPrimitive())) {
+            dropFrame("its status, headers or body are malformed", text);
+            call.reply.completeExceptionally(new IOException("Malformed reply to " + call.method + " #" + call.id));
+            return;
+        }
+
+        call.reply.complete(new Reply(frame.get("status").getAsInt(),
+                headersOf(headers != null && headers.isJsonObject() ? headers.getAsJsonObject() : null),
+                body == null || body.isJsonNull() ? "" : body.getAsString()));
+    }
+
+    private static boolean isNumber(JsonElement element) {
+        return element != null && element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber();
+    }
+
+    private static void dropFrame(String reason, String text) {
+        String preview = text.length() > FRAME_PREVIEW_CHARS ? text.substring(0, FRAME_PREVIEW_CHARS) + "…" : text;
+        LOGGER.warning("Dropped WebSocket frame because " + reason + ": " + preview);
+    }
+
+    private static String encode(long id, HttpRequest request, byte[] body) {
+        JsonObject headers = new JsonObject();
+        request.headers().map().forEach((name, values) -> {
+            if (DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) return;
+            JsonArray array = new JsonArray();
+            values.forEach(array::add);
+            headers.add(name, array);
+        });
+
+        String uriPath = request.uri().getRawPath();
+        String query = request.uri().getRawQuery();
+
+        JsonObject frame = new JsonObject();
+        frame.addProperty("id", id);
+        frame.addProperty("method", request.method());
+        frame.addProperty("path", query == null ? uriPath : uriPath + "?" + query);
+        frame.add("headers", headers);
+        frame.addProperty("body", new String(body, StandardCharsets.UTF_8));
+        return frame.toString();
+    }
+
+    private static Map<String, List<String>> headersOf(JsonObject json) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (json == null) return headers;
+
+        for (Map.Entry<String, JsonElement> header : json.entrySet()) {
+            List<String> values = new ArrayList<>();
+            if (header.getValue().isJsonArray()) {
+                header.getValue().getAsJsonArray().forEach(v -> {
+                    if (v.isJsonPrimitive()) values.add(v.getAsString());
+                });
+            } else if (header.getValue().isJsonPrimitive()) {
+                values.add(header.getValue().getAsString());
+            }
+            headers.put(header.getKey(), values);
+        }
+        return headers;
+    }
+
+    public long reconnects() {
+        return reconnects.sum();
+    }
+
+    public long replayed() {
+        return replayed.sum();
+    }
+
+    @Override
+    public String name() {
+        return "websocket";
+    }
+
+    @Override
+    public void close() {
+        CompletableFuture<WebSocket> current;
+        synchronized (lock) {
+            closed = true;
+            current = connection;
+            connection = null;
+        }
+
+        IOException error = new IOException("WebSocket transport is closed");
+        inFlight.values().forEach(call -> call.reply.completeExceptionally(error));
+        inFlight.clear();
+
+        if (current != null) {
+            current.thenAccept(ws -> ws.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown"));
+        }
+    }
+
+    private static final class Call {
+        private final long id;
+        private final String method;
+        private final CompletableFuture<Reply> reply = new CompletableFuture<>();
+        private volatile String frame;
+        // both only change under the transport lock or on its send chain
+        private volatile CompletableFuture<WebSocket> via;
+        private volatile boolean written;
+
+        private Call(long id, String method) {
+            this.id = id;
+            this.method = method;
+        }
+    }
+
+    private record Reply(int status, Map<String, List<String>> headers, String body) {}
+
+    private final class Listener implements WebSocket.Listener {
+        private final StringBuilder partial = new StringBuilder();
+
+        @Override
+        public void onOpen(WebSocket ws) {
+            ws.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                String text = partial.toString();
+                partial.setLength(0);
+                onFrame(text);
+            }
+            ws.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket ws, int statusCode, String reason) {
+            dropped(ws);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket ws, Throwable error) {
+            dropped(ws);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response encoding the client asks for. The backend picks the actual one per
+ * response and says so in {@code Content-Type}, so services must check
+ * {@link #isBinary(HttpResponse)} rather than assume.
+ */
+public enum WireFormat {
+
+    JSON("application/json"),
+
+    /** {@link BinaryDtoCodec}, falling back to JSON on backends that do not speak it. */
+    BINARY(BinaryDtoCodec.MEDIA_TYPE + ", application/json;q=0.5");
+
+    private final String accept;
+
+    WireFormat(String accept) {
+        this.accept = accept;
+    }
+
+    public String accept() {
+        return accept;
+    }
+
+    public static boolean isBinary(HttpResponse<?> resp) {
+        return resp.headers().firstValue("Content-Type").map(BinaryDtoCodec::isBinary).orElse(false);
+    }
+
+    /**
+     * The bytes of a binary response body. Responses read by this client keep
+     * them as they arrived; any other {@code HttpResponse<String>} is taken to
+     * carry them one byte per Latin-1 char.
+     */
+    public static byte[] binaryBody(HttpResponse<String> resp) {
+        if (resp instanceof RawBody raw) {
+            byte[] binary = raw.binaryBody();
+            if (binary != null) return binary;
+        }
+        return resp.body().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * A response that still holds its binary body as bytes.
+     */
+    interface RawBody {
+        /**
+         * @return the body bytes, or {@code null} when the body is text
+         */
+        byte[] binaryBody();
+    }
+}
@@ -0,0 +1,267 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.codec;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of the response DTOs, served as {@link #MEDIA_TYPE}
+ * when the client asks for it. Every record starts with a presence byte (one
+ * bit per field, in declaration order) followed by the present fields:
+ * <ul>
+ *     <li>UUIDs as two big-endian longs (16 bytes)</li>
+ *     <li>amounts and ids as zig-zag varints</li>
+ *     <li>timestamps as zig-zag varint epoch millis</li>
+ *     <li>strings as a varint byte length followed by UTF-8</li>
+ * </ul>
+ * Lists are a varint count followed by the records.
+ * <p>
+ * Decoding failures throw {@link IllegalArgumentException}.
+ */
+public final class BinaryDtoCodec {
+
+    public static final String MEDIA_TYPE = "application/vnd.craftalism.v1+binary";
+
+    private BinaryDtoCodec() {
+    }
+
+    public static boolean isBinary(String contentType) {
+        return contentType != null && contentType.regionMatches(true, 0, MEDIA_TYPE, 0, MEDIA_TYPE.length());
+    }
+
+    public static byte[] encodeBalance(BalanceResponseDTO dto) {
+        Writer out = new Writer(24);
+        writeBalance(out, dto);
+        return out.toByteArray();
+    }
+
+    public static byte[] encodeBalances(List<BalanceResponseDTO> dtos) {
+        Writer out = new Writer(4 + dtos.size() * 24);
+        out.varint(dtos.size());
+        dtos.forEach(dto -> writeBalance(out, dto));
+        return out.toByteArray();
+    }
+
+    public static byte[] encodePlayer(PlayerResponseDTO dto) {
+        Writer out = new Writer(48);
+        out.flags(dto.uuid() != null, dto.name() != null, dto.createdAt() != null);
+        if (dto.uuid() != null) out.uuid(dto.uuid());
+        if (dto.name() != null) out.string(dto.name());
+        if (dto.createdAt() != null) out.zigzag(dto.createdAt().toEpochMilli());
+        return out.toByteArray();
+    }
+
+    public static byte[] encodeTransaction(TransactionResponseDTO dto) {
+        Writer out = new Writer(56);
+        out.flags(dto.id() != null, dto.fromPlayerUuid() != null, dto.toPlayerUuid() != null,
+                dto.amount() != null, dto.createdAt() != null);
+        if (dto.id() != null) out.zigzag(dto.id());
+        if (dto.fromPlayerUuid() != null) out.uuid(dto.fromPlayerUuid());
+        if (dto.toPlayerUuid() != null) out.uuid(dto.toPlayerUuid());
+        if (dto.amount() != null) out.zigzag(dto.amount());
+        if (dto.createdAt() != null) out.zigzag(dto.createdAt().toEpochMilli());
+        return out.toByteArray();
+    }
+
+    public static BalanceResponseDTO decodeBalance(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        BalanceResponseDTO dto = readBalance(in);
+        in.expectEnd();
+        return dto;
+    }
+
+    public static List<BalanceResponseDTO> decodeBalances(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        int count = in.count();
+        List<BalanceResponseDTO> dtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dtos.add(readBalance(in));
+        }
+        in.expectEnd();
+        return dtos;
+    }
+
+    public static PlayerResponseDTO decodePlayer(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        int flags = in.flags();
+        PlayerResponseDTO dto = new PlayerResponseDTO(
+                has(flags, 0) ? in.uuid() : null,
+                has(flags, 1) ? in.string() : null,
+                has(flags, 2) ? Instant.ofEpochMilli(in.zigzag()) : null);
+        in.expectEnd();
+        return dto;
+    }
+
+    public static TransactionResponseDTO decodeTransaction(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        int flags = in.flags();
+        TransactionResponseDTO dto = new TransactionResponseDTO(
+                has(flags, 0) ? in.zigzag() : null,
+                has(flags, 1) ? in.uuid() : null,
+                has(flags, 2) ? in.uuid() : null,
+                has(flags, 3) ? in.zigzag() : null,
+                has(flags, 4) ? Instant.ofEpochMilli(in.zigzag()) : null);
+        in.expectEnd();
+        return dto;
+    }
+
+    private static void writeBalance(Writer out, BalanceResponseDTO dto) {
+        out.flags(dto.uuid() != null, dto.amount() != null);
+        if (dto.uuid() != null) out.uuid(dto.uuid());
+        if (dto.amount() != null) out.zigzag(dto.amount());
+    }
+
+    private static BalanceResponseDTO readBalance(Reader in) {
+        int flags = in.flags();
+        return new BalanceResponseDTO(
+                has(flags, 0) ? in.uuid() : null,
+                has(flags, 1) ? in.zigzag() : null);
+    }
+
+    private static boolean has(int flags, int field) {
+        return (flags & (1 << field)) != 0;
+    }
+
+    private static final class Writer {
+        private byte[] buf;
+        private int size;
+
+        private Writer(int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        void flags(boolean... present) {
+            int flags = 0;
+            for (int i = 0; i < present.length; i++) {
+                if (present[i]) flags |= 1 << i;
+            }
+            put((byte) flags);
+        }
+
+        void uuid(UUID uuid) {
+            fixed64(uuid.getMostSignificantBits());
+            fixed64(uuid.getLeastSignificantBits());
+        }
+
+        void zigzag(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            put((byte) value);
+        }
+
+        void string(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buf, size, utf8.length);
+            size += utf8.length;
+        }
+
+        private void fixed64(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void put(byte b) {
+            ensure(1);
+            buf[size++] = b;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return size == buf.length ? buf : Arrays.copyOf(buf, size);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        private Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        int flags() {
+            return next() & 0xff;
+        }
+
+        UUID uuid() {
+            return new UUID(fixed64(), fixed64());
+        }
+
+        long zigzag() {
+            long raw = varint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("Varint longer than 64 bits at offset " + pos);
+        }
+
+        int count() {
+            long count = varint();
+            // every record is at least its presence byte, so a larger count is corrupt
+            if (count < 0 || count > buf.length - pos) {
+                throw new IllegalArgumentException("Invalid element count " + count);
+            }
+            return (int) count;
+        }
+
+        String string() {
+            int length = count();
+            String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        void expectEnd() {
+            if (pos != buf.length) {
+                throw new IllegalArgumentException((buf.length - pos) + " trailing bytes");
+            }
+        }
+
+        private long fixed64() {
+            if (buf.length - pos < 8) throw truncated();
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buf[pos++] & 0xff);
+            }
+            return value;
+        }
+
+        private byte next() {
+            if (pos >= buf.length) throw truncated();
+            return buf[pos++];
+        }
+
+        private IllegalArgumentException truncated() {
+            return new IllegalArgumentException("Truncated binary body at offset " + pos);
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceOperationDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceUpdateRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BatchResultDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionBatchResultDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hand-written streaming Gson adapters for every DTO in {@code infra.api.dto}
+ * and for lists of them. They read and write the same JSON as Gson's
+ * reflective adapters: component names as keys, null components left out,
+ * timestamps as ISO-8601 and unknown keys skipped. But they go straight from
+ * tokens to the record constructor, with no reflection and no intermediate tree.
+ * <p>
+ * Register {@link #FACTORY} on the {@link com.google.gson.GsonBuilder}; the
+ * list types below are the ones the services parse and send.
+ */
+public final class JsonDtoAdapters {
+
+    public static final Type BALANCE_LIST = listOf(BalanceResponseDTO.class);
+    public static final Type BALANCE_OPERATION_LIST = listOf(BalanceOperationDTO.class);
+    public static final Type BATCH_RESULT_LIST = listOf(BatchResultDTO.class);
+    public static final Type TRANSACTION_REQUEST_LIST = listOf(TransactionRequestDTO.class);
+    public static final Type TRANSACTION_BATCH_RESULT_LIST = listOf(TransactionBatchResultDTO.class);
+
+    private static final TypeAdapter<TransactionResponseDTO> TRANSACTION_RESPONSE = new TransactionResponseAdapter().nullSafe();
+
+    private static final Map<Class<?>, TypeAdapter<?>> ADAPTERS = Map.of(
+            BalanceOperationDTO.class, new BalanceOperationAdapter().nullSafe(),
+            BalanceRequestDTO.class, new BalanceRequestAdapter().nullSafe(),
+            BalanceResponseDTO.class, new BalanceResponseAdapter().nullSafe(),
+            BalanceUpdateRequestDTO.class, new BalanceUpdateRequestAdapter().nullSafe(),
+            BatchResultDTO.class, new BatchResultAdapter().nullSafe(),
+            PlayerRequestDTO.class, new PlayerRequestAdapter().nullSafe(),
+            PlayerResponseDTO.class, new PlayerResponseAdapter().nullSafe(),
+            TransactionBatchResultDTO.class, new TransactionBatchResultAdapter().nullSafe(),
+            TransactionRequestDTO.class, new TransactionRequestAdapter().nullSafe(),
+            TransactionResponseDTO.class, TRANSACTION_RESPONSE
+    );
+
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<? super T> raw = type.getRawType();
+            TypeAdapter<?> adapter = ADAPTERS.get(raw);
+            if (adapter != null) {
+                return (TypeAdapter<T>) adapter;
+            }
+            if ((raw == List.class || raw == Collection.class)
+                    && type.getType() instanceof ParameterizedType parameterized
+                    && parameterized.getActualTypeArguments()[0] instanceof Class<?> element
+                    && ADAPTERS.containsKey(element)) {
+                return (TypeAdapter<T>) new ListAdapter<>(ADAPTERS.get(element)).nullSafe();
+            }
+            return null;
+        }
+    };
+
+    private JsonDtoAdapters() {
+    }
+
+    private static Type listOf(Class<?> element) {
+        return TypeToken.getParameterized(List.class, element).getType();
+    }
+
+    private static final class ListAdapter<E> extends TypeAdapter<List<E>> {
+        private final TypeAdapter<E> element;
+
+        @SuppressWarnings("unchecked")
+        private ListAdapter(TypeAdapter<?> element) {
+            this.element = (TypeAdapter<E>) element;
+        }
+
+        @Override
+        public void write(JsonWriter out, List<E> list) throws IOException {
+            out.beginArray();
+            for (E value : list) {
+                element.write(out, value);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public List<E> read(JsonReader in) throws IOException {
+            List<E> list = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                list.add(element.read(in));
+            }
+            in.endArray();
+            return list;
+        }
+    }
+
+    private static final class BalanceOperationAdapter extends TypeAdapter<BalanceOperationDTO> {
+        @Override
+        public void write(JsonWriter out, BalanceOperationDTO dto) throws IOException {
+            out.beginObject();
+            writeUuid(out, "uuid", dto.uuid());
+            writeString(out, "operation", dto.operation());
+            out.name("amount").value(dto.amount());
+            out.endObject();
+        }
+
+        @Override
+        public BalanceOperationDTO read(JsonReader in) throws IOException {
+            UUID uuid = null;
+            String operation = null;
+            long amount = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "uuid" -> uuid = readUuid(in);
+                    case "operation" -> operation = readString(in);
+                    case "amount" -> amount = readLong(in, 0L);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new BalanceOperationDTO(uuid, operation, amount);
+        }
+    }
+
+    private static final class BalanceRequestAdapter extends TypeAdapter<BalanceRequestDTO> {
+        @Override
+        public void write(JsonWriter out, BalanceRequestDTO dto) throws IOException {
+            out.beginObject();
+            writeUuid(out, "uuid", dto.uuid());
+            writeLong(out, "amount", dto.amount());
+            out.endObject();
+        }
+
+        @Override
+        public BalanceRequestDTO read(JsonReader in) throws IOException {
+            UUID uuid = null;
+            Long amount = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "uuid" -> uuid = readUuid(in);
+                    case "amount" -> amount = readLong(in, null);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new BalanceRequestDTO(uuid, amount);
+        }
+    }
+
+    private static final class BalanceResponseAdapter extends TypeAdapter<BalanceResponseDTO> {
+        @Override
+        public void write(JsonWriter out, BalanceResponseDTO dto) throws IOException {
+            out.beginObject();
+            writeUuid(out, "uuid", dto.uuid());
+            writeLong(out, "amount", dto.amount());
+            out.endObject();
+        }
+
+        @Override
+        public BalanceResponseDTO read(JsonReader in) throws IOException {
+            UUID uuid = null;
+            Long amount = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "uuid" -> uuid = readUuid(in);
+                    case "amount" -> amount = readLong(in, null);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new BalanceResponseDTO(uuid, amount);
+        }
+    }
+
+    private static final class BalanceUpdateRequestAdapter extends TypeAdapter<BalanceUpdateRequestDTO> {
+        @Override
+        public void write(JsonWriter out, BalanceUpdateRequestDTO dto) throws IOException {
+            out.beginObject();
+            out.name("amount").value(dto.amount());
+            out.endObject();
+        }
+
+        @Override
+        public BalanceUpdateRequestDTO read(JsonReader in) throws IOException {
+            long amount = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                if (in.nextName().equals("amount")) {
+                    amount = readLong(in, 0L);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return new BalanceUpdateRequestDTO(amount);
+        }
+    }
+
+    private static final class BatchResultAdapter extends TypeAdapter<BatchResultDTO> {
+        @Override
+        public void write(JsonWriter out, BatchResultDTO dto) throws IOException {
+            out.beginObject();
+            out.name("status").value(dto.status());
+            writeString(out, "error", dto.error());
+            out.endObject();
+        }
+
+        @Override
+        public BatchResultDTO read(JsonReader in) throws IOException {
+            int status = 0;
+            String error = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "status" -> status = readInt(in);
+                    case "error" -> error = readString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new BatchResultDTO(status, error);
+        }
+    }
+
+    private static final class PlayerRequestAdapter extends TypeAdapter<PlayerRequestDTO> {
+        @Override
+        public void write(JsonWriter out, PlayerRequestDTO dto) throws IOException {
+            out.beginObject();
+            writeUuid(out, "uuid", dto.uuid());
+            writeString(out, "name", dto.name());
+            out.endObject();
+        }
+
+        @Override
+        public PlayerRequestDTO read(JsonReader in) throws IOException {
+            UUID uuid = null;
+            String name = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "uuid" -> uuid = readUuid(in);
+                    case "name" -> name = readString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new PlayerRequestDTO(uuid, name);
+        }
+    }
+
+    private static final class PlayerResponseAdapter extends TypeAdapter<PlayerResponseDTO> {
+        @Override
+        public void write(JsonWriter out, PlayerResponseDTO dto) throws IOException {
+            out.beginObject();
+            writeUuid(out, "uuid", dto.uuid());
+            writeString(out, "name", dto.name());
+            writeInstant(out, "createdAt", dto.createdAt());
+            out.endObject();
+        }
+
+        @Override
+        public PlayerResponseDTO read(JsonReader in) throws IOException {
+            UUID uuid = null;
+            String name = null;
+            Instant createdAt = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "uuid" -> uuid = readUuid(in);
+                    case "name" -> name = readString(in);
+                    case "createdAt" -> createdAt = readInstant(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new PlayerResponseDTO(uuid, name, createdAt);
+        }
+    }
+
+    private static final class TransactionRequestAdapter extends TypeAdapter<TransactionRequestDTO> {
+        @Override
+        public void write(JsonWriter out, TransactionRequestDTO dto) throws IOException {
+            out.beginObject();
+            writeUuid(out, "fromPlayerUuid", dto.fromPlayerUuid());
+            writeUuid(out, "toPlayerUuid", dto.toPlayerUuid());
+            writeLong(out, "amount", dto.amount());
+            out.endObject();
+        }
+
+        @Override
+        public TransactionRequestDTO read(JsonReader in) throws IOException {
+            UUID from = null;
+            UUID to = null;
+            Long amount = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "fromPlayerUuid" -> from = readUuid(in);
+                    case "toPlayerUuid" -> to = readUuid(in);
+                    case "amount" -> amount = readLong(in, null);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new TransactionRequestDTO(from, to, amount);
+        }
+    }
+
+    private static final class TransactionResponseAdapter extends TypeAdapter<TransactionResponseDTO> {
+        @Override
+        public void write(JsonWriter out, TransactionResponseDTO dto) throws IOException {
+            out.beginObject();
+            writeLong(out, "id", dto.id());
+            writeUuid(out, "fromPlayerUuid", dto.fromPlayerUuid());
+            writeUuid(out, "toPlayerUuid", dto.toPlayerUuid());
+            writeLong(out, "amount", dto.amount());
+            writeInstant(out, "createdAt", dto.createdAt());
+            out.endObject();
+        }
+
+        @Override
+        public TransactionResponseDTO read(JsonReader in) throws IOException {
+            Long id = null;
+            UUID from = null;
+            UUID to = null;
+            Long amount = null;
+            Instant createdAt = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = readLong(in, null);
+                    case "fromPlayerUuid" -> from = readUuid(in);
+                    case "toPlayerUuid" -> to = readUuid(in);
+                    case "amount" -> amount = readLong(in, null);
+                    case "createdAt" -> createdAt = readInstant(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new TransactionResponseDTO(id, from, to, amount, createdAt);
+        }
+    }
+
+    private static final class TransactionBatchResultAdapter extends TypeAdapter<TransactionBatchResultDTO> {
+        @Override
+        public void write(JsonWriter out, TransactionBatchResultDTO dto) throws IOException {
+            out.beginObject();
+            out.name("status").value(dto.status());
+            if (dto.transaction() != null) {
+                TRANSACTION_RESPONSE.write(out.name("transaction"), dto.transaction());
+            }
+            writeString(out, "error", dto.error());
+            out.endObject();
+        }
+
+        @Override
+        public TransactionBatchResultDTO read(JsonReader in) throws IOException {
+            int status = 0;
+            TransactionResponseDTO transaction = null;
+            String error = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "status" -> status = readInt(in);
+                    case "transaction" -> transaction = TRANSACTION_RESPONSE.read(in);
+                    case "error" -> error = readString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new TransactionBatchResultDTO(status, transaction, error);
+        }
+    }
+
+    // null components are left out, as Gson does by default
+
+    private static void writeUuid(JsonWriter out, String name, UUID value) throws IOException {
+        if (value != null) out.name(name).value(value.toString());
+    }
+
+    private static void writeString(JsonWriter out, String name, String value) throws IOException {
+        if (value != null) out.name(name).value(value);
+    }
+
+    private static void writeLong(JsonWriter out, String name, Long value) throws IOException {
+        if (value != null) out.name(name).value(value);
+    }
+
+    private static void writeInstant(JsonWriter out, String name, Instant value) throws IOException {
+        if (value != null) out.name(name).value(value.toString());
+    }
+
+    private static boolean skipNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    private static UUID readUuid(JsonReader in) throws IOException {
+        return skipNull(in) ? null : UUID.fromString(in.nextString());
+    }
+
+    private static String readString(JsonReader in) throws IOException {
+        return skipNull(in) ? null : in.nextString();
+    }
+
+    private static Long readLong(JsonReader in, Long ifNull) throws IOException {
+        return skipNull(in) ? ifNull : in.nextLong();
+    }
+
+    private static int readInt(JsonReader in) throws IOException {
+        return skipNull(in) ? 0 : in.nextInt();
+    }
+
+    private static Instant readInstant(JsonReader in) throws IOException {
+        return skipNull(in) ? null : Instant.parse(in.nextString());
+    }
+}
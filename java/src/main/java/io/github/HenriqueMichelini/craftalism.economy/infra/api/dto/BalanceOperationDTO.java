@@ -0,0 +1,5 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.dto;
+
+import java.util.UUID;
+
+public record BalanceOperationDTO(UUID uuid, String operation, long amount) {}
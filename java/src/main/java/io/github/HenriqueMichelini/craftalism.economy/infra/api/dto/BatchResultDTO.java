@@ -0,0 +1,3 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.dto;
+
+public record BatchResultDTO(int status, String error) {}
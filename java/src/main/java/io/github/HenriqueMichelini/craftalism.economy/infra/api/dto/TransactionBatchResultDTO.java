@@ -0,0 +1,3 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.dto;
+
+public record TransactionBatchResultDTO(int status, TransactionResponseDTO transaction, String error) {}
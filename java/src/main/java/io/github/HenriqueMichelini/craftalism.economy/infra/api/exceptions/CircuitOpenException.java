@@ -0,0 +1,18 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions;
+
+public class CircuitOpenException extends ServerException {
+
+    public CircuitOpenException() {
+        super("Circuit open");
+    }
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+
+    // thrown on every fast-failed call while the backend is down, keep it cheap
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
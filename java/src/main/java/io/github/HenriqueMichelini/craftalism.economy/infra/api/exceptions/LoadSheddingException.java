@@ -0,0 +1,18 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions;
+
+public class LoadSheddingException extends ClientException {
+
+    public LoadSheddingException() {
+        super("Request shed, client overloaded");
+    }
+
+    public LoadSheddingException(String message) {
+        super(message);
+    }
+
+    // raised in bulk during overload, skip the stack trace
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,12 +1,28 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions;
 
+import java.time.Duration;
+import java.util.Optional;
+
 public class RateLimitException extends ClientException {
 
+    private final Duration retryAfter;
+
     public RateLimitException() {
         super("Rate limit exceeded");
+        this.retryAfter = null;
     }
 
     public RateLimitException(String message) {
         super(message);
+        this.retryAfter = null;
+    }
+
+    public RateLimitException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
     }
-}
\ No newline at end of file
+}
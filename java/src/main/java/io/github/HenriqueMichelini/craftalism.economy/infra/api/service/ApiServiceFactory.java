@@ -1,41 +1,296 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.api.service;
 
 import com.google.gson.Gson;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.AdaptiveConcurrencyLimiter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.BackendPool;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.CircuitBreaker;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.CompressionStats;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ConnectionWarmer;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.EndpointMetrics;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.FaultInjectingTransport;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.FaultInjector;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.HttpClientService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.HttpTransport;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.LoopbackTransport;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.PooledHttpTransport;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RateLimiterRegistry;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestHedger;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RetryPolicy;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.TokenBucket;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Transport;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.UnixSocketTransport;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.WebSocketTransport;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.WireFormat;
 import io.github.HenriqueMichelini.craftalism_economy.infra.config.ConfigLoader;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.ConnectionConfig;
 import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
 
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.List;
+
 public final class ApiServiceFactory {
     private final ConfigLoader cfg;
+    private final ConnectionConfig connection;
     private final Gson gson = GsonFactory.getInstance();
+    // shared by every transport, so chaos settings reach all shards at once
+    private final FaultInjector faults = new FaultInjector();
 
     // lightweight lazy-initialized services
     private HttpClientService httpClient;
+    private String primaryUrl;
+    private ShardRouter shardRouter;
     private PlayerApiService playerApiService;
     private BalanceApiService balanceApiService;
     private TransactionApiService transactionApiService;
+    private BlockingEconomyApi blockingApi;
+    private ConnectionWarmer connectionWarmer;
+
+    public ApiServiceFactory(ConfigLoader cfg) { this(cfg, null); }
 
-    public ApiServiceFactory(ConfigLoader cfg) { this.cfg = cfg; }
+    public ApiServiceFactory(ConfigLoader cfg, ConnectionConfig connection) {
+        this.cfg = cfg;
+        this.connection = connection;
+    }
 
     private synchronized void ensureHttpClient() {
-        if (httpClient == null) httpClient = new HttpClientService(cfg.baseUrl());
+        if (httpClient == null) {
+            faults.configure(cfg.chaosEnabled(), cfg.chaosRules());
+            BackendPool backends = backends();
+            primaryUrl = backends.primary();
+            httpClient = new HttpClientService(backends, new RetryPolicy(), hedger(), transport(primaryUrl),
+                    wireFormat());
+            configureRateLimits(httpClient.getRateLimits());
+            httpClient.getRequestLog().configure(cfg.requestLogLevel(), cfg.requestLogSampleRate(),
+                    cfg.requestLogEndpointRates());
+            if (backends.size() > 1) {
+                HttpClientService http = httpClient;
+                backends.startProbing(url -> http.ping(url, cfg.keepAlivePath()), cfg.failoverProbeInterval());
+            }
+            shardRouter = new ShardRouter(this::openShard, this::closeShard, shardUrls(), cfg.shardVirtualNodes());
+        }
+    }
+
+    private List<String> shardUrls() {
+        List<String> shards = cfg.shardingEnabled() ? cfg.shards() : null;
+        return shards == null || shards.isEmpty() ? List.of(primaryUrl) : shards;
+    }
+
+    private HttpClientService openShard(String baseUrl) {
+        if (baseUrl.equals(primaryUrl)) {
+            return httpClient;
+        }
+        HttpClientService shard = new HttpClientService(BackendPool.single(baseUrl), new RetryPolicy(), hedger(),
+                transport(baseUrl), wireFormat());
+        configureRateLimits(shard.getRateLimits());
+        return shard;
+    }
+
+    private void closeShard(HttpClientService shard) {
+        // the primary client outlives sharding changes; it also backs warm-up and diagnostics
+        if (shard != httpClient) {
+            shard.close();
+        }
+    }
+
+    private BackendPool backends() {
+        List<String> urls = cfg.baseUrls();
+        if (urls == null || urls.size() < 2) {
+            return BackendPool.single(urls == null || urls.isEmpty() ? cfg.baseUrl() : urls.getFirst());
+        }
+        return new BackendPool(urls, cfg.failoverEjectAfter(), cfg.failoverEjection());
+    }
+
+    private void configureRateLimits(RateLimiterRegistry rateLimits) {
+        if (!cfg.rateLimitEnabled()) return;
+        for (String family : RateLimiterRegistry.FAMILIES) {
+            double rate = cfg.rateLimitRate(family);
+            if (rate > 0) {
+                rateLimits.configure(family, rate, cfg.rateLimitBurst(family), cfg.rateLimitMaxWait());
+            }
+        }
+    }
+
+    private Transport transport(String baseUrl) {
+        // a pass-through until fault injection is switched on
+        return new FaultInjectingTransport(baseTransport(baseUrl), faults);
+    }
+
+    private Transport baseTransport(String baseUrl) {
+        if (connection == null) return new HttpTransport();
+        return switch (connection.getTransport()) {
+            case "unix" -> new UnixSocketTransport(Path.of(connection.getSocketPath()));
+            case "loopback" -> LoopbackTransport.discover();
+            case "websocket" -> new WebSocketTransport(
+                    WebSocketTransport.endpointFor(baseUrl, connection.getWebSocketPath()));
+            default -> httpTransport();
+        };
+    }
+
+    private Transport httpTransport() {
+        if (connection.getHttpVersion() == HttpClient.Version.HTTP_1_1) {
+            // HTTP/1.1 already opens a connection per concurrent request; there is nothing to spread
+            return new HttpTransport(HttpClient.Version.HTTP_1_1);
+        }
+        if (connection.getPoolMaxClients() <= 1) {
+            return new HttpTransport();
+        }
+        return new PooledHttpTransport(connection.getPoolMinClients(), connection.getPoolMaxClients(),
+                connection.getPoolStreamsPerClient());
+    }
+
+    private WireFormat wireFormat() {
+        return connection == null ? WireFormat.JSON : connection.getWireFormat();
+    }
+
+    private RequestHedger hedger() {
+        if (!cfg.hedgingEnabled()) return RequestHedger.disabled();
+        return new RequestHedger(cfg.hedgingBudget(), cfg.hedgingMinDelay());
+    }
+
+    public HttpClientService getHttpClient() {
+        ensureHttpClient();
+        return httpClient;
+    }
+
+    public ShardRouter getShardRouter() {
+        ensureHttpClient();
+        return shardRouter;
+    }
+
+    /**
+     * @return per-endpoint metrics summed over every shard's client
+     */
+    public List<EndpointMetrics.Snapshot> getEndpointMetrics() {
+        return EndpointMetrics.merge(getShardRouter().all().stream()
+                .map(HttpClientService::getEndpointMetrics)
+                .toList());
+    }
+
+    /**
+     * @return every shard's breakers; with more than one shard each endpoint is prefixed with its
+     *         shard, since one partition's open breaker says nothing about the others
+     */
+    public List<CircuitBreaker.Snapshot> getCircuitBreakers() {
+        List<HttpClientService> shards = getShardRouter().all();
+        return shards.stream()
+                .flatMap(http -> http.getCircuitBreakers().snapshots().stream()
+                        .map(b -> shards.size() == 1 ? b : new CircuitBreaker.Snapshot(
+                                shardLabel(http, b.endpoint()), b.state(), b.consecutiveFailures(), b.rejected(),
+                                b.retryInMillis())))
+                .toList();
+    }
+
+    /**
+     * @return every shard's rate limit buckets, labelled like {@link #getCircuitBreakers()}: each
+     *         adapts to its own partition's 429s
+     */
+    public List<TokenBucket.Snapshot> getRateLimits() {
+        List<HttpClientService> shards = getShardRouter().all();
+        return shards.stream()
+                .flatMap(http -> http.getRateLimits().snapshots().stream()
+                        .map(b -> shards.size() == 1 ? b : new TokenBucket.Snapshot(
+                                shardLabel(http, b.family()), b.ratePerSecond(), b.configuredRate(), b.burst(),
+                                b.waited(), b.shed(), b.throttled())))
+                .toList();
+    }
+
+    /**
+     * @return the concurrency limiters of every shard's client, summed
+     */
+    public AdaptiveConcurrencyLimiter.Snapshot getConcurrencyLimiter() {
+        return AdaptiveConcurrencyLimiter.merge(getShardRouter().all().stream()
+                .map(http -> http.getConcurrencyLimiter().snapshot())
+                .toList());
+    }
+
+    /**
+     * @return hedging counts summed over every shard's client
+     */
+    public RequestHedger.Snapshot getHedging() {
+        return RequestHedger.merge(getShardRouter().all().stream()
+                .map(http -> http.getHedger().snapshot())
+                .toList());
+    }
+
+    /**
+     * @return per-endpoint compression counts summed over every shard's client
+     */
+    public List<CompressionStats.Snapshot> getCompression() {
+        return CompressionStats.merge(getShardRouter().all().stream()
+                .map(HttpClientService::getCompressionStats)
+                .toList());
+    }
+
+    private static String shardLabel(HttpClientService http, String key) {
+        return http.getBaseUrl() + " " + key;
+    }
+
+    /**
+     * Re-reads the config and moves player routing to the shard list found there.
+     */
+    public synchronized ShardRouter.Rebalance reloadShards() {
+        ensureHttpClient();
+        cfg.reload();
+        return shardRouter.rebalance(shardUrls(), cfg.shardVirtualNodes());
+    }
+
+    public FaultInjector getFaultInjector() {
+        ensureHttpClient();
+        return faults;
+    }
+
+    /**
+     * Re-reads the chaos section of config.yml and applies it to every transport.
+     */
+    public synchronized FaultInjector.Snapshot reloadFaults() {
+        ensureHttpClient();
+        cfg.reload();
+        faults.configure(cfg.chaosEnabled(), cfg.chaosRules());
+        return faults.snapshot();
+    }
+
+    public synchronized void close() {
+        if (httpClient == null) return;
+        // batched writes still waiting go out before the clients they need are closed
+        if (balanceApiService != null) balanceApiService.flush();
+        if (transactionApiService != null) transactionApiService.flush();
+        shardRouter.close();
+        httpClient.close();
+        // flush what is still buffered before the plugin goes away
+        httpClient.getRequestLog().stop();
+    }
+
+    public synchronized ConnectionWarmer getConnectionWarmer() {
+        ensureHttpClient();
+        if (connectionWarmer == null) connectionWarmer = new ConnectionWarmer(httpClient, cfg.keepAlivePath());
+        return connectionWarmer;
     }
 
     public PlayerApiService getPlayerApi() {
         ensureHttpClient();
-        if (playerApiService == null) playerApiService = new PlayerApiService(httpClient, gson);
+        if (playerApiService == null) playerApiService = new PlayerApiService(shardRouter, gson);
         return playerApiService;
     }
 
     public BalanceApiService getBalanceApi() {
         ensureHttpClient();
-        if (balanceApiService == null) balanceApiService = new BalanceApiService(httpClient);
+        if (balanceApiService == null) balanceApiService = new BalanceApiService(shardRouter, gson, cfg.batching());
         return balanceApiService;
     }
 
     public TransactionApiService getTransactionApi() {
         ensureHttpClient();
-        if (transactionApiService == null) transactionApiService = new TransactionApiService(httpClient);
+        if (transactionApiService == null) transactionApiService = new TransactionApiService(shardRouter, gson, cfg.batching());
         return transactionApiService;
     }
+
+    /**
+     * @return a blocking view of the API services, for use from virtual threads
+     */
+    public synchronized BlockingEconomyApi getBlockingApi() {
+        if (blockingApi == null) blockingApi = new BlockingEconomyApi(getPlayerApi(), getBalanceApi(), getTransactionApi());
+        return blockingApi;
+    }
 }
\ No newline at end of file
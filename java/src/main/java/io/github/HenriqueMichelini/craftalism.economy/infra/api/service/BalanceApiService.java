@@ -1,11 +1,24 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.api.service;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ApiPath;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.HttpClientService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.JsonArrayBodyHandler;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.MicroBatcher;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.PathTemplate;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RetryPolicy;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ValidatorCache;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.WireFormat;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.JsonDtoAdapters;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceOperationDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceRequestDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceUpdateRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BatchResultDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiServerException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
@@ -13,148 +26,297 @@ import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.RateL
 import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
 
 import java.lang.reflect.Type;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 public class BalanceApiService {
 
-    private final HttpClientService http;
+    private static final Comparator<BalanceResponseDTO> RICHEST_FIRST = Comparator
+            .comparing(BalanceResponseDTO::amount, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BalanceResponseDTO::uuid);
+
+    private static final ApiPath BALANCES = PathTemplate.of("/api/balances").expand();
+    private static final PathTemplate BALANCE = PathTemplate.of("/api/balances/{uuid}");
+    private static final PathTemplate SET = PathTemplate.of("/api/balances/{uuid}/set?amount={amount}");
+    private static final PathTemplate DEPOSIT = PathTemplate.of("/api/balances/{uuid}/deposit?amount={amount}");
+    private static final PathTemplate WITHDRAW = PathTemplate.of("/api/balances/{uuid}/withdraw?amount={amount}");
+    private static final PathTemplate TOP = PathTemplate.of("/api/balances/top?limit={limit}");
+    private static final ApiPath BATCH = PathTemplate.of("/api/balances/batch").expand();
+
+    private record BalanceWrite(BalanceOperationDTO operation, Deadline deadline) {}
+
+    private final ShardRouter shards;
     private final Gson gson;
+    // null while batching is off: every deposit and withdrawal is its own POST
+    private final MicroBatcher<HttpClientService, BalanceWrite, Void> writes;
 
     public BalanceApiService(HttpClientService http) {
         this(http, GsonFactory.getInstance());
     }
 
     public BalanceApiService(HttpClientService http, Gson gson) {
-        this.http = http;
+        this(ShardRouter.single(http), gson);
+    }
+
+    public BalanceApiService(ShardRouter shards, Gson gson) {
+        this(shards, gson, MicroBatcher.Settings.DISABLED);
+    }
+
+    public BalanceApiService(ShardRouter shards, Gson gson, MicroBatcher.Settings batching) {
+        this.shards = shards;
         this.gson = gson;
+        this.writes = batching.enabled() ? new MicroBatcher<>(this::sendWrites, batching, BalanceWrite::deadline) : null;
     }
 
     public CompletableFuture<BalanceResponseDTO> getBalance(UUID uuid) {
-        return http.get("/api/balances/" + uuid)
+        return getBalance(uuid, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<BalanceResponseDTO> getBalance(UUID uuid, RequestPriority priority) {
+        return getBalance(uuid, priority, Deadline.none());
+    }
+
+    public CompletableFuture<BalanceResponseDTO> getBalance(UUID uuid, RequestPriority priority, Deadline deadline) {
+        return shards.forPlayer(uuid).get(BALANCE.expand(uuid), priority, deadline)
                 .thenCompose(resp -> {
                     int status = resp.statusCode();
-                    String body = resp.body();
 
                     if (status == 200) {
                         try {
-                            BalanceResponseDTO dto = parseJson(body);
+                            BalanceResponseDTO dto = ValidatorCache.decode(resp, this::parseBalance);
                             return CompletableFuture.completedFuture(dto);
                         } catch (ApiException e) {
                             return CompletableFuture.failedFuture(e);
                         }
                     }
 
-                    return CompletableFuture.failedFuture(mapStatusToException(status, body));
+                    return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body()));
                 });
     }
 
     public CompletableFuture<BalanceResponseDTO> createBalance(UUID uuid) {
+        return createBalance(uuid, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<BalanceResponseDTO> createBalance(UUID uuid, RequestPriority priority) {
         BalanceRequestDTO dto = new BalanceRequestDTO(uuid, 0L);
-        return http.post("/api/balances", gson.toJson(dto))
+        return shards.forPlayer(uuid).post(BALANCES, gson.toJson(dto), priority, Deadline.none())
                 .thenCompose(resp -> {
                     int status = resp.statusCode();
-                    String body = resp.body();
 
                     if (status == 201 || status == 200) {
                         try {
-                            BalanceResponseDTO parsed = parseJson(body);
+                            BalanceResponseDTO parsed = parseBalance(resp);
                             return CompletableFuture.completedFuture(parsed);
                         } catch (ApiException e) {
                             return CompletableFuture.failedFuture(e);
                         }
                     }
 
-                    return CompletableFuture.failedFuture(mapStatusToException(status, body));
+                    return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body()));
                 });
     }
 
     public CompletableFuture<BalanceResponseDTO> getOrCreateBalance(UUID uuid) {
-        return getBalance(uuid)
+        return getOrCreateBalance(uuid, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<BalanceResponseDTO> getOrCreateBalance(UUID uuid, RequestPriority priority) {
+        return getBalance(uuid, priority)
                 .exceptionallyCompose(ex -> {
                     if (ex instanceof NotFoundException) {
-                        return createBalance(uuid);
+                        return createBalance(uuid, priority);
                     }
                     return CompletableFuture.failedFuture(ex);
                 });
     }
 
     public CompletableFuture<BalanceResponseDTO> updateBalance(UUID uuid, Long amount) {
+        return updateBalance(uuid, amount, Deadline.none());
+    }
+
+    public CompletableFuture<BalanceResponseDTO> updateBalance(UUID uuid, Long amount, Deadline deadline) {
         BalanceResponseDTO dto = new BalanceResponseDTO(uuid, amount);
         String body = gson.toJson(dto);
 
-        return http.put("/api/balances/" + uuid + "/set?amount=" + amount, body)
+        return shards.forPlayer(uuid)
+                .put(SET.expand(uuid, amount), body, RequestPriority.INTERACTIVE, deadline)
                 .thenCompose(resp -> {
                     int status = resp.statusCode();
-                    String respBody = resp.body();
 
                     if (status == 200) {
                         try {
-                            BalanceResponseDTO parsed = parseJson(respBody);
+                            BalanceResponseDTO parsed = parseBalance(resp);
                             return CompletableFuture.completedFuture(parsed);
                         } catch (ApiException e) {
                             return CompletableFuture.failedFuture(e);
                         }
                     }
 
-                    return CompletableFuture.failedFuture(mapStatusToException(status, respBody));
+                    return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body()));
                 });
     }
 
     public CompletableFuture<Void> deposit(UUID uuid, long amount) {
+        return deposit(uuid, amount, Deadline.none());
+    }
+
+    public CompletableFuture<Void> deposit(UUID uuid, long amount, Deadline deadline) {
+        if (writes != null) {
+            return writes.submit(shards.forPlayer(uuid),
+                    new BalanceWrite(new BalanceOperationDTO(uuid, "deposit", amount), deadline));
+        }
         BalanceUpdateRequestDTO dto = new BalanceUpdateRequestDTO(amount);
 
-        return http.post("/api/balances/" + uuid + "/deposit?amount=" + amount, gson.toJson(dto))
+        return shards.forPlayer(uuid)
+                .post(DEPOSIT.expand(uuid, amount), gson.toJson(dto),
+                        RequestPriority.INTERACTIVE, deadline)
                 .thenCompose(resp -> {
                     int status = resp.statusCode();
-                    String body = resp.body();
 
                     if (status == 200 || status == 204) {
                         return CompletableFuture.completedFuture(null);
                     }
 
-                    return CompletableFuture.failedFuture(mapStatusToException(status, body));
+                    return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body()));
                 });
     }
 
     public CompletableFuture<Void> withdraw(UUID uuid, long amount) {
+        return withdraw(uuid, amount, Deadline.none());
+    }
+
+    public CompletableFuture<Void> withdraw(UUID uuid, long amount, Deadline deadline) {
+        if (writes != null) {
+            return writes.submit(shards.forPlayer(uuid),
+                    new BalanceWrite(new BalanceOperationDTO(uuid, "withdraw", amount), deadline));
+        }
         BalanceUpdateRequestDTO dto = new BalanceUpdateRequestDTO(amount);
 
-        return http.post("/api/balances/" + uuid + "/withdraw?amount=" + amount, gson.toJson(dto))
+        return shards.forPlayer(uuid)
+                .post(WITHDRAW.expand(uuid, amount), gson.toJson(dto),
+                        RequestPriority.INTERACTIVE, deadline)
                 .thenCompose(resp -> {
                     int status = resp.statusCode();
-                    String body = resp.body();
 
                     if (status == 200 || status == 204) {
                         return CompletableFuture.completedFuture(null);
                     }
 
-                    return CompletableFuture.failedFuture(mapStatusToException(status, body));
+                    return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body()));
                 });
     }
 
-    public CompletableFuture<List<BalanceResponseDTO>> getTopBalances(int limit) {
-        return http.get("/api/balances/top?limit=" + limit)
+    private CompletableFuture<List<MicroBatcher.Outcome<Void>>> sendWrites(HttpClientService http,
+                                                                           List<BalanceWrite> batch) {
+        List<BalanceOperationDTO> operations = new ArrayList<>(batch.size());
+        for (BalanceWrite write : batch) {
+            operations.add(write.operation());
+        }
+
+        // only the per-hop timeout: the batcher already failed the writes whose deadline had passed,
+        // and one caller's budget must not cut short a request carrying everyone else's writes
+        String json = gson.toJson(operations, JsonDtoAdapters.BALANCE_OPERATION_LIST);
+        return http.post(BATCH, json, RequestPriority.INTERACTIVE, Deadline.none())
                 .thenCompose(resp -> {
                     int status = resp.statusCode();
                     String body = resp.body();
 
                     if (status == 200) {
                         try {
-                            Type listType = new TypeToken<List<BalanceResponseDTO>>() {}.getType();
-                            List<BalanceResponseDTO> list = parseJson(body, listType);
-                            return CompletableFuture.completedFuture(list);
+                            List<BatchResultDTO> results = parseJson(body, JsonDtoAdapters.BATCH_RESULT_LIST);
+                            List<MicroBatcher.Outcome<Void>> outcomes = results.stream()
+                                    .map(result -> result.status() == 200 || result.status() == 204
+                                            ? MicroBatcher.Outcome.<Void>ok(null)
+                                            : MicroBatcher.Outcome.<Void>failed(
+                                                    mapStatusToException(result.status(), result.error())))
+                                    .toList();
+                            return CompletableFuture.completedFuture(outcomes);
                         } catch (ApiException e) {
                             return CompletableFuture.failedFuture(e);
                         }
                     }
 
-                    System.out.println("TOP BALANCE RAW JSON = " + body);
-                    return CompletableFuture.failedFuture(mapStatusToException(status, body));
+                    return CompletableFuture.failedFuture(mapStatusToException(resp, body));
                 });
     }
 
+    /**
+     * @return batching stats, or {@code null} while batching is off
+     */
+    public MicroBatcher.Snapshot getBatching() {
+        return writes == null ? null : writes.snapshot();
+    }
+
+    /**
+     * Sends deposits and withdrawals still waiting for a batch, e.g. on shutdown.
+     */
+    public void flush() {
+        if (writes != null) writes.flush();
+    }
+
+    public CompletableFuture<List<BalanceResponseDTO>> getTopBalances(int limit) {
+        return getTopBalances(limit, Deadline.none());
+    }
+
+    public CompletableFuture<List<BalanceResponseDTO>> getTopBalances(int limit, Deadline deadline) {
+        List<HttpClientService> clients = shards.all();
+        if (clients.size() == 1) {
+            return getTopBalances(clients.getFirst(), limit, deadline);
+        }
+
+        // each partition only knows its own players: take every shard's top N and keep the overall top N
+        List<CompletableFuture<List<BalanceResponseDTO>>> tops = clients.stream()
+                .map(http -> getTopBalances(http, limit, deadline))
+                .toList();
+        return CompletableFuture.allOf(tops.toArray(new CompletableFuture[0]))
+                .thenApply(v -> tops.stream()
+                        .flatMap(top -> top.join().stream())
+                        .sorted(RICHEST_FIRST)
+                        .limit(limit)
+                        .toList());
+    }
+
+    private CompletableFuture<List<BalanceResponseDTO>> getTopBalances(HttpClientService http, int limit,
+                                                                       Deadline deadline) {
+        // decoded entry by entry as the body arrives, so large limits never hold the whole JSON text;
+        // unchanged leaderboards come back as 304 and reuse the list decoded last time
+        JsonArrayBodyHandler.Elements<BalanceResponseDTO> elements = new JsonArrayBodyHandler.Elements<>(
+                BalanceResponseDTO.class.getSimpleName(), gson.getAdapter(BalanceResponseDTO.class),
+                BinaryDtoCodec::decodeBalances);
+        return http.getArray(TOP.expand(limit), elements, RequestPriority.INTERACTIVE, deadline)
+                .thenCompose(resp -> {
+                    int status = resp.statusCode();
+
+                    if (status == 200) {
+                        return CompletableFuture.completedFuture(resp.body().elements());
+                    }
+
+                    return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body().text()));
+                });
+    }
+
+    private BalanceResponseDTO parseBalance(HttpResponse<String> resp) {
+        if (WireFormat.isBinary(resp)) {
+            return decodeBinary(WireFormat.binaryBody(resp), BinaryDtoCodec::decodeBalance,
+                    BalanceResponseDTO.class.getSimpleName());
+        }
+        return parseJson(resp.body());
+    }
+
+    private <T> T decodeBinary(byte[] body, Function<byte[], T> decoder, String typeName) {
+        try {
+            return decoder.apply(body);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Failed to decode binary " + typeName + ": " + e.getMessage(), e);
+        }
+    }
+
     private <T> T parseJson(String body) {
         try {
             T parsed = gson.fromJson(body, (Class<T>) BalanceResponseDTO.class);
@@ -183,6 +345,15 @@ public class BalanceApiService {
         }
     }
 
+    private ApiException mapStatusToException(HttpResponse<?> resp, String body) {
+        if (resp.statusCode() == 429) {
+            // keep the server's Retry-After so callers that choose to retry can honor it
+            return new RateLimitException("Rate limit exceeded (status=429). Body: " + safePreview(body),
+                    RetryPolicy.retryAfter(resp).orElse(null));
+        }
+        return mapStatusToException(resp.statusCode(), body);
+    }
+
     private ApiException mapStatusToException(int status, String body) {
         if (status == 404) {
             return new NotFoundException("Resource not found (status=404). Body: " + safePreview(body));
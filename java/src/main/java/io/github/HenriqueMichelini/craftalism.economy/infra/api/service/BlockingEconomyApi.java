@@ -0,0 +1,103 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.service;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ApiExecutor;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Straight-line view of the API services for code that would rather block
+ * than chain futures. Every call parks the calling virtual thread until the
+ * answer arrives and throws the same {@link ApiException}s the futures fail
+ * with.
+ * <p>
+ * Only virtual threads may call in: blocking one is free, while blocking a
+ * platform thread, and above all the server thread, is not. Use {@link #run}
+ * to start a block of calls on one. Avoid calling while holding a monitor,
+ * which pins the virtual thread to its carrier.
+ */
+public final class BlockingEconomyApi {
+
+    private final PlayerApiService players;
+    private final BalanceApiService balances;
+    private final TransactionApiService transactions;
+
+    public BlockingEconomyApi(PlayerApiService players, BalanceApiService balances,
+                              TransactionApiService transactions) {
+        this.players = players;
+        this.balances = balances;
+        this.transactions = transactions;
+    }
+
+    /**
+     * Runs {@code work} on a new virtual thread, where it may call this facade freely.
+     */
+    public <T> CompletableFuture<T> run(Function<BlockingEconomyApi, T> work) {
+        return ApiExecutor.supply(() -> work.apply(this));
+    }
+
+    public PlayerResponseDTO getPlayer(UUID uuid) {
+        return await(() -> players.getPlayerByUuid(uuid));
+    }
+
+    public PlayerResponseDTO getPlayerByName(String name) {
+        return await(() -> players.getPlayerByName(name));
+    }
+
+    public PlayerResponseDTO getOrCreatePlayer(UUID uuid, String name) {
+        return await(() -> players.getOrCreatePlayer(uuid, name));
+    }
+
+    public BalanceResponseDTO getBalance(UUID uuid) {
+        return await(() -> balances.getBalance(uuid));
+    }
+
+    public BalanceResponseDTO getOrCreateBalance(UUID uuid) {
+        return await(() -> balances.getOrCreateBalance(uuid));
+    }
+
+    public BalanceResponseDTO setBalance(UUID uuid, long amount) {
+        return await(() -> balances.updateBalance(uuid, amount));
+    }
+
+    public void deposit(UUID uuid, long amount) {
+        await(() -> balances.deposit(uuid, amount));
+    }
+
+    public void withdraw(UUID uuid, long amount) {
+        await(() -> balances.withdraw(uuid, amount));
+    }
+
+    public List<BalanceResponseDTO> getTopBalances(int limit) {
+        return await(() -> balances.getTopBalances(limit));
+    }
+
+    public TransactionResponseDTO registerTransaction(UUID from, UUID to, long amount) {
+        return await(() -> transactions.register(from, to, amount));
+    }
+
+    private static <T> T await(Supplier<CompletableFuture<T>> call) {
+        // checked before the call goes out, so a rejected call never reaches the backend
+        if (!Thread.currentThread().isVirtual()) {
+            throw new IllegalStateException("Blocking API called from platform thread "
+                    + Thread.currentThread().getName() + "; run it on a virtual thread instead");
+        }
+        try {
+            return call.get().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new ApiException(cause.getMessage(), cause);
+        }
+    }
+}
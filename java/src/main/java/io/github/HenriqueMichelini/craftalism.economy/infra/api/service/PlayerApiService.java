@@ -1,20 +1,36 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.api.service;
 
 import com.google.gson.Gson;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ApiPath;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.HttpClientService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.PathTemplate;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RetryPolicy;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ValidatorCache;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.WireFormat;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerRequestDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.*;
 import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.net.http.HttpResponse;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class PlayerApiService {
 
-    private final HttpClientService http;
+    private static final ApiPath PLAYERS = PathTemplate.of("/api/players").expand();
+    private static final PathTemplate PLAYER = PathTemplate.of("/api/players/{uuid}");
+    private static final PathTemplate PLAYER_BY_NAME = PathTemplate.of("/api/players/name/{name}");
+
+    private final ShardRouter shards;
     private final Gson gson;
 
     public PlayerApiService(HttpClientService http) {
@@ -22,7 +38,11 @@ public class PlayerApiService {
     }
 
     public PlayerApiService(HttpClientService http, Gson gson) {
-        this.http = http;
+        this(ShardRouter.single(http), gson);
+    }
+
+    public PlayerApiService(ShardRouter shards, Gson gson) {
+        this.shards = shards;
         this.gson = gson;
     }
 
@@ -40,11 +60,31 @@ public class PlayerApiService {
         }
     }
 
+    private PlayerResponseDTO parsePlayer(HttpResponse<String> resp) {
+        if (!WireFormat.isBinary(resp)) {
+            return parseJson(resp.body(), PlayerResponseDTO.class);
+        }
+        try {
+            return BinaryDtoCodec.decodePlayer(WireFormat.binaryBody(resp));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Failed to decode binary PlayerResponseDTO: " + e.getMessage(), e);
+        }
+    }
+
     private String safePreview(String body) {
         if (body == null) return "<null>";
         return body.length() > 300 ? body.substring(0, 300) + "..." : body;
     }
 
+    private ApiException mapStatusToException(HttpResponse<?> resp, String body) {
+        if (resp.statusCode() == 429) {
+            // keep the server's Retry-After so callers that choose to retry can honor it
+            return new RateLimitException("Rate limit exceeded (429). Body: " + safePreview(body),
+                    RetryPolicy.retryAfter(resp).orElse(null));
+        }
+        return mapStatusToException(resp.statusCode(), body);
+    }
+
     private ApiException mapStatusToException(int status, String body) {
         String preview = safePreview(body);
 
@@ -73,43 +113,94 @@ public class PlayerApiService {
         );
     }
 
-    private <T> CompletableFuture<T> unwrapOrThrow(int status, String body) {
+    private CompletableFuture<PlayerResponseDTO> unwrapOrThrow(HttpResponse<String> resp) {
+        int status = resp.statusCode();
         if (status >= 200 && status < 300) {
-            return CompletableFuture.completedFuture(parseJson(body, (Class<T>) PlayerResponseDTO.class));
+            // revalidated lookups reuse the DTO parsed when the representation was first fetched
+            return CompletableFuture.completedFuture(
+                    ValidatorCache.decode(resp, this::parsePlayer));
         }
-        return CompletableFuture.failedFuture(mapStatusToException(status, body));
+        return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body()));
     }
 
     public CompletableFuture<PlayerResponseDTO> getPlayerByUuid(UUID uuid) {
-        return http.get("/api/players/" + uuid)
-                .thenCompose(resp -> unwrapOrThrow(
-                        resp.statusCode(),
-                        resp.body()
-                ));
+        return getPlayerByUuid(uuid, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<PlayerResponseDTO> getPlayerByUuid(UUID uuid, RequestPriority priority) {
+        return getPlayerByUuid(uuid, priority, Deadline.none());
+    }
+
+    public CompletableFuture<PlayerResponseDTO> getPlayerByUuid(UUID uuid, RequestPriority priority, Deadline deadline) {
+        return shards.forPlayer(uuid).get(PLAYER.expand(uuid), priority, deadline)
+                .thenCompose(this::unwrapOrThrow);
     }
 
     public CompletableFuture<PlayerResponseDTO> getPlayerByName(String name) {
-        String encoded = URLEncoder.encode(name, StandardCharsets.UTF_8);
-        return http.get("/api/players/name/" + encoded)
-                .thenCompose(resp -> unwrapOrThrow(
-                        resp.statusCode(),
-                        resp.body()
-                ));
+        return getPlayerByName(name, Deadline.none());
+    }
+
+    public CompletableFuture<PlayerResponseDTO> getPlayerByName(String name, Deadline deadline) {
+        ApiPath path = PLAYER_BY_NAME.expand(name);
+        List<HttpClientService> clients = shards.all();
+        if (clients.size() == 1) {
+            return clients.getFirst().get(path, RequestPriority.INTERACTIVE, deadline)
+                    .thenCompose(this::unwrapOrThrow);
+        }
+
+        // names are not the shard key, so every partition is asked and the one holding the player answers
+        CompletableFuture<PlayerResponseDTO> found = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(clients.size());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (HttpClientService http : clients) {
+            http.get(path, RequestPriority.INTERACTIVE, deadline)
+                    .thenCompose(this::unwrapOrThrow)
+                    .whenComplete((player, ex) -> {
+                        if (ex == null) {
+                            found.complete(player);
+                            return;
+                        }
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        if (!(cause instanceof NotFoundException)) {
+                            failure.compareAndSet(null, cause);
+                        }
+                        if (pending.decrementAndGet() == 0) {
+                            // not found only if every shard said so; otherwise the player may be on the one that failed
+                            found.completeExceptionally(failure.get() != null ? failure.get() : cause);
+                        }
+                    });
+        }
+        return found;
     }
 
     public CompletableFuture<PlayerResponseDTO> createPlayer(UUID uuid, String name) {
+        return createPlayer(uuid, name, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<PlayerResponseDTO> createPlayer(UUID uuid, String name, RequestPriority priority) {
+        return createPlayer(uuid, name, priority, Deadline.none());
+    }
+
+    public CompletableFuture<PlayerResponseDTO> createPlayer(UUID uuid, String name, RequestPriority priority,
+                                                             Deadline deadline) {
         PlayerRequestDTO dto = new PlayerRequestDTO(uuid, name);
         String json = gson.toJson(dto);
 
-        return http.post("/api/players", json)
-                .thenCompose(resp -> unwrapOrThrow(
-                        resp.statusCode(),
-                        resp.body()
-                ));
+        return shards.forPlayer(uuid).post(PLAYERS, json, priority, deadline)
+                .thenCompose(this::unwrapOrThrow);
     }
 
     public CompletableFuture<PlayerResponseDTO> getOrCreatePlayer(UUID uuid, String name) {
-        return getPlayerByUuid(uuid)
+        return getOrCreatePlayer(uuid, name, RequestPriority.INTERACTIVE);
+    }
+
+    public CompletableFuture<PlayerResponseDTO> getOrCreatePlayer(UUID uuid, String name, RequestPriority priority) {
+        return getOrCreatePlayer(uuid, name, priority, Deadline.none());
+    }
+
+    public CompletableFuture<PlayerResponseDTO> getOrCreatePlayer(UUID uuid, String name, RequestPriority priority,
+                                                                  Deadline deadline) {
+        return getPlayerByUuid(uuid, priority, deadline)
                 .exceptionallyCompose(ex -> {
                     // Unwrap CompletionException to get the real cause
                     Throwable cause = ex;
@@ -121,7 +212,7 @@ public class PlayerApiService {
 
                     // Check if the unwrapped cause is NotFoundException
                     if (cause instanceof NotFoundException) {
-                        return createPlayer(uuid, name);
+                        return createPlayer(uuid, name, priority, deadline);
                     }
                     return CompletableFuture.failedFuture(ex);
                 });
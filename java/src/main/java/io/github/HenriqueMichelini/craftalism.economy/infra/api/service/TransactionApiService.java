@@ -1,39 +1,70 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.api.service;
 
 import com.google.gson.Gson;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ApiPath;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.HttpClientService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.MicroBatcher;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.PathTemplate;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RetryPolicy;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.WireFormat;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.JsonDtoAdapters;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionBatchResultDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionRequestDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.*;
 import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
 
+import java.lang.reflect.Type;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public class TransactionApiService {
 
-    private final HttpClientService http;
+    private static final ApiPath TRANSACTIONS = PathTemplate.of("/api/transactions").expand();
+    private static final ApiPath BATCH = PathTemplate.of("/api/transactions/batch").expand();
+
+    private record PendingTransaction(TransactionRequestDTO request, Deadline deadline) {}
+
+    private final ShardRouter shards;
     private final Gson gson;
+    // null while batching is off: every transaction is registered with its own POST
+    private final MicroBatcher<HttpClientService, PendingTransaction, TransactionResponseDTO> registrations;
 
     public TransactionApiService(HttpClientService http) {
         this(http, GsonFactory.getInstance());
     }
 
     public TransactionApiService(HttpClientService http, Gson gson) {
-        this.http = http;
+        this(ShardRouter.single(http), gson);
+    }
+
+    public TransactionApiService(ShardRouter shards, Gson gson) {
+        this(shards, gson, MicroBatcher.Settings.DISABLED);
+    }
+
+    public TransactionApiService(ShardRouter shards, Gson gson, MicroBatcher.Settings batching) {
+        this.shards = shards;
         this.gson = gson;
+        this.registrations = batching.enabled() ? new MicroBatcher<>(this::sendRegistrations, batching, PendingTransaction::deadline) : null;
     }
 
-    private <T> T parseJson(String body, Class<T> type) {
+    private <T> T parseJson(String body, Type type) {
         try {
             T parsed = gson.fromJson(body, type);
             if (parsed == null) {
-                throw new ApiException("Parsed JSON was null for " + type.getSimpleName() +
+                throw new ApiException("Parsed JSON was null for " + type.getTypeName() +
                         ". Body: " + body);
             }
             return parsed;
         } catch (Exception e) {
-            throw new ApiException("Failed to parse JSON for " + type.getSimpleName() +
+            throw new ApiException("Failed to parse JSON for " + type.getTypeName() +
                     ": " + e.getMessage(), e);
         }
     }
@@ -43,6 +74,15 @@ public class TransactionApiService {
         return body.length() > 300 ? body.substring(0, 300) + "..." : body;
     }
 
+    private ApiException mapStatusToException(HttpResponse<?> resp, String body) {
+        if (resp.statusCode() == 429) {
+            // keep the server's Retry-After so callers that choose to retry can honor it
+            return new RateLimitException("Rate limit exceeded (429). Body: " + safePreview(body),
+                    RetryPolicy.retryAfter(resp).orElse(null));
+        }
+        return mapStatusToException(resp.statusCode(), body);
+    }
+
     private ApiException mapStatusToException(int status, String body) {
         String preview = safePreview(body);
 
@@ -69,21 +109,82 @@ public class TransactionApiService {
         return new ApiException("Unexpected status " + status + ". Body: " + preview);
     }
 
-    private <T> CompletableFuture<T> unwrapOrThrow(int status, String body) {
+    private <T> CompletableFuture<T> unwrapOrThrow(HttpResponse<String> resp) {
+        int status = resp.statusCode();
         if (status >= 200 && status < 300) {
-            return CompletableFuture.completedFuture(parseJson(body, (Class<T>) TransactionResponseDTO.class));
+            return CompletableFuture.completedFuture((T) parseTransaction(resp));
+        }
+        return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body()));
+    }
+
+    private TransactionResponseDTO parseTransaction(HttpResponse<String> resp) {
+        if (!WireFormat.isBinary(resp)) {
+            return parseJson(resp.body(), TransactionResponseDTO.class);
+        }
+        try {
+            return BinaryDtoCodec.decodeTransaction(WireFormat.binaryBody(resp));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Failed to decode binary TransactionResponseDTO: " + e.getMessage(), e);
         }
-        return CompletableFuture.failedFuture(mapStatusToException(status, body));
     }
 
     public CompletableFuture<TransactionResponseDTO> register(UUID from, UUID to, long amount) {
+        return register(from, to, amount, Deadline.none());
+    }
+
+    public CompletableFuture<TransactionResponseDTO> register(UUID from, UUID to, long amount, Deadline deadline) {
         TransactionRequestDTO dto = new TransactionRequestDTO(from, to, amount);
+        if (registrations != null) {
+            return registrations.submit(shards.forPlayer(from), new PendingTransaction(dto, deadline));
+        }
         String json = gson.toJson(dto);
 
-        return http.post("/api/transactions", json)
-                .thenCompose(resp -> unwrapOrThrow(
-                        resp.statusCode(),
-                        resp.body()
-                ));
+        // a transfer's record lives with the payer, on the shard the withdrawal leg went to
+        return shards.forPlayer(from).post(TRANSACTIONS, json, RequestPriority.INTERACTIVE, deadline)
+                .thenCompose(this::unwrapOrThrow);
+    }
+
+    private CompletableFuture<List<MicroBatcher.Outcome<TransactionResponseDTO>>> sendRegistrations(
+            HttpClientService http, List<PendingTransaction> batch) {
+        List<TransactionRequestDTO> requests = new ArrayList<>(batch.size());
+        for (PendingTransaction pending : batch) {
+            requests.add(pending.request());
+        }
+
+        // expired registrations were already failed by the batcher; the rest share the per-hop timeout
+        String json = gson.toJson(requests, JsonDtoAdapters.TRANSACTION_REQUEST_LIST);
+        return http.post(BATCH, json, RequestPriority.INTERACTIVE, Deadline.none())
+                .thenCompose(resp -> {
+                    int status = resp.statusCode();
+                    if (status != 200) {
+                        return CompletableFuture.failedFuture(mapStatusToException(resp, resp.body()));
+                    }
+                    try {
+                        List<TransactionBatchResultDTO> results =
+                                parseJson(resp.body(), JsonDtoAdapters.TRANSACTION_BATCH_RESULT_LIST);
+                        return CompletableFuture.completedFuture(results.stream()
+                                .map(result -> result.status() >= 200 && result.status() < 300
+                                        ? MicroBatcher.Outcome.ok(result.transaction())
+                                        : MicroBatcher.Outcome.<TransactionResponseDTO>failed(
+                                                mapStatusToException(result.status(), result.error())))
+                                .toList());
+                    } catch (ApiException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                });
+    }
+
+    /**
+     * @return batching stats, or {@code null} while batching is off
+     */
+    public MicroBatcher.Snapshot getBatching() {
+        return registrations == null ? null : registrations.snapshot();
+    }
+
+    /**
+     * Sends registrations still waiting for a batch, e.g. on shutdown.
+     */
+    public void flush() {
+        if (registrations != null) registrations.flush();
     }
 }
@@ -1,8 +1,18 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.config;
 
 import io.github.HenriqueMichelini.craftalism_economy.CraftalismEconomy;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.FaultInjector;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.MicroBatcher;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestLog;
+import org.bukkit.configuration.ConfigurationSection;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 public final class ConfigLoader {
     private final CraftalismEconomy plugin;
@@ -54,4 +64,209 @@ public final class ConfigLoader {
         // Keep reading from config; the ConnectionConfig wrapper can be implemented as needed.
         return plugin.getConfig().getString("api-base-url", "http://localhost:8080");
     }
-}
\ No newline at end of file
+
+    /**
+     * @return every backend replica to spread requests over; falls back to the single {@link #baseUrl()}
+     */
+    public List<String> baseUrls() {
+        List<String> urls = plugin.getConfig().getStringList("api-base-urls").stream()
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .distinct()
+                .toList();
+        return urls.isEmpty() ? List.of(baseUrl()) : urls;
+    }
+
+    public boolean shardingEnabled() {
+        return plugin.getConfig().getBoolean("sharding.enabled", false);
+    }
+
+    /**
+     * @return the base URL of every player partition, in the order they were configured
+     */
+    public List<String> shards() {
+        return plugin.getConfig().getStringList("sharding.shards").stream()
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    public int shardVirtualNodes() {
+        return Math.max(1, plugin.getConfig().getInt("sharding.virtual-nodes", 128));
+    }
+
+    /**
+     * Re-reads config.yml from disk; getters return the new values from then on.
+     */
+    public void reload() {
+        plugin.reloadConfig();
+    }
+
+    public int failoverEjectAfter() {
+        return Math.max(1, plugin.getConfig().getInt("failover.eject-after-failures", 3));
+    }
+
+    public Duration failoverEjection() {
+        return Duration.ofMillis(Math.max(100L, plugin.getConfig().getLong("failover.ejection-ms", 5_000L)));
+    }
+
+    public Duration failoverProbeInterval() {
+        return Duration.ofMillis(Math.max(100L, plugin.getConfig().getLong("failover.probe-interval-ms", 1_000L)));
+    }
+
+    public boolean hedgingEnabled() {
+        return plugin.getConfig().getBoolean("hedging.enabled", false);
+    }
+
+    public double hedgingBudget() {
+        double value = plugin.getConfig().getDouble("hedging.budget", 0.05);
+        if (value < 0 || value > 1) {
+            plugin.getLogger().warning("Invalid hedging budget '" + value + "', using 0.05");
+            return 0.05;
+        }
+        return value;
+    }
+
+    public Duration hedgingMinDelay() {
+        return Duration.ofMillis(Math.max(1L, plugin.getConfig().getLong("hedging.min-delay-ms", 50L)));
+    }
+
+    public int warmupConnections() {
+        return Math.max(0, plugin.getConfig().getInt("keep-alive.warmup-connections", 2));
+    }
+
+    public boolean keepAliveEnabled() {
+        return plugin.getConfig().getBoolean("keep-alive.enabled", true);
+    }
+
+    public Duration keepAliveInterval() {
+        return Duration.ofSeconds(Math.max(1L, plugin.getConfig().getLong("keep-alive.interval-seconds", 30L)));
+    }
+
+    public String keepAlivePath() {
+        return plugin.getConfig().getString("keep-alive.path", "/");
+    }
+
+    public boolean rateLimitEnabled() {
+        return plugin.getConfig().getBoolean("rate-limit.enabled", false);
+    }
+
+    public Duration rateLimitMaxWait() {
+        return Duration.ofMillis(Math.max(0L, plugin.getConfig().getLong("rate-limit.max-wait-ms", 2_000L)));
+    }
+
+    /**
+     * @return requests per second allowed for an endpoint family, or {@code 0} to leave it unlimited
+     */
+    public double rateLimitRate(String family) {
+        double value = plugin.getConfig().getDouble("rate-limit." + family + ".rate", 0);
+        if (value < 0) {
+            plugin.getLogger().warning("Invalid negative rate limit for " + family + ", leaving it unlimited");
+            return 0;
+        }
+        return value;
+    }
+
+    public int rateLimitBurst(String family) {
+        return Math.max(1, plugin.getConfig().getInt("rate-limit." + family + ".burst", 1));
+    }
+
+    /**
+     * @return end-to-end budget for one run of a command, shared by every API call it makes
+     */
+    public Duration commandTimeout(String command, Duration fallback) {
+        long millis = plugin.getConfig().getLong("command-timeouts." + command + "-ms", fallback.toMillis());
+        if (millis <= 0) {
+            plugin.getLogger().warning("Invalid timeout for " + command + ", using " + fallback.toMillis() + "ms");
+            return fallback;
+        }
+        return Duration.ofMillis(millis);
+    }
+
+    public MicroBatcher.Settings batching() {
+        if (!plugin.getConfig().getBoolean("batching.enabled", false)) {
+            return MicroBatcher.Settings.DISABLED;
+        }
+        return new MicroBatcher.Settings(true,
+                Math.max(1, plugin.getConfig().getInt("batching.max-size", 64)),
+                Duration.ofMillis(Math.max(0L, plugin.getConfig().getLong("batching.max-linger-ms", 5L))));
+    }
+
+    /**
+     * @return how often endpoint metrics are appended to {@link #metricsFile()}; zero turns the dump off
+     */
+    public Duration metricsDumpInterval() {
+        return Duration.ofSeconds(Math.max(0L, plugin.getConfig().getLong("metrics.dump-interval-seconds", 60L)));
+    }
+
+    public Path metricsFile() {
+        return plugin.getDataFolder().toPath().resolve(plugin.getConfig().getString("metrics.file", "api-metrics.log"));
+    }
+
+    /**
+     * @return size at which {@link #metricsFile()} is moved aside to {@code <file>.1}
+     */
+    public long metricsMaxFileBytes() {
+        return Math.max(1L, plugin.getConfig().getLong("metrics.max-file-kb", 1024L)) * 1024;
+    }
+
+    public boolean chaosEnabled() {
+        return plugin.getConfig().getBoolean("chaos.enabled", false);
+    }
+
+    /**
+     * @return fault injection rules keyed by endpoint, route or {@code *}, as written in config.yml
+     */
+    public Map<String, FaultInjector.Rule> chaosRules() {
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("chaos.endpoints");
+        Map<String, FaultInjector.Rule> rules = new LinkedHashMap<>();
+        if (section == null) {
+            return rules;
+        }
+        for (String endpoint : section.getKeys(false)) {
+            ConfigurationSection rule = section.getConfigurationSection(endpoint);
+            if (rule == null) {
+                plugin.getLogger().warning("Ignoring chaos entry '" + endpoint + "', it is not a section");
+                continue;
+            }
+            rules.put(endpoint, new FaultInjector.Rule(
+                    rule.getDouble("latency-median-ms", 0),
+                    rule.getDouble("latency-p99-ms", 0),
+                    rule.getDouble("error-rate", 0),
+                    rule.getIntegerList("error-statuses"),
+                    rule.getDouble("drop-rate", 0),
+                    rule.getDouble("timeout-rate", 0)));
+        }
+        return rules;
+    }
+
+    public RequestLog.Level requestLogLevel() {
+        String raw = plugin.getConfig().getString("request-log.level", "warn");
+        try {
+            return RequestLog.Level.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid request log level '" + raw + "', using warn");
+            return RequestLog.Level.WARN;
+        }
+    }
+
+    public double requestLogSampleRate() {
+        return Math.max(0.0, Math.min(1.0, plugin.getConfig().getDouble("request-log.sample-rate", 1.0)));
+    }
+
+    /**
+     * @return sample rate by endpoint template, overriding {@link #requestLogSampleRate()}
+     */
+    public Map<String, Double> requestLogEndpointRates() {
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("request-log.sampling");
+        Map<String, Double> rates = new HashMap<>();
+        if (section == null) {
+            return rates;
+        }
+        for (String endpoint : section.getKeys(false)) {
+            rates.put(endpoint, section.getDouble(endpoint, 1.0));
+        }
+        return rates;
+    }
+}
@@ -1,13 +1,19 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.config;
 
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.WireFormat;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
+import java.net.http.HttpClient;
+import java.util.Locale;
+import java.util.Set;
 
 public class ConnectionConfig {
 
+    private static final Set<String> TRANSPORTS = Set.of("http", "loopback", "unix", "websocket");
+
     private final JavaPlugin plugin;
     private FileConfiguration connectionConfig;
     private File connectionFile;
@@ -35,4 +41,56 @@ public class ConnectionConfig {
         return connectionConfig.getString("url", "");
     }
 
+    public String getTransport() {
+        String raw = connectionConfig.getString("transport.type", "http");
+        String normalized = raw.trim().toLowerCase(Locale.ROOT);
+        if (!TRANSPORTS.contains(normalized)) {
+            plugin.getLogger().warning("Unknown transport '" + raw + "', defaulting to http");
+            return "http";
+        }
+        return normalized;
+    }
+
+    public WireFormat getWireFormat() {
+        String raw = connectionConfig.getString("transport.wire-format", "json");
+        try {
+            return WireFormat.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown wire format '" + raw + "', defaulting to json");
+            return WireFormat.JSON;
+        }
+    }
+
+    public HttpClient.Version getHttpVersion() {
+        String raw = connectionConfig.getString("transport.http-version", "2").trim();
+        return switch (raw) {
+            case "2", "2.0" -> HttpClient.Version.HTTP_2;
+            case "1.1" -> HttpClient.Version.HTTP_1_1;
+            default -> {
+                plugin.getLogger().warning("Unknown HTTP version '" + raw + "', defaulting to 2");
+                yield HttpClient.Version.HTTP_2;
+            }
+        };
+    }
+
+    public int getPoolMinClients() {
+        return Math.max(1, connectionConfig.getInt("transport.pool.min-clients", 1));
+    }
+
+    public int getPoolMaxClients() {
+        return Math.max(getPoolMinClients(), connectionConfig.getInt("transport.pool.max-clients", 4));
+    }
+
+    public int getPoolStreamsPerClient() {
+        return Math.max(1, connectionConfig.getInt("transport.pool.streams-per-client", 64));
+    }
+
+    public String getWebSocketPath() {
+        return connectionConfig.getString("transport.websocket-path", "/ws");
+    }
+
+    public String getSocketPath() {
+        return connectionConfig.getString("transport.socket-path", "/run/craftalism/api.sock");
+    }
+
 }
\ No newline at end of file
@@ -2,22 +2,27 @@ package io.github.HenriqueMichelini.craftalism_economy.infra.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.JsonDtoAdapters;
+
 import java.time.Instant;
 
 public class GsonFactory {
 
-    private static Gson instance;
+    // built once when the class loads, so every thread sees the same fully built instance
+    private static final Gson INSTANCE = createGson();
 
     public static Gson getInstance() {
-        if (instance == null) {
-            instance = createGson();
-        }
-        return instance;
+        return INSTANCE;
     }
 
+    /**
+     * @return a Gson that maps the API DTOs with the streaming adapters in {@link JsonDtoAdapters}
+     * instead of reflection
+     */
     public static Gson createGson() {
         return new GsonBuilder()
+                .registerTypeAdapterFactory(JsonDtoAdapters.FACTORY)
                 .registerTypeAdapter(Instant.class, new InstantTypeAdapter())
                 .create();
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,33 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.config;
 
-import com.google.gson.*;
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 
-public class InstantTypeAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
+public class InstantTypeAdapter extends TypeAdapter<Instant> {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_INSTANT;
 
     @Override
-    public JsonElement serialize(Instant src, Type typeOfSrc, JsonSerializationContext context) {
-        return new JsonPrimitive(FORMATTER.format(src));
+    public void write(JsonWriter out, Instant value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.value(FORMATTER.format(value));
     }
 
     @Override
-    public Instant deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-            throws JsonParseException {
-        return Instant.parse(json.getAsString());
+    public Instant read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return Instant.parse(in.nextString());
     }
-}
\ No newline at end of file
+}
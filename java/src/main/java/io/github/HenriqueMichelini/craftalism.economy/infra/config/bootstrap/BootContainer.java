@@ -7,15 +7,20 @@ import io.github.HenriqueMichelini.craftalism_economy.domain.service.currency.Cu
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.currency.FormatterFactory;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.LogManager;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.PluginLogger;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ConnectionWarmer;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.MetricsDumper;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.ApiServiceFactory;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.PlayerApiService;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.TransactionApiService;
 import io.github.HenriqueMichelini.craftalism_economy.infra.config.ConfigLoader;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.ConnectionConfig;
 import io.github.HenriqueMichelini.craftalism_economy.presentation.commands.CommandRegistrar;
 import io.github.HenriqueMichelini.craftalism_economy.presentation.listeners.EventRegistrar;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
+
 public final class BootContainer {
     private final CraftalismEconomy plugin;
     private final JavaPlugin javaPlugin;
@@ -29,6 +34,9 @@ public final class BootContainer {
     private BalanceApiService balanceApiService;
     private PlayerApiService playerApiService;
     private TransactionApiService transactionApiService;
+    private ConnectionWarmer connectionWarmer;
+    private MetricsDumper metricsDumper;
+    private ApiServiceFactory apiFactory;
 
     private PlayerApplicationService playerApplicationService;
     private PayCommandApplicationService payCommandApplicationService;
@@ -45,6 +53,7 @@ public final class BootContainer {
     public void initialize() {
         // 1. Load configuration
         ConfigLoader configLoader = new ConfigLoader(plugin);
+        ConnectionConfig connectionConfig = new ConnectionConfig(javaPlugin);
 
         // 2. Logging
         this.logManager = new LogManager(plugin);
@@ -61,14 +70,40 @@ public final class BootContainer {
         this.currencyParser = formatterFactory.getParser();
 
         // 4. API services
-        ApiServiceFactory apiFactory = new ApiServiceFactory(configLoader);
+        this.apiFactory = new ApiServiceFactory(configLoader, connectionConfig);
 
         this.playerApiService = apiFactory.getPlayerApi();
         this.balanceApiService = apiFactory.getBalanceApi();
         this.transactionApiService = apiFactory.getTransactionApi();
 
+        // 4b. Open backend connections before the first player joins
+        this.connectionWarmer = apiFactory.getConnectionWarmer();
+        int warmupConnections = configLoader.warmupConnections();
+        if (warmupConnections > 0) {
+            connectionWarmer.warmUp(warmupConnections)
+                    .thenRun(() -> {
+                        ConnectionWarmer.Snapshot warm = connectionWarmer.snapshot();
+                        if (warm.handshakeMillis() >= 0) {
+                            plugin.getLogger().info("API connections warmed up (handshake " + warm.handshakeMillis() + "ms)");
+                        } else {
+                            plugin.getLogger().warning("API warm-up failed, first requests will pay the handshake");
+                        }
+                    });
+        }
+        if (configLoader.keepAliveEnabled()) {
+            connectionWarmer.startKeepAlive(configLoader.keepAliveInterval());
+        }
+
+        // 4c. Per-endpoint latency and traffic, appended to a file for later comparison
+        Duration dumpInterval = configLoader.metricsDumpInterval();
+        if (!dumpInterval.isZero()) {
+            this.metricsDumper = new MetricsDumper(apiFactory::getEndpointMetrics, configLoader.metricsFile(),
+                    configLoader.metricsMaxFileBytes(), plugin.getLogger());
+            metricsDumper.start(dumpInterval);
+        }
+
         // 5. Application Services
-        ApplicationServiceFactory appFactory = new ApplicationServiceFactory(javaPlugin, apiFactory);
+        ApplicationServiceFactory appFactory = new ApplicationServiceFactory(javaPlugin, apiFactory, configLoader);
 
         this.playerApplicationService = appFactory.getPlayerApplication();
         this.payCommandApplicationService = appFactory.getPayCommandApplication();
@@ -93,6 +128,15 @@ public final class BootContainer {
 
     public void shutdown() {
         // flush caches, send pending balances, etc
+        if (connectionWarmer != null) {
+            connectionWarmer.stop();
+        }
+        if (metricsDumper != null) {
+            metricsDumper.stop();
+        }
+        if (apiFactory != null) {
+            apiFactory.close();
+        }
     }
 
     public CurrencyFormatter getCurrencyFormatter() { return currencyFormatter; }
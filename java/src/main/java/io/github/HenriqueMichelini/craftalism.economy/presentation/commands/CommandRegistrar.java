@@ -3,6 +3,7 @@ package io.github.HenriqueMichelini.craftalism_economy.presentation.commands;
 import io.github.HenriqueMichelini.craftalism_economy.CraftalismEconomy;
 import io.github.HenriqueMichelini.craftalism_economy.application.service.ApplicationServiceFactory;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.currency.FormatterFactory;
+import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.messages.AdminMessages;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.messages.BalanceMessages;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.messages.BaltopMessages;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.messages.PayMessages;
@@ -58,6 +59,11 @@ public final class CommandRegistrar {
                         apps.setBalanceCommandApplication(),
                         plugin
         ));
+        register("ecoadmin", new EconomyAdminCommand(
+                new AdminMessages(
+                        plugin.getPluginLogger()),
+                        apps.getApiDiagnosticsApplication()
+        ));
     }
 
     private void register(String name, CommandExecutor executor) {
@@ -0,0 +1,345 @@
+package io.github.HenriqueMichelini.craftalism_economy.presentation.commands;
+
+import io.github.HenriqueMichelini.craftalism_economy.application.service.ApiDiagnosticsApplicationService;
+import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.messages.AdminMessages;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.AdaptiveConcurrencyLimiter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.CircuitBreaker;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.CompressionStats;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ConnectionWarmer;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.EndpointMetrics;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.FaultInjector;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.LatencyHistogram;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.MetricsDumper;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestHedger;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.TokenBucket;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+public class EconomyAdminCommand implements CommandExecutor {
+    private static final String PERMISSION = "craftalism.admin";
+    private static final Set<String> HTTP_METHODS = Set.of("GET", "POST", "PUT", "DELETE", "HEAD");
+
+    private final AdminMessages messages;
+    private final ApiDiagnosticsApplicationService diagnostics;
+
+    public EconomyAdminCommand(AdminMessages messages, ApiDiagnosticsApplicationService diagnostics) {
+        this.messages = messages;
+        this.diagnostics = diagnostics;
+    }
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String @NotNull [] args) {
+        if (!sender.hasPermission(PERMISSION)) {
+            messages.sendAdminNoPermission(sender);
+            return true;
+        }
+
+        if (args.length == 0) {
+            messages.sendAdminUsage(sender);
+            return true;
+        }
+
+        switch (args[0].toLowerCase()) {
+            case "breakers" -> showBreakers(sender);
+            case "limiter" -> showLimiter(sender);
+            case "ratelimits" -> showRateLimits(sender);
+            case "hedging" -> showHedging(sender);
+            case "compression" -> showCompression(sender);
+            case "metrics" -> showMetrics(sender);
+            case "connection" -> showConnection(sender);
+            case "shards" -> showShards(sender);
+            case "chaos" -> chaos(sender, args);
+            case "reload" -> reload(sender);
+            default -> messages.sendAdminUsage(sender);
+        }
+
+        return true;
+    }
+
+    private void showBreakers(CommandSender sender) {
+        List<CircuitBreaker.Snapshot> breakers = diagnostics.getCircuitBreakers();
+
+        if (breakers.isEmpty()) {
+            messages.sendBreakersEmpty(sender);
+            return;
+        }
+
+        messages.sendBreakersHeader(sender, String.valueOf(breakers.size()));
+        for (CircuitBreaker.Snapshot breaker : breakers) {
+            messages.sendBreakerEntry(
+                    sender,
+                    breaker.endpoint(),
+                    breaker.state().name(),
+                    String.valueOf(breaker.consecutiveFailures()),
+                    String.valueOf(breaker.rejected()),
+                    (breaker.retryInMillis() / 1000) + "s"
+            );
+        }
+    }
+
+    private void showLimiter(CommandSender sender) {
+        AdaptiveConcurrencyLimiter.Snapshot limiter = diagnostics.getConcurrencyLimiter();
+
+        messages.sendLimiter(
+                sender,
+                String.valueOf(limiter.limit()),
+                String.valueOf(limiter.inFlight()),
+                String.valueOf(limiter.queued()),
+                String.valueOf(limiter.shed()),
+                limiter.minRttMillis() + "ms"
+        );
+    }
+
+    private void showRateLimits(CommandSender sender) {
+        List<TokenBucket.Snapshot> buckets = diagnostics.getRateLimits();
+
+        if (buckets.isEmpty()) {
+            messages.sendRateLimitsEmpty(sender);
+            return;
+        }
+
+        messages.sendRateLimitsHeader(sender, String.valueOf(buckets.size()));
+        for (TokenBucket.Snapshot bucket : buckets) {
+            messages.sendRateLimitEntry(
+                    sender,
+                    bucket.family(),
+                    String.format(Locale.ROOT, "%.1f/s", bucket.ratePerSecond()),
+                    String.format(Locale.ROOT, "%.1f/s", bucket.configuredRate()),
+                    String.valueOf(bucket.waited()),
+                    String.valueOf(bucket.shed()),
+                    String.valueOf(bucket.throttled())
+            );
+        }
+    }
+
+    private void showHedging(CommandSender sender) {
+        RequestHedger.Snapshot hedging = diagnostics.getHedging();
+
+        messages.sendHedging(
+                sender,
+                String.valueOf(hedging.requests()),
+                String.valueOf(hedging.hedgesSent()),
+                String.valueOf(hedging.hedgesWon()),
+                String.valueOf(hedging.budgetDenied())
+        );
+    }
+
+    private void showCompression(CommandSender sender) {
+        List<CompressionStats.Snapshot> endpoints = diagnostics.getCompression();
+
+        if (endpoints.isEmpty()) {
+            messages.sendCompressionEmpty(sender);
+            return;
+        }
+
+        messages.sendCompressionHeader(sender, String.valueOf(endpoints.size()));
+        for (CompressionStats.Snapshot endpoint : endpoints) {
+            messages.sendCompressionEntry(
+                    sender,
+                    endpoint.endpoint(),
+                    String.valueOf(endpoint.responses()),
+                    (endpoint.wireBytes() / 1024) + "KiB",
+                    (endpoint.decodedBytes() / 1024) + "KiB",
+                    String.format(Locale.ROOT, "%.1fx", endpoint.ratio())
+            );
+        }
+    }
+
+    private void showMetrics(CommandSender sender) {
+        List<EndpointMetrics.Snapshot> endpoints = diagnostics.getEndpointMetrics();
+
+        if (endpoints.isEmpty()) {
+            messages.sendMetricsEmpty(sender);
+            return;
+        }
+
+        messages.sendMetricsHeader(sender, String.valueOf(endpoints.size()));
+        for (EndpointMetrics.Snapshot endpoint : endpoints) {
+            LatencyHistogram.Snapshot latency = endpoint.latency();
+            messages.sendMetricsEntry(
+                    sender,
+                    endpoint.endpoint(),
+                    String.valueOf(endpoint.requests()),
+                    String.valueOf(endpoint.inFlight()),
+                    millis(latency.p50Micros()),
+                    millis(latency.p90Micros()),
+                    millis(latency.p99Micros()),
+                    millis(latency.maxMicros()),
+                    MetricsDumper.statuses(endpoint.statuses()),
+                    String.valueOf(endpoint.errors()),
+                    (endpoint.bytesOut() / 1024) + "KiB",
+                    (endpoint.bytesIn() / 1024) + "KiB"
+            );
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.1fms", micros / 1000.0);
+    }
+
+    private void showConnection(CommandSender sender) {
+        ConnectionWarmer.Snapshot connection = diagnostics.getConnection();
+
+        messages.sendConnection(
+                sender,
+                connection.handshakeMillis() < 0 ? "-" : connection.handshakeMillis() + "ms",
+                connection.lastRttMillis() < 0 ? "-" : connection.lastRttMillis() + "ms",
+                String.valueOf(connection.pings()),
+                String.valueOf(connection.failures()),
+                connection.keepAlive() ? "on" : "off"
+        );
+    }
+
+    private void showShards(CommandSender sender) {
+        List<ShardRouter.Snapshot> shards = diagnostics.getShards();
+
+        messages.sendShardsHeader(sender, String.valueOf(shards.size()));
+        for (ShardRouter.Snapshot shard : shards) {
+            messages.sendShardEntry(
+                    sender,
+                    shard.baseUrl(),
+                    String.format(Locale.ROOT, "%.1f%%", shard.ownership() * 100),
+                    String.valueOf(shard.inFlight()),
+                    String.valueOf(shard.openBreakers())
+            );
+        }
+    }
+
+    private void chaos(CommandSender sender, String[] args) {
+        if (args.length == 1) {
+            showChaos(sender);
+            return;
+        }
+
+        switch (args[1].toLowerCase(Locale.ROOT)) {
+            case "on" -> {
+                diagnostics.setFaultsEnabled(true);
+                showChaos(sender);
+            }
+            case "off" -> {
+                diagnostics.setFaultsEnabled(false);
+                showChaos(sender);
+            }
+            case "reload" -> {
+                try {
+                    diagnostics.reloadFaults();
+                } catch (RuntimeException e) {
+                    messages.sendReloadFailed(sender, String.valueOf(e.getMessage()));
+                    return;
+                }
+                showChaos(sender);
+            }
+            default -> updateChaosRule(sender, args);
+        }
+    }
+
+    private void showChaos(CommandSender sender) {
+        FaultInjector.Snapshot faults = diagnostics.getFaults();
+
+        messages.sendChaosStatus(
+                sender,
+                faults.enabled() ? "on" : "off",
+                String.valueOf(faults.delayed()),
+                String.valueOf(faults.errors()),
+                String.valueOf(faults.dropped()),
+                String.valueOf(faults.timedOut())
+        );
+        for (Map.Entry<String, FaultInjector.Rule> entry : new TreeMap<>(faults.rules()).entrySet()) {
+            FaultInjector.Rule rule = entry.getValue();
+            messages.sendChaosEntry(
+                    sender,
+                    entry.getKey(),
+                    rule.latencyMedianMs() == 0 ? "-" : String.format(Locale.ROOT, "%.0fms/%.0fms",
+                            rule.latencyMedianMs(), rule.latencyP99Ms()),
+                    percent(rule.errorRate()),
+                    rule.errorStatuses().stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElse("-"),
+                    percent(rule.dropRate()),
+                    percent(rule.timeoutRate())
+            );
+        }
+    }
+
+    private void updateChaosRule(CommandSender sender, String[] args) {
+        // "GET /api/balances/{uuid}" arrives as two arguments
+        boolean withMethod = args.length > 2 && HTTP_METHODS.contains(args[1].toUpperCase(Locale.ROOT));
+        String endpoint = withMethod ? args[1].toUpperCase(Locale.ROOT) + " " + args[2] : args[1];
+        int action = withMethod ? 3 : 2;
+
+        UnaryOperator<FaultInjector.Rule> change;
+        try {
+            change = switch (args[action].toLowerCase(Locale.ROOT)) {
+                case "latency" -> {
+                    double median = Double.parseDouble(args[action + 1]);
+                    double p99 = args.length > action + 2 ? Double.parseDouble(args[action + 2]) : median;
+                    yield rule -> rule.withLatency(median, p99);
+                }
+                case "errors" -> {
+                    double rate = rate(args[action + 1]);
+                    List<Integer> statuses = Arrays.stream(args, action + 2, args.length)
+                            .map(Integer::parseInt)
+                            .toList();
+                    yield rule -> rule.withErrors(rate, statuses.isEmpty() ? rule.errorStatuses() : statuses);
+                }
+                case "drop" -> {
+                    double rate = rate(args[action + 1]);
+                    yield rule -> rule.withDrops(rate);
+                }
+                case "timeout" -> {
+                    double rate = rate(args[action + 1]);
+                    yield rule -> rule.withTimeouts(rate);
+                }
+                case "clear" -> rule -> FaultInjector.Rule.NONE;
+                default -> null;
+            };
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            change = null;
+        }
+
+        if (change == null) {
+            messages.sendChaosUsage(sender);
+            return;
+        }
+        diagnostics.updateFaultRule(endpoint, change);
+        messages.sendChaosUpdated(sender, endpoint);
+    }
+
+    // accepts 0.05 as well as 5%
+    private static double rate(String raw) {
+        return raw.endsWith("%")
+                ? Double.parseDouble(raw.substring(0, raw.length() - 1)) / 100
+                : Double.parseDouble(raw);
+    }
+
+    private static String percent(double rate) {
+        return String.format(Locale.ROOT, "%.0f%%", rate * 100);
+    }
+
+    private void reload(CommandSender sender) {
+        ShardRouter.Rebalance rebalance;
+        try {
+            rebalance = diagnostics.reloadShards();
+        } catch (RuntimeException e) {
+            messages.sendReloadFailed(sender, String.valueOf(e.getMessage()));
+            return;
+        }
+
+        messages.sendReloaded(
+                sender,
+                String.valueOf(rebalance.shards()),
+                rebalance.added().isEmpty() ? "-" : String.join(", ", rebalance.added()),
+                rebalance.removed().isEmpty() ? "-" : String.join(", ", rebalance.removed()),
+                String.format(Locale.ROOT, "%.1f%%", rebalance.moved() * 100)
+        );
+    }
+}
@@ -20,7 +20,7 @@ public class EventRegistrar {
 
     public void registerAll() {
         plugin.getServer().getPluginManager().registerEvents(
-                new OnJoin(playerApplicationService, balanceApplicationService),
+                new OnJoin(playerApplicationService, balanceApplicationService, plugin.getLogger()),
                 plugin
         );
     }
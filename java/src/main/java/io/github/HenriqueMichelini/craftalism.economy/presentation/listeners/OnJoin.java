@@ -8,14 +8,17 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 
 import java.util.UUID;
+import java.util.logging.Logger;
 
 public class OnJoin implements Listener {
     private final PlayerApplicationService playerService;
     private final BalanceApplicationService balanceService;
+    private final Logger logger;
 
-    public OnJoin(PlayerApplicationService playerService, BalanceApplicationService balanceService) {
+    public OnJoin(PlayerApplicationService playerService, BalanceApplicationService balanceService, Logger logger) {
         this.playerService = playerService;
         this.balanceService = balanceService;
+        this.logger = logger;
     }
 
     @EventHandler
@@ -27,7 +30,7 @@ public class OnJoin implements Listener {
 
         playerService.loadPlayerOnJoin(uuid, name)
                 .exceptionally(ex -> {
-                    System.out.println("Erro ao carregar player " + uuid + ": " + ex);
+                    logger.warning("Failed to load player " + uuid + " on join: " + ex.getMessage());
                     return null;
                 });
 
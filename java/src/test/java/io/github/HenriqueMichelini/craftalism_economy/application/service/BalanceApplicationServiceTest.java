@@ -1,6 +1,7 @@
 package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Balance;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.repository.BalanceCacheRepository;
@@ -113,7 +114,7 @@ class BalanceApplicationServiceTest {
     void loadBalanceOnJoin_ShouldCacheBalance_WhenLoaded() {
         Long amount = 3000000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(playerUuid, amount);
-        when(api.getBalance(playerUuid))
+        when(api.getBalance(playerUuid, RequestPriority.BACKGROUND))
                 .thenReturn(CompletableFuture.completedFuture(dto));
 
         Balance result = service.loadBalanceOnJoin(playerUuid).join();
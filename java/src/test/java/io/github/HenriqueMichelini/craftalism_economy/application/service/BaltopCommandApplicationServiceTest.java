@@ -1,6 +1,8 @@
 package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.application.service.BaltopCommandApplicationService.BaltopEntry;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
@@ -39,7 +41,7 @@ class BaltopCommandApplicationServiceTest {
     void shouldGetTop10PlayersSuccessfully() throws ExecutionException, InterruptedException {
         // Arrange
         List<BalanceResponseDTO> balances = createBalanceList(10);
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
         // Mock player API responses
@@ -49,7 +51,7 @@ class BaltopCommandApplicationServiceTest {
                     "Player" + balance.uuid().toString().substring(0, 8),
                     Instant.now()
             );
-            when(playerApi.getPlayerByUuid(balance.uuid()))
+            when(playerApi.getPlayerByUuid(eq(balance.uuid()), eq(RequestPriority.BULK), any(Deadline.class)))
                     .thenReturn(CompletableFuture.completedFuture(player));
         }
 
@@ -59,7 +61,7 @@ class BaltopCommandApplicationServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(10, result.size());
-        verify(balanceApi).getTopBalances(10);
+        verify(balanceApi).getTopBalances(eq(10), any(Deadline.class));
     }
 
     @Test
@@ -76,16 +78,16 @@ class BaltopCommandApplicationServiceTest {
                 new BalanceResponseDTO(uuid3, 250_0000L)
         );
 
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
-        when(playerApi.getPlayerByUuid(uuid1))
+        when(playerApi.getPlayerByUuid(eq(uuid1), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(
                         new PlayerResponseDTO(uuid1, "RichPlayer", Instant.now())));
-        when(playerApi.getPlayerByUuid(uuid2))
+        when(playerApi.getPlayerByUuid(eq(uuid2), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(
                         new PlayerResponseDTO(uuid2, "MediumPlayer", Instant.now())));
-        when(playerApi.getPlayerByUuid(uuid3))
+        when(playerApi.getPlayerByUuid(eq(uuid3), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(
                         new PlayerResponseDTO(uuid3, "PoorPlayer", Instant.now())));
 
@@ -106,7 +108,7 @@ class BaltopCommandApplicationServiceTest {
     @DisplayName("Should handle empty baltop list")
     void shouldHandleEmptyBaltopList() throws ExecutionException, InterruptedException {
         // Arrange
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(List.of()));
 
         // Act
@@ -122,7 +124,7 @@ class BaltopCommandApplicationServiceTest {
     void shouldHandleBaltopWithLessThan10Players() throws ExecutionException, InterruptedException {
         // Arrange
         List<BalanceResponseDTO> balances = createBalanceList(5);
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
         for (BalanceResponseDTO balance : balances) {
@@ -131,7 +133,7 @@ class BaltopCommandApplicationServiceTest {
                     "Player" + balance.uuid().toString().substring(0, 8),
                     Instant.now()
             );
-            when(playerApi.getPlayerByUuid(balance.uuid()))
+            when(playerApi.getPlayerByUuid(eq(balance.uuid()), eq(RequestPriority.BULK), any(Deadline.class)))
                     .thenReturn(CompletableFuture.completedFuture(player));
         }
 
@@ -149,7 +151,7 @@ class BaltopCommandApplicationServiceTest {
         // Arrange
         int customLimit = 25;
         List<BalanceResponseDTO> balances = createBalanceList(customLimit);
-        when(balanceApi.getTopBalances(customLimit))
+        when(balanceApi.getTopBalances(eq(customLimit), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
         for (BalanceResponseDTO balance : balances) {
@@ -158,7 +160,7 @@ class BaltopCommandApplicationServiceTest {
                     "Player" + balance.uuid().toString().substring(0, 8),
                     Instant.now()
             );
-            when(playerApi.getPlayerByUuid(balance.uuid()))
+            when(playerApi.getPlayerByUuid(eq(balance.uuid()), eq(RequestPriority.BULK), any(Deadline.class)))
                     .thenReturn(CompletableFuture.completedFuture(player));
         }
 
@@ -167,7 +169,7 @@ class BaltopCommandApplicationServiceTest {
 
         // Assert
         assertEquals(customLimit, result.size());
-        verify(balanceApi).getTopBalances(customLimit);
+        verify(balanceApi).getTopBalances(eq(customLimit), any(Deadline.class));
     }
 
     @Test
@@ -175,7 +177,7 @@ class BaltopCommandApplicationServiceTest {
     void shouldGetTop5Players() throws ExecutionException, InterruptedException {
         // Arrange
         List<BalanceResponseDTO> balances = createBalanceList(5);
-        when(balanceApi.getTopBalances(5))
+        when(balanceApi.getTopBalances(eq(5), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
         for (BalanceResponseDTO balance : balances) {
@@ -184,7 +186,7 @@ class BaltopCommandApplicationServiceTest {
                     "Player" + balance.uuid().toString().substring(0, 8),
                     Instant.now()
             );
-            when(playerApi.getPlayerByUuid(balance.uuid()))
+            when(playerApi.getPlayerByUuid(eq(balance.uuid()), eq(RequestPriority.BULK), any(Deadline.class)))
                     .thenReturn(CompletableFuture.completedFuture(player));
         }
 
@@ -203,10 +205,10 @@ class BaltopCommandApplicationServiceTest {
         List<BalanceResponseDTO> balances = List.of(
                 new BalanceResponseDTO(topUuid, 9999_0000L)
         );
-        when(balanceApi.getTopBalances(1))
+        when(balanceApi.getTopBalances(eq(1), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
-        when(playerApi.getPlayerByUuid(topUuid))
+        when(playerApi.getPlayerByUuid(eq(topUuid), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(
                         new PlayerResponseDTO(topUuid, "TopPlayer", Instant.now())));
 
@@ -223,7 +225,7 @@ class BaltopCommandApplicationServiceTest {
     @DisplayName("Should handle balance API failure")
     void shouldHandleBalanceApiFailure() {
         // Arrange
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("API Error")));
 
         // Act
@@ -246,16 +248,16 @@ class BaltopCommandApplicationServiceTest {
                 new BalanceResponseDTO(uuid2, 500_0000L)
         );
 
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
         // First player succeeds
-        when(playerApi.getPlayerByUuid(uuid1))
+        when(playerApi.getPlayerByUuid(eq(uuid1), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(
                         new PlayerResponseDTO(uuid1, "KnownPlayer", Instant.now())));
 
         // Second player fails
-        when(playerApi.getPlayerByUuid(uuid2))
+        when(playerApi.getPlayerByUuid(eq(uuid2), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Player not found")));
 
         // Act
@@ -273,12 +275,12 @@ class BaltopCommandApplicationServiceTest {
     void shouldHandleAllPlayersWithUnknownWhenAllFail() throws ExecutionException, InterruptedException {
         // Arrange
         List<BalanceResponseDTO> balances = createBalanceList(3);
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
         // All player lookups fail
         for (BalanceResponseDTO balance : balances) {
-            when(playerApi.getPlayerByUuid(balance.uuid()))
+            when(playerApi.getPlayerByUuid(eq(balance.uuid()), eq(RequestPriority.BULK), any(Deadline.class)))
                     .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Not found")));
         }
 
@@ -305,10 +307,10 @@ class BaltopCommandApplicationServiceTest {
                 new BalanceResponseDTO(uuid, specificBalance)
         );
 
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
-        when(playerApi.getPlayerByUuid(uuid))
+        when(playerApi.getPlayerByUuid(eq(uuid), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Not found")));
 
         // Act
@@ -385,7 +387,7 @@ class BaltopCommandApplicationServiceTest {
     void shouldHandleConcurrentPlayerApiCalls() throws ExecutionException, InterruptedException {
         // Arrange
         List<BalanceResponseDTO> balances = createBalanceList(10);
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
         // All player API calls succeed concurrently
@@ -395,7 +397,7 @@ class BaltopCommandApplicationServiceTest {
                     "Player" + balance.uuid().toString().substring(0, 8),
                     Instant.now()
             );
-            when(playerApi.getPlayerByUuid(balance.uuid()))
+            when(playerApi.getPlayerByUuid(eq(balance.uuid()), eq(RequestPriority.BULK), any(Deadline.class)))
                     .thenReturn(CompletableFuture.completedFuture(player));
         }
 
@@ -406,7 +408,7 @@ class BaltopCommandApplicationServiceTest {
         assertEquals(10, result.size());
         // Verify all player APIs were called
         for (BalanceResponseDTO balance : balances) {
-            verify(playerApi).getPlayerByUuid(balance.uuid());
+            verify(playerApi).getPlayerByUuid(eq(balance.uuid()), eq(RequestPriority.BULK), any(Deadline.class));
         }
     }
 
@@ -424,16 +426,16 @@ class BaltopCommandApplicationServiceTest {
                 new BalanceResponseDTO(uuid3, 1000_0000L)  // Lowest
         );
 
-        when(balanceApi.getTopBalances(10))
+        when(balanceApi.getTopBalances(eq(10), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(balances));
 
-        when(playerApi.getPlayerByUuid(uuid1))
+        when(playerApi.getPlayerByUuid(eq(uuid1), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(
                         new PlayerResponseDTO(uuid1, "First", Instant.now())));
-        when(playerApi.getPlayerByUuid(uuid2))
+        when(playerApi.getPlayerByUuid(eq(uuid2), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(
                         new PlayerResponseDTO(uuid2, "Second", Instant.now())));
-        when(playerApi.getPlayerByUuid(uuid3))
+        when(playerApi.getPlayerByUuid(eq(uuid3), eq(RequestPriority.BULK), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(
                         new PlayerResponseDTO(uuid3, "Third", Instant.now())));
 
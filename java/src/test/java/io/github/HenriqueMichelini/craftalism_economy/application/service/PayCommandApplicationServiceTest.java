@@ -2,9 +2,11 @@ package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Player;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.enums.PayStatus;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiTimeoutException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.PlayerApiService;
@@ -14,10 +16,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -25,6 +30,7 @@ import java.util.concurrent.ExecutionException;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayName("PayCommandApplicationService Tests")
@@ -90,15 +96,15 @@ class PayCommandApplicationServiceTest {
         Long payerBalance = 500_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, payerBalance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, validAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.deposit(receiverUuid, validAmount))
+        when(balanceApi.deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
         when(transactionApi.register(payerUuid, receiverUuid, validAmount))
                 .thenReturn(CompletableFuture.completedFuture(
@@ -109,11 +115,11 @@ class PayCommandApplicationServiceTest {
 
         assertEquals(PayStatus.SUCCESS, result);
 
-        verify(playerService).getCachedOrFetch(payerUuid, payerName);
-        verify(playerApi).getPlayerByName(receiverName);
-        verify(balanceApi).getBalance(payerUuid);
-        verify(balanceApi).withdraw(payerUuid, validAmount);
-        verify(balanceApi).deposit(receiverUuid, validAmount);
+        verify(playerService).getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class));
+        verify(playerApi).getPlayerByName(eq(receiverName), any(Deadline.class));
+        verify(balanceApi).getBalance(eq(payerUuid), any(), any(Deadline.class));
+        verify(balanceApi).withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class));
+        verify(balanceApi).deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class));
         verify(transactionApi).register(payerUuid, receiverUuid, validAmount);
     }
 
@@ -123,15 +129,15 @@ class PayCommandApplicationServiceTest {
         Long exactAmount = 100_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, exactAmount);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, exactAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(exactAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.deposit(receiverUuid, exactAmount))
+        when(balanceApi.deposit(eq(receiverUuid), eq(exactAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
         when(transactionApi.register(payerUuid, receiverUuid, exactAmount))
                 .thenReturn(CompletableFuture.completedFuture(
@@ -148,84 +154,84 @@ class PayCommandApplicationServiceTest {
     void shouldRejectPaymentToSelf() throws ExecutionException, InterruptedException {
         PlayerResponseDTO selfDTO = new PlayerResponseDTO(payerUuid, payerName, Instant.now());
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(payerName))
+        when(playerApi.getPlayerByName(eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(selfDTO));
 
         PayStatus result = service.execute(payerUuid, payerName, payerName, validAmount).get();
 
         assertEquals(PayStatus.CANNOT_PAY_SELF, result);
 
-        verify(playerService).getCachedOrFetch(payerUuid, payerName);
-        verify(playerApi).getPlayerByName(payerName);
-        verify(balanceApi, never()).getBalance(any());
-        verify(balanceApi, never()).withdraw(any(), anyLong());
+        verify(playerService).getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class));
+        verify(playerApi).getPlayerByName(eq(payerName), any(Deadline.class));
+        verify(balanceApi, never()).getBalance(any(), any(), any(Deadline.class));
+        verify(balanceApi, never()).withdraw(any(), anyLong(), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should reject zero amount payment")
     void shouldRejectZeroAmountPayment() throws ExecutionException, InterruptedException {
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, 0L).get();
 
         assertEquals(PayStatus.INVALID_AMOUNT, result);
 
-        verify(balanceApi, never()).getBalance(any());
-        verify(balanceApi, never()).withdraw(any(), anyLong());
+        verify(balanceApi, never()).getBalance(any(), any(), any(Deadline.class));
+        verify(balanceApi, never()).withdraw(any(), anyLong(), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should reject negative amount payment")
     void shouldRejectNegativeAmountPayment() throws ExecutionException, InterruptedException {
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, -100L).get();
 
         assertEquals(PayStatus.INVALID_AMOUNT, result);
 
-        verify(balanceApi, never()).getBalance(any());
+        verify(balanceApi, never()).getBalance(any(), any(), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should return TARGET_NOT_FOUND when receiver not found (NotFoundException)")
     void shouldReturnTargetNotFoundWhenReceiverNotFound() throws ExecutionException, InterruptedException {
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new NotFoundException("Player not found")));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
 
         assertEquals(PayStatus.TARGET_NOT_FOUND, result);
 
-        verify(playerService).getCachedOrFetch(payerUuid, payerName);
-        verify(playerApi).getPlayerByName(receiverName);
-        verify(balanceApi, never()).getBalance(any());
+        verify(playerService).getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class));
+        verify(playerApi).getPlayerByName(eq(receiverName), any(Deadline.class));
+        verify(balanceApi, never()).getBalance(any(), any(), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should return ERROR when receiver lookup fails with non-NotFoundException")
     void shouldReturnErrorWhenReceiverLookupFails() throws ExecutionException, InterruptedException {
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("API Error")));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
 
         assertEquals(PayStatus.ERROR, result);
 
-        verify(playerService).getCachedOrFetch(payerUuid, payerName);
-        verify(playerApi).getPlayerByName(receiverName);
-        verify(balanceApi, never()).getBalance(any());
+        verify(playerService).getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class));
+        verify(playerApi).getPlayerByName(eq(receiverName), any(Deadline.class));
+        verify(balanceApi, never()).getBalance(any(), any(), any(Deadline.class));
     }
 
     @Test
@@ -234,20 +240,20 @@ class PayCommandApplicationServiceTest {
         Long insufficientBalance = 50_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, insufficientBalance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
 
         assertEquals(PayStatus.NOT_ENOUGH_FUNDS, result);
 
-        verify(balanceApi).getBalance(payerUuid);
-        verify(balanceApi, never()).withdraw(any(), anyLong());
-        verify(balanceApi, never()).deposit(any(), anyLong());
+        verify(balanceApi).getBalance(eq(payerUuid), any(), any(Deadline.class));
+        verify(balanceApi, never()).withdraw(any(), anyLong(), any(Deadline.class));
+        verify(balanceApi, never()).deposit(any(), anyLong(), any(Deadline.class));
         verify(transactionApi, never()).register(any(), any(), anyLong());
     }
 
@@ -257,11 +263,11 @@ class PayCommandApplicationServiceTest {
         Long almostEnough = validAmount - 1;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, almostEnough);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
@@ -272,46 +278,46 @@ class PayCommandApplicationServiceTest {
     @Test
     @DisplayName("Should return TARGET_NOT_FOUND when getting payer fails with NotFoundException")
     void shouldReturnTargetNotFoundWhenGettingPayerFails() throws ExecutionException, InterruptedException {
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new NotFoundException("Payer not found")));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
 
         assertEquals(PayStatus.TARGET_NOT_FOUND, result);
 
-        verify(playerApi, never()).getPlayerByName(any());
-        verify(balanceApi, never()).getBalance(any());
+        verify(playerApi, never()).getPlayerByName(any(), any(Deadline.class));
+        verify(balanceApi, never()).getBalance(any(), any(), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should return ERROR when getting payer fails with non-NotFoundException")
     void shouldReturnErrorWhenGettingPayerFailsWithOtherException() throws ExecutionException, InterruptedException {
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database error")));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
 
         assertEquals(PayStatus.ERROR, result);
 
-        verify(playerApi, never()).getPlayerByName(any());
-        verify(balanceApi, never()).getBalance(any());
+        verify(playerApi, never()).getPlayerByName(any(), any(Deadline.class));
+        verify(balanceApi, never()).getBalance(any(), any(), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should return ERROR when balance check fails")
     void shouldReturnErrorDuringBalanceCheck() throws ExecutionException, InterruptedException {
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Balance API error")));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
 
         assertEquals(PayStatus.ERROR, result);
 
-        verify(balanceApi, never()).withdraw(any(), anyLong());
+        verify(balanceApi, never()).withdraw(any(), anyLong(), any(Deadline.class));
     }
 
     @Test
@@ -320,21 +326,21 @@ class PayCommandApplicationServiceTest {
         Long payerBalance = 500_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, payerBalance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, validAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Withdraw failed")));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
 
         assertEquals(PayStatus.ERROR, result);
 
-        verify(balanceApi).withdraw(payerUuid, validAmount);
-        verify(balanceApi, never()).deposit(receiverUuid, validAmount);
+        verify(balanceApi).withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class));
+        verify(balanceApi, never()).deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class));
         verify(transactionApi, never()).register(any(), any(), anyLong());
     }
 
@@ -344,15 +350,15 @@ class PayCommandApplicationServiceTest {
         Long payerBalance = 500_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, payerBalance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, validAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.deposit(receiverUuid, validAmount))
+        when(balanceApi.deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Deposit failed")));
         // Rollback succeeds
         when(balanceApi.deposit(payerUuid, validAmount))
@@ -362,27 +368,107 @@ class PayCommandApplicationServiceTest {
 
         assertEquals(PayStatus.ERROR, result);
 
-        verify(balanceApi).withdraw(payerUuid, validAmount);
-        verify(balanceApi).deposit(receiverUuid, validAmount);
+        verify(balanceApi).withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class));
+        verify(balanceApi).deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class));
         verify(balanceApi).deposit(payerUuid, validAmount); // Rollback
         verify(transactionApi, never()).register(any(), any(), anyLong());
     }
 
+    @Test
+    @DisplayName("Should hand every hop before the withdrawal the same deadline and settle outside of it")
+    void shouldShareOneDeadlineAcrossHops() throws ExecutionException, InterruptedException {
+        BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, 500_0000L);
+        ArgumentCaptor<Deadline> deadlines = ArgumentCaptor.forClass(Deadline.class);
+
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), deadlines.capture()))
+                .thenReturn(CompletableFuture.completedFuture(payerPlayer));
+        when(playerApi.getPlayerByName(eq(receiverName), deadlines.capture()))
+                .thenReturn(CompletableFuture.completedFuture(receiverDTO));
+        when(balanceApi.getBalance(eq(payerUuid), any(), deadlines.capture()))
+                .thenReturn(CompletableFuture.completedFuture(dto));
+        when(balanceApi.withdraw(eq(payerUuid), eq(validAmount), deadlines.capture()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(balanceApi.deposit(eq(receiverUuid), eq(validAmount), deadlines.capture()))
+                .thenReturn(CompletableFuture.failedFuture(new ApiTimeoutException("Deadline exceeded")));
+        when(balanceApi.deposit(payerUuid, validAmount))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        service.execute(payerUuid, payerName, receiverName, validAmount).get();
+
+        List<Deadline> passed = deadlines.getAllValues();
+        assertEquals(5, passed.size());
+        assertTrue(passed.getFirst().isBounded());
+        passed.subList(0, 3).forEach(deadline -> assertSame(passed.getFirst(), deadline));
+        // once the withdrawal is sent neither it nor the deposit may be cut short by the payment's budget
+        passed.subList(3, 5).forEach(deadline -> assertFalse(deadline.isBounded()));
+        verify(balanceApi).deposit(payerUuid, validAmount);
+    }
+
+    @Test
+    @DisplayName("Should not start the withdrawal when too little of the budget is left")
+    void shouldNotWithdrawPastBudget() throws ExecutionException, InterruptedException {
+        service = new PayCommandApplicationService(playerService, playerApi, balanceApi, transactionApi, plugin,
+                PayCommandApplicationService.MIN_WITHDRAW_BUDGET.minusMillis(1));
+        BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, 500_0000L);
+
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
+                .thenReturn(CompletableFuture.completedFuture(payerPlayer));
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
+                .thenReturn(CompletableFuture.completedFuture(receiverDTO));
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
+                .thenReturn(CompletableFuture.completedFuture(dto));
+
+        PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get().status();
+
+        assertEquals(PayStatus.ERROR, result);
+        verify(balanceApi, never()).withdraw(any(), anyLong(), any(Deadline.class));
+        verify(balanceApi, never()).deposit(any(), anyLong(), any(Deadline.class));
+        verify(balanceApi, never()).deposit(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should let a started withdrawal outlive the payment budget")
+    void shouldWithdrawOutsideBudget() throws ExecutionException, InterruptedException {
+        BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, 500_0000L);
+        ArgumentCaptor<Deadline> withdrawDeadline = ArgumentCaptor.forClass(Deadline.class);
+
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
+                .thenReturn(CompletableFuture.completedFuture(payerPlayer));
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
+                .thenReturn(CompletableFuture.completedFuture(receiverDTO));
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
+                .thenReturn(CompletableFuture.completedFuture(dto));
+        when(balanceApi.withdraw(eq(payerUuid), eq(validAmount), withdrawDeadline.capture()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(balanceApi.deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(transactionApi.register(payerUuid, receiverUuid, validAmount))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new TransactionResponseDTO(1L, payerUuid, receiverUuid, validAmount, Instant.now())
+                ));
+
+        PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get().status();
+
+        assertEquals(PayStatus.SUCCESS, result);
+        assertFalse(withdrawDeadline.getValue().isBounded());
+        verify(balanceApi, never()).deposit(payerUuid, validAmount);
+    }
+
     @Test
     @DisplayName("Should return SUCCESS even when transaction registration fails")
     void shouldReturnSuccessWhenTransactionRegistrationFails() throws ExecutionException, InterruptedException {
         Long payerBalance = 500_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, payerBalance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, validAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.deposit(receiverUuid, validAmount))
+        when(balanceApi.deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
         when(transactionApi.register(payerUuid, receiverUuid, validAmount))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Transaction log failed")));
@@ -401,15 +487,15 @@ class PayCommandApplicationServiceTest {
         Long payerBalance = 500_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, payerBalance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, validAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.deposit(receiverUuid, validAmount))
+        when(balanceApi.deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Deposit failed")));
         // Rollback also fails!
         when(balanceApi.deposit(payerUuid, validAmount))
@@ -419,8 +505,8 @@ class PayCommandApplicationServiceTest {
 
         assertEquals(PayStatus.ERROR, result);
 
-        verify(balanceApi).withdraw(payerUuid, validAmount);
-        verify(balanceApi).deposit(receiverUuid, validAmount);
+        verify(balanceApi).withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class));
+        verify(balanceApi).deposit(eq(receiverUuid), eq(validAmount), any(Deadline.class));
         verify(balanceApi).deposit(payerUuid, validAmount); // Attempted rollback
         verify(transactionApi, never()).register(any(), any(), anyLong());
     }
@@ -432,15 +518,15 @@ class PayCommandApplicationServiceTest {
         Long largerBalance = 2_000_000_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, largerBalance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, largeAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(largeAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.deposit(receiverUuid, largeAmount))
+        when(balanceApi.deposit(eq(receiverUuid), eq(largeAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
         when(transactionApi.register(payerUuid, receiverUuid, largeAmount))
                 .thenReturn(CompletableFuture.completedFuture(
@@ -459,15 +545,15 @@ class PayCommandApplicationServiceTest {
         Long balance = 100_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, balance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, minAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(minAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.deposit(receiverUuid, minAmount))
+        when(balanceApi.deposit(eq(receiverUuid), eq(minAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
         when(transactionApi.register(payerUuid, receiverUuid, minAmount))
                 .thenReturn(CompletableFuture.completedFuture(
@@ -484,11 +570,11 @@ class PayCommandApplicationServiceTest {
     void shouldHandlePaymentWhenPayerBalanceIsZero() throws ExecutionException, InterruptedException {
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, 0L);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(receiverName))
+        when(playerApi.getPlayerByName(eq(receiverName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(receiverDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
 
         PayStatus result = service.execute(payerUuid, payerName, receiverName, validAmount).get();
@@ -505,15 +591,15 @@ class PayCommandApplicationServiceTest {
         Long balance = 500_0000L;
         BalanceResponseDTO dto = new BalanceResponseDTO(payerUuid, balance);
 
-        when(playerService.getCachedOrFetch(payerUuid, payerName))
+        when(playerService.getCachedOrFetch(eq(payerUuid), eq(payerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(payerPlayer));
-        when(playerApi.getPlayerByName(specialName))
+        when(playerApi.getPlayerByName(eq(specialName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(specialDTO));
-        when(balanceApi.getBalance(payerUuid))
+        when(balanceApi.getBalance(eq(payerUuid), any(), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(dto));
-        when(balanceApi.withdraw(payerUuid, validAmount))
+        when(balanceApi.withdraw(eq(payerUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.deposit(specialUuid, validAmount))
+        when(balanceApi.deposit(eq(specialUuid), eq(validAmount), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
         when(transactionApi.register(payerUuid, specialUuid, validAmount))
                 .thenReturn(CompletableFuture.completedFuture(
@@ -1,6 +1,7 @@
 package io.github.HenriqueMichelini.craftalism_economy.application.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Player;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestPriority;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.repository.PlayerCacheRepository;
@@ -57,7 +58,7 @@ class PlayerApplicationServiceTest {
     @Test
     @DisplayName("Should load player on join and cache it")
     void shouldLoadPlayerOnJoinAndCache() throws ExecutionException, InterruptedException {
-        when(playerApiService.getOrCreatePlayer(testUuid, testName))
+        when(playerApiService.getOrCreatePlayer(testUuid, testName, RequestPriority.BACKGROUND))
                 .thenReturn(CompletableFuture.completedFuture(testPlayerDTO));
 
         CompletableFuture<Player> result = service.loadPlayerOnJoin(testUuid, testName);
@@ -68,7 +69,7 @@ class PlayerApplicationServiceTest {
         assertEquals(testName, player.getName());
         assertEquals(testCreatedAt, player.getCreatedAt());
 
-        verify(playerApiService).getOrCreatePlayer(testUuid, testName);
+        verify(playerApiService).getOrCreatePlayer(testUuid, testName, RequestPriority.BACKGROUND);
         verify(cacheRepository).save(argThat(p ->
                 p.getUuid().equals(testUuid) &&
                         p.getName().equals(testName)
@@ -79,7 +80,7 @@ class PlayerApplicationServiceTest {
     @DisplayName("Should propagate API failure on load player join")
     void shouldPropagateApiFailureOnLoadPlayerJoin() {
         RuntimeException apiError = new RuntimeException("API Error");
-        when(playerApiService.getOrCreatePlayer(testUuid, testName))
+        when(playerApiService.getOrCreatePlayer(testUuid, testName, RequestPriority.BACKGROUND))
                 .thenReturn(CompletableFuture.failedFuture(apiError));
 
         CompletableFuture<Player> result = service.loadPlayerOnJoin(testUuid, testName);
@@ -97,7 +98,7 @@ class PlayerApplicationServiceTest {
         Instant now = Instant.now();
         PlayerResponseDTO newPlayerDTO = new PlayerResponseDTO(newPlayerUuid, newPlayerName, now);
 
-        when(playerApiService.getOrCreatePlayer(newPlayerUuid, newPlayerName))
+        when(playerApiService.getOrCreatePlayer(newPlayerUuid, newPlayerName, RequestPriority.BACKGROUND))
                 .thenReturn(CompletableFuture.completedFuture(newPlayerDTO));
 
         Player player = service.loadPlayerOnJoin(newPlayerUuid, newPlayerName).get();
@@ -3,6 +3,7 @@ package io.github.HenriqueMichelini.craftalism_economy.application.service;
 import io.github.HenriqueMichelini.craftalism_economy.application.dto.SetBalanceExecutionResult;
 import io.github.HenriqueMichelini.craftalism_economy.domain.service.enums.SetBalanceStatus;
 import io.github.HenriqueMichelini.craftalism_economy.domain.model.Player;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.Deadline;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
 import org.junit.jupiter.api.AfterEach;
@@ -57,9 +58,9 @@ class SetBalanceCommandApplicationServiceTest {
     void shouldSetBalanceSuccessfully() throws ExecutionException, InterruptedException {
         long newBalance = 1000_0000L;
 
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(testPlayer));
-        when(balanceApi.updateBalance(testPlayerUuid, newBalance))
+        when(balanceApi.updateBalance(eq(testPlayerUuid), eq(newBalance), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, newBalance).get();
@@ -67,22 +68,22 @@ class SetBalanceCommandApplicationServiceTest {
         assertTrue(result.isSuccess());
         assertEquals(SetBalanceStatus.SUCCESS, result.getStatus());
 
-        verify(playerService).getPlayerByName(testPlayerName);
-        verify(balanceApi).updateBalance(testPlayerUuid, newBalance);
+        verify(playerService).getPlayerByName(eq(testPlayerName), any(Deadline.class));
+        verify(balanceApi).updateBalance(eq(testPlayerUuid), eq(newBalance), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should set balance to zero")
     void shouldSetBalanceToZero() throws ExecutionException, InterruptedException {
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(testPlayer));
-        when(balanceApi.updateBalance(testPlayerUuid, 0L))
+        when(balanceApi.updateBalance(eq(testPlayerUuid), eq(0L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, 0L).get();
 
         assertTrue(result.isSuccess());
-        verify(balanceApi).updateBalance(testPlayerUuid, 0L);
+        verify(balanceApi).updateBalance(eq(testPlayerUuid), eq(0L), any(Deadline.class));
     }
 
     @Test
@@ -90,15 +91,15 @@ class SetBalanceCommandApplicationServiceTest {
     void shouldSetVeryLargeBalance() throws ExecutionException, InterruptedException {
         long largeBalance = Long.MAX_VALUE / 2;
 
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(testPlayer));
-        when(balanceApi.updateBalance(testPlayerUuid, largeBalance))
+        when(balanceApi.updateBalance(eq(testPlayerUuid), eq(largeBalance), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, largeBalance).get();
 
         assertTrue(result.isSuccess());
-        verify(balanceApi).updateBalance(testPlayerUuid, largeBalance);
+        verify(balanceApi).updateBalance(eq(testPlayerUuid), eq(largeBalance), any(Deadline.class));
     }
 
     @Test
@@ -108,9 +109,9 @@ class SetBalanceCommandApplicationServiceTest {
         UUID specialUuid = UUID.randomUUID();
         Player specialPlayer = new Player(specialUuid, specialName, Instant.now());
 
-        when(playerService.getPlayerByName(specialName))
+        when(playerService.getPlayerByName(eq(specialName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(specialPlayer));
-        when(balanceApi.updateBalance(specialUuid, 500_0000L))
+        when(balanceApi.updateBalance(eq(specialUuid), eq(500_0000L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         SetBalanceExecutionResult result = service.execute(specialName, 500_0000L).get();
@@ -126,8 +127,8 @@ class SetBalanceCommandApplicationServiceTest {
         assertFalse(result.isSuccess());
         assertEquals(SetBalanceStatus.INVALID_AMOUNT, result.getStatus());
 
-        verify(playerService, never()).getPlayerByName(any());
-        verify(balanceApi, never()).updateBalance(any(), anyLong());
+        verify(playerService, never()).getPlayerByName(any(), any(Deadline.class));
+        verify(balanceApi, never()).updateBalance(any(), anyLong(), any(Deadline.class));
     }
 
     @Test
@@ -149,15 +150,15 @@ class SetBalanceCommandApplicationServiceTest {
     @Test
     @DisplayName("Should return player not found when player does not exist")
     void shouldReturnPlayerNotFoundWhenPlayerDoesNotExist() throws ExecutionException, InterruptedException {
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new NotFoundException("Player not found")));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, 1000_0000L).get();
 
         assertEquals(SetBalanceStatus.PLAYER_NOT_FOUND, result.getStatus());
 
-        verify(playerService).getPlayerByName(testPlayerName);
-        verify(balanceApi, never()).updateBalance(any(), anyLong());
+        verify(playerService).getPlayerByName(eq(testPlayerName), any(Deadline.class));
+        verify(balanceApi, never()).updateBalance(any(), anyLong(), any(Deadline.class));
     }
 
     @Test
@@ -165,7 +166,7 @@ class SetBalanceCommandApplicationServiceTest {
     void shouldHandlePlayerNotFoundForNonExistentUsername() throws ExecutionException, InterruptedException {
         String nonExistentPlayer = "NonExistent";
 
-        when(playerService.getPlayerByName(nonExistentPlayer))
+        when(playerService.getPlayerByName(eq(nonExistentPlayer), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new NotFoundException()));
 
         SetBalanceExecutionResult result = service.execute(nonExistentPlayer, 100_0000L).get();
@@ -176,24 +177,24 @@ class SetBalanceCommandApplicationServiceTest {
     @Test
     @DisplayName("Should return update failed when balance API fails")
     void shouldReturnUpdateFailedWhenBalanceApiFails() throws ExecutionException, InterruptedException {
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(testPlayer));
-        when(balanceApi.updateBalance(testPlayerUuid, 1000_0000L))
+        when(balanceApi.updateBalance(eq(testPlayerUuid), eq(1000_0000L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database error")));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, 1000_0000L).get();
 
         assertEquals(SetBalanceStatus.UPDATE_FAILED, result.getStatus());
 
-        verify(balanceApi).updateBalance(testPlayerUuid, 1000_0000L);
+        verify(balanceApi).updateBalance(eq(testPlayerUuid), eq(1000_0000L), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should handle network timeout during balance update")
     void shouldHandleNetworkTimeoutDuringUpdate() throws ExecutionException, InterruptedException {
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(testPlayer));
-        when(balanceApi.updateBalance(testPlayerUuid, 500_0000L))
+        when(balanceApi.updateBalance(eq(testPlayerUuid), eq(500_0000L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Connection timeout")));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, 500_0000L).get();
@@ -204,9 +205,9 @@ class SetBalanceCommandApplicationServiceTest {
     @Test
     @DisplayName("Should handle HTTP 500 error during balance update")
     void shouldHandleHttp500ErrorDuringUpdate() throws ExecutionException, InterruptedException {
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(testPlayer));
-        when(balanceApi.updateBalance(testPlayerUuid, 250_0000L))
+        when(balanceApi.updateBalance(eq(testPlayerUuid), eq(250_0000L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("HTTP 500")));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, 250_0000L).get();
@@ -217,7 +218,7 @@ class SetBalanceCommandApplicationServiceTest {
     @Test
     @DisplayName("Should return exception for unexpected errors")
     void shouldReturnExceptionForUnexpectedErrors() throws ExecutionException, InterruptedException {
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Unexpected error")));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, 1000_0000L).get();
@@ -228,7 +229,7 @@ class SetBalanceCommandApplicationServiceTest {
     @Test
     @DisplayName("Should handle null pointer exception")
     void shouldHandleNullPointerException() throws ExecutionException, InterruptedException {
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new NullPointerException()));
 
         SetBalanceExecutionResult result = service.execute(testPlayerName, 100_0000L).get();
@@ -286,7 +287,7 @@ class SetBalanceCommandApplicationServiceTest {
     void shouldHandleEmptyPlayerName() throws ExecutionException, InterruptedException {
         String emptyName = "";
 
-        when(playerService.getPlayerByName(emptyName))
+        when(playerService.getPlayerByName(eq(emptyName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.failedFuture(new NotFoundException()));
 
         SetBalanceExecutionResult result = service.execute(emptyName, 100_0000L).get();
@@ -301,9 +302,9 @@ class SetBalanceCommandApplicationServiceTest {
         UUID longNameUuid = UUID.randomUUID();
         Player longNamePlayer = new Player(longNameUuid, longName, Instant.now());
 
-        when(playerService.getPlayerByName(longName))
+        when(playerService.getPlayerByName(eq(longName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(longNamePlayer));
-        when(balanceApi.updateBalance(longNameUuid, 100_0000L))
+        when(balanceApi.updateBalance(eq(longNameUuid), eq(100_0000L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         SetBalanceExecutionResult result = service.execute(longName, 100_0000L).get();
@@ -319,13 +320,13 @@ class SetBalanceCommandApplicationServiceTest {
         UUID uuid1 = UUID.randomUUID();
         UUID uuid2 = UUID.randomUUID();
 
-        when(playerService.getPlayerByName(player1))
+        when(playerService.getPlayerByName(eq(player1), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(new Player(uuid1, player1, Instant.now())));
-        when(playerService.getPlayerByName(player2))
+        when(playerService.getPlayerByName(eq(player2), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(new Player(uuid2, player2, Instant.now())));
-        when(balanceApi.updateBalance(uuid1, 1000L))
+        when(balanceApi.updateBalance(eq(uuid1), eq(1000L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        when(balanceApi.updateBalance(uuid2, 2000L))
+        when(balanceApi.updateBalance(eq(uuid2), eq(2000L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         CompletableFuture<SetBalanceExecutionResult> future1 = service.execute(player1, 1000L);
@@ -340,21 +341,21 @@ class SetBalanceCommandApplicationServiceTest {
     void shouldNotCallBalanceApiWhenAmountIsNegative() throws ExecutionException, InterruptedException {
         service.execute(testPlayerName, -500L).get();
 
-        verify(playerService, never()).getPlayerByName(any());
-        verify(balanceApi, never()).updateBalance(any(), anyLong());
+        verify(playerService, never()).getPlayerByName(any(), any(Deadline.class));
+        verify(balanceApi, never()).updateBalance(any(), anyLong(), any(Deadline.class));
     }
 
     @Test
     @DisplayName("Should call balance API only once for successful operation")
     void shouldCallBalanceApiOnlyOnceForSuccessfulOperation() throws ExecutionException, InterruptedException {
-        when(playerService.getPlayerByName(testPlayerName))
+        when(playerService.getPlayerByName(eq(testPlayerName), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(testPlayer));
-        when(balanceApi.updateBalance(testPlayerUuid, 1000_0000L))
+        when(balanceApi.updateBalance(eq(testPlayerUuid), eq(1000_0000L), any(Deadline.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         service.execute(testPlayerName, 1000_0000L).get();
 
-        verify(playerService, times(1)).getPlayerByName(testPlayerName);
-        verify(balanceApi, times(1)).updateBalance(testPlayerUuid, 1000_0000L);
+        verify(playerService, times(1)).getPlayerByName(eq(testPlayerName), any(Deadline.class));
+        verify(balanceApi, times(1)).updateBalance(eq(testPlayerUuid), eq(1000_0000L), any(Deadline.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.LoadSheddingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private long now;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = 0L;
+        limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1, () -> now);
+    }
+
+    @Test
+    @DisplayName("Should queue calls over the limit and shed once the queue is full")
+    void shouldQueueThenShed() {
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> first = limiter.acquire();
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> second = limiter.acquire();
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> queued = limiter.acquire();
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> shed = limiter.acquire();
+
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(queued.isDone());
+
+        ExecutionException ex = assertThrows(ExecutionException.class, shed::get);
+        assertInstanceOf(LoadSheddingException.class, ex.getCause());
+        assertEquals(1, limiter.snapshot().shed());
+    }
+
+    @Test
+    @DisplayName("Should hand a released slot to the oldest waiter")
+    void shouldGrantSlotToWaiter() {
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> first = limiter.acquire();
+        limiter.acquire();
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> queued = limiter.acquire();
+
+        now += TimeUnit.MILLISECONDS.toNanos(10);
+        first.join().release(false);
+
+        assertTrue(queued.isDone());
+        assertEquals(2, limiter.snapshot().inFlight());
+        assertEquals(0, limiter.snapshot().queued());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays near the baseline")
+    void shouldGrowWhenHealthy() {
+        for (int i = 0; i < 200; i++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            for (int j = 0; j < limiter.currentLimit(); j++) {
+                permits.add(limiter.acquire().join());
+            }
+            now += TimeUnit.MILLISECONDS.toNanos(10);
+            permits.forEach(p -> p.release(false));
+        }
+
+        assertEquals(10, limiter.currentLimit());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when calls are dropped")
+    void shouldShrinkOnDrops() {
+        limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 1, () -> now);
+
+        limiter.acquire().join().release(true);
+
+        assertEquals(6, limiter.currentLimit());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency inflates past the baseline")
+    void shouldShrinkOnLatencyInflation() {
+        limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 1, () -> now);
+
+        AdaptiveConcurrencyLimiter.Permit fast = limiter.acquire().join();
+        now += TimeUnit.MILLISECONDS.toNanos(10);
+        fast.release(false);
+        int afterFast = limiter.currentLimit();
+
+        AdaptiveConcurrencyLimiter.Permit slow = limiter.acquire().join();
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+        slow.release(false);
+
+        assertTrue(limiter.currentLimit() < afterFast);
+    }
+
+    @Test
+    @DisplayName("Should judge each endpoint against its own baseline")
+    void shouldKeepBaselinePerEndpoint() {
+        limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 1, () -> now);
+
+        for (int i = 0; i < 20; i++) {
+            AdaptiveConcurrencyLimiter.Permit lookup = limiter.acquire().join();
+            AdaptiveConcurrencyLimiter.Permit top = limiter.acquire().join();
+            now += TimeUnit.MILLISECONDS.toNanos(10);
+            lookup.release("/balances/{uuid}", false);
+            now += TimeUnit.MILLISECONDS.toNanos(90);
+            top.release("/balances/top", false);
+        }
+
+        assertTrue(limiter.currentLimit() >= 8);
+        assertEquals(10, limiter.snapshot().minRttMillis());
+    }
+
+    @Test
+    @DisplayName("Should return abandoned permits without sampling latency")
+    void shouldAbandonWithoutSample() {
+        limiter.acquire().join().abandon();
+
+        assertEquals(0, limiter.snapshot().inFlight());
+        assertEquals(0, limiter.snapshot().minRttMillis());
+    }
+
+    @Test
+    @DisplayName("Should hand a freed slot to interactive waiters before bulk ones")
+    void shouldDrainInteractiveFirst() {
+        limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 2, () -> now);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> first = limiter.acquire();
+        limiter.acquire();
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> bulk = limiter.acquire(RequestPriority.BULK);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> interactive = limiter.acquire(RequestPriority.INTERACTIVE);
+
+        first.join().abandon();
+
+        assertTrue(interactive.isDone());
+        assertFalse(bulk.isDone());
+    }
+
+    @Test
+    @DisplayName("Should evict a queued bulk call to make room for an interactive one")
+    void shouldEvictLowerPriorityWhenFull() {
+        limiter.acquire();
+        limiter.acquire();
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> bulk = limiter.acquire(RequestPriority.BULK);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> interactive = limiter.acquire(RequestPriority.INTERACTIVE);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, bulk::get);
+        assertInstanceOf(LoadSheddingException.class, ex.getCause());
+        assertFalse(interactive.isDone());
+        assertEquals(1, limiter.shedCount(RequestPriority.BULK));
+        assertEquals(0, limiter.shedCount(RequestPriority.INTERACTIVE));
+        assertEquals(1, limiter.snapshot().queued());
+    }
+
+    @Test
+    @DisplayName("Should keep a share of the limit free from bulk calls")
+    void shouldCapBulkShare() {
+        limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 4, () -> now);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.acquire(RequestPriority.BULK).isDone());
+        }
+
+        assertFalse(limiter.acquire(RequestPriority.BULK).isDone());
+        assertTrue(limiter.acquire(RequestPriority.INTERACTIVE).isDone());
+    }
+
+    @Test
+    @DisplayName("Should sum shard limiters and keep the lowest known round trip")
+    void shouldMergeSnapshots() {
+        AdaptiveConcurrencyLimiter.Snapshot merged = AdaptiveConcurrencyLimiter.merge(List.of(
+                new AdaptiveConcurrencyLimiter.Snapshot(20, 3, 1, 2, 0),
+                new AdaptiveConcurrencyLimiter.Snapshot(12, 5, 0, 1, 40),
+                new AdaptiveConcurrencyLimiter.Snapshot(8, 0, 2, 0, 15)));
+
+        assertEquals(new AdaptiveConcurrencyLimiter.Snapshot(40, 8, 3, 3, 15), merged);
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives {@link HttpClientService} against several stand-in replicas.
+ */
+@DisplayName("Backend failover Tests")
+class BackendFailoverTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private StubApiServer slow;
+    private StubApiServer fast;
+    private HttpClientService client;
+    private long now = 1_000 * MS;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        slow = StubApiServer.start();
+        fast = StubApiServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) client.close();
+        slow.close();
+        fast.close();
+    }
+
+    private HttpClientService client(Duration ejection) {
+        return client(new BackendPool(List.of(slow.baseUrl(), fast.baseUrl()), 3, ejection));
+    }
+
+    private HttpClientService client(BackendPool pool) {
+        return new HttpClientService(pool, new RetryPolicy(), RequestHedger.disabled(), new HttpTransport(),
+                WireFormat.JSON);
+    }
+
+    // waits for the ping itself so the pool has settled the probe by the time this returns
+    private void probe() {
+        client.getBackends().probeEjected(url -> CompletableFuture.completedFuture(
+                client.ping(url, "/").orTimeout(5, TimeUnit.SECONDS).join()));
+    }
+
+    @Test
+    @DisplayName("Should steer traffic away from a slow replica")
+    void shouldPreferFastReplica() throws Exception {
+        slow.on("/api/balances/a", exchange -> {
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.reply(exchange, 200, "{}");
+        });
+        fast.on("/api/balances/a", 200, "{}");
+        client = client(Duration.ofSeconds(5));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(200, client.get("/api/balances/a").get(5, TimeUnit.SECONDS).statusCode());
+        }
+
+        assertTrue(slow.hits("/api/balances/a") <= 2, "slow replica got " + slow.hits("/api/balances/a"));
+        assertTrue(fast.hits("/api/balances/a") >= 18);
+    }
+
+    @Test
+    @DisplayName("Should eject a failing replica, then probe it back in once it recovers")
+    void shouldEjectAndReprobe() throws Exception {
+        AtomicBoolean down = new AtomicBoolean(true);
+        slow.on("/api/players/a", exchange -> StubApiServer.reply(exchange, down.get() ? 503 : 200, "{}"));
+        slow.on("/", exchange -> exchange.sendResponseHeaders(down.get() ? 503 : 204, -1));
+        // the broken replica answers quicker than the healthy one, so it keeps winning the pick
+        // on latency until its failures get it ejected
+        fast.on("/api/players/a", exchange -> {
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.reply(exchange, 200, "{}");
+        });
+        client = client(new BackendPool(List.of(slow.baseUrl(), fast.baseUrl()), 3, Duration.ofMillis(100),
+                () -> now));
+        // open both connections up front so no read pays for a handshake
+        client.ping(slow.baseUrl(), "/").get(5, TimeUnit.SECONDS);
+        client.ping(fast.baseUrl(), "/").get(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 5; i++) {
+            // reads that land on the broken replica are retried on the healthy one
+            assertEquals(200, client.get("/api/players/a").get(5, TimeUnit.SECONDS).statusCode());
+        }
+        int failed = slow.hits("/api/players/a");
+        assertTrue(failed <= 3, "ejected replica kept getting traffic: " + failed);
+        assertTrue(client.getBackends().snapshots().getFirst().ejected(), "never ejected: " + client.getBackends().snapshots());
+
+        now += 150 * MS;
+        probe();
+        assertTrue(client.getBackends().snapshots().getFirst().ejected(), "still failing its probe");
+
+        down.set(false);
+        // a failed probe doubles the window
+        now += 250 * MS;
+        probe();
+        assertFalse(client.getBackends().snapshots().getFirst().ejected());
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BackendPool Tests")
+class BackendPoolTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now = 1_000 * MS;
+
+    private BackendPool pool(String... urls) {
+        return new BackendPool(List.of(urls), 3, Duration.ofSeconds(5), () -> now);
+    }
+
+    private void fail(BackendPool pool, Backend backend, int times) {
+        for (int i = 0; i < times; i++) {
+            pool.onFailure(backend, MS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should route to the replica with the lowest latency")
+    void shouldPreferFastReplica() {
+        BackendPool pool = pool("http://a", "http://b");
+        Backend a = pool.choose();
+        pool.onSuccess(a, 200 * MS);
+        Backend b = pool.choose();
+        pool.onSuccess(b, 5 * MS);
+
+        for (int i = 0; i < 10; i++) {
+            Backend chosen = pool.choose();
+            assertEquals("http://b", chosen.baseUrl());
+            pool.onSuccess(chosen, 5 * MS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread load once the fast replica has requests queued")
+    void shouldWeighInFlightRequests() {
+        BackendPool pool = pool("http://a", "http://b");
+        Backend a = pool.choose();
+        pool.onSuccess(a, 20 * MS);
+        Backend b = pool.choose();
+        pool.onSuccess(b, 10 * MS);
+
+        assertEquals("http://b", pool.choose().baseUrl());
+        // with one call in flight b costs about 10ms x 2, more than an idle a at 20ms
+        assertEquals("http://a", pool.choose().baseUrl());
+    }
+
+    @Test
+    @DisplayName("Should give a slow replica another chance after it has been idle")
+    void shouldRetrySlowReplicaAfterIdle() {
+        BackendPool pool = pool("http://a", "http://b");
+        Backend a = pool.choose();
+        pool.onSuccess(a, 500 * MS);
+        Backend b = pool.choose();
+        pool.onSuccess(b, 20 * MS);
+
+        now += 60_000 * MS;
+        Backend b2 = pool.choose();
+        pool.onSuccess(b2, 20 * MS);
+
+        assertEquals("http://a", pool.choose().baseUrl());
+    }
+
+    @Test
+    @DisplayName("Should eject after consecutive failures but never the last replica")
+    void shouldEjectFailingReplica() {
+        BackendPool pool = pool("http://a", "http://b");
+        Backend a = pool.choose();
+        Backend b = pool.choose();
+
+        fail(pool, a, 3);
+        assertTrue(a.isEjected());
+        for (int i = 0; i < 5; i++) {
+            assertSame(b, pool.choose());
+        }
+
+        fail(pool, b, 10);
+        assertFalse(b.isEjected(), "the last healthy replica stays in rotation");
+    }
+
+    @Test
+    @DisplayName("Should readmit an ejected replica only after a healthy probe")
+    void shouldProbeBeforeReadmitting() {
+        BackendPool pool = pool("http://a", "http://b");
+        Backend a = pool.choose();
+        fail(pool, a, 3);
+
+        AtomicBoolean probed = new AtomicBoolean();
+        pool.probeEjected(url -> {
+            probed.set(true);
+            return CompletableFuture.completedFuture(200);
+        });
+        assertFalse(probed.get(), "no probe before the ejection window has passed");
+
+        now += 5_000 * MS;
+        pool.probeEjected(url -> CompletableFuture.completedFuture(503));
+        assertTrue(a.isEjected());
+
+        // a failed probe doubles the window
+        now += 5_000 * MS;
+        pool.probeEjected(url -> {
+            probed.set(true);
+            return CompletableFuture.completedFuture(200);
+        });
+        assertFalse(probed.get());
+
+        now += 5_000 * MS;
+        pool.probeEjected(url -> CompletableFuture.completedFuture(204));
+        assertFalse(a.isEjected());
+        assertEquals(2, a.snapshot().ejections());
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private long now;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        now = 0L;
+        breaker = new CircuitBreaker("GET /api/balances/{uuid}", 3, Duration.ofSeconds(10), 1, () -> now);
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+    }
+
+    @Test
+    @DisplayName("Should open after consecutive failures reach the threshold")
+    void shouldOpenAfterThreshold() {
+        fail(2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        fail(1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.snapshot().rejected());
+    }
+
+    @Test
+    @DisplayName("Should reset the failure streak on success")
+    void shouldResetStreakOnSuccess() {
+        fail(2);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        fail(2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("Should admit a single probe once the open window elapsed")
+    void shouldAdmitProbeAfterOpenWindow() {
+        fail(3);
+        now += TimeUnit.SECONDS.toNanos(10);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire(), "Only one probe may be in flight");
+    }
+
+    @Test
+    @DisplayName("Should close when the probe succeeds")
+    void shouldCloseOnProbeSuccess() {
+        fail(3);
+        now += TimeUnit.SECONDS.toNanos(10);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should re-open when the probe fails")
+    void shouldReopenOnProbeFailure() {
+        fail(3);
+        now += TimeUnit.SECONDS.toNanos(10);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(10_000L, breaker.retryInMillis());
+    }
+
+    @Test
+    @DisplayName("Should normalize concrete paths into endpoint templates")
+    void shouldNormalizeEndpoints() {
+        assertEquals("POST /api/balances/{uuid}/withdraw",
+                Endpoints.template("POST", "/api/balances/6f1c2d3e-1111-2222-3333-444455556666/withdraw?amount=5"));
+        assertEquals("GET /api/players/name/{name}",
+                Endpoints.template("GET", "/api/players/name/Notch"));
+        assertEquals("GET /api/balances/top",
+                Endpoints.template("GET", "/api/balances/top?limit=10"));
+    }
+}
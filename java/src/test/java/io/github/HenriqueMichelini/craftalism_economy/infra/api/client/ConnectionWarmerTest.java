@@ -0,0 +1,86 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConnectionWarmer Tests")
+class ConnectionWarmerTest {
+
+    private StubApiServer server;
+    private ConnectionWarmer warmer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubApiServer.start();
+        server.on("/", exchange -> exchange.sendResponseHeaders(204, -1));
+        warmer = new ConnectionWarmer(new HttpClientService(server.baseUrl()), "/");
+    }
+
+    @AfterEach
+    void tearDown() {
+        warmer.stop();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should open connections and record the handshake time")
+    void shouldWarmUp() throws Exception {
+        warmer.warmUp(2).get(5, TimeUnit.SECONDS);
+
+        ConnectionWarmer.Snapshot snapshot = warmer.snapshot();
+        assertTrue(snapshot.handshakeMillis() >= 0);
+        assertEquals(2, snapshot.pings());
+        assertEquals(0, snapshot.failures());
+        assertEquals(2, server.hits("/"));
+    }
+
+    @Test
+    @DisplayName("Should not ping at all when asked for zero connections")
+    void shouldSkipZeroConnections() throws Exception {
+        warmer.warmUp(0).get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, warmer.snapshot().pings());
+        assertEquals(-1, warmer.snapshot().handshakeMillis());
+        assertEquals(0, server.hits("/"));
+    }
+
+    @Test
+    @DisplayName("Should count any HTTP status as a live connection")
+    void shouldTreatErrorStatusAsAlive() throws Exception {
+        server.on("/", exchange -> exchange.sendResponseHeaders(404, -1));
+
+        long rtt = warmer.ping().get(5, TimeUnit.SECONDS);
+
+        assertTrue(rtt >= 0);
+        assertEquals(rtt, warmer.snapshot().lastRttMillis());
+        assertEquals(0, warmer.snapshot().failures());
+    }
+
+    @Test
+    @DisplayName("Should record failures without failing the warm-up")
+    void shouldRecordFailures() throws Exception {
+        server.close();
+
+        warmer.warmUp(1).get(10, TimeUnit.SECONDS);
+
+        assertEquals(-1, warmer.snapshot().handshakeMillis());
+        assertEquals(1, warmer.snapshot().failures());
+    }
+
+    @Test
+    @DisplayName("Should report keep-alive state until stopped")
+    void shouldToggleKeepAlive() {
+        warmer.startKeepAlive(Duration.ofSeconds(30));
+        assertTrue(warmer.snapshot().keepAlive());
+
+        warmer.stop();
+        assertFalse(warmer.snapshot().keepAlive());
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Deadline Tests")
+class DeadlineTest {
+
+    private long now = -5_000_000_000L;
+
+    @Test
+    @DisplayName("Should hand out the per-hop timeout until the budget gets tighter")
+    void shouldCapHopsByRemainingBudget() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(3), () -> now);
+
+        assertEquals(Duration.ofSeconds(1), deadline.cap(Duration.ofSeconds(1)));
+        assertEquals(Duration.ofSeconds(3), deadline.cap(Duration.ofSeconds(10)));
+
+        now += TimeUnit.MILLISECONDS.toNanos(2_500);
+        assertEquals(Duration.ofMillis(500), deadline.cap(Duration.ofSeconds(10)));
+        assertFalse(deadline.isExpired());
+    }
+
+    @Test
+    @DisplayName("Should expire once the budget is spent and never cap below a millisecond")
+    void shouldExpire() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(100), () -> now);
+
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+        assertEquals(Duration.ofMillis(1), deadline.cap(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    @DisplayName("Should leave hops alone when there is no deadline")
+    void shouldPassThroughWithoutDeadline() {
+        Deadline none = Deadline.none();
+
+        assertFalse(none.isBounded());
+        assertFalse(none.isExpired());
+        assertEquals(Duration.ofSeconds(10), none.cap(Duration.ofSeconds(10)));
+        assertFalse(Deadline.after(Duration.ofSeconds(Long.MAX_VALUE / 1_000_000_000L), () -> Long.MAX_VALUE - 10).isExpired());
+    }
+}
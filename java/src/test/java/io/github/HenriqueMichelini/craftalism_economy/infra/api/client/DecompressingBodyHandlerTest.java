@@ -0,0 +1,172 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DecompressingBodyHandler Tests")
+class DecompressingBodyHandlerTest {
+
+    private static final String JSON = "[" + "{\"uuid\":\"00000000-0000-0000-0000-000000000000\",\"amount\":1},".repeat(200) + "{}]";
+
+    private final AtomicLong wire = new AtomicLong();
+    private final AtomicLong decoded = new AtomicLong();
+    private final DecompressingBodyHandler handler = new DecompressingBodyHandler((w, d) -> {
+        wire.addAndGet(w);
+        decoded.addAndGet(d);
+    });
+
+    @Test
+    @DisplayName("Should inflate a gzip body delivered one byte at a time")
+    void shouldInflateGzipInTinyChunks() throws IOException {
+        byte[] gzipped = gzip(JSON);
+
+        String body = feed("gzip", gzipped, 1);
+
+        assertEquals(JSON, body);
+        assertEquals(gzipped.length, wire.get());
+        assertEquals(JSON.length(), decoded.get());
+        assertTrue(wire.get() < decoded.get());
+    }
+
+    @Test
+    @DisplayName("Should inflate zlib-wrapped and raw deflate bodies")
+    void shouldInflateDeflate() throws IOException {
+        assertEquals(JSON, feed("deflate", deflate(JSON, false), 512));
+        assertEquals(JSON, feed("deflate", deflate(JSON, true), 512));
+    }
+
+    @Test
+    @DisplayName("Should pass identity bodies through and count them once")
+    void shouldPassThroughIdentity() {
+        String body = feed(null, JSON.getBytes(StandardCharsets.UTF_8), 100);
+
+        assertEquals(JSON, body);
+        assertEquals(wire.get(), decoded.get());
+    }
+
+    @Test
+    @DisplayName("Should fail a truncated gzip body")
+    void shouldRejectTruncatedGzip() throws IOException {
+        byte[] gzipped = gzip(JSON);
+        byte[] truncated = java.util.Arrays.copyOf(gzipped, gzipped.length / 2);
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> feed("gzip", truncated, 64));
+        assertInstanceOf(IOException.class, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("Should accept an empty body even when an encoding is declared")
+    void shouldAcceptEmptyEncodedBody() {
+        assertEquals("", feed("gzip", new byte[0], 1));
+    }
+
+    @Test
+    @DisplayName("Should reject encodings it cannot decode")
+    void shouldRejectUnknownEncoding() {
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> feed("br", JSON.getBytes(StandardCharsets.UTF_8), 64));
+        assertInstanceOf(IOException.class, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("Should fail a body that inflates past the size cap")
+    void shouldCapDecodedSize() throws IOException {
+        DecompressingBodyHandler capped = new DecompressingBodyHandler((w, d) -> {}, 1024);
+        byte[] bomb = gzip("0".repeat(1024 * 1024));
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> feed(capped, "gzip", bomb, 64));
+        assertInstanceOf(IOException.class, ex.getCause());
+        assertTrue(bomb.length < 4096);
+    }
+
+    @Test
+    @DisplayName("Should ignore chunks that arrive after the body failed")
+    void shouldIgnoreChunksAfterFailure() {
+        HttpResponse.BodySubscriber<String> subscriber = subscribe(handler, "deflate");
+        subscriber.onNext(List.of(ByteBuffer.wrap(new byte[]{0x78, (byte) 0x9c, 1, 2, 3, 4})));
+        subscriber.onError(new IOException("reset"));
+
+        assertDoesNotThrow(() -> subscriber.onNext(List.of(ByteBuffer.wrap(new byte[]{5, 6, 7}))));
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> subscriber.getBody().toCompletableFuture().join());
+        assertEquals("reset", ex.getCause().getMessage());
+    }
+
+    private String feed(String encoding, byte[] bytes, int chunkSize) {
+        return feed(handler, encoding, bytes, chunkSize);
+    }
+
+    private static String feed(DecompressingBodyHandler handler, String encoding, byte[] bytes, int chunkSize) {
+        HttpResponse.BodySubscriber<String> subscriber = subscribe(handler, encoding);
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            int len = Math.min(chunkSize, bytes.length - i);
+            subscriber.onNext(List.of(ByteBuffer.wrap(bytes, i, len).slice()));
+        }
+        subscriber.onComplete();
+        return subscriber.getBody().toCompletableFuture().join();
+    }
+
+    private static HttpResponse.BodySubscriber<String> subscribe(DecompressingBodyHandler handler, String encoding) {
+        Map<String, List<String>> headers = encoding == null
+                ? Map.of()
+                : Map.of("Content-Encoding", List.of(encoding));
+        HttpResponse.BodySubscriber<String> subscriber = handler.apply(new Info(HttpHeaders.of(headers, (k, v) -> true)));
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        return subscriber;
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(String text, boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream def = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+            def.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private record Info(HttpHeaders headers) implements HttpResponse.ResponseInfo {
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FaultInjectingTransport Tests")
+class FaultInjectingTransportTest {
+
+    private static final String PLAYER = "/" + UUID.fromString("7d8f2e4a-0000-4000-8000-000000000001");
+
+    private StubApiServer server;
+    private FaultInjector faults;
+    private HttpClientService client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubApiServer.start();
+        server.on("/api/balances/a", 200, "{}");
+        server.on("/api/balances/a/deposit", 200, "{}");
+        faults = new FaultInjector();
+        RetryPolicy once = new RetryPolicy(1, Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofMillis(10));
+        client = new HttpClientService(server.baseUrl(), once, RequestHedger.disabled(),
+                new FaultInjectingTransport(new HttpTransport(), faults));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should pass every call through while disabled")
+    void shouldPassThroughWhenDisabled() throws Exception {
+        faults.configure(false, Map.of(FaultInjector.ANY, FaultInjector.Rule.NONE.withErrors(1.0, List.of(503))));
+
+        assertEquals(200, client.get("/api/balances/a").get(5, TimeUnit.SECONDS).statusCode());
+        assertEquals(1, server.hits("/api/balances/a"));
+        assertEquals(0, faults.snapshot().errors());
+    }
+
+    @Test
+    @DisplayName("Should answer with an injected status without reaching the backend")
+    void shouldInjectErrorStatus() throws Exception {
+        faults.configure(true, Map.of(FaultInjector.ANY, FaultInjector.Rule.NONE.withErrors(1.0, List.of(429))));
+
+        HttpResponse<String> response = client.get("/api/balances/a").get(5, TimeUnit.SECONDS);
+
+        assertEquals(429, response.statusCode());
+        assertEquals("1", response.headers().firstValue("Retry-After").orElseThrow());
+        assertEquals(0, server.hits("/api/balances/a"));
+        assertEquals(1, faults.snapshot().errors());
+    }
+
+    @Test
+    @DisplayName("Should leave a stuck call to the client's deadline")
+    void shouldTimeOut() {
+        faults.configure(true, Map.of(FaultInjector.ANY, FaultInjector.Rule.NONE.withTimeouts(1.0)));
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.get("/api/balances/a", RequestPriority.INTERACTIVE,
+                        Deadline.after(Duration.ofMillis(200))).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(ApiTimeoutException.class, error.getCause());
+        assertEquals(0, server.hits("/api/balances/a"));
+    }
+
+    @Test
+    @DisplayName("Should end a stuck probe on the request's timeout so the replica can be probed again")
+    void shouldTimeOutStuckProbe() throws Exception {
+        faults.configure(true, Map.of(FaultInjector.ANY, FaultInjector.Rule.NONE.withTimeouts(1.0)));
+        Transport transport = new FaultInjectingTransport(new HttpTransport(), faults);
+        long[] now = {0};
+        BackendPool pool = new BackendPool(List.of(server.baseUrl(), "http://replica.invalid"), 1,
+                Duration.ofSeconds(5), () -> now[0]);
+        Backend backend = pool.choose();
+        pool.onFailure(backend, 0);
+        assertTrue(backend.isEjected());
+
+        long firstWindow = backend.probeAt();
+        now[0] += TimeUnit.SECONDS.toNanos(5);
+        pool.probeEjected(url -> transport.send(HttpRequest.newBuilder(URI.create(url + "/api/health"))
+                        .timeout(Duration.ofMillis(200))
+                        .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                        .build(), HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode));
+
+        // the timed-out probe re-ejects for twice as long and frees the replica for the next one
+        long giveUp = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (backend.probeAt() == firstWindow && System.nanoTime() < giveUp) {
+            Thread.sleep(10);
+        }
+        assertEquals(now[0] + TimeUnit.SECONDS.toNanos(10), backend.probeAt());
+
+        AtomicBoolean probedAgain = new AtomicBoolean();
+        now[0] += TimeUnit.SECONDS.toNanos(10);
+        pool.probeEjected(url -> {
+            probedAgain.set(true);
+            return CompletableFuture.completedFuture(200);
+        });
+        assertTrue(probedAgain.get());
+        assertFalse(backend.isEjected());
+        assertEquals(0, server.hits("/api/health"));
+    }
+
+    @Test
+    @DisplayName("Should apply a dropped write on the backend but lose its answer")
+    void shouldDropAnswer() throws Exception {
+        faults.configure(true, Map.of(FaultInjector.ANY, FaultInjector.Rule.NONE.withDrops(1.0)));
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.post("/api/balances/a/deposit", "{}", RequestPriority.INTERACTIVE,
+                        Deadline.after(Duration.ofMillis(300))).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(ApiTimeoutException.class, error.getCause());
+        assertEquals(1, server.hits("/api/balances/a/deposit"));
+        assertEquals(1, faults.snapshot().dropped());
+    }
+
+    @Test
+    @DisplayName("Should add latency before sending")
+    void shouldAddLatency() throws Exception {
+        faults.configure(true, Map.of(FaultInjector.ANY, FaultInjector.Rule.NONE.withLatency(150, 150)));
+
+        long start = System.nanoTime();
+        assertEquals(200, client.get("/api/balances/a").get(5, TimeUnit.SECONDS).statusCode());
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 140);
+        assertEquals(1, faults.snapshot().delayed());
+    }
+
+    @Test
+    @DisplayName("Should prefer the endpoint rule over the route rule over the catch-all")
+    void shouldPickMostSpecificRule() throws Exception {
+        server.on("/api/balances" + PLAYER, 200, "{}");
+        server.on("/api/balances" + PLAYER + "/deposit", 200, "{}");
+        faults.configure(true, Map.of(
+                FaultInjector.ANY, FaultInjector.Rule.NONE.withErrors(1.0, List.of(500)),
+                "/api/balances/{uuid}", FaultInjector.Rule.NONE.withErrors(1.0, List.of(502)),
+                "POST /api/balances/{uuid}/deposit", FaultInjector.Rule.NONE
+        ));
+
+        assertEquals(502, client.get("/api/balances" + PLAYER).get(5, TimeUnit.SECONDS).statusCode());
+        assertEquals(200, client.post("/api/balances" + PLAYER + "/deposit", "{}").get(5, TimeUnit.SECONDS).statusCode());
+        assertEquals(500, client.get("/api/players" + PLAYER).get(5, TimeUnit.SECONDS).statusCode());
+    }
+}
@@ -0,0 +1,442 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiTimeoutException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.CircuitOpenException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.RateLimitException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HttpClientService Tests")
+class HttpClientServiceTest {
+
+    private StubApiServer server;
+    private HttpClientService client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubApiServer.start();
+        client = new HttpClientService(server.baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should send a single request for concurrent identical GETs")
+    void shouldCoalesceConcurrentGets() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        server.on("/api/balances/top?limit=10", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.reply(exchange, 200, "[]");
+        });
+
+        List<CompletableFuture<HttpResponse<String>>> calls = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            calls.add(client.get("/api/balances/top?limit=10"));
+        }
+        release.countDown();
+
+        for (CompletableFuture<HttpResponse<String>> call : calls) {
+            HttpResponse<String> response = call.get(5, TimeUnit.SECONDS);
+            assertEquals(200, response.statusCode());
+            assertEquals("[]", response.body());
+        }
+
+        assertEquals(1, server.hits("/api/balances/top?limit=10"));
+        assertEquals(39, client.getCoalescer().hitCount());
+        assertEquals(1, client.getCoalescer().missCount());
+    }
+
+    @Test
+    @DisplayName("Should never coalesce writes")
+    void shouldNotCoalescePosts() throws Exception {
+        server.on("/api/transactions", 201, "{}");
+
+        CompletableFuture<HttpResponse<String>> first = client.post("/api/transactions", "{}");
+        CompletableFuture<HttpResponse<String>> second = client.post("/api/transactions", "{}");
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, server.hits("/api/transactions"));
+        assertEquals(0, client.getCoalescer().missCount());
+    }
+
+    @Test
+    @DisplayName("Should fast-fail once the endpoint breaker is open")
+    void shouldFastFailWhenBreakerOpen() throws Exception {
+        server.on("/api/transactions", 503, "{}");
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(503, client.post("/api/transactions", "{}").get(5, TimeUnit.SECONDS).statusCode());
+        }
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> client.post("/api/transactions", "{}").get(1, TimeUnit.SECONDS));
+        assertInstanceOf(CircuitOpenException.class, ex.getCause());
+        assertEquals(5, server.hits("/api/transactions"));
+    }
+
+    @Test
+    @DisplayName("Should keep breakers independent per endpoint")
+    void shouldIsolateBreakersPerEndpoint() throws Exception {
+        server.on("/api/transactions", 503, "{}");
+        server.on("/api/balances/top?limit=10", 200, "[]");
+
+        for (int i = 0; i < 5; i++) {
+            client.post("/api/transactions", "{}").get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(200, client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS).statusCode());
+    }
+
+    @Test
+    @DisplayName("Should retry idempotent reads on 503 and honor Retry-After")
+    void shouldRetryIdempotentReads() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        server.on("/api/balances/top?limit=10", exchange -> {
+            if (calls.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                StubApiServer.reply(exchange, 503, "{}");
+            } else {
+                StubApiServer.reply(exchange, 200, "[]");
+            }
+        });
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(2, server.hits("/api/balances/top?limit=10"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 1_000);
+    }
+
+    @Test
+    @DisplayName("Should never replay non-idempotent writes")
+    void shouldNotRetryPosts() throws Exception {
+        server.on("/api/transactions", 503, "{}");
+
+        assertEquals(503, client.post("/api/transactions", "{}").get(5, TimeUnit.SECONDS).statusCode());
+        assertEquals(1, server.hits("/api/transactions"));
+    }
+
+    @Test
+    @DisplayName("Should hedge a GET stalled past the observed p95")
+    void shouldHedgeStalledGet() throws Exception {
+        client = new HttpClientService(server.baseUrl(), new RetryPolicy(), new RequestHedger(1.0, Duration.ofMillis(50)));
+        CountDownLatch stall = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        server.on("/api/balances/top?limit=10", exchange -> {
+            if (calls.incrementAndGet() == 21) {
+                try {
+                    stall.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StubApiServer.reply(exchange, 200, "[]");
+        });
+
+        for (int i = 0; i < 20; i++) {
+            client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS);
+        }
+
+        long start = System.nanoTime();
+        assertEquals(200, client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS).statusCode());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        stall.countDown();
+
+        assertTrue(elapsedMillis < 2_000, "hedge should answer long before the stalled call");
+        assertEquals(1, client.getHedger().hedgesSent());
+        assertEquals(1, client.getHedger().hedgesWon());
+    }
+
+    @Test
+    @DisplayName("Should revalidate with If-None-Match and serve 304s from the cache")
+    void shouldRevalidateWithEtag() throws Exception {
+        server.onVersioned("/api/balances/top?limit=10", () -> "[{\"amount\":1}]");
+        AtomicInteger parses = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            HttpResponse<String> response = client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS);
+            assertEquals(200, response.statusCode());
+            assertEquals("[{\"amount\":1}]", response.body());
+            ValidatorCache.decode(response, body -> parses.incrementAndGet());
+        }
+
+        assertEquals(3, server.hits("/api/balances/top?limit=10"));
+        assertEquals(2, server.notModified("/api/balances/top?limit=10"));
+        assertEquals(2, client.getValidatorCache().revalidatedCount());
+        assertEquals(1, parses.get(), "the parsed value should be reused across 304s");
+    }
+
+    @Test
+    @DisplayName("Should replace the cached body when the representation changes")
+    void shouldRefreshChangedRepresentation() throws Exception {
+        AtomicReference<String> body = new AtomicReference<>("[]");
+        server.onVersioned("/api/balances/top?limit=10", body::get);
+
+        client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS);
+        body.set("[{\"amount\":2}]");
+        HttpResponse<String> response = client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS);
+
+        assertEquals("[{\"amount\":2}]", response.body());
+        assertEquals(0, server.notModified("/api/balances/top?limit=10"));
+        assertEquals(2, client.getValidatorCache().storedCount());
+    }
+
+    @Test
+    @DisplayName("Should negotiate gzip and count wire versus decoded bytes per endpoint")
+    void shouldNegotiateGzip() throws Exception {
+        String top = "[" + "{\"amount\":100},".repeat(100) + "{\"amount\":0}]";
+        server.gzipResponses(true);
+        server.on("/api/balances/top?limit=100", 200, top);
+
+        HttpResponse<String> response = client.get("/api/balances/top?limit=100").get(5, TimeUnit.SECONDS);
+
+        assertEquals(top, response.body());
+        CompressionStats.Snapshot stats = client.getCompressionStats().snapshots().getFirst();
+        assertEquals("GET /api/balances/top", stats.endpoint());
+        assertEquals(top.length(), stats.decodedBytes());
+        assertTrue(stats.wireBytes() < stats.decodedBytes() / 4, "leaderboard JSON should compress well");
+    }
+
+    @Test
+    @DisplayName("Should stream a JSON array into elements through the same limits and stats")
+    void shouldStreamJsonArray() throws Exception {
+        String top = "[" + "{\"amount\":100},".repeat(100) + "{\"amount\":0}]";
+        server.gzipResponses(true);
+        server.on("/api/balances/top?limit=101", 200, top);
+        server.on("/api/balances/top?limit=5", 404, "{\"error\":\"gone\"}");
+        JsonArrayBodyHandler.Elements<BalanceResponseDTO> elements = new JsonArrayBodyHandler.Elements<>(
+                "BalanceResponseDTO", GsonFactory.getInstance().getAdapter(BalanceResponseDTO.class),
+                BinaryDtoCodec::decodeBalances);
+
+        HttpResponse<JsonArrayBodyHandler.Body<BalanceResponseDTO>> response = client.getArray(
+                        ApiPath.of("/api/balances/top?limit=101"), elements, RequestPriority.INTERACTIVE, Deadline.none())
+                .get(5, TimeUnit.SECONDS);
+        HttpResponse<JsonArrayBodyHandler.Body<BalanceResponseDTO>> missing = client.getArray(
+                        ApiPath.of("/api/balances/top?limit=5"), elements, RequestPriority.INTERACTIVE, Deadline.none())
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(101, response.body().elements().size());
+        assertEquals(Long.valueOf(100), response.body().elements().getFirst().amount());
+        assertEquals(404, missing.statusCode());
+        assertEquals("{\"error\":\"gone\"}", missing.body().text());
+
+        CompressionStats.Snapshot stats = client.getCompressionStats().snapshots().getFirst();
+        assertEquals(top.length() + missing.body().text().length(), stats.decodedBytes());
+        assertTrue(stats.wireBytes() < stats.decodedBytes() / 2);
+        assertEquals(Long.valueOf(1), client.getEndpointMetrics().snapshots().getFirst().statuses().get(200));
+    }
+
+    @Test
+    @DisplayName("Should record latency, statuses and bytes per endpoint")
+    void shouldRecordEndpointMetrics() throws Exception {
+        server.on("/api/transactions", 201, "{\"id\":1}");
+        server.on("/api/balances/top?limit=10", 200, "[]");
+        server.on("/api/balances/top?limit=5", 500, "");
+
+        client.post("/api/transactions", "{\"amount\":5}").get(5, TimeUnit.SECONDS);
+        client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS);
+        client.get("/api/balances/top?limit=5").get(5, TimeUnit.SECONDS);
+
+        List<EndpointMetrics.Snapshot> endpoints = client.getEndpointMetrics().snapshots();
+        assertEquals(2, endpoints.size());
+
+        EndpointMetrics.Snapshot top = endpoints.get(0);
+        assertEquals("GET /api/balances/top", top.endpoint());
+        // the 500 is retried, every attempt is a sample
+        assertEquals(Long.valueOf(1), top.statuses().get(200));
+        assertTrue(top.statuses().get(500) >= 1);
+        assertEquals(top.requests(), top.statuses().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(0, top.inFlight());
+
+        EndpointMetrics.Snapshot transactions = endpoints.get(1);
+        assertEquals("POST /api/transactions", transactions.endpoint());
+        assertEquals(Map.of(201, 1L), transactions.statuses());
+        assertEquals("{\"amount\":5}".length(), transactions.bytesOut());
+        assertEquals("{\"id\":1}".length(), transactions.bytesIn());
+        assertTrue(transactions.latency().maxMicros() > 0);
+    }
+
+    @Test
+    @DisplayName("Should slow a family down after a 429 and leave other families alone")
+    void shouldThrottleFamilyAfter429() throws Exception {
+        client.getRateLimits().configure("transactions", 1_000, 1, Duration.ofMillis(100));
+        server.on("/api/transactions", exchange -> {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            StubApiServer.reply(exchange, 429, "{}");
+        });
+        server.on("/api/players/a", 200, "{}");
+
+        assertEquals(429, client.post("/api/transactions", "{}").get(5, TimeUnit.SECONDS).statusCode());
+
+        ExecutionException shed = assertThrows(ExecutionException.class,
+                () -> client.post("/api/transactions", "{}").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RateLimitException.class, shed.getCause());
+        assertEquals(1, server.hits("/api/transactions"));
+        assertEquals(200, client.get("/api/players/a").get(5, TimeUnit.SECONDS).statusCode());
+    }
+
+    @Test
+    @DisplayName("Should fail fast without sending once the deadline is spent")
+    void shouldNotSendPastDeadline() {
+        Deadline spent = Deadline.after(Duration.ZERO);
+        server.on("/api/balances/a", 200, "{}");
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.get("/api/balances/a", RequestPriority.INTERACTIVE, spent).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(ApiTimeoutException.class, error.getCause());
+        assertEquals(0, server.hits("/api/balances/a"));
+    }
+
+    @Test
+    @DisplayName("Should give a hop only what is left of the deadline")
+    void shouldBoundHopByRemainingBudget() {
+        CountDownLatch release = new CountDownLatch(1);
+        server.on("/api/balances/slow", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.reply(exchange, 200, "{}");
+        });
+
+        long start = System.nanoTime();
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.post("/api/balances/slow", "{}", RequestPriority.INTERACTIVE,
+                        Deadline.after(Duration.ofMillis(200))).get(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertInstanceOf(ApiTimeoutException.class, error.getCause());
+        assertTrue(error.getCause().getMessage().startsWith("Deadline exceeded"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2_000);
+    }
+
+    @Test
+    @DisplayName("Should not let one caller's deadline fail a coalesced GET for the others")
+    void shouldKeepDeadlinesPerCoalescedCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        server.on("/api/balances/slow", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.reply(exchange, 200, "{}");
+        });
+
+        CompletableFuture<HttpResponse<String>> bounded = client.get("/api/balances/slow",
+                RequestPriority.INTERACTIVE, Deadline.after(Duration.ofMillis(200)));
+        CompletableFuture<HttpResponse<String>> unbounded = client.get("/api/balances/slow",
+                RequestPriority.INTERACTIVE, Deadline.none());
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> bounded.get(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertInstanceOf(ApiTimeoutException.class, error.getCause());
+        assertEquals(200, unbounded.get(5, TimeUnit.SECONDS).statusCode());
+        assertEquals(1, server.hits("/api/balances/slow"));
+    }
+
+    @Test
+    @DisplayName("Should not retry a GET that hit the request timeout")
+    void shouldNotRetryRequestTimeout() {
+        client.close();
+        // the hop timeout is cut short so the HTTP client gives up long before the stub answers
+        HttpTransport http = new HttpTransport();
+        AtomicInteger sent = new AtomicInteger();
+        Transport impatient = new Transport() {
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+                sent.incrementAndGet();
+                return http.send(HttpRequest.newBuilder(request, (name, value) -> true)
+                        .timeout(Duration.ofMillis(200)).build(), handler);
+            }
+
+            @Override
+            public String name() {
+                return "impatient";
+            }
+
+            @Override
+            public void close() {
+                http.close();
+            }
+        };
+        RetryPolicy retries = new RetryPolicy();
+        client = new HttpClientService(server.baseUrl(), retries, RequestHedger.disabled(), impatient);
+        CountDownLatch release = new CountDownLatch(1);
+        server.on("/api/balances/hung", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.reply(exchange, 200, "{}");
+        });
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.get("/api/balances/hung", RequestPriority.INTERACTIVE, Deadline.none())
+                        .get(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertInstanceOf(HttpTimeoutException.class, error.getCause());
+        assertEquals(1, sent.get());
+        assertEquals(0, retries.retryCount());
+        assertEquals(1, server.hits("/api/balances/hung"));
+    }
+
+    @Test
+    @DisplayName("Should run continuations on virtual threads instead of the common pool")
+    void shouldContinueOnVirtualThreads() throws Exception {
+        server.on("/api/balances/slow", exchange -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.reply(exchange, 200, "{}");
+        });
+        server.on("/api/balances/late", 503, "");
+
+        Thread answered = client.get("/api/balances/slow")
+                .thenApply(resp -> Thread.currentThread())
+                .get(5, TimeUnit.SECONDS);
+        // retried calls resume from a delayed task, which must not fall back to the common pool either
+        Thread retried = client.put("/api/balances/late", "{}")
+                .thenApply(resp -> Thread.currentThread())
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(answered.isVirtual(), answered.getName());
+        assertTrue(retried.isVirtual(), retried.getName());
+    }
+}
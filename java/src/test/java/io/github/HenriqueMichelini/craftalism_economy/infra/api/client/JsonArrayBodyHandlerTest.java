@@ -0,0 +1,197 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonArrayBodyHandler Tests")
+class JsonArrayBodyHandlerTest {
+
+    private static final UUID PLAYER = UUID.fromString("0b5c1f5e-3f0e-4c53-9d2a-5e3b1b0f6a11");
+    private static final int COUNT = 500;
+    private static final String JSON =
+            "[" + ("{\"uuid\":\"" + PLAYER + "\",\"amount\":7},").repeat(COUNT - 1) + "{\"amount\":0}]";
+
+    private final AtomicLong wire = new AtomicLong();
+    private final AtomicLong decoded = new AtomicLong();
+    private final JsonArrayBodyHandler<BalanceResponseDTO> handler = new JsonArrayBodyHandler<>(
+            new JsonArrayBodyHandler.Elements<>("BalanceResponseDTO",
+                    GsonFactory.getInstance().getAdapter(BalanceResponseDTO.class), BinaryDtoCodec::decodeBalances),
+            (w, d) -> {
+                wire.addAndGet(w);
+                decoded.addAndGet(d);
+            });
+
+    @Test
+    @DisplayName("Should decode every element of a gzip array delivered one byte at a time")
+    void shouldDecodeGzipInTinyChunks() throws IOException {
+        byte[] gzipped = gzip(JSON);
+
+        JsonArrayBodyHandler.Body<BalanceResponseDTO> body = feed(200, "gzip", null, gzipped, 1);
+
+        assertNull(body.text());
+        assertEquals(COUNT, body.elements().size());
+        assertEquals(new BalanceResponseDTO(PLAYER, 7L), body.elements().getFirst());
+        assertEquals(new BalanceResponseDTO(null, 0L), body.elements().getLast());
+        assertEquals(gzipped.length, wire.get());
+        assertEquals(JSON.length(), decoded.get());
+        assertEquals(JSON.length(), body.bytes());
+        assertEquals("[" + COUNT + " elements]", body.toString());
+    }
+
+    @Test
+    @DisplayName("Should decode zlib-wrapped and raw deflate arrays")
+    void shouldDecodeDeflate() throws IOException {
+        assertEquals(COUNT, feed(200, "deflate", null, deflate(JSON, false), 512).elements().size());
+        assertEquals(COUNT, feed(200, "deflate", null, deflate(JSON, true), 512).elements().size());
+    }
+
+    @Test
+    @DisplayName("Should decode binary listings whole and keep error bodies as text")
+    void shouldHandleBinaryAndErrors() throws IOException {
+        UUID other = UUID.fromString("9f1d7c2a-8b4e-4f6d-a1c3-2e5f7a9b0c44");
+        byte[] binary = StubApiServer.binaryBalances(new UUID[]{PLAYER, other}, new long[]{900L, 1L});
+        JsonArrayBodyHandler.Body<BalanceResponseDTO> compact = feed(200, null, BinaryDtoCodec.MEDIA_TYPE, binary, 3);
+        assertEquals(List.of(new BalanceResponseDTO(PLAYER, 900L), new BalanceResponseDTO(other, 1L)),
+                compact.elements());
+
+        JsonArrayBodyHandler.Body<BalanceResponseDTO> error =
+                feed(503, "gzip", null, gzip("{\"error\":\"down\"}"), 64);
+        assertNull(error.elements());
+        assertEquals("{\"error\":\"down\"}", error.text());
+
+        assertEquals("", feed(304, "gzip", null, new byte[0], 1).text());
+    }
+
+    @Test
+    @DisplayName("Should fail a malformed document as an API error, not a transport one")
+    void shouldRejectMalformedJson() {
+        for (String json : List.of("{\"uuid\":null}", "[{\"amount\":1}] trailing", "[null]")) {
+            CompletionException ex = assertThrows(CompletionException.class,
+                    () -> feed(200, null, null, json.getBytes(StandardCharsets.UTF_8), 8), json);
+            assertInstanceOf(ApiException.class, ex.getCause(), json);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail a truncated gzip body as an I/O error")
+    void shouldRejectTruncatedGzip() throws IOException {
+        byte[] gzipped = gzip(JSON);
+        byte[] truncated = Arrays.copyOf(gzipped, gzipped.length / 2);
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> feed(200, "gzip", null, truncated, 64));
+        assertInstanceOf(IOException.class, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("Should fail error and binary bodies that inflate past the size cap")
+    void shouldCapWholeBodies() throws IOException {
+        JsonArrayBodyHandler<BalanceResponseDTO> capped = new JsonArrayBodyHandler<>(
+                new JsonArrayBodyHandler.Elements<>("BalanceResponseDTO",
+                        GsonFactory.getInstance().getAdapter(BalanceResponseDTO.class), BinaryDtoCodec::decodeBalances),
+                (w, d) -> {}, 1024);
+        byte[] bomb = gzip("0".repeat(1024 * 1024));
+
+        for (int status : List.of(500, 200)) {
+            CompletionException ex = assertThrows(CompletionException.class,
+                    () -> feed(capped, status, "gzip", BinaryDtoCodec.MEDIA_TYPE, bomb, 64));
+            assertInstanceOf(IOException.class, ex.getCause());
+        }
+        assertTrue(bomb.length < 4096);
+    }
+
+    private JsonArrayBodyHandler.Body<BalanceResponseDTO> feed(int status, String encoding, String contentType,
+                                                               byte[] bytes, int chunkSize) {
+        return feed(handler, status, encoding, contentType, bytes, chunkSize);
+    }
+
+    private static JsonArrayBodyHandler.Body<BalanceResponseDTO> feed(
+            JsonArrayBodyHandler<BalanceResponseDTO> handler, int status, String encoding, String contentType,
+            byte[] bytes, int chunkSize) {
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Content-Type", List.of(contentType == null ? "application/json" : contentType));
+        if (encoding != null) {
+            headers.put("Content-Encoding", List.of(encoding));
+        }
+        HttpResponse.BodySubscriber<JsonArrayBodyHandler.Body<BalanceResponseDTO>> subscriber =
+                handler.apply(new Info(status, HttpHeaders.of(headers, (k, v) -> true)));
+
+        // delivers a chunk whenever the reader asks for one, the way the HTTP client does
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            int len = Math.min(chunkSize, bytes.length - i);
+            chunks.add(ByteBuffer.wrap(bytes, i, len).slice());
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private int next;
+            private boolean done;
+
+            @Override
+            public synchronized void request(long n) {
+                for (long i = 0; i < n && !done; i++) {
+                    if (next < chunks.size()) {
+                        subscriber.onNext(List.of(chunks.get(next++)));
+                    } else {
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+        return subscriber.getBody().toCompletableFuture().join();
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(String text, boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream def = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+            def.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private record Info(int statusCode, HttpHeaders headers) implements HttpResponse.ResponseInfo {
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
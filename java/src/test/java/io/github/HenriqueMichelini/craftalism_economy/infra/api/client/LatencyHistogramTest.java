@@ -0,0 +1,73 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should place every value in a bucket whose bounds contain it")
+    void shouldBucketWithinBounds() {
+        for (long micros = 0; micros < 1_000_000; micros += 7) {
+            int index = LatencyHistogram.index(micros);
+            assertTrue(LatencyHistogram.upperBound(index) >= micros);
+            assertTrue(index == 0 || LatencyHistogram.upperBound(index - 1) < micros);
+        }
+        long top = LatencyHistogram.upperBound(LatencyHistogram.index(LatencyHistogram.MAX_MICROS));
+        assertEquals(LatencyHistogram.MAX_MICROS, top);
+    }
+
+    @Test
+    @DisplayName("Should report percentiles within the bucket precision")
+    void shouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 100; ms++) {
+            histogram.record(ms * 1_000_000L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.count());
+        assertEquals(50_000, snapshot.p50Micros(), 50_000 * 0.035);
+        assertEquals(90_000, snapshot.p90Micros(), 90_000 * 0.035);
+        assertEquals(99_000, snapshot.p99Micros(), 99_000 * 0.035);
+        assertEquals(100_000, snapshot.maxMicros());
+        assertTrue(snapshot.p99Micros() <= snapshot.maxMicros());
+    }
+
+    @Test
+    @DisplayName("Should keep the exact maximum past the top bucket")
+    void shouldKeepMaxPastRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(120_000_000_000L);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(120_000_000, snapshot.maxMicros());
+        assertEquals(1, snapshot.p50Micros());
+        assertEquals(LatencyHistogram.MAX_MICROS, snapshot.p99Micros());
+    }
+
+    @Test
+    @DisplayName("Should merge histograms bucket by bucket")
+    void shouldMerge() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) fast.record(2_000_000L);
+        for (int i = 0; i < 10; i++) slow.record(400_000_000L);
+
+        LatencyHistogram merged = new LatencyHistogram();
+        fast.addTo(merged);
+        slow.addTo(merged);
+        LatencyHistogram.Snapshot snapshot = merged.snapshot();
+
+        assertEquals(100, snapshot.count());
+        assertEquals(2_000, snapshot.p50Micros(), 2_000 * 0.035);
+        assertEquals(400_000, snapshot.p99Micros(), 400_000 * 0.035);
+        assertEquals(400_000, snapshot.maxMicros());
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoopbackTransport Tests")
+class LoopbackTransportTest {
+
+    @Test
+    @DisplayName("Should hand requests to the in-process handler")
+    void shouldDispatchToHandler() throws Exception {
+        AtomicReference<LoopbackTransport.Request> seen = new AtomicReference<>();
+        LoopbackTransport transport = new LoopbackTransport(request -> {
+            seen.set(request);
+            return CompletableFuture.completedFuture(LoopbackTransport.Response.json(201, "{\"ok\":true}"));
+        });
+        HttpClientService http = new HttpClientService("http://api.local", new RetryPolicy(), RequestHedger.disabled(), transport);
+
+        HttpResponse<String> resp = http.post("/players?x=1", "{\"name\":\"Steve\"}").get(5, TimeUnit.SECONDS);
+
+        assertEquals(201, resp.statusCode());
+        assertEquals("{\"ok\":true}", resp.body());
+        assertEquals("POST", seen.get().method());
+        assertEquals("/players?x=1", seen.get().pathAndQuery());
+        assertEquals("{\"name\":\"Steve\"}", seen.get().bodyText());
+        assertEquals("loopback", http.getTransport().name());
+    }
+
+    @Test
+    @DisplayName("Should run handler bodies through the caller's body handler")
+    void shouldUseBodyHandler() throws Exception {
+        AtomicReference<long[]> recorded = new AtomicReference<>();
+        LoopbackTransport transport = new LoopbackTransport(request ->
+                CompletableFuture.completedFuture(LoopbackTransport.Response.json(200, "{\"balance\":10}")));
+
+        HttpResponse<String> resp = transport.send(
+                HttpRequest.newBuilder(URI.create("http://api.local/balances/1")).GET().build(),
+                new DecompressingBodyHandler((wire, decoded) -> recorded.set(new long[]{wire, decoded})))
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("{\"balance\":10}", resp.body());
+        assertEquals(14, recorded.get()[0]);
+        assertEquals(14, recorded.get()[1]);
+    }
+
+    @Test
+    @DisplayName("Should pass request and response bytes through unchanged")
+    void shouldKeepBytes() throws Exception {
+        byte[] payload = {(byte) 0xff, 0, (byte) 0x80, (byte) 0xc3};
+        AtomicReference<byte[]> seen = new AtomicReference<>();
+        LoopbackTransport transport = new LoopbackTransport(request -> {
+            seen.set(request.body());
+            return CompletableFuture.completedFuture(new LoopbackTransport.Response(200,
+                    Map.of("Content-Type", List.of("application/octet-stream")), payload));
+        });
+
+        HttpResponse<byte[]> resp = transport.send(
+                HttpRequest.newBuilder(URI.create("http://api.local/balances/batch"))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(payload)).build(),
+                HttpResponse.BodyHandlers.ofByteArray())
+                .get(5, TimeUnit.SECONDS);
+
+        assertArrayEquals(payload, seen.get());
+        assertArrayEquals(payload, resp.body());
+    }
+
+    @Test
+    @DisplayName("Should hold the body back until the subscriber asks for it")
+    void shouldWaitForDemand() {
+        List<String> signals = new ArrayList<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        CompletableFuture<HttpResponse<Void>> resp = TransportSupport.respond(
+                HttpRequest.newBuilder(URI.create("http://api.local/")).GET().build(),
+                info -> new HttpResponse.BodySubscriber<Void>() {
+                    private final CompletableFuture<Void> body = new CompletableFuture<>();
+
+                    @Override
+                    public CompletionStage<Void> getBody() {
+                        return body;
+                    }
+
+                    @Override
+                    public void onSubscribe(Flow.Subscription s) {
+                        subscription.set(s);
+                    }
+
+                    @Override
+                    public void onNext(List<ByteBuffer> item) {
+                        signals.add("next " + item.getFirst().remaining());
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        signals.add("error");
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        signals.add("complete");
+                        body.complete(null);
+                    }
+                },
+                200, HttpHeaders.of(Map.of(), (k, v) -> true), new byte[]{1, 2, 3});
+
+        assertTrue(signals.isEmpty());
+        assertFalse(resp.isDone());
+
+        subscription.get().request(1);
+
+        assertEquals(List.of("next 3", "complete"), signals);
+        assertTrue(resp.isDone());
+    }
+
+    @Test
+    @DisplayName("Should fail discovery when no handler is registered")
+    void shouldFailDiscoveryWithoutProvider() {
+        assertThrows(IllegalStateException.class, LoopbackTransport::discover);
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MetricsDumper Tests")
+class MetricsDumperTest {
+
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dir = Files.createTempDirectory("craftalism-metrics");
+    }
+
+    private static EndpointMetrics.Snapshot withdrawals() {
+        Map<Integer, Long> statuses = new TreeMap<>(Map.of(200, 118L, 409, 2L));
+        return new EndpointMetrics.Snapshot("POST /api/balances/{uuid}/withdraw",
+                new LatencyHistogram.Snapshot(120, 3_100, 7_900, 21_000, 40_200), statuses, 1, 0, 4_096, 9_600);
+    }
+
+    @Test
+    @DisplayName("Should format one key=value line per endpoint")
+    void shouldFormatLine() {
+        assertEquals("endpoint=\"POST /api/balances/{uuid}/withdraw\" requests=120 in_flight=0 p50_ms=3.1"
+                        + " p90_ms=7.9 p99_ms=21.0 max_ms=40.2 statuses=200:118,409:2 errors=1 bytes_out=4096"
+                        + " bytes_in=9600",
+                MetricsDumper.format(withdrawals()));
+        assertEquals("-", MetricsDumper.statuses(Map.of()));
+    }
+
+    @Test
+    @DisplayName("Should append a timestamped block per dump and a last one on stop")
+    void shouldAppendDumps() throws Exception {
+        Path file = dir.resolve("metrics/api-metrics.log");
+        MetricsDumper dumper = new MetricsDumper(() -> List.of(withdrawals()), file, Logger.getAnonymousLogger());
+
+        dumper.dump();
+        dumper.start(Duration.ofHours(1));
+        dumper.stop();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("# "));
+        assertTrue(lines.get(1).startsWith("endpoint=\"POST /api/balances/{uuid}/withdraw\""));
+        assertTrue(lines.get(2).startsWith("# "));
+    }
+
+    @Test
+    @DisplayName("Should move a full file aside instead of growing it")
+    void shouldRotateAtSizeCap() throws Exception {
+        Path file = dir.resolve("api-metrics.log");
+        // one block is a little over 200 bytes, so each dump after the first rotates
+        MetricsDumper dumper = new MetricsDumper(() -> List.of(withdrawals()), file, 300, Logger.getAnonymousLogger());
+
+        for (int i = 0; i < 10; i++) {
+            dumper.dump();
+        }
+
+        Path rotated = dir.resolve("api-metrics.log.1");
+        assertTrue(Files.size(file) <= 300);
+        assertTrue(Files.size(rotated) <= 300);
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    @DisplayName("Should write nothing before any request was made")
+    void shouldSkipEmptyDumps() {
+        Path file = dir.resolve("api-metrics.log");
+        new MetricsDumper(List::of, file, Logger.getAnonymousLogger()).dump();
+
+        assertFalse(Files.exists(file));
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiServerException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiTimeoutException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MicroBatcher Tests")
+class MicroBatcherTest {
+
+    private final List<List<Integer>> sent = new CopyOnWriteArrayList<>();
+    private long now;
+
+    // answers every item with its double
+    private CompletableFuture<List<MicroBatcher.Outcome<Integer>>> doubling(String key, List<Integer> items) {
+        sent.add(items);
+        return CompletableFuture.completedFuture(items.stream().map(i -> MicroBatcher.Outcome.ok(i * 2)).toList());
+    }
+
+    @Test
+    @DisplayName("Should send operations that arrive within the linger as one bulk request")
+    void shouldBatchWithinLinger() throws Exception {
+        MicroBatcher<String, Integer, Integer> batcher = new MicroBatcher<>(this::doubling, 64, Duration.ofMillis(50),
+                System::nanoTime);
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            results.add(batcher.submit("shard-a", i));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Integer.valueOf((i + 1) * 2), results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(List.of(1, 2, 3, 4, 5)), sent);
+    }
+
+    @Test
+    @DisplayName("Should send a full batch at once and keep keys apart")
+    void shouldSendFullBatchImmediately() throws Exception {
+        MicroBatcher<String, Integer, Integer> batcher = new MicroBatcher<>(this::doubling, 8, Duration.ofSeconds(30),
+                System::nanoTime);
+
+        CompletableFuture<Integer> first = batcher.submit("shard-a", 1);
+        CompletableFuture<Integer> other = batcher.submit("shard-b", 7);
+        CompletableFuture<Integer> second = batcher.submit("shard-a", 2);
+
+        // a batch starts at a quarter of max-size, so two operations fill it
+        assertEquals(Integer.valueOf(2), first.get(1, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(4), second.get(1, TimeUnit.SECONDS));
+        assertFalse(other.isDone());
+
+        batcher.flush();
+        assertEquals(Integer.valueOf(14), other.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2), List.of(7)), sent);
+    }
+
+    @Test
+    @DisplayName("Should fail expired operations alone and keep unbounded ones out of bounded batches")
+    void shouldHonourEachDeadline() throws Exception {
+        Map<Integer, Deadline> deadlines = Map.of(
+                1, Deadline.after(Duration.ofMillis(10), () -> now),
+                2, Deadline.after(Duration.ofSeconds(10), () -> now),
+                3, Deadline.none());
+        MicroBatcher<String, Integer, Integer> batcher = new MicroBatcher<>(this::doubling, deadlines::get, 64,
+                Duration.ofSeconds(30), System::nanoTime);
+
+        CompletableFuture<Integer> expired = batcher.submit("shard-a", 1);
+        CompletableFuture<Integer> bounded = batcher.submit("shard-a", 2);
+        CompletableFuture<Integer> refund = batcher.submit("shard-a", 3);
+        now += TimeUnit.MILLISECONDS.toNanos(20);
+        batcher.flush();
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> expired.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ApiTimeoutException.class, error.getCause());
+        assertEquals(Integer.valueOf(4), bounded.get(1, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(6), refund.get(1, TimeUnit.SECONDS));
+        assertEquals(2, sent.size());
+        assertTrue(sent.containsAll(List.of(List.of(2), List.of(3))), "sent " + sent);
+    }
+
+    @Test
+    @DisplayName("Should fail only the operations the bulk response rejected")
+    void shouldCompleteEachCallerFromItsSlot() throws Exception {
+        MicroBatcher<String, Integer, Integer> batcher = new MicroBatcher<>((key, items) ->
+                CompletableFuture.completedFuture(items.stream()
+                        .map(i -> i < 0
+                                ? MicroBatcher.Outcome.<Integer>failed(new BadRequestException("negative"))
+                                : MicroBatcher.Outcome.ok(i))
+                        .toList()),
+                64, Duration.ofSeconds(30), System::nanoTime);
+
+        CompletableFuture<Integer> ok = batcher.submit("shard-a", 3);
+        CompletableFuture<Integer> rejected = batcher.submit("shard-a", -1);
+        batcher.flush();
+
+        assertEquals(Integer.valueOf(3), ok.get(1, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(BadRequestException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("Should fail every operation when the bulk request fails")
+    void shouldFailWholeBatch() {
+        MicroBatcher<String, Integer, Integer> batcher = new MicroBatcher<>((key, items) ->
+                CompletableFuture.failedFuture(new ApiServerException("down")),
+                64, Duration.ofSeconds(30), System::nanoTime);
+
+        CompletableFuture<Integer> a = batcher.submit("shard-a", 1);
+        CompletableFuture<Integer> b = batcher.submit("shard-a", 2);
+        batcher.flush();
+
+        for (CompletableFuture<Integer> future : List.of(a, b)) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(ApiServerException.class, error.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Should grow batches while the backend keeps up and shrink them when it slows down")
+    void shouldAdaptToLatency() {
+        List<CompletableFuture<List<MicroBatcher.Outcome<Integer>>>> inFlight = new ArrayList<>();
+        MicroBatcher<String, Integer, Integer> batcher = new MicroBatcher<>((key, items) -> {
+            CompletableFuture<List<MicroBatcher.Outcome<Integer>>> reply = new CompletableFuture<>();
+            inFlight.add(reply);
+            return reply;
+        }, 64, Duration.ofMillis(20), () -> now);
+
+        for (int round = 0; round < 10; round++) {
+            int size = batcher.snapshot().batchSize();
+            for (int i = 0; i < size; i++) batcher.submit("shard-a", i);
+            now += TimeUnit.MILLISECONDS.toNanos(4);
+            inFlight.getLast().complete(nCopies(size));
+        }
+        MicroBatcher.Snapshot grown = batcher.snapshot();
+        assertEquals(64, grown.batchSize());
+        assertEquals(1_000, grown.lingerMicros());
+
+        for (int i = 0; i < 64; i++) batcher.submit("shard-a", i);
+        now += TimeUnit.MILLISECONDS.toNanos(40);
+        inFlight.getLast().complete(nCopies(64));
+
+        assertEquals(32, batcher.snapshot().batchSize());
+    }
+
+    private static List<MicroBatcher.Outcome<Integer>> nCopies(int n) {
+        List<MicroBatcher.Outcome<Integer>> outcomes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) outcomes.add(MicroBatcher.Outcome.ok(i));
+        return outcomes;
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PathTemplate Tests")
+class PathTemplateTest {
+
+    @Test
+    @DisplayName("Should write UUIDs exactly as UUID.toString does")
+    void shouldWriteCanonicalUuids() {
+        UUID[] samples = {
+                new UUID(0, 0),
+                new UUID(-1, -1),
+                new UUID(0x0123456789abcdefL, 0xfedcba9876543210L),
+                UUID.randomUUID(),
+                UUID.randomUUID()
+        };
+        PathTemplate template = PathTemplate.of("/api/balances/{uuid}");
+        for (UUID uuid : samples) {
+            assertEquals("/api/balances/" + uuid.toString(), template.expand(uuid).path());
+        }
+    }
+
+    @Test
+    @DisplayName("Should expand to the same paths the services used to concatenate")
+    void shouldExpandLikeConcatenation() {
+        UUID uuid = UUID.randomUUID();
+
+        assertEquals("/api/balances/" + uuid, PathTemplate.of("/api/balances/{uuid}").expand(uuid).path());
+        assertEquals("/api/balances/" + uuid + "/deposit?amount=-42",
+                PathTemplate.of("/api/balances/{uuid}/deposit?amount={amount}").expand(uuid, -42).path());
+        assertEquals("/api/balances/top?limit=10", PathTemplate.of("/api/balances/top?limit={limit}").expand(10).path());
+        assertEquals("/api/players/name/" + URLEncoder.encode("Jöhn Doe&co", StandardCharsets.UTF_8),
+                PathTemplate.of("/api/players/name/{name}").expand("Jöhn Doe&co").path());
+        assertEquals("/api/transactions", PathTemplate.of("/api/transactions").expand().path());
+    }
+
+    @Test
+    @DisplayName("Should carry the route Endpoints derives from the concrete path")
+    void shouldMatchEndpointTemplates() {
+        UUID uuid = UUID.randomUUID();
+        ApiPath[] paths = {
+                PathTemplate.of("/api/balances/{uuid}").expand(uuid),
+                PathTemplate.of("/api/balances/{uuid}/set?amount={amount}").expand(uuid, 5),
+                PathTemplate.of("/api/balances/top?limit={limit}").expand(10),
+                PathTemplate.of("/api/players/name/{name}").expand("Steve"),
+                PathTemplate.of("/api/players").expand()
+        };
+        for (ApiPath path : paths) {
+            assertEquals(Endpoints.template(path.path()), path.route());
+            assertEquals(ApiPath.of(path.path()), path);
+        }
+        assertEquals("POST /api/balances/{uuid}/set", paths[1].endpoint("POST"));
+    }
+
+    @Test
+    @DisplayName("Should reject the wrong number of values")
+    void shouldRejectWrongArity() {
+        PathTemplate template = PathTemplate.of("/api/balances/{uuid}/deposit?amount={amount}");
+
+        assertThrows(IllegalStateException.class, () -> template.expand(UUID.randomUUID()));
+        assertThrows(IllegalStateException.class, () -> template.expand());
+        assertThrows(IllegalArgumentException.class, () -> PathTemplate.of("/api/balances/{uuid"));
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.application.dto.PayExecutionResult;
+import io.github.HenriqueMichelini.craftalism_economy.application.service.PayCommandApplicationService;
+import io.github.HenriqueMichelini.craftalism_economy.application.service.PlayerApplicationService;
+import io.github.HenriqueMichelini.craftalism_economy.domain.service.enums.PayStatus;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.repository.PlayerCacheRepository;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.PlayerApiService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.TransactionApiService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives a whole payment through {@link PayCommandApplicationService} against
+ * two stand-in shards, with faults injected on the receiver's one only so the
+ * payer's refund still goes through.
+ */
+@DisplayName("Pay rollback Tests")
+class PayRollbackTest {
+
+    private static final long AMOUNT = 100;
+
+    private StubApiServer payerShard;
+    private StubApiServer receiverShard;
+    private final FaultInjector faults = new FaultInjector();
+    private final Map<String, HttpClientService> opened = new ConcurrentHashMap<>();
+    private ShardRouter router;
+    private PayCommandApplicationService pay;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        payerShard = StubApiServer.start();
+        receiverShard = StubApiServer.start();
+        router = new ShardRouter(this::open, client -> {}, List.of(payerShard.baseUrl(), receiverShard.baseUrl()), 64);
+
+        PlayerApiService players = new PlayerApiService(router, GsonFactory.getInstance());
+        JavaPlugin plugin = mock(JavaPlugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        pay = new PayCommandApplicationService(
+                new PlayerApplicationService(players, new PlayerCacheRepository()),
+                players,
+                new BalanceApiService(router, GsonFactory.getInstance()),
+                new TransactionApiService(router, GsonFactory.getInstance()),
+                plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        opened.values().forEach(HttpClientService::close);
+        payerShard.close();
+        receiverShard.close();
+    }
+
+    private HttpClientService open(String baseUrl) {
+        RetryPolicy once = new RetryPolicy(1, Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofMillis(10));
+        Transport transport = baseUrl.equals(receiverShard.baseUrl())
+                ? new FaultInjectingTransport(new HttpTransport(), faults)
+                : new HttpTransport();
+        return opened.computeIfAbsent(baseUrl, url -> new HttpClientService(url, once, RequestHedger.disabled(),
+                transport, WireFormat.JSON));
+    }
+
+    private UUID playerOn(StubApiServer shard) {
+        ShardRing ring = new ShardRing(List.of(payerShard.baseUrl(), receiverShard.baseUrl()), 64);
+        for (int i = 0; ; i++) {
+            UUID candidate = new UUID(0x5eed, i);
+            if (ring.shardFor(candidate).equals(shard.baseUrl())) return candidate;
+        }
+    }
+
+    private static String player(UUID uuid, String name) {
+        return "{\"uuid\":\"" + uuid + "\",\"name\":\"" + name + "\",\"createdAt\":\"2024-01-01T00:00:00Z\"}";
+    }
+
+    @Test
+    @DisplayName("Should refund the payer when the receiver's deposit fails")
+    void shouldRefundFailedDeposit() throws Exception {
+        UUID payer = playerOn(payerShard);
+        UUID receiver = playerOn(receiverShard);
+        String withdraw = "/api/balances/" + payer + "/withdraw?amount=" + AMOUNT;
+        String refund = "/api/balances/" + payer + "/deposit?amount=" + AMOUNT;
+        String deposit = "/api/balances/" + receiver + "/deposit?amount=" + AMOUNT;
+
+        payerShard.on("/api/players/" + payer, 200, player(payer, "Payer"));
+        payerShard.on("/api/players/name/Receiver", 404, "{}");
+        receiverShard.on("/api/players/name/Receiver", 200, player(receiver, "Receiver"));
+        payerShard.on("/api/balances/" + payer, 200, "{\"uuid\":\"" + payer + "\",\"amount\":500}");
+        payerShard.on(withdraw, 200, "{}");
+        payerShard.on(refund, 200, "{}");
+        receiverShard.on(deposit, 200, "{}");
+        faults.configure(true, Map.of("POST /api/balances/{uuid}/deposit",
+                FaultInjector.Rule.NONE.withErrors(1.0, List.of(503))));
+
+        PayExecutionResult result = pay.execute(payer, "Payer", "Receiver", AMOUNT).get(10, TimeUnit.SECONDS);
+
+        assertEquals(PayStatus.ERROR, result.status());
+        assertEquals(1, payerShard.hits(withdraw));
+        assertEquals(0, receiverShard.hits(deposit), "the injected 503 never reaches the backend");
+        assertEquals(1, faults.snapshot().errors());
+        assertEquals(1, payerShard.hits(refund));
+        assertEquals(0, payerShard.hits("/api/transactions"));
+        assertEquals(0, receiverShard.hits("/api/transactions"));
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PooledHttpTransport Tests")
+class PooledHttpTransportTest {
+
+    private StubApiServer server;
+    private CountDownLatch release;
+    private final AtomicInteger opened = new AtomicInteger();
+    private PooledHttpTransport pool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubApiServer.start();
+        release = new CountDownLatch(1);
+        server.on("/api/balances/a", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.reply(exchange, 200, "{}");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (pool != null) pool.close();
+        server.close();
+    }
+
+    private PooledHttpTransport pool(int min, int max, int streams) {
+        return new PooledHttpTransport(() -> {
+            opened.incrementAndGet();
+            return HttpTransport.newClient(HttpClient.Version.HTTP_2);
+        }, min, max, streams);
+    }
+
+    private List<CompletableFuture<HttpResponse<String>>> send(int count) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.baseUrl() + "/api/balances/a")).GET().build();
+        List<CompletableFuture<HttpResponse<String>>> calls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            calls.add(pool.send(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        return calls;
+    }
+
+    @Test
+    @DisplayName("Should open another client once every client carries its share of streams")
+    void shouldGrowUnderLoad() throws Exception {
+        pool = pool(1, 3, 2);
+
+        List<CompletableFuture<HttpResponse<String>>> calls = send(6);
+
+        PooledHttpTransport.Snapshot busy = pool.snapshot();
+        assertEquals(3, busy.clients());
+        assertEquals(List.of(2, 2, 2), busy.inFlight());
+        assertEquals(3, opened.get());
+
+        release.countDown();
+        for (CompletableFuture<HttpResponse<String>> call : calls) {
+            assertEquals(200, call.get(5, TimeUnit.SECONDS).statusCode());
+        }
+        assertEquals(List.of(0, 0, 0), pool.snapshot().inFlight());
+    }
+
+    @Test
+    @DisplayName("Should spread load evenly once the pool is at its maximum")
+    void shouldPickLeastInFlight() {
+        pool = pool(2, 2, 1);
+
+        send(9);
+
+        List<Integer> inFlight = pool.snapshot().inFlight();
+        assertEquals(2, inFlight.size());
+        assertEquals(9, inFlight.get(0) + inFlight.get(1));
+        assertTrue(Collections.max(inFlight) - Collections.min(inFlight) <= 1, "unbalanced: " + inFlight);
+        assertEquals(2, opened.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a pool that cannot hold its minimum")
+    void shouldRejectInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> pool(3, 2, 10));
+        assertThrows(IllegalArgumentException.class, () -> pool(1, 2, 0));
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestCoalescer Tests")
+class RequestCoalescerTest {
+
+    private RequestCoalescer<String> coalescer;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new RequestCoalescer<>();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight future between identical keys")
+    void shouldShareInFlightFuture() throws Exception {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesce("/a", () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = coalescer.coalesce("/a", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        assertEquals(1, coalescer.inFlightCount());
+        pending.complete("value");
+
+        assertEquals("value", first.get());
+        assertEquals("value", second.get());
+        assertEquals(1, loads.get());
+        assertEquals(1, coalescer.hitCount());
+        assertEquals(1, coalescer.missCount());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should start a new request once the previous one completed")
+    void shouldNotCacheCompletedResults() throws Exception {
+        coalescer.coalesce("/a", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("one");
+        }).get();
+
+        String second = coalescer.coalesce("/a", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("two");
+        }).get();
+
+        assertEquals("two", second);
+        assertEquals(2, loads.get());
+        assertEquals(0, coalescer.hitCount());
+    }
+
+    @Test
+    @DisplayName("Should not coalesce different keys")
+    void shouldKeepKeysIndependent() {
+        coalescer.coalesce("/a", CompletableFuture::new);
+        coalescer.coalesce("/b", CompletableFuture::new);
+
+        assertEquals(2, coalescer.inFlightCount());
+        assertEquals(2, coalescer.missCount());
+    }
+
+    @Test
+    @DisplayName("Should propagate failure to every waiter and release the key")
+    void shouldPropagateFailure() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesce("/a", () -> pending);
+        CompletableFuture<String> second = coalescer.coalesce("/a", () -> pending);
+
+        pending.completeExceptionally(new IllegalStateException("boom"));
+
+        ExecutionException e1 = assertThrows(ExecutionException.class, first::get);
+        ExecutionException e2 = assertThrows(ExecutionException.class, second::get);
+        assertInstanceOf(IllegalStateException.class, e1.getCause());
+        assertInstanceOf(IllegalStateException.class, e2.getCause());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should release the key when the loader throws")
+    void shouldReleaseKeyWhenLoaderThrows() {
+        CompletableFuture<String> result = coalescer.coalesce("/a", () -> {
+            throw new IllegalArgumentException("bad path");
+        });
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should not let one caller's cancel affect the others")
+    void shouldIsolateCancellation() throws Exception {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesce("/a", () -> pending);
+        CompletableFuture<String> second = coalescer.coalesce("/a", () -> pending);
+
+        first.cancel(true);
+        pending.complete("value");
+
+        assertEquals("value", second.get());
+    }
+}
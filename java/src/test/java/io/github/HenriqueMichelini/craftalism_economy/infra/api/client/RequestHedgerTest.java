@@ -0,0 +1,139 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestHedger Tests")
+class RequestHedgerTest {
+
+    private static final String ENDPOINT = "GET /api/balances/{uuid}";
+
+    private List<Runnable> timers;
+    private List<CompletableFuture<String>> legs;
+    private List<CompletableFuture<Void>> cancels;
+
+    @BeforeEach
+    void setUp() {
+        timers = new ArrayList<>();
+        legs = new ArrayList<>();
+        cancels = new ArrayList<>();
+    }
+
+    private RequestHedger hedger(double budget) {
+        return new RequestHedger(budget, Duration.ofMillis(1), millis -> timers::add);
+    }
+
+    private CompletableFuture<String> call(RequestHedger hedger) {
+        return hedger.hedge(ENDPOINT, cancel -> {
+            CompletableFuture<String> leg = new CompletableFuture<>();
+            legs.add(leg);
+            cancels.add(cancel);
+            return leg;
+        });
+    }
+
+    private void warmUp(RequestHedger hedger) {
+        for (int i = 0; i < 20; i++) {
+            hedger.hedge(ENDPOINT, cancel -> CompletableFuture.completedFuture("ok")).join();
+        }
+        timers.clear();
+    }
+
+    @Test
+    @DisplayName("Should not hedge before the endpoint has latency samples")
+    void shouldNotHedgeWhileWarmingUp() {
+        RequestHedger hedger = hedger(1.0);
+
+        call(hedger);
+
+        assertTrue(timers.isEmpty());
+        assertEquals(-1, hedger.hedgeDelayMillis(ENDPOINT));
+    }
+
+    @Test
+    @DisplayName("Should take the hedge's answer and cancel the slow primary")
+    void shouldHedgeSlowPrimary() throws Exception {
+        RequestHedger hedger = hedger(1.0);
+        warmUp(hedger);
+
+        CompletableFuture<String> result = call(hedger);
+        assertEquals(1, timers.size());
+        timers.getFirst().run();
+
+        assertEquals(2, legs.size());
+        legs.get(1).complete("hedge");
+
+        assertEquals("hedge", result.get());
+        assertTrue(cancels.get(0).isDone());
+        assertFalse(cancels.get(1).isDone());
+        assertEquals(1, hedger.hedgesSent());
+        assertEquals(1, hedger.hedgesWon());
+    }
+
+    @Test
+    @DisplayName("Should not send a hedge when the primary already answered")
+    void shouldSkipHedgeWhenPrimaryDone() throws Exception {
+        RequestHedger hedger = hedger(1.0);
+        warmUp(hedger);
+
+        CompletableFuture<String> result = call(hedger);
+        legs.getFirst().complete("primary");
+        timers.getFirst().run();
+
+        assertEquals("primary", result.get());
+        assertEquals(1, legs.size());
+        assertEquals(0, hedger.hedgesSent());
+    }
+
+    @Test
+    @DisplayName("Should stay within the hedge budget")
+    void shouldRespectBudget() {
+        RequestHedger hedger = hedger(0.05);
+        warmUp(hedger);
+
+        call(hedger);
+        call(hedger);
+        timers.forEach(Runnable::run);
+
+        assertEquals(1, hedger.hedgesSent());
+        assertEquals(1, hedger.snapshot().budgetDenied());
+    }
+
+    @Test
+    @DisplayName("Should fail only once every leg has failed")
+    void shouldWaitForAllLegsBeforeFailing() throws Exception {
+        RequestHedger hedger = hedger(1.0);
+        warmUp(hedger);
+
+        CompletableFuture<String> result = call(hedger);
+        timers.getFirst().run();
+
+        legs.get(0).completeExceptionally(new IllegalStateException("primary"));
+        assertFalse(result.isDone());
+
+        legs.get(1).completeExceptionally(new IllegalStateException("hedge"));
+        ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+        assertEquals("primary", ex.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Should never hedge when disabled")
+    void shouldNotHedgeWhenDisabled() {
+        RequestHedger hedger = new RequestHedger(0.0, Duration.ofMillis(1), millis -> timers::add);
+        warmUp(hedger);
+
+        call(hedger);
+
+        assertFalse(hedger.isEnabled());
+        assertTrue(timers.isEmpty());
+    }
+}
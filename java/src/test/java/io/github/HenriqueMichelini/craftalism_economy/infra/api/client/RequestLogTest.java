@@ -0,0 +1,190 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLSession;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestLog Tests")
+class RequestLogTest {
+
+    private static final String ENDPOINT = "GET /api/balances/{uuid}";
+    private static final String URI_TEXT = "http://localhost/api/balances/1";
+
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+    private final RequestLog log = new RequestLog(64, lines::add);
+
+    @AfterEach
+    void tearDown() {
+        log.stop();
+    }
+
+    private void exchange(int status, String body) {
+        log.exchange("GET", ENDPOINT, URI_TEXT, new Response(status, body), null, 2_000_000);
+    }
+
+    @Test
+    @DisplayName("Should log only failures and unexpected 4xx at warn")
+    void shouldGateByLevel() {
+        log.configure(RequestLog.Level.WARN, 1.0, Map.of());
+
+        exchange(200, "{}");
+        exchange(404, "{}");
+        exchange(429, "slow down");
+        exchange(503, "down");
+        log.exchange("GET", ENDPOINT, URI_TEXT, null, new IOException("reset"), 1_000_000);
+        log.stop();
+
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("level=WARN method=GET endpoint=\"" + ENDPOINT + "\" status=429 ms=2.0"));
+        assertTrue(lines.get(1).contains("level=ERROR") && lines.get(1).contains("status=503"));
+        assertTrue(lines.get(2).contains("status=-") && lines.get(2).contains("error=\"java.io.IOException: reset\""));
+    }
+
+    @Test
+    @DisplayName("Should sample routine exchanges per endpoint but never errors")
+    void shouldSampleRoutineExchangesOnly() {
+        log.configure(RequestLog.Level.INFO, 1.0, Map.of(ENDPOINT, 0.0));
+
+        for (int i = 0; i < 10; i++) {
+            exchange(200, "{}");
+        }
+        exchange(500, "boom");
+        log.exchange("GET", "GET /api/players/{uuid}", URI_TEXT, new Response(200, "{}"), null, 0);
+        log.stop();
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("status=500"));
+        assertTrue(lines.get(1).contains("endpoint=\"GET /api/players/{uuid}\""));
+        assertEquals(10, log.snapshot().sampledOut());
+    }
+
+    @Test
+    @DisplayName("Should attach bodies to problems, or to everything at debug")
+    void shouldAttachBodiesSelectively() {
+        log.configure(RequestLog.Level.INFO, 1.0, Map.of());
+        exchange(200, "{\"amount\":1}");
+        exchange(502, "bad \"gateway\"\nretry");
+        log.stop();
+
+        assertFalse(lines.get(0).contains("body="));
+        assertTrue(lines.get(1).endsWith("body=\"bad 'gateway'\\nretry\""));
+
+        lines.clear();
+        log.configure(RequestLog.Level.DEBUG, 1.0, Map.of());
+        exchange(200, "x".repeat(500));
+        log.stop();
+
+        assertTrue(lines.get(0).endsWith("x".repeat(300) + "...\""));
+    }
+
+    @Test
+    @DisplayName("Should log cancelled hedge legs only at debug")
+    void shouldLogCancellationsAtDebug() {
+        CancellationException cancelled = new CancellationException("Hedged request already answered");
+
+        log.configure(RequestLog.Level.INFO, 1.0, Map.of());
+        log.exchange("GET", ENDPOINT, URI_TEXT, null, cancelled, 0);
+        log.stop();
+        assertTrue(lines.isEmpty());
+
+        log.configure(RequestLog.Level.DEBUG, 1.0, Map.of());
+        log.exchange("GET", ENDPOINT, URI_TEXT, null, cancelled, 0);
+        log.stop();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("level=DEBUG"));
+    }
+
+    @Test
+    @DisplayName("Should drop new entries rather than block when the buffer is full")
+    void shouldDropWhenFull() {
+        RequestLog small = new RequestLog(4, lines::add);
+        small.configure(RequestLog.Level.INFO, 1.0, Map.of());
+
+        // the writer's first pass is 200ms out, so nothing drains in between
+        for (int i = 0; i < 50; i++) {
+            small.exchange("GET", ENDPOINT, URI_TEXT + "?n=" + i, new Response(200, "{}"), null, 0);
+        }
+        small.stop();
+
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).contains("?n=0"));
+        assertEquals(4, small.snapshot().written());
+        assertEquals(46, small.snapshot().dropped());
+    }
+
+    @Test
+    @DisplayName("Should drop entries after stop until configured again")
+    void shouldIgnoreEntriesAfterStop() {
+        log.configure(RequestLog.Level.WARN, 1.0, Map.of());
+        log.stop();
+
+        exchange(503, "down");
+        log.drain();
+        assertTrue(lines.isEmpty());
+        assertEquals(1, log.snapshot().dropped());
+
+        log.configure(RequestLog.Level.WARN, 1.0, Map.of());
+        exchange(503, "down");
+        log.stop();
+        assertEquals(1, lines.size());
+    }
+
+    @Test
+    @DisplayName("Should write nothing when off")
+    void shouldWriteNothingWhenOff() {
+        log.configure(RequestLog.Level.OFF, 1.0, Map.of());
+        exchange(500, "down");
+        log.exchange("GET", ENDPOINT, URI_TEXT, null, new IOException("reset"), 0);
+        log.stop();
+
+        assertTrue(lines.isEmpty());
+        assertFalse(log.isEnabled(RequestLog.Level.OFF));
+    }
+
+    private record Response(int statusCode, String body) implements HttpResponse<String> {
+        @Override
+        public HttpRequest request() {
+            return HttpRequest.newBuilder(URI.create(URI_TEXT)).build();
+        }
+
+        @Override
+        public Optional<HttpResponse<String>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return HttpHeaders.of(Map.of(), (name, value) -> true);
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return URI.create(URI_TEXT);
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
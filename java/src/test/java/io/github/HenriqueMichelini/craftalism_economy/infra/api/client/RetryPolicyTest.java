@@ -0,0 +1,115 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RetryPolicy Tests")
+class RetryPolicyTest {
+
+    private RetryPolicy policy;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        policy = new RetryPolicy(3, Duration.ofMillis(5), Duration.ofMillis(20), Duration.ofSeconds(1));
+        calls = new AtomicInteger();
+    }
+
+    private static Duration retryOnIllegalState(String value, Throwable error) {
+        Throwable cause = error != null && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IllegalStateException ? Duration.ZERO : null;
+    }
+
+    @Test
+    @DisplayName("Should retry a retryable failure until it succeeds")
+    void shouldRetryUntilSuccess() throws Exception {
+        String result = policy.execute(() -> calls.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(new IllegalStateException("transient"))
+                        : CompletableFuture.completedFuture("ok"),
+                RetryPolicyTest::retryOnIllegalState
+        ).get(2, TimeUnit.SECONDS);
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, policy.retryCount());
+    }
+
+    @Test
+    @DisplayName("Should give up after the maximum number of attempts")
+    void shouldStopAfterMaxAttempts() {
+        CompletableFuture<String> result = policy.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("down"));
+        }, RetryPolicyTest::retryOnIllegalState);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertEquals(3, calls.get());
+        assertEquals(1, policy.exhaustedCount());
+    }
+
+    @Test
+    @DisplayName("Should not retry outcomes the classifier considers final")
+    void shouldNotRetryFinalOutcome() {
+        CompletableFuture<String> result = policy.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalArgumentException("bad request"));
+        }, RetryPolicyTest::retryOnIllegalState);
+
+        assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should wait at least the delay the server asked for")
+    void shouldHonorRetryAfterHint() throws Exception {
+        long start = System.nanoTime();
+
+        policy.execute(() -> CompletableFuture.completedFuture(calls.incrementAndGet() == 1 ? "busy" : "ok"),
+                (value, error) -> "busy".equals(value) ? Duration.ofMillis(200) : null
+        ).get(2, TimeUnit.SECONDS);
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should return the outcome when the server asks for a longer wait than allowed")
+    void shouldNotWaitBeyondMaxRetryAfter() throws Exception {
+        String result = policy.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("busy");
+        }, (value, error) -> Duration.ofMinutes(5)).get(2, TimeUnit.SECONDS);
+
+        assertEquals("busy", result);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should keep jittered delays between base and cap")
+    void shouldBoundJitter() {
+        long previous = 5;
+        for (int i = 0; i < 1_000; i++) {
+            long next = policy.nextDelayMillis(previous);
+            assertTrue(next >= 5 && next <= 20, "delay out of bounds: " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse both Retry-After formats")
+    void shouldParseRetryAfter() {
+        assertEquals(Duration.ofSeconds(3), RetryPolicy.parseRetryAfter("3").orElseThrow());
+        assertEquals(Duration.ZERO, RetryPolicy.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT").orElseThrow());
+        assertTrue(RetryPolicy.parseRetryAfter("soon").isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardRing Tests")
+class ShardRingTest {
+
+    private static final List<String> THREE = List.of("http://s1", "http://s2", "http://s3");
+
+    private static UUID[] players(int count) {
+        Random random = new Random(42);
+        UUID[] players = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            players[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        return players;
+    }
+
+    @Test
+    @DisplayName("Should place a player on the same shard every time")
+    void shouldBeDeterministic() {
+        ShardRing a = new ShardRing(THREE, 64);
+        ShardRing b = new ShardRing(List.of("http://s1", "http://s2", "http://s3"), 64);
+
+        for (UUID player : players(1_000)) {
+            assertEquals(a.shardFor(player), b.shardFor(player));
+        }
+    }
+
+    @Test
+    @DisplayName("Should give every shard a fair share with enough virtual nodes")
+    void shouldSpreadEvenly() {
+        Map<String, Double> ownership = new ShardRing(THREE, 128).ownership();
+
+        assertEquals(1.0, ownership.values().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+        for (double share : ownership.values()) {
+            assertEquals(1.0 / 3, share, 0.07);
+        }
+    }
+
+    @Test
+    @DisplayName("Should only move players onto a newly added shard")
+    void shouldMoveMinimallyOnAdd() {
+        ShardRing before = new ShardRing(THREE, 128);
+        ShardRing after = new ShardRing(List.of("http://s1", "http://s2", "http://s3", "http://s4"), 128);
+
+        UUID[] players = players(20_000);
+        int moved = 0;
+        for (UUID player : players) {
+            String from = before.shardFor(player);
+            String to = after.shardFor(player);
+            if (!from.equals(to)) {
+                moved++;
+                assertEquals("http://s4", to, "players only ever move to the new shard");
+            }
+        }
+
+        double share = (double) moved / players.length;
+        assertEquals(0.25, share, 0.06);
+        assertEquals(share, after.movedFrom(before), 0.02);
+    }
+
+    @Test
+    @DisplayName("Should report no movement between identical rings")
+    void shouldReportNoMovement() {
+        assertEquals(0.0, new ShardRing(THREE, 32).movedFrom(new ShardRing(THREE, 32)), 1e-12);
+        assertEquals(1.0, new ShardRing(List.of("http://only"), 1).ownership().get("http://only"), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty shard list")
+    void shouldRejectEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRing(List.of(), 8));
+    }
+}
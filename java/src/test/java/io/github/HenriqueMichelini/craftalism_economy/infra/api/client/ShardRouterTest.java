@@ -0,0 +1,128 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.PlayerApiService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardRouter Tests")
+class ShardRouterTest {
+
+    private StubApiServer first;
+    private StubApiServer second;
+    private final Map<String, HttpClientService> opened = new ConcurrentHashMap<>();
+    private final List<HttpClientService> closed = new ArrayList<>();
+    private ShardRouter router;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        first = StubApiServer.start();
+        second = StubApiServer.start();
+        router = new ShardRouter(this::open, closed::add, List.of(first.baseUrl(), second.baseUrl()), 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        opened.values().forEach(HttpClientService::close);
+        first.close();
+        second.close();
+    }
+
+    private HttpClientService open(String baseUrl) {
+        return opened.computeIfAbsent(baseUrl, url -> new HttpClientService(url, new RetryPolicy(),
+                RequestHedger.disabled(), new HttpTransport(), WireFormat.JSON));
+    }
+
+    private UUID playerOn(StubApiServer shard) {
+        ShardRing ring = new ShardRing(List.of(first.baseUrl(), second.baseUrl()), 64);
+        for (int i = 0; ; i++) {
+            UUID candidate = new UUID(0x5eed, i);
+            if (ring.shardFor(candidate).equals(shard.baseUrl())) return candidate;
+        }
+    }
+
+    @Test
+    @DisplayName("Should send a player's calls to the shard that owns them")
+    void shouldRouteByPlayer() throws Exception {
+        UUID onFirst = playerOn(first);
+        UUID onSecond = playerOn(second);
+        first.on("/api/balances/" + onFirst, 200, "{\"uuid\":\"" + onFirst + "\",\"amount\":10}");
+        second.on("/api/balances/" + onSecond, 200, "{\"uuid\":\"" + onSecond + "\",\"amount\":20}");
+        BalanceApiService balances = new BalanceApiService(router, GsonFactory.getInstance());
+
+        assertEquals(Long.valueOf(10), balances.getBalance(onFirst).get(5, TimeUnit.SECONDS).amount());
+        assertEquals(Long.valueOf(20), balances.getBalance(onSecond).get(5, TimeUnit.SECONDS).amount());
+        assertEquals(0, first.hits("/api/balances/" + onSecond));
+        assertEquals(0, second.hits("/api/balances/" + onFirst));
+    }
+
+    @Test
+    @DisplayName("Should merge every shard's leaderboard into one")
+    void shouldMergeTopBalances() throws Exception {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        first.on("/api/balances/top?limit=2", 200,
+                "[{\"uuid\":\"" + a + "\",\"amount\":500},{\"uuid\":\"" + b + "\",\"amount\":40}]");
+        second.on("/api/balances/top?limit=2", 200, "[{\"uuid\":\"" + c + "\",\"amount\":90}]");
+        BalanceApiService balances = new BalanceApiService(router, GsonFactory.getInstance());
+
+        List<BalanceResponseDTO> top = balances.getTopBalances(2).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(new BalanceResponseDTO(a, 500L), new BalanceResponseDTO(c, 90L)), top);
+    }
+
+    @Test
+    @DisplayName("Should find a player by name on whichever shard has them")
+    void shouldFindByNameOnAnyShard() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        first.on("/api/players/name/Steve", 404, "{}");
+        second.on("/api/players/name/Steve", 200,
+                "{\"uuid\":\"" + uuid + "\",\"name\":\"Steve\",\"createdAt\":\"2024-01-01T00:00:00Z\"}");
+        first.on("/api/players/name/Alex", 404, "{}");
+        second.on("/api/players/name/Alex", 404, "{}");
+        PlayerApiService players = new PlayerApiService(router, GsonFactory.getInstance());
+
+        PlayerResponseDTO steve = players.getPlayerByName("Steve").get(5, TimeUnit.SECONDS);
+        ExecutionException alex = assertThrows(ExecutionException.class,
+                () -> players.getPlayerByName("Alex").get(5, TimeUnit.SECONDS));
+
+        assertEquals(uuid, steve.uuid());
+        assertInstanceOf(NotFoundException.class, alex.getCause());
+    }
+
+    @Test
+    @DisplayName("Should keep surviving shards' clients and retire removed ones on rebalance")
+    void shouldRebalance() throws Exception {
+        HttpClientService firstClient = router.all().getFirst();
+        StubApiServer third = StubApiServer.start();
+        try {
+            ShardRouter.Rebalance rebalance = router.rebalance(List.of(first.baseUrl(), third.baseUrl()), 64);
+
+            assertEquals(List.of(third.baseUrl()), rebalance.added());
+            assertEquals(List.of(second.baseUrl()), rebalance.removed());
+            assertTrue(rebalance.moved() > 0.2 && rebalance.moved() < 0.8, "moved " + rebalance.moved());
+            assertSame(firstClient, router.all().getFirst());
+            assertEquals(third.baseUrl(), router.all().get(1).getBaseUrl());
+            assertEquals(2, router.snapshots().size());
+        } finally {
+            third.close();
+        }
+    }
+}
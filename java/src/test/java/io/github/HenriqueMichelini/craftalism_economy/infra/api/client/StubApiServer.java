@@ -0,0 +1,246 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.codec.BinaryDtoCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.zip.GZIPOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Local stand-in for the economy REST backend, used by client-level tests.
+ * Routes are matched on the raw path + query of the request. Versioned routes
+ * tag their body with an ETag and honor {@code If-None-Match} like the real
+ * backend does. {@link #webSocketUrl()} serves the same routes over the
+ * multiplexed WebSocket channel.
+ */
+final class StubApiServer implements AutoCloseable {
+
+    @FunctionalInterface
+    interface Responder {
+        void respond(HttpExchange exchange) throws IOException;
+    }
+
+    private static final String GZIP_ATTRIBUTE = "stub.gzip";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Responder> routes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> notModified = new ConcurrentHashMap<>();
+    private volatile boolean gzip;
+    private StubWebSocketEndpoint webSocket;
+
+    private StubApiServer(HttpServer server) {
+        this.server = server;
+    }
+
+    static StubApiServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        StubApiServer stub = new StubApiServer(server);
+
+        server.createContext("/", stub::dispatch);
+        server.setExecutor(stub.executor);
+        server.start();
+        return stub;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    synchronized String webSocketUrl() throws IOException {
+        if (webSocket == null) {
+            webSocket = StubWebSocketEndpoint.start(baseUrl());
+        }
+        return webSocket.url();
+    }
+
+    synchronized StubWebSocketEndpoint webSocket() {
+        return webSocket;
+    }
+
+    void on(String pathAndQuery, Responder responder) {
+        routes.put(pathAndQuery, responder);
+    }
+
+    void on(String pathAndQuery, int status, String body) {
+        on(pathAndQuery, exchange -> reply(exchange, status, body));
+    }
+
+    /**
+     * Serves the current value of {@code body} with a strong ETag, answering
+     * {@code 304} when the client already holds that version.
+     */
+    void onVersioned(String pathAndQuery, Supplier<String> body) {
+        on(pathAndQuery, exchange -> {
+            String current = body.get();
+            String etag = "\"" + Integer.toHexString(current.hashCode()) + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.computeIfAbsent(pathAndQuery, k -> new AtomicInteger()).incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            reply(exchange, 200, current);
+        });
+    }
+
+    /**
+     * Gzip every reply whose request advertised {@code Accept-Encoding: gzip}.
+     */
+    void gzipResponses(boolean enabled) {
+        this.gzip = enabled;
+    }
+
+    int notModified(String pathAndQuery) {
+        AtomicInteger counter = notModified.get(pathAndQuery);
+        return counter == null ? 0 : counter.get();
+    }
+
+    int hits(String pathAndQuery) {
+        AtomicInteger counter = hits.get(pathAndQuery);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * Serves {@code binary} to clients that accept the binary DTO media type and
+     * {@code json} to everyone else, with an ETag per representation.
+     */
+    void onNegotiated(String pathAndQuery, String json, byte[] binary) {
+        on(pathAndQuery, exchange -> {
+            String accept = exchange.getRequestHeaders().getFirst("Accept");
+            boolean wantsBinary = accept != null && accept.contains(BinaryDtoCodec.MEDIA_TYPE);
+            String etag = wantsBinary ? "\"bin-" + Arrays.hashCode(binary) + "\"" : "\"json-" + json.hashCode() + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.computeIfAbsent(pathAndQuery, k -> new AtomicInteger()).incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            if (wantsBinary) {
+                reply(exchange, 200, BinaryDtoCodec.MEDIA_TYPE, binary);
+            } else {
+                reply(exchange, 200, json);
+            }
+        });
+    }
+
+    static void reply(HttpExchange exchange, int status, String body) throws IOException {
+        reply(exchange, status, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void reply(HttpExchange exchange, int status, String contentType, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+
+        if (Boolean.TRUE.equals(exchange.getAttribute(GZIP_ATTRIBUTE)) && bytes.length > 0) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        String key = exchange.getRequestURI().getRawPath();
+        if (exchange.getRequestURI().getRawQuery() != null) {
+            key += "?" + exchange.getRequestURI().getRawQuery();
+        }
+
+        hits.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        exchange.setAttribute(GZIP_ATTRIBUTE, gzip && acceptEncoding != null && acceptEncoding.contains("gzip"));
+
+        Responder responder = routes.get(key);
+        try {
+            if (responder == null) {
+                reply(exchange, 404, "{\"error\":\"no route for " + key + "\"}");
+            } else {
+                responder.respond(exchange);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // independent of BinaryDtoCodec on purpose, so a symmetric bug in the codec cannot hide
+
+    static byte[] binaryBalances(UUID[] uuids, long[] amounts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeVarint(out, uuids.length);
+        for (int i = 0; i < uuids.length; i++) {
+            writeBalance(out, uuids[i], amounts[i]);
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[] binaryBalance(UUID uuid, long amount) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeBalance(new DataOutputStream(bytes), uuid, amount);
+        return bytes.toByteArray();
+    }
+
+    static byte[] binaryPlayer(UUID uuid, String name, Instant createdAt) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(0b111);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+        byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, utf8.length);
+        out.write(utf8);
+        writeVarint(out, createdAt.toEpochMilli() << 1);
+        return bytes.toByteArray();
+    }
+
+    private static void writeBalance(DataOutputStream out, UUID uuid, long amount) throws IOException {
+        out.writeByte(0b11);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+        writeVarint(out, (amount << 1) ^ (amount >> 63));
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        do {
+            int low = (int) (value & 0x7F);
+            value >>>= 7;
+            out.writeByte(value == 0 ? low : low | 0x80);
+        } while (value != 0);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (webSocket != null) {
+                webSocket.close();
+            }
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * WebSocket face of {@link StubApiServer}. Speaks the multiplexed frame format
+ * of {@link WebSocketTransport} and relays each frame to the stub's HTTP
+ * routes, so tests register routes once and exercise either transport.
+ * <p>
+ * Only the slice of RFC 6455 the JDK client uses is implemented: masked text
+ * frames (possibly fragmented), ping and close.
+ */
+final class StubWebSocketEndpoint implements AutoCloseable {
+
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final Set<String> UNRELAYED_HEADERS =
+            Set.of("connection", "content-length", "expect", "host", "upgrade", "transfer-encoding", "accept-encoding");
+
+    private final ServerSocket server;
+    private final String httpBase;
+    private final HttpClient relay = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger accepted = new AtomicInteger();
+    private volatile UnaryOperator<String> replyRewriter = UnaryOperator.identity();
+
+    private StubWebSocketEndpoint(ServerSocket server, String httpBase) {
+        this.server = server;
+        this.httpBase = httpBase;
+    }
+
+    static StubWebSocketEndpoint start(String httpBase) throws IOException {
+        StubWebSocketEndpoint endpoint = new StubWebSocketEndpoint(
+                new ServerSocket(0, 50, InetAddress.getLoopbackAddress()), httpBase);
+        endpoint.executor.execute(endpoint::acceptLoop);
+        return endpoint;
+    }
+
+    String url() {
+        return "ws://127.0.0.1:" + server.getLocalPort() + "/ws";
+    }
+
+    int connectionsAccepted() {
+        return accepted.get();
+    }
+
+    /**
+     * Lets a test corrupt reply frames on their way out.
+     */
+    void rewriteReplies(UnaryOperator<String> rewriter) {
+        this.replyRewriter = rewriter;
+    }
+
+    /**
+     * Kills every open connection without a close handshake, like a crashed backend.
+     */
+    void dropConnections() {
+        for (Socket socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // already gone
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                connections.add(socket);
+                accepted.incrementAndGet();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            handshake(in, out);
+
+            ByteArrayOutputStream message = new ByteArrayOutputStream();
+            while (true) {
+                int b0 = in.read();
+                if (b0 < 0) return;
+                int b1 = in.read();
+                boolean fin = (b0 & 0x80) != 0;
+                int opcode = b0 & 0x0f;
+
+                long length = b1 & 0x7f;
+                if (length == 126) length = readUnsigned(in, 2);
+                else if (length == 127) length = readUnsigned(in, 8);
+                byte[] mask = (b1 & 0x80) != 0 ? readFully(in, 4) : null;
+                byte[] payload = readFully(in, (int) length);
+                if (mask != null) {
+                    for (int i = 0; i < payload.length; i++) payload[i] ^= mask[i % 4];
+                }
+
+                switch (opcode) {
+                    case 0x0, 0x1 -> {
+                        message.write(payload);
+                        if (fin) {
+                            String text = message.toString(StandardCharsets.UTF_8);
+                            message.reset();
+                            // frames are answered concurrently, out of order, like the real backend
+                            executor.execute(() -> answer(out, text));
+                        }
+                    }
+                    case 0x8 -> {
+                        writeFrame(out, 0x8, payload);
+                        return;
+                    }
+                    case 0x9 -> writeFrame(out, 0xA, payload);
+                    default -> { }
+                }
+            }
+        } catch (IOException ignored) {
+            // connection dropped
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private void answer(OutputStream out, String text) {
+        JsonObject frame = JsonParser.parseString(text).getAsJsonObject();
+        JsonObject reply = new JsonObject();
+        reply.addProperty("id", frame.get("id").getAsLong());
+
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(httpBase + frame.get("path").getAsString()))
+                    .method(frame.get("method").getAsString(),
+                            HttpRequest.BodyPublishers.ofString(frame.get("body").getAsString()));
+            frame.getAsJsonObject("headers").entrySet().forEach(header -> {
+                if (UNRELAYED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) return;
+                header.getValue().getAsJsonArray().forEach(v -> request.header(header.getKey(), v.getAsString()));
+            });
+
+            HttpResponse<String> resp = relay.send(request.build(), HttpResponse.BodyHandlers.ofString());
+
+            JsonObject headers = new JsonObject();
+            resp.headers().map().forEach((name, values) -> {
+                if (UNRELAYED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) return;
+                JsonArray array = new JsonArray();
+                values.forEach(array::add);
+                headers.add(name, array);
+            });
+            reply.addProperty("status", resp.statusCode());
+            reply.add("headers", headers);
+            reply.addProperty("body", resp.body());
+        } catch (IOException | InterruptedException e) {
+            reply.addProperty("status", 502);
+            reply.add("headers", new JsonObject());
+            reply.addProperty("body", "{\"error\":\"relay failed\"}");
+        }
+
+        try {
+            writeFrame(out, 0x1, replyRewriter.apply(reply.toString()).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ignored) {
+            // the connection was dropped while the route was running
+        }
+    }
+
+    private static void handshake(InputStream in, OutputStream out) throws IOException {
+        String key = null;
+        for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+            if (line.toLowerCase(Locale.ROOT).startsWith("sec-websocket-key:")) {
+                key = line.substring(line.indexOf(':') + 1).trim();
+            }
+        }
+        if (key == null) throw new IOException("Not a WebSocket upgrade");
+
+        String response = "HTTP/1.1 101 Switching Protocols\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n";
+        out.write(response.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static String acceptKey(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest((key + ACCEPT_GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeFrame(OutputStream out, int opcode, byte[] payload) throws IOException {
+        synchronized (out) {
+            out.write(0x80 | opcode);
+            if (payload.length < 126) {
+                out.write(payload.length);
+            } else if (payload.length <= 0xffff) {
+                out.write(126);
+                out.write(payload.length >>> 8);
+                out.write(payload.length);
+            } else {
+                out.write(127);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    out.write((int) ((long) payload.length >>> shift));
+                }
+            }
+            out.write(payload);
+            out.flush();
+        }
+    }
+
+    private static long readUnsigned(InputStream in, int bytes) throws IOException {
+        long value = 0;
+        for (byte b : readFully(in, bytes)) {
+            value = (value << 8) | (b & 0xff);
+        }
+        return value;
+    }
+
+    private static byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) throw new EOFException();
+        return bytes;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int b = in.read(); b != '\n'; b = in.read()) {
+            if (b < 0) throw new EOFException();
+            if (b != '\r') line.append((char) b);
+        }
+        return line.toString();
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.close();
+        } catch (IOException ignored) {
+            // nothing to release
+        }
+        dropConnections();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.RateLimitException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucket Tests")
+class TokenBucketTest {
+
+    private long now = 1_000_000_000L;
+    private final List<Long> delays = new ArrayList<>();
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    private TokenBucket bucket(double rate, int burst, Duration maxWait) {
+        return new TokenBucket("balances", rate, burst, maxWait, () -> now, millis -> task -> {
+            delays.add(millis);
+            scheduled.add(task);
+        });
+    }
+
+    private void advanceMillis(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    @DisplayName("Should admit a full burst immediately, then pace at the refill rate")
+    void shouldPaceAfterBurst() {
+        TokenBucket bucket = bucket(10, 2, Duration.ofSeconds(1));
+
+        assertTrue(bucket.acquire().isDone());
+        assertTrue(bucket.acquire().isDone());
+
+        CompletableFuture<Void> third = bucket.acquire();
+        CompletableFuture<Void> fourth = bucket.acquire();
+        assertFalse(third.isDone());
+        assertEquals(List.of(100L, 200L), delays);
+
+        scheduled.forEach(Runnable::run);
+        assertTrue(third.isDone() && fourth.isDone());
+        assertEquals(2, bucket.snapshot().waited());
+    }
+
+    @Test
+    @DisplayName("Should shed calls that would wait past the max wait")
+    void shouldShedWhenEmpty() {
+        TokenBucket bucket = bucket(1, 1, Duration.ofMillis(500));
+        bucket.acquire();
+
+        CompletableFuture<Void> shed = bucket.acquire();
+
+        CompletionException error = assertThrows(CompletionException.class, shed::join);
+        RateLimitException cause = assertInstanceOf(RateLimitException.class, error.getCause());
+        assertEquals(Duration.ofSeconds(1), cause.getRetryAfter().orElseThrow());
+        assertEquals(1, bucket.snapshot().shed());
+
+        advanceMillis(1_000);
+        assertTrue(bucket.acquire().isDone());
+    }
+
+    @Test
+    @DisplayName("Should halve the rate and honour Retry-After on a 429")
+    void shouldLearnFromThrottling() {
+        TokenBucket bucket = bucket(20, 5, Duration.ofSeconds(10));
+
+        bucket.onThrottled(Optional.of(Duration.ofSeconds(2)));
+        bucket.onThrottled(Optional.empty());
+
+        assertEquals(10.0, bucket.snapshot().ratePerSecond());
+        assertEquals(2, bucket.snapshot().throttled());
+
+        bucket.acquire();
+        // 2s pause, then one token at the halved rate of 10/s
+        assertEquals(List.of(2_100L), delays);
+    }
+
+    @Test
+    @DisplayName("Should win the configured rate back on success")
+    void shouldRecoverOnSuccess() {
+        TokenBucket bucket = bucket(20, 5, Duration.ofSeconds(10));
+        bucket.onThrottled(Optional.empty());
+
+        for (int i = 0; i < 50; i++) {
+            bucket.onSuccess();
+        }
+        assertEquals(20.0, bucket.snapshot().ratePerSecond(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should map request paths to endpoint families")
+    void shouldResolveFamilies() {
+        assertEquals("balances", RateLimiterRegistry.family("/api/balances/6f1c/withdraw?amount=5"));
+        assertEquals("balances", RateLimiterRegistry.family("/api/balances?x=1"));
+        assertEquals("transactions", RateLimiterRegistry.family("/api/transactions"));
+        assertNull(RateLimiterRegistry.family("/health"));
+    }
+}
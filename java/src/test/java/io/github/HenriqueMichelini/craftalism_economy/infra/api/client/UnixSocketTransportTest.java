@@ -0,0 +1,158 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UnixSocketTransport Tests")
+class UnixSocketTransportTest {
+
+    private Path socket;
+    private ServerSocketChannel server;
+    private HttpClientService http;
+    private final AtomicReference<String> lastRequest = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        socket = Files.createTempDirectory("craftalism-uds").resolve("api.sock");
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socket));
+        http = new HttpClientService("http://localhost", new RetryPolicy(), RequestHedger.disabled(),
+                new UnixSocketTransport(socket));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        http.close();
+        server.close();
+        Files.deleteIfExists(socket);
+    }
+
+    @Test
+    @DisplayName("Should exchange a Content-Length response over the socket")
+    void shouldReadContentLength() throws Exception {
+        serveOnce("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 11\r\n\r\n{\"id\":\"a\"}\n");
+
+        HttpResponse<String> resp = http.get("/players/a").get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, resp.statusCode());
+        assertEquals("{\"id\":\"a\"}\n", resp.body());
+        assertTrue(lastRequest.get().startsWith("GET /players/a HTTP/1.1\r\n"));
+        assertTrue(lastRequest.get().contains("Connection: close\r\n"));
+    }
+
+    @Test
+    @DisplayName("Should send request bodies and read chunked responses")
+    void shouldReadChunked() throws Exception {
+        serveOnce("HTTP/1.1 201 Created\r\nTransfer-Encoding: chunked\r\n\r\n4\r\n{\"ok\r\n5;ext=1\r\n\":tru\r\n2\r\ne}\r\n0\r\n\r\n");
+
+        HttpResponse<String> resp = http.post("/players", "{\"name\":\"Steve\"}").get(5, TimeUnit.SECONDS);
+
+        assertEquals(201, resp.statusCode());
+        assertEquals("{\"ok\":true}", resp.body());
+        assertTrue(lastRequest.get().contains("Content-Length: 16\r\n"));
+        assertTrue(lastRequest.get().endsWith("{\"name\":\"Steve\"}"));
+    }
+
+    @Test
+    @DisplayName("Should not read a body for 304 responses")
+    void shouldSkipBodyForNotModified() throws Exception {
+        InputStream in = stream("HTTP/1.1 304 Not Modified\r\nETag: \"v1\"\r\nContent-Length: 20\r\n\r\n");
+
+        UnixSocketTransport.RawResponse resp = UnixSocketTransport.read(in, "GET");
+
+        assertEquals(304, resp.status());
+        assertEquals(0, resp.body().length);
+        assertEquals("\"v1\"", resp.headers().firstValue("etag").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should reject truncated bodies")
+    void shouldRejectTruncatedBody() {
+        InputStream in = stream("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\n{}");
+
+        assertThrows(EOFException.class, () -> UnixSocketTransport.read(in, "GET"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed status lines")
+    void shouldRejectMalformedStatus() {
+        assertThrows(IOException.class, () -> UnixSocketTransport.read(stream("SSH-2.0-OpenSSH\r\n\r\n"), "GET"));
+    }
+
+    @Test
+    @DisplayName("Should reject non-numeric status codes and chunk sizes")
+    void shouldRejectMalformedNumbers() {
+        assertThrows(IOException.class, () -> UnixSocketTransport.read(stream("HTTP/1.1 OK\r\n\r\n"), "GET"));
+        assertThrows(IOException.class, () -> UnixSocketTransport.read(
+                stream("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\nzz\r\n"), "GET"));
+    }
+
+    @Test
+    @DisplayName("Should fail the call at once on a malformed response")
+    void shouldFailMalformedResponseAtOnce() {
+        serveOnce("HTTP/1.1 2xx OK\r\nContent-Length: 0\r\n\r\n");
+
+        long start = System.nanoTime();
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> http.post("/players", "{}").get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IOException.class, error.getCause());
+        assertTrue(error.getCause().getMessage().startsWith("Malformed status line"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2_000);
+    }
+
+    private void serveOnce(String response) {
+        Thread thread = new Thread(() -> {
+            try (SocketChannel client = server.accept()) {
+                StringBuilder request = new StringBuilder();
+                ByteBuffer buf = ByteBuffer.allocate(4096);
+                // the client writes the whole request before reading, so one short read loop is enough here
+                while (!complete(request)) {
+                    buf.clear();
+                    if (client.read(buf) < 0) break;
+                    request.append(new String(buf.array(), 0, buf.position(), StandardCharsets.UTF_8));
+                }
+                lastRequest.set(request.toString());
+                client.write(ByteBuffer.wrap(response.getBytes(StandardCharsets.UTF_8)));
+            } catch (IOException ignored) {
+                // the test fails on the client side
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static boolean complete(StringBuilder request) {
+        int end = request.indexOf("\r\n\r\n");
+        if (end < 0) return false;
+        int at = request.indexOf("Content-Length: ");
+        if (at < 0 || at > end) return true;
+        int length = Integer.parseInt(request.substring(at + 16, request.indexOf("\r\n", at)).trim());
+        return request.length() - end - 4 >= length;
+    }
+
+    private static InputStream stream(String raw) {
+        return new ByteArrayInputStream(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
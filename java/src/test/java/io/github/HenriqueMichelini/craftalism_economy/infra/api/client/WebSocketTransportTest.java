@@ -0,0 +1,163 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebSocketTransport Tests")
+class WebSocketTransportTest {
+
+    private StubApiServer server;
+    private WebSocketTransport transport;
+    private HttpClientService client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubApiServer.start();
+        transport = new WebSocketTransport(URI.create(server.webSocketUrl()));
+        client = new HttpClientService(server.baseUrl(), new RetryPolicy(), RequestHedger.disabled(), transport);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should multiplex concurrent calls over a single connection")
+    void shouldMultiplexCalls() throws Exception {
+        server.on("/api/balances/a", 200, "{\"amount\":1}");
+        server.on("/api/balances/b", 200, "{\"amount\":2}");
+        server.on("/api/transactions", 201, "{\"id\":9}");
+
+        List<CompletableFuture<HttpResponse<String>>> calls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            calls.add(client.get("/api/balances/a"));
+            calls.add(client.get("/api/balances/b"));
+            calls.add(client.post("/api/transactions", "{\"amount\":1}"));
+        }
+
+        for (int i = 0; i < calls.size(); i++) {
+            HttpResponse<String> resp = calls.get(i).get(5, TimeUnit.SECONDS);
+            switch (i % 3) {
+                case 0 -> assertEquals("{\"amount\":1}", resp.body());
+                case 1 -> assertEquals("{\"amount\":2}", resp.body());
+                default -> assertEquals(201, resp.statusCode());
+            }
+        }
+        assertEquals(5, server.hits("/api/transactions"));
+        assertEquals(1, server.webSocket().connectionsAccepted());
+    }
+
+    @Test
+    @DisplayName("Should carry headers so validators keep working")
+    void shouldCarryValidators() throws Exception {
+        server.onVersioned("/api/balances/top?limit=10", () -> "[{\"amount\":1}]");
+
+        client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS);
+        HttpResponse<String> second = client.get("/api/balances/top?limit=10").get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, second.statusCode());
+        assertEquals("[{\"amount\":1}]", second.body());
+        assertEquals(1, server.notModified("/api/balances/top?limit=10"));
+    }
+
+    @Test
+    @DisplayName("Should reconnect and replay an in-flight GET")
+    void shouldReplayInFlightGet() throws Exception {
+        CountDownLatch stall = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        server.on("/api/players/a", exchange -> {
+            if (calls.incrementAndGet() == 1) {
+                await(stall);
+            }
+            StubApiServer.reply(exchange, 200, "{\"name\":\"Steve\"}");
+        });
+
+        CompletableFuture<HttpResponse<String>> pending = client.get("/api/players/a");
+        waitFor(() -> calls.get() == 1);
+        server.webSocket().dropConnections();
+        stall.countDown();
+
+        assertEquals("{\"name\":\"Steve\"}", pending.get(5, TimeUnit.SECONDS).body());
+        assertEquals(2, server.hits("/api/players/a"));
+        assertEquals(1, transport.reconnects());
+        assertEquals(1, transport.replayed());
+    }
+
+    @Test
+    @DisplayName("Should fail an in-flight POST instead of replaying it")
+    void shouldNotReplayWrittenPost() throws Exception {
+        CountDownLatch stall = new CountDownLatch(1);
+        server.on("/api/transactions", exchange -> {
+            await(stall);
+            StubApiServer.reply(exchange, 201, "{}");
+        });
+
+        CompletableFuture<HttpResponse<String>> pending = client.post("/api/transactions", "{\"amount\":1}");
+        waitFor(() -> server.hits("/api/transactions") == 1);
+        server.webSocket().dropConnections();
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> pending.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, error.getCause());
+        stall.countDown();
+        assertEquals(1, server.hits("/api/transactions"));
+    }
+
+    @Test
+    @DisplayName("Should fail a call whose reply has no status and skip frames without an id")
+    void shouldRejectMalformedReplies() throws Exception {
+        server.on("/api/balances/a", 200, "{\"amount\":1}");
+        server.webSocket().rewriteReplies(reply -> reply.replace("\"status\":", "\"code\":"));
+
+        CompletableFuture<HttpResponse<String>> pending = transport.send(
+                HttpRequest.newBuilder(URI.create(server.baseUrl() + "/api/balances/a")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> pending.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, error.getCause());
+
+        server.webSocket().rewriteReplies(reply -> reply.replace("\"id\":", "\"ref\":"));
+        CompletableFuture<HttpResponse<String>> orphan = transport.send(
+                HttpRequest.newBuilder(URI.create(server.baseUrl() + "/api/balances/a"))
+                        .timeout(Duration.ofMillis(300)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        error = assertThrows(ExecutionException.class, () -> orphan.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, error.getCause());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("condition not reached");
+            Thread.sleep(10);
+        }
+    }
+}
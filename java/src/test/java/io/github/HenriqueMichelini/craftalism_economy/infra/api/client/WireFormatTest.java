@@ -0,0 +1,110 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.client;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.BalanceApiService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.service.PlayerApiService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WireFormat Tests")
+class WireFormatTest {
+
+    private static final UUID UUID_A = UUID.fromString("6f1c2a3b-4d5e-6f70-8192-a3b4c5d6e7f8");
+    private static final UUID UUID_B = UUID.fromString("00000000-0000-0000-0000-0000000000ff");
+
+    private StubApiServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubApiServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpClientService client(WireFormat format) {
+        return new HttpClientService(server.baseUrl(), new RetryPolicy(), RequestHedger.disabled(),
+                new HttpTransport(), format);
+    }
+
+    @Test
+    @DisplayName("Should decode binary balances when the client asks for them")
+    void shouldDecodeBinaryBalance() throws Exception {
+        server.onNegotiated("/api/balances/" + UUID_A,
+                "{\"uuid\":\"" + UUID_A + "\",\"amount\":-3}",
+                StubApiServer.binaryBalance(UUID_A, 250L));
+
+        BalanceApiService binary = new BalanceApiService(client(WireFormat.BINARY));
+        BalanceApiService json = new BalanceApiService(client(WireFormat.JSON));
+
+        assertEquals(new BalanceResponseDTO(UUID_A, 250L), binary.getBalance(UUID_A).get(5, TimeUnit.SECONDS));
+        assertEquals(new BalanceResponseDTO(UUID_A, -3L), json.getBalance(UUID_A).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should keep decoding binary after a 304 without Content-Type")
+    void shouldRevalidateBinary() throws Exception {
+        server.onNegotiated("/api/balances/top?limit=2", "[]",
+                StubApiServer.binaryBalances(new UUID[]{UUID_A, UUID_B}, new long[]{900L, 1L}));
+        BalanceApiService balances = new BalanceApiService(client(WireFormat.BINARY));
+
+        List<BalanceResponseDTO> first = balances.getTopBalances(2).get(5, TimeUnit.SECONDS);
+        List<BalanceResponseDTO> second = balances.getTopBalances(2).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(new BalanceResponseDTO(UUID_A, 900L), new BalanceResponseDTO(UUID_B, 1L)), second);
+        assertSame(first, second);
+        assertEquals(1, server.notModified("/api/balances/top?limit=2"));
+    }
+
+    @Test
+    @DisplayName("Should hand binary bodies over as the bytes they arrived as, also after a 304")
+    void shouldKeepBinaryBytes() throws Exception {
+        byte[] balance = StubApiServer.binaryBalance(UUID_A, 250L);
+        server.onNegotiated("/api/balances/" + UUID_A, "{}", balance);
+        HttpClientService http = client(WireFormat.BINARY);
+
+        for (int i = 0; i < 2; i++) {
+            HttpResponse<String> resp = http.get("/api/balances/" + UUID_A).get(5, TimeUnit.SECONDS);
+            assertInstanceOf(WireFormat.RawBody.class, resp);
+            assertArrayEquals(balance, ((WireFormat.RawBody) resp).binaryBody());
+            assertArrayEquals(balance, WireFormat.binaryBody(resp));
+        }
+        assertEquals(1, server.notModified("/api/balances/" + UUID_A));
+    }
+
+    @Test
+    @DisplayName("Should decode binary players with non-ASCII names and millisecond timestamps")
+    void shouldDecodeBinaryPlayer() throws Exception {
+        Instant created = Instant.ofEpochMilli(1_760_000_000_123L);
+        server.onNegotiated("/api/players/" + UUID_A, "{}", StubApiServer.binaryPlayer(UUID_A, "Zoë", created));
+
+        PlayerResponseDTO player = new PlayerApiService(client(WireFormat.BINARY))
+                .getPlayerByUuid(UUID_A).get(5, TimeUnit.SECONDS);
+
+        assertEquals(new PlayerResponseDTO(UUID_A, "Zoë", created), player);
+    }
+
+    @Test
+    @DisplayName("Should fall back to JSON when the backend ignores the binary media type")
+    void shouldFallBackToJson() throws Exception {
+        server.on("/api/balances/" + UUID_B, 200, "{\"uuid\":\"" + UUID_B + "\",\"amount\":12}");
+
+        BalanceResponseDTO balance = new BalanceApiService(client(WireFormat.BINARY))
+                .getBalance(UUID_B).get(5, TimeUnit.SECONDS);
+
+        assertEquals(new BalanceResponseDTO(UUID_B, 12L), balance);
+    }
+}
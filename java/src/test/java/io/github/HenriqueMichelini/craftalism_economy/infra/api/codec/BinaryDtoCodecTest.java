@@ -0,0 +1,87 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.codec;
+
+import com.google.gson.Gson;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinaryDtoCodec Tests")
+class BinaryDtoCodecTest {
+
+    private static final UUID UUID_A = UUID.fromString("6f1c2a3b-4d5e-6f70-8192-a3b4c5d6e7f8");
+    private static final UUID UUID_B = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final Instant CREATED = Instant.ofEpochMilli(1_760_000_000_123L);
+
+    @Test
+    @DisplayName("Should round-trip every response DTO")
+    void shouldRoundTrip() {
+        BalanceResponseDTO balance = new BalanceResponseDTO(UUID_A, 100_000_000L);
+        PlayerResponseDTO player = new PlayerResponseDTO(UUID_A, "Stevé", CREATED);
+        TransactionResponseDTO transaction = new TransactionResponseDTO(42L, UUID_A, UUID_B, 5_000L, CREATED);
+
+        assertEquals(balance, BinaryDtoCodec.decodeBalance(BinaryDtoCodec.encodeBalance(balance)));
+        assertEquals(player, BinaryDtoCodec.decodePlayer(BinaryDtoCodec.encodePlayer(player)));
+        assertEquals(transaction, BinaryDtoCodec.decodeTransaction(BinaryDtoCodec.encodeTransaction(transaction)));
+    }
+
+    @Test
+    @DisplayName("Should keep null fields and negative amounts")
+    void shouldKeepNullsAndNegatives() {
+        BalanceResponseDTO balance = new BalanceResponseDTO(UUID_B, -1L);
+        TransactionResponseDTO transaction = new TransactionResponseDTO(null, UUID_A, null, Long.MIN_VALUE, null);
+
+        assertEquals(balance, BinaryDtoCodec.decodeBalance(BinaryDtoCodec.encodeBalance(balance)));
+        assertEquals(transaction, BinaryDtoCodec.decodeTransaction(BinaryDtoCodec.encodeTransaction(transaction)));
+        assertArrayEquals(new byte[]{0}, BinaryDtoCodec.encodeBalance(new BalanceResponseDTO(null, null)));
+    }
+
+    @Test
+    @DisplayName("Should encode a leaderboard in well under half the JSON size")
+    void shouldBeSmallerThanJson() {
+        List<BalanceResponseDTO> top = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            top.add(new BalanceResponseDTO(UUID.randomUUID(), 1_000_000L * (i + 1)));
+        }
+        Gson gson = GsonFactory.getInstance();
+
+        byte[] binary = BinaryDtoCodec.encodeBalances(top);
+        int json = gson.toJson(top).getBytes(StandardCharsets.UTF_8).length;
+
+        assertEquals(top, BinaryDtoCodec.decodeBalances(binary));
+        assertTrue(binary.length * 2 < json, binary.length + " bytes vs " + json + " bytes of JSON");
+    }
+
+    @Test
+    @DisplayName("Should reject truncated and oversized bodies")
+    void shouldRejectMalformedBodies() {
+        byte[] encoded = BinaryDtoCodec.encodeBalance(new BalanceResponseDTO(UUID_A, 7L));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryDtoCodec.decodeBalance(Arrays.copyOf(encoded, encoded.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryDtoCodec.decodeBalance(Arrays.copyOf(encoded, encoded.length + 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryDtoCodec.decodeBalances(new byte[]{(byte) 0xff, 0x7f}));
+    }
+
+    @Test
+    @DisplayName("Should match the media type regardless of parameters")
+    void shouldMatchMediaType() {
+        assertTrue(BinaryDtoCodec.isBinary(BinaryDtoCodec.MEDIA_TYPE));
+        assertTrue(BinaryDtoCodec.isBinary("Application/VND.craftalism.v1+binary; q=1"));
+        assertFalse(BinaryDtoCodec.isBinary("application/json"));
+        assertFalse(BinaryDtoCodec.isBinary(null));
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceOperationDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceUpdateRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BatchResultDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.PlayerResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionBatchResultDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.TransactionResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
+import io.github.HenriqueMichelini.craftalism_economy.infra.config.InstantTypeAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonDtoAdapters Tests")
+class JsonDtoAdaptersTest {
+
+    private static final UUID A = UUID.fromString("0b5c1f5e-3f0e-4c53-9d2a-5e3b1b0f6a11");
+    private static final UUID B = UUID.fromString("9f1d7c2a-8b4e-4f6d-a1c3-2e5f7a9b0c44");
+    private static final Instant CREATED = Instant.parse("2026-10-17T12:00:00.123Z");
+
+    private final Gson streaming = GsonFactory.getInstance();
+    private final Gson reflective = new GsonBuilder()
+            .registerTypeAdapter(Instant.class, new InstantTypeAdapter())
+            .create();
+
+    @Test
+    @DisplayName("Should write and read the same JSON as the reflective adapters")
+    void shouldMatchReflectiveJson() {
+        List<Object> dtos = List.of(
+                new BalanceOperationDTO(A, "deposit", 500L),
+                new BalanceRequestDTO(A, 0L),
+                new BalanceResponseDTO(A, Long.MAX_VALUE),
+                new BalanceUpdateRequestDTO(-3L),
+                new BatchResultDTO(409, "insufficient funds"),
+                new PlayerRequestDTO(A, "Steve"),
+                new PlayerResponseDTO(A, "Steve", CREATED),
+                new TransactionRequestDTO(A, B, 25L),
+                new TransactionResponseDTO(7L, A, B, 25L, CREATED),
+                new TransactionBatchResultDTO(201, new TransactionResponseDTO(7L, A, B, 25L, CREATED), null)
+        );
+
+        for (Object dto : dtos) {
+            String expected = reflective.toJson(dto);
+            assertEquals(expected, streaming.toJson(dto), dto.getClass().getSimpleName());
+            assertEquals(dto, streaming.fromJson(expected, dto.getClass()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave out null components and read missing ones as null")
+    void shouldHandleNulls() {
+        assertEquals("{\"uuid\":\"" + A + "\"}", streaming.toJson(new BalanceResponseDTO(A, null)));
+        assertEquals(new PlayerResponseDTO(A, null, null),
+                streaming.fromJson("{\"uuid\":\"" + A + "\",\"name\":null}", PlayerResponseDTO.class));
+        assertNull(streaming.fromJson("null", BalanceResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should skip fields the DTO does not know")
+    void shouldSkipUnknownFields() {
+        String json = "{\"version\":3,\"uuid\":\"" + A + "\",\"meta\":{\"tags\":[1,2]},\"amount\":42}";
+
+        assertEquals(new BalanceResponseDTO(A, 42L), streaming.fromJson(json, BalanceResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should read and write lists of DTOs")
+    void shouldHandleLists() {
+        List<BalanceResponseDTO> top = List.of(new BalanceResponseDTO(A, 10L), new BalanceResponseDTO(B, 5L));
+
+        String json = streaming.toJson(top, JsonDtoAdapters.BALANCE_LIST);
+        List<BalanceResponseDTO> parsed = streaming.fromJson(json, JsonDtoAdapters.BALANCE_LIST);
+
+        assertEquals(reflective.toJson(top), json);
+        assertEquals(top, parsed);
+        assertEquals(List.of(), streaming.fromJson("[]", JsonDtoAdapters.BALANCE_LIST));
+    }
+}
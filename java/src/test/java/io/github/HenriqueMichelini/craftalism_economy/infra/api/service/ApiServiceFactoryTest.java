@@ -1,12 +1,15 @@
 package io.github.HenriqueMichelini.craftalism_economy.infra.api.service;
 
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.HttpClientService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
 import io.github.HenriqueMichelini.craftalism_economy.infra.config.ConfigLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.MockedConstruction;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -65,9 +68,9 @@ class ApiServiceFactoryTest {
 
     private HttpClientService getHttpClientFromPlayer(PlayerApiService api) {
         try {
-            var field = PlayerApiService.class.getDeclaredField("http");
+            var field = PlayerApiService.class.getDeclaredField("shards");
             field.setAccessible(true);
-            return (HttpClientService) field.get(api);
+            return ((ShardRouter) field.get(api)).forPlayer(UUID.randomUUID());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -75,9 +78,9 @@ class ApiServiceFactoryTest {
 
     private HttpClientService getHttpClientFromBalance(BalanceApiService api) {
         try {
-            var field = BalanceApiService.class.getDeclaredField("http");
+            var field = BalanceApiService.class.getDeclaredField("shards");
             field.setAccessible(true);
-            return (HttpClientService) field.get(api);
+            return ((ShardRouter) field.get(api)).forPlayer(UUID.randomUUID());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -85,9 +88,9 @@ class ApiServiceFactoryTest {
 
     private HttpClientService getHttpClientFromTransaction(TransactionApiService api) {
         try {
-            var field = TransactionApiService.class.getDeclaredField("http");
+            var field = TransactionApiService.class.getDeclaredField("shards");
             field.setAccessible(true);
-            return (HttpClientService) field.get(api);
+            return ((ShardRouter) field.get(api)).forPlayer(UUID.randomUUID());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
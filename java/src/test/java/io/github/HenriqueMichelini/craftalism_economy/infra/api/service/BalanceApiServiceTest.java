@@ -3,9 +3,15 @@ package io.github.HenriqueMichelini.craftalism_economy.infra.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.gson.Gson;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ApiPath;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.HttpClientService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.MicroBatcher;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
 import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceUpdateRequestDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BatchResultDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.ApiException;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.RateLimitException;
 import io.github.HenriqueMichelini.craftalism_economy.infra.config.GsonFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,12 +20,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 
@@ -235,6 +246,42 @@ class BalanceApiServiceTest {
         assertEquals("Insufficient funds", exception.getCause().getMessage());
     }
 
+    @Test
+    @DisplayName("Should send deposits and withdrawals within the linger as one bulk request")
+    void shouldBatchWrites() throws Exception {
+        service = new BalanceApiService(ShardRouter.single(httpClient), gson,
+                new MicroBatcher.Settings(true, 64, Duration.ofMillis(20)));
+        HttpResponse<String> mockResponse = createMockResponse(gson.toJson(List.of(
+                new BatchResultDTO(204, null),
+                new BatchResultDTO(409, "insufficient funds"))));
+        when(httpClient.post(any(ApiPath.class), anyString(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+
+        CompletableFuture<Void> deposit = service.deposit(testUuid, 500L);
+        CompletableFuture<Void> withdraw = service.withdraw(testUuid, 900L);
+
+        assertDoesNotThrow(() -> deposit.get(5, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> withdraw.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ApiException.class, error.getCause());
+        verify(httpClient, times(1)).post(argThat((ApiPath path) -> path.path().equals("/api/balances/batch")),
+                argThat((String body) -> body.contains("\"deposit\"") && body.contains("\"withdraw\"")), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep the server's Retry-After on a rate-limited lookup")
+    void shouldKeepRetryAfterOnRateLimit() {
+        HttpResponse<String> mockResponse = mock(HttpResponse.class);
+        when(mockResponse.statusCode()).thenReturn(429);
+        when(mockResponse.body()).thenReturn("slow down");
+        when(mockResponse.headers()).thenReturn(HttpHeaders.of(Map.of("Retry-After", List.of("3")), (k, v) -> true));
+        when(httpClient.get(any(ApiPath.class), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> service.getBalance(testUuid).get());
+        RateLimitException limited = assertInstanceOf(RateLimitException.class, error.getCause());
+        assertEquals(Optional.of(Duration.ofSeconds(3)), limited.getRetryAfter());
+    }
+
     @Test
     @DisplayName("Should handle multiple concurrent balance operations")
     void shouldHandleMultipleConcurrentOperations() throws ExecutionException, InterruptedException {
@@ -0,0 +1,68 @@
+package io.github.HenriqueMichelini.craftalism_economy.infra.api.service;
+
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.HttpClientService;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.LoopbackTransport;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestHedger;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RetryPolicy;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.WireFormat;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.dto.BalanceResponseDTO;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.exceptions.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BlockingEconomyApi Tests")
+class BlockingEconomyApiTest {
+
+    private static final UUID KNOWN = UUID.fromString("6f1c2a3b-4d5e-6f70-8192-a3b4c5d6e7f8");
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private BlockingEconomyApi api;
+
+    @BeforeEach
+    void setUp() {
+        LoopbackTransport transport = new LoopbackTransport(request -> {
+            calls.incrementAndGet();
+            if (request.pathAndQuery().equals("/api/balances/" + KNOWN)) {
+                return CompletableFuture.completedFuture(LoopbackTransport.Response.json(200,
+                        "{\"uuid\":\"" + KNOWN + "\",\"amount\":75}"));
+            }
+            return CompletableFuture.completedFuture(LoopbackTransport.Response.json(404, "{}"));
+        });
+        HttpClientService http = new HttpClientService("http://loopback", new RetryPolicy(), RequestHedger.disabled(),
+                transport, WireFormat.JSON);
+        api = new BlockingEconomyApi(new PlayerApiService(http), new BalanceApiService(http),
+                new TransactionApiService(http));
+    }
+
+    @Test
+    @DisplayName("Should return results and throw API errors directly on a virtual thread")
+    void shouldBlockOnVirtualThread() throws Exception {
+        BalanceResponseDTO balance = api.run(blocking -> blocking.getBalance(KNOWN)).get(5, TimeUnit.SECONDS);
+        Throwable missing = api.run(blocking -> {
+            try {
+                blocking.getBalance(UUID.randomUUID());
+                return null;
+            } catch (RuntimeException e) {
+                return e;
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(new BalanceResponseDTO(KNOWN, 75L), balance);
+        assertInstanceOf(NotFoundException.class, missing);
+    }
+
+    @Test
+    @DisplayName("Should refuse to block a platform thread before sending anything")
+    void shouldRejectPlatformThreads() {
+        assertThrows(IllegalStateException.class, () -> api.deposit(KNOWN, 10));
+        assertEquals(0, calls.get());
+    }
+}
@@ -5,6 +5,8 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Locale;
 import java.util.logging.Logger;
 
@@ -95,4 +97,43 @@ class ConfigLoaderTest {
 
         assertEquals("http://localhost:8080", loader.baseUrl());
     }
+
+    @Test
+    void hedgingBudget_readsValueOrDefault() {
+        when(config.getDouble("hedging.budget", 0.05)).thenReturn(0.1);
+
+        assertEquals(0.1, loader.hedgingBudget());
+    }
+
+    @Test
+    void hedgingBudget_outOfRange_fallsBackToDefault() {
+        when(config.getDouble("hedging.budget", 0.05)).thenReturn(3.0);
+
+        assertEquals(0.05, loader.hedgingBudget());
+        verify(logger).warning("Invalid hedging budget '3.0', using 0.05");
+    }
+
+    @Test
+    void rateLimitRate_negative_leavesFamilyUnlimited() {
+        when(config.getDouble("rate-limit.players.rate", 0)).thenReturn(-5.0);
+
+        assertEquals(0, loader.rateLimitRate("players"));
+        verify(logger).warning("Invalid negative rate limit for players, leaving it unlimited");
+    }
+
+    @Test
+    void commandTimeout_nonPositive_fallsBackToDefault() {
+        when(config.getLong("command-timeouts.pay-ms", 8_000L)).thenReturn(0L);
+
+        assertEquals(Duration.ofSeconds(8), loader.commandTimeout("pay", Duration.ofSeconds(8)));
+        verify(logger).warning("Invalid timeout for pay, using 8000ms");
+    }
+
+    @Test
+    void shards_trimsAndDropsDuplicates() {
+        when(config.getStringList("sharding.shards"))
+                .thenReturn(List.of(" http://eco-1:8080", "http://eco-2:8080", "", "http://eco-1:8080"));
+
+        assertEquals(List.of("http://eco-1:8080", "http://eco-2:8080"), loader.shards());
+    }
 }
@@ -0,0 +1,250 @@
+package io.github.HenriqueMichelini.craftalism_economy.presentation.commands;
+
+import io.github.HenriqueMichelini.craftalism_economy.application.service.ApiDiagnosticsApplicationService;
+import io.github.HenriqueMichelini.craftalism_economy.domain.service.logs.messages.AdminMessages;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.AdaptiveConcurrencyLimiter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.CircuitBreaker;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.CompressionStats;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ConnectionWarmer;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.EndpointMetrics;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.FaultInjector;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.LatencyHistogram;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.RequestHedger;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.ShardRouter;
+import io.github.HenriqueMichelini.craftalism_economy.infra.api.client.TokenBucket;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EconomyAdminCommand Tests")
+class EconomyAdminCommandTest {
+
+    @Mock
+    private AdminMessages messages;
+    @Mock
+    private ApiDiagnosticsApplicationService diagnostics;
+    @Mock
+    private CommandSender sender;
+    @Mock
+    private Command mockCommand;
+
+    private EconomyAdminCommand command;
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+        command = new EconomyAdminCommand(messages, diagnostics);
+        when(sender.hasPermission("craftalism.admin")).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    @DisplayName("Should reject senders without permission")
+    void shouldRejectWithoutPermission() {
+        when(sender.hasPermission("craftalism.admin")).thenReturn(false);
+
+        assertTrue(command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"breakers"}));
+
+        verify(messages).sendAdminNoPermission(sender);
+        verifyNoInteractions(diagnostics);
+    }
+
+    @Test
+    @DisplayName("Should show usage without a subcommand")
+    void shouldShowUsage() {
+        assertTrue(command.onCommand(sender, mockCommand, "ecoadmin", new String[]{}));
+
+        verify(messages).sendAdminUsage(sender);
+    }
+
+    @Test
+    @DisplayName("Should list every circuit breaker")
+    void shouldListBreakers() {
+        when(diagnostics.getCircuitBreakers()).thenReturn(List.of(
+                new CircuitBreaker.Snapshot("GET /api/balances/{uuid}", CircuitBreaker.State.CLOSED, 0, 0, 0),
+                new CircuitBreaker.Snapshot("POST /api/transactions", CircuitBreaker.State.OPEN, 5, 12, 9_500)
+        ));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"breakers"});
+
+        verify(messages).sendBreakersHeader(sender, "2");
+        verify(messages).sendBreakerEntry(sender, "GET /api/balances/{uuid}", "CLOSED", "0", "0", "0s");
+        verify(messages).sendBreakerEntry(sender, "POST /api/transactions", "OPEN", "5", "12", "9s");
+    }
+
+    @Test
+    @DisplayName("Should report when no endpoint has been called")
+    void shouldReportEmptyBreakers() {
+        when(diagnostics.getCircuitBreakers()).thenReturn(List.of());
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"breakers"});
+
+        verify(messages).sendBreakersEmpty(sender);
+    }
+
+    @Test
+    @DisplayName("Should show the live concurrency limit")
+    void shouldShowLimiter() {
+        when(diagnostics.getConcurrencyLimiter())
+                .thenReturn(new AdaptiveConcurrencyLimiter.Snapshot(24, 7, 0, 3, 12));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"limiter"});
+
+        verify(messages).sendLimiter(sender, "24", "7", "0", "3", "12ms");
+    }
+
+    @Test
+    @DisplayName("Should list learned and configured rates per endpoint family")
+    void shouldShowRateLimits() {
+        when(diagnostics.getRateLimits()).thenReturn(List.of(
+                new TokenBucket.Snapshot("balances", 25.0, 50.0, 20, 12, 2, 3)
+        ));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"ratelimits"});
+
+        verify(messages).sendRateLimitsHeader(sender, "1");
+        verify(messages).sendRateLimitEntry(sender, "balances", "25.0/s", "50.0/s", "12", "2", "3");
+    }
+
+    @Test
+    @DisplayName("Should show hedging counters")
+    void shouldShowHedging() {
+        when(diagnostics.getHedging()).thenReturn(new RequestHedger.Snapshot(400, 18, 11, 4));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"hedging"});
+
+        verify(messages).sendHedging(sender, "400", "18", "11", "4");
+    }
+
+    @Test
+    @DisplayName("Should list wire and decoded bytes per endpoint")
+    void shouldShowCompression() {
+        when(diagnostics.getCompression()).thenReturn(List.of(
+                new CompressionStats.Snapshot("GET /api/balances/top", 10, 20_480, 163_840)
+        ));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"compression"});
+
+        verify(messages).sendCompressionHeader(sender, "1");
+        verify(messages).sendCompressionEntry(sender, "GET /api/balances/top", "10", "20KiB", "160KiB", "8.0x");
+    }
+
+    @Test
+    @DisplayName("Should list latency percentiles, statuses and bytes per endpoint")
+    void shouldShowMetrics() {
+        when(diagnostics.getEndpointMetrics()).thenReturn(List.of(
+                new EndpointMetrics.Snapshot("POST /api/balances/{uuid}/withdraw",
+                        new LatencyHistogram.Snapshot(120, 3_100, 7_900, 21_000, 40_200),
+                        new TreeMap<>(Map.of(200, 118L, 409, 2L)), 1, 3, 4_096, 10_240)
+        ));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"metrics"});
+
+        verify(messages).sendMetricsHeader(sender, "1");
+        verify(messages).sendMetricsEntry(sender, "POST /api/balances/{uuid}/withdraw", "120", "3", "3.1ms",
+                "7.9ms", "21.0ms", "40.2ms", "200:118,409:2", "1", "4KiB", "10KiB");
+    }
+
+    @Test
+    @DisplayName("Should say so when no request has been sent yet")
+    void shouldShowEmptyMetrics() {
+        when(diagnostics.getEndpointMetrics()).thenReturn(List.of());
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"metrics"});
+
+        verify(messages).sendMetricsEmpty(sender);
+    }
+
+    @Test
+    @DisplayName("Should show fault injection state and its rules")
+    void shouldShowChaos() {
+        when(diagnostics.getFaults()).thenReturn(new FaultInjector.Snapshot(true, Map.of(
+                "*", FaultInjector.Rule.NONE.withLatency(50, 400).withErrors(0.05, List.of(500, 503))
+        ), 12, 3, 1, 0));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"chaos"});
+
+        verify(messages).sendChaosStatus(sender, "on", "12", "3", "1", "0");
+        verify(messages).sendChaosEntry(sender, "*", "50ms/400ms", "5%", "500,503", "0%", "0%");
+    }
+
+    @Test
+    @DisplayName("Should update the rule of one endpoint")
+    @SuppressWarnings("unchecked")
+    void shouldUpdateChaosRule() {
+        ArgumentCaptor<UnaryOperator<FaultInjector.Rule>> change = ArgumentCaptor.forClass(UnaryOperator.class);
+
+        command.onCommand(sender, mockCommand, "ecoadmin",
+                new String[]{"chaos", "post", "/api/balances/{uuid}/withdraw", "errors", "20%", "409"});
+
+        verify(diagnostics).updateFaultRule(eq("POST /api/balances/{uuid}/withdraw"), change.capture());
+        FaultInjector.Rule rule = change.getValue().apply(FaultInjector.Rule.NONE);
+        assertEquals(0.2, rule.errorRate(), 1e-9);
+        assertEquals(List.of(409), rule.errorStatuses());
+        verify(messages).sendChaosUpdated(sender, "POST /api/balances/{uuid}/withdraw");
+    }
+
+    @Test
+    @DisplayName("Should show chaos usage on a malformed rule")
+    void shouldRejectMalformedChaosRule() {
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"chaos", "*", "drop", "lots"});
+
+        verify(messages).sendChaosUsage(sender);
+        verify(diagnostics, never()).updateFaultRule(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should show handshake and keep-alive ping stats")
+    void shouldShowConnection() {
+        when(diagnostics.getConnection()).thenReturn(new ConnectionWarmer.Snapshot(84, 3, 12, 1, true));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"connection"});
+
+        verify(messages).sendConnection(sender, "84ms", "3ms", "12", "1", "on");
+    }
+
+    @Test
+    @DisplayName("Should list every shard with its share of players")
+    void shouldShowShards() {
+        when(diagnostics.getShards()).thenReturn(List.of(
+                new ShardRouter.Snapshot("http://eco-1:8080", 0.514, 3, 0),
+                new ShardRouter.Snapshot("http://eco-2:8080", 0.486, 1, 2)
+        ));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"shards"});
+
+        verify(messages).sendShardsHeader(sender, "2");
+        verify(messages).sendShardEntry(sender, "http://eco-1:8080", "51.4%", "3", "0");
+        verify(messages).sendShardEntry(sender, "http://eco-2:8080", "48.6%", "1", "2");
+    }
+
+    @Test
+    @DisplayName("Should report how a reload rebalanced the shards")
+    void shouldReportReload() {
+        when(diagnostics.reloadShards()).thenReturn(new ShardRouter.Rebalance(
+                3, List.of("http://eco-3:8080"), List.of(), 0.331));
+
+        command.onCommand(sender, mockCommand, "ecoadmin", new String[]{"reload"});
+
+        verify(messages).sendReloaded(sender, "3", "http://eco-3:8080", "-", "33.1%");
+    }
+}